@@ -10,6 +10,8 @@
 \ir ddl/test_run_archive.sql
 \ir ddl/test_run_details.sql
 \ir ddl/test_run_details_archive.sql
+\ir ddl/test_run_report_model.sql
+\ir ddl/test_run_payload_ref.sql
 \ir ddl/biometric_testdata.sql
 \ir ddl/biometric_scores.sql
 \ir ddl/compliance_testrun_summary.sql
@@ -24,3 +26,4 @@
 \ir ddl/batch-fk.sql
 \ir ddl/master_templates.sql
 \ir ddl/partner_consent.sql
+\ir ddl/report_job.sql
@@ -22,6 +22,7 @@ CREATE INDEX IF NOT EXISTS idx_collections_id ON toolkit.collections USING btree
 CREATE INDEX IF NOT EXISTS idx_collections_sbi_project_id ON toolkit.collections USING btree (sbi_project_id);
 CREATE INDEX IF NOT EXISTS idx_collections_sdk_project_id ON toolkit.collections USING btree (sdk_project_id);
 CREATE INDEX IF NOT EXISTS idx_collections_abis_project_id ON toolkit.collections USING btree (abis_project_id);
+CREATE INDEX IF NOT EXISTS idx_collections_partner_id ON toolkit.collections USING btree (partner_id);
 ALTER TABLE toolkit.collections ADD CONSTRAINT collections_collection_type_values CHECK (collection_type IN ('custom_collection','compliance_collection','quality_assessment_collection'));
 
 COMMENT ON TABLE toolkit.collections IS 'This table has all collections for the compliance toolkit project.';
@@ -7,7 +7,8 @@ CREATE TABLE toolkit.compliance_testrun_summary(
     run_id character varying(36) NOT NULL,
 	project_type character varying(64) NOT NULL,
 	org_name character varying(64) NOT NULL,
-    report_data_json character varying NOT NULL,
+    report_data_json character varying,
+    report_data bytea,
     report_status character varying(36) NOT NULL,
 	partner_comments character varying,
 	admin_comments character varying,
@@ -32,7 +33,8 @@ COMMENT ON COLUMN toolkit.compliance_testrun_summary.run_id IS 'Run ID: Run Id o
 COMMENT ON COLUMN toolkit.compliance_testrun_summary.project_type IS 'Project Type: Type of project.';
 COMMENT ON COLUMN toolkit.compliance_testrun_summary.partner_id IS 'Partner Id: partner id who has created this project.';
 COMMENT ON COLUMN toolkit.compliance_testrun_summary.org_name IS 'Org Name: organization name to which partner belongs to.';
-COMMENT ON COLUMN toolkit.compliance_testrun_summary.report_data_json IS 'Report Data Json: JSON with report data';
+COMMENT ON COLUMN toolkit.compliance_testrun_summary.report_data_json IS 'Report Data Json: base64 encoded JSON with report data, only for reports saved before report_data was introduced';
+COMMENT ON COLUMN toolkit.compliance_testrun_summary.report_data IS 'Report Data: versioned binary (Smile) snapshot of the report data';
 COMMENT ON COLUMN toolkit.compliance_testrun_summary.report_status IS 'Report Status: Status of the report - draft, review,approved,rejected';
 COMMENT ON COLUMN toolkit.compliance_testrun_summary.partner_comments IS 'Partner Comments: Comments by partner';
 COMMENT ON COLUMN toolkit.compliance_testrun_summary.admin_comments IS 'Admin Comments: Comments by admin';
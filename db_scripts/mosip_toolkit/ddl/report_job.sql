@@ -0,0 +1,26 @@
+-- This table has the asynchronous report generation jobs of partners.
+CREATE TABLE toolkit.report_job(
+    id character varying(64) NOT NULL,
+    partner_id character varying(36) NOT NULL,
+    report_type character varying(36) NOT NULL,
+    status character varying(36) NOT NULL,
+    file_name character varying(256),
+    report_content bytea,
+    error_message character varying(2048),
+    cr_by character varying(256) NOT NULL,
+    cr_dtimes timestamp NOT NULL,
+    upd_dtimes timestamp,
+    CONSTRAINT report_job_pk PRIMARY KEY (id)
+);
+CREATE INDEX IF NOT EXISTS idx_report_job_cr_dtimes ON toolkit.report_job USING btree (cr_dtimes);
+COMMENT ON TABLE toolkit.report_job IS 'This table has the asynchronous report generation jobs of partners.';
+COMMENT ON COLUMN toolkit.report_job.id IS 'ID: Unique Id generated.';
+COMMENT ON COLUMN toolkit.report_job.partner_id IS 'Partner Id: partner who has submitted the job.';
+COMMENT ON COLUMN toolkit.report_job.report_type IS 'Report Type: draft, draft_qa, submitted or partner.';
+COMMENT ON COLUMN toolkit.report_job.status IS 'Status: queued, processing, completed or failed.';
+COMMENT ON COLUMN toolkit.report_job.file_name IS 'File Name: name of the generated report file.';
+COMMENT ON COLUMN toolkit.report_job.report_content IS 'Report Content: generated PDF, available once the job is completed.';
+COMMENT ON COLUMN toolkit.report_job.error_message IS 'Error Message: reason the job has failed.';
+COMMENT ON COLUMN toolkit.report_job.cr_by IS 'Created By : ID or name of the user who create / insert record.';
+COMMENT ON COLUMN toolkit.report_job.cr_dtimes IS 'Created DateTimestamp : Date and Timestamp when the record is created/inserted';
+COMMENT ON COLUMN toolkit.report_job.upd_dtimes IS 'Updated DateTimestamp : Date and Timestamp when any of the fields in the record is updated with new values.';
@@ -16,12 +16,15 @@ CREATE TABLE toolkit.test_run(
 	upd_dtimes timestamp,
 	is_deleted boolean,
 	del_dtimes timestamp,
+	testcase_count bigint NOT NULL DEFAULT 0,
+	passcase_count bigint NOT NULL DEFAULT 0,
 	CONSTRAINT test_runid_pk PRIMARY KEY (id) 
 );
 
 CREATE INDEX IF NOT EXISTS idx_test_run_id ON toolkit.test_run USING btree (id);
 CREATE INDEX IF NOT EXISTS idx_test_run_collection_id ON toolkit.test_run USING btree (id, collection_id);
 CREATE INDEX IF NOT EXISTS idx_test_run_id_partner_id ON toolkit.test_run USING btree (id, partner_id);
+CREATE INDEX IF NOT EXISTS idx_test_run_collection_partner_run_dtimes ON toolkit.test_run USING btree (collection_id, partner_id, run_dtimes DESC, id DESC);
 ALTER TABLE toolkit.test_run
     ADD CONSTRAINT test_run_execution_status_values CHECK (execution_status IN ('incomplete','complete'));
 ALTER TABLE toolkit.test_run
@@ -42,4 +45,5 @@ COMMENT ON COLUMN toolkit.test_run.upd_by IS 'Updated By : ID or name of the use
 COMMENT ON COLUMN toolkit.test_run.upd_dtimes IS 'Updated DateTimestamp : Date and Timestamp when any of the fields in the record is updated with new values.';
 COMMENT ON COLUMN toolkit.test_run.is_deleted IS 'is Deleted :flag to store soft delete status';
 COMMENT ON COLUMN toolkit.test_run.del_dtimes IS 'Deleted DateTimestamp : Date and Timestamp when record is deleted.';
-
+COMMENT ON COLUMN toolkit.test_run.testcase_count IS 'Testcase Count: number of distinct testcases with details in this test run.';
+COMMENT ON COLUMN toolkit.test_run.passcase_count IS 'Passcase Count: number of successful and complete method results in this test run.';
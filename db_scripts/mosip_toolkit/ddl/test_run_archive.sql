@@ -16,6 +16,8 @@ CREATE TABLE toolkit.test_run_archive(
 	upd_dtimes timestamp,
 	is_deleted boolean,
 	del_dtimes timestamp,
+	testcase_count bigint NOT NULL DEFAULT 0,
+	passcase_count bigint NOT NULL DEFAULT 0,
 	CONSTRAINT test_run_archive_id_pk PRIMARY KEY (id) 
 );
 
@@ -38,4 +40,5 @@ COMMENT ON COLUMN toolkit.test_run_archive.upd_by IS 'Updated By : ID or name of
 COMMENT ON COLUMN toolkit.test_run_archive.upd_dtimes IS 'Updated DateTimestamp : Date and Timestamp when any of the fields in the record is updated with new values.';
 COMMENT ON COLUMN toolkit.test_run_archive.is_deleted IS 'is Deleted :flag to store soft delete status';
 COMMENT ON COLUMN toolkit.test_run_archive.del_dtimes IS 'Deleted DateTimestamp : Date and Timestamp when record is deleted.';
-
+COMMENT ON COLUMN toolkit.test_run_archive.testcase_count IS 'Testcase Count: number of distinct testcases with details in this test run.';
+COMMENT ON COLUMN toolkit.test_run_archive.passcase_count IS 'Passcase Count: number of successful and complete method results in this test run.';
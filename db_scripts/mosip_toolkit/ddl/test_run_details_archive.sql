@@ -5,8 +5,8 @@ CREATE TABLE toolkit.test_run_details_archive(
         testcase_id character varying(36) NOT NULL,
 	method_id character varying(150) NOT NULL,
 	method_url character varying NOT NULL,
-	method_request character varying NOT NULL,
-        method_response character varying NOT NULL,
+	method_request bytea NOT NULL,
+        method_response bytea NOT NULL,
 	execution_status character varying(36) NOT NULL, 
         result_status character varying(256) NOT NULL,     
 	result_description character varying NOT NULL,
@@ -19,6 +19,7 @@ CREATE TABLE toolkit.test_run_details_archive(
 	upd_dtimes timestamp,
 	is_deleted boolean,
 	del_dtimes timestamp,
+	device_fingerprint character varying,
 	CONSTRAINT test_run_details_archive_id_pk PRIMARY KEY (run_id, testcase_id, method_id) 
 );
 
@@ -29,8 +30,8 @@ COMMENT ON COLUMN toolkit.test_run_details_archive.run_id IS 'run_id: Unique run
 COMMENT ON COLUMN toolkit.test_run_details_archive.testcase_id IS 'Testcase ID: Id of the corresponding testcase.';
 COMMENT ON COLUMN toolkit.test_run_details_archive.method_id IS 'Method ID: Unique method Id created for each method response';
 COMMENT ON COLUMN toolkit.test_run_details.method_url IS 'Method URL: URL used for method execution.';
-COMMENT ON COLUMN toolkit.test_run_details_archive.method_request IS 'Method Request: request used for method execution.';
-COMMENT ON COLUMN toolkit.test_run_details_archive.method_response IS 'Method Response: response received on method execution.';
+COMMENT ON COLUMN toolkit.test_run_details_archive.method_request IS 'Method Request: request used for method execution, UTF-8 or deflate compressed when prefixed with the 0x0001 format marker.';
+COMMENT ON COLUMN toolkit.test_run_details_archive.method_response IS 'Method Response: response received on method execution, UTF-8 or deflate compressed when prefixed with the 0x0001 format marker.';
 COMMENT ON COLUMN toolkit.test_run_details_archive.execution_status IS 'Execution Status: test case execution status Incomplete or Complete.';
 COMMENT ON COLUMN toolkit.test_run_details_archive.result_status IS 'result_status: status of a test run execution.';
 COMMENT ON COLUMN toolkit.test_run_details_archive.result_description IS 'result_description: description of a test run execution as received from validators.';
@@ -41,4 +42,5 @@ COMMENT ON COLUMN toolkit.test_run_details_archive.cr_by IS 'Created By : ID or
 COMMENT ON COLUMN toolkit.test_run_details_archive.cr_dtimes IS 'Created DateTimestamp : Date and Timestamp when the record is created/inserted';
 COMMENT ON COLUMN toolkit.test_run_details_archive.is_deleted IS 'is Deleted :flag to store soft delete status';
 COMMENT ON COLUMN toolkit.test_run_details_archive.del_dtimes IS 'Deleted DateTimestamp : Date and Timestamp when record is deleted.';
+COMMENT ON COLUMN toolkit.test_run_details_archive.device_fingerprint IS 'Device Fingerprint: make, model, serial number and provider of the SBI device in the method response, empty when it has no device details.';
 
@@ -0,0 +1,13 @@
+-- This table has the reference counts of the method payloads offloaded to the object store.
+CREATE TABLE toolkit.test_run_payload_ref(
+    hash character varying(64) NOT NULL,
+    ref_count bigint NOT NULL,
+    cr_dtimes timestamp NOT NULL,
+    upd_dtimes timestamp,
+    CONSTRAINT test_run_payload_ref_pk PRIMARY KEY (hash)
+);
+COMMENT ON TABLE toolkit.test_run_payload_ref IS 'This table has the reference counts of the method payloads offloaded to the object store, a payload is deleted from the object store with its last reference.';
+COMMENT ON COLUMN toolkit.test_run_payload_ref.hash IS 'Hash: SHA-256 hash of the payload, the name of its object in the object store.';
+COMMENT ON COLUMN toolkit.test_run_payload_ref.ref_count IS 'Reference Count: number of test run details and archived test run details referencing the payload.';
+COMMENT ON COLUMN toolkit.test_run_payload_ref.cr_dtimes IS 'Created DateTimestamp : Date and Timestamp when the record is created/inserted';
+COMMENT ON COLUMN toolkit.test_run_payload_ref.upd_dtimes IS 'Updated DateTimestamp : Date and Timestamp when any of the fields in the record is updated with new values.';
@@ -0,0 +1,19 @@
+-- This table has the report model of a test run, one row per test run.
+CREATE TABLE toolkit.test_run_report_model(
+    run_id character varying(36) NOT NULL,
+    partner_id character varying(36) NOT NULL,
+    report_model bytea NOT NULL,
+    cr_by character varying(256) NOT NULL,
+    cr_dtimes timestamp NOT NULL,
+    upd_by character varying(256),
+    upd_dtimes timestamp,
+    CONSTRAINT test_run_report_model_pk PRIMARY KEY (run_id)
+);
+COMMENT ON TABLE toolkit.test_run_report_model IS 'This table has the report model of a test run, updated with the test run, its details and biometric scores, used to generate draft reports.';
+COMMENT ON COLUMN toolkit.test_run_report_model.run_id IS 'Run ID: Id of the corresponding test run.';
+COMMENT ON COLUMN toolkit.test_run_report_model.partner_id IS 'Partner Id: partner id who has created the test run.';
+COMMENT ON COLUMN toolkit.test_run_report_model.report_model IS 'Report Model: versioned binary (Smile) model with the run header, collection testcases, method results, device validation, partner details and biometric score tables of the test run.';
+COMMENT ON COLUMN toolkit.test_run_report_model.cr_by IS 'Created By : ID or name of the user who create / insert record.';
+COMMENT ON COLUMN toolkit.test_run_report_model.cr_dtimes IS 'Created DateTimestamp : Date and Timestamp when the record is created/inserted';
+COMMENT ON COLUMN toolkit.test_run_report_model.upd_by IS 'Updated By : ID or name of the user who update the record with new values';
+COMMENT ON COLUMN toolkit.test_run_report_model.upd_dtimes IS 'Updated DateTimestamp : Date and Timestamp when any of the fields in the record is updated with new values.';
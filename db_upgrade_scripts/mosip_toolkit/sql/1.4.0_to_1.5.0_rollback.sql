@@ -0,0 +1,76 @@
+\c mosip_toolkit sysadmin
+
+BEGIN;
+
+-- The rollback refuses to run while there is data that 1.4.0 cannot read and that cannot be converted back here:
+-- method payloads deflate compressed (0x0001 format marker), offloaded to the object store (@objectstore:sha256:)
+-- or tagged inline (@inline:), and reports saved only as a binary (Smile) snapshot. Nothing is changed then.
+-- Take a backup, delete the affected test runs and reports, then run it again.
+DO $$
+DECLARE
+    payload_count bigint := 0;
+    report_count bigint := 0;
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns WHERE table_schema = 'toolkit' AND table_name = 'test_run_details'
+            AND column_name = 'method_request' AND data_type = 'bytea') THEN
+        SELECT COUNT(*) INTO payload_count FROM (
+            SELECT method_request AS payload FROM toolkit.test_run_details
+            UNION ALL SELECT method_response FROM toolkit.test_run_details
+            UNION ALL SELECT method_request FROM toolkit.test_run_details_archive
+            UNION ALL SELECT method_response FROM toolkit.test_run_details_archive
+        ) p
+        WHERE substring(p.payload from 1 for 2) = '\x0001'::bytea
+            OR substring(p.payload from 1 for 20) = convert_to('@objectstore:sha256:', 'UTF8')
+            OR substring(p.payload from 1 for 8) = convert_to('@inline:', 'UTF8');
+    END IF;
+    IF EXISTS (SELECT 1 FROM information_schema.columns WHERE table_schema = 'toolkit'
+            AND table_name = 'compliance_testrun_summary' AND column_name = 'report_data') THEN
+        SELECT COUNT(*) INTO report_count FROM toolkit.compliance_testrun_summary WHERE report_data_json IS NULL;
+    END IF;
+    IF payload_count > 0 OR report_count > 0 THEN
+        RAISE EXCEPTION 'Rollback to 1.4.0 refused: % method payloads and % reports cannot be read by 1.4.0', payload_count, report_count;
+    END IF;
+END $$;
+
+-- test run counters
+DROP INDEX IF EXISTS toolkit.idx_test_run_collection_partner_run_dtimes;
+ALTER TABLE toolkit.test_run DROP COLUMN IF EXISTS testcase_count;
+ALTER TABLE toolkit.test_run DROP COLUMN IF EXISTS passcase_count;
+ALTER TABLE toolkit.test_run_archive DROP COLUMN IF EXISTS testcase_count;
+ALTER TABLE toolkit.test_run_archive DROP COLUMN IF EXISTS passcase_count;
+
+-- keyset pagination of test run details
+DROP INDEX IF EXISTS toolkit.idx_test_run_details_partner_cr_dtimes;
+
+-- method payloads, only plain UTF-8 payloads are left
+ALTER TABLE toolkit.test_run_details ALTER COLUMN method_request TYPE character varying USING convert_from(method_request, 'UTF8');
+ALTER TABLE toolkit.test_run_details ALTER COLUMN method_response TYPE character varying USING convert_from(method_response, 'UTF8');
+ALTER TABLE toolkit.test_run_details_archive ALTER COLUMN method_request TYPE character varying USING convert_from(method_request, 'UTF8');
+ALTER TABLE toolkit.test_run_details_archive ALTER COLUMN method_response TYPE character varying USING convert_from(method_response, 'UTF8');
+COMMENT ON COLUMN toolkit.test_run_details.method_request IS 'Method Request: request used for method execution.';
+COMMENT ON COLUMN toolkit.test_run_details.method_response IS 'Method Response: response received on method execution.';
+COMMENT ON COLUMN toolkit.test_run_details_archive.method_request IS 'Method Request: request used for method execution.';
+COMMENT ON COLUMN toolkit.test_run_details_archive.method_response IS 'Method Response: response received on method execution.';
+
+-- asynchronous report generation jobs
+DROP TABLE IF EXISTS toolkit.report_job;
+
+-- binary report data snapshot, every report has its report_data_json
+ALTER TABLE toolkit.compliance_testrun_summary DROP COLUMN IF EXISTS report_data;
+ALTER TABLE toolkit.compliance_testrun_summary ALTER COLUMN report_data_json SET NOT NULL;
+COMMENT ON COLUMN toolkit.compliance_testrun_summary.report_data_json IS 'Report Data Json: JSON with report data';
+
+-- project summaries
+DROP INDEX IF EXISTS toolkit.idx_collections_partner_id;
+
+-- device fingerprint
+ALTER TABLE toolkit.test_run_details DROP COLUMN IF EXISTS device_fingerprint;
+ALTER TABLE toolkit.test_run_details_archive DROP COLUMN IF EXISTS device_fingerprint;
+
+-- test run report model
+DROP TABLE IF EXISTS toolkit.test_run_report_model;
+
+-- reference counts of offloaded method payloads
+DROP TABLE IF EXISTS toolkit.test_run_payload_ref;
+
+COMMIT;
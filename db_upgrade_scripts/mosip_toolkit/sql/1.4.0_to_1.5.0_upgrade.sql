@@ -0,0 +1,112 @@
+\c mosip_toolkit sysadmin
+
+-- test run counters, kept up to date as test run details are added
+ALTER TABLE toolkit.test_run ADD COLUMN IF NOT EXISTS testcase_count bigint NOT NULL DEFAULT 0;
+ALTER TABLE toolkit.test_run ADD COLUMN IF NOT EXISTS passcase_count bigint NOT NULL DEFAULT 0;
+ALTER TABLE toolkit.test_run_archive ADD COLUMN IF NOT EXISTS testcase_count bigint NOT NULL DEFAULT 0;
+ALTER TABLE toolkit.test_run_archive ADD COLUMN IF NOT EXISTS passcase_count bigint NOT NULL DEFAULT 0;
+COMMENT ON COLUMN toolkit.test_run.testcase_count IS 'Testcase Count: number of distinct testcases with details in this test run.';
+COMMENT ON COLUMN toolkit.test_run.passcase_count IS 'Passcase Count: number of successful and complete method results in this test run.';
+COMMENT ON COLUMN toolkit.test_run_archive.testcase_count IS 'Testcase Count: number of distinct testcases with details in this test run.';
+COMMENT ON COLUMN toolkit.test_run_archive.passcase_count IS 'Passcase Count: number of successful and complete method results in this test run.';
+
+-- backfill the counters of existing test runs
+UPDATE toolkit.test_run tr SET
+    testcase_count = (SELECT COUNT(DISTINCT trd.testcase_id) FROM toolkit.test_run_details trd WHERE trd.run_id = tr.id AND trd.is_deleted IS NOT TRUE),
+    passcase_count = (SELECT COUNT(*) FROM toolkit.test_run_details trd WHERE trd.run_id = tr.id AND trd.is_deleted IS NOT TRUE AND trd.result_status = 'success' AND trd.execution_status = 'complete');
+UPDATE toolkit.test_run_archive tr SET
+    testcase_count = (SELECT COUNT(DISTINCT trd.testcase_id) FROM toolkit.test_run_details_archive trd WHERE trd.run_id = tr.id AND trd.is_deleted IS NOT TRUE),
+    passcase_count = (SELECT COUNT(*) FROM toolkit.test_run_details_archive trd WHERE trd.run_id = tr.id AND trd.is_deleted IS NOT TRUE AND trd.result_status = 'success' AND trd.execution_status = 'complete');
+
+-- also serves the latest run per collection of the project summaries, which join test_run on collection_id
+CREATE INDEX IF NOT EXISTS idx_test_run_collection_partner_run_dtimes ON toolkit.test_run USING btree (collection_id, partner_id, run_dtimes DESC, id DESC);
+
+-- keyset pagination of test run details
+CREATE INDEX IF NOT EXISTS idx_test_run_details_partner_cr_dtimes ON toolkit.test_run_details USING btree (run_id, partner_id, cr_dtimes DESC, testcase_id DESC, method_id DESC);
+
+-- method payloads are stored as bytea, deflate compressed by the application when prefixed with the 0x0001 format marker.
+-- existing rows are converted to plain UTF-8 bytes, which the application reads as is.
+ALTER TABLE toolkit.test_run_details ALTER COLUMN method_request TYPE bytea USING convert_to(method_request, 'UTF8');
+ALTER TABLE toolkit.test_run_details ALTER COLUMN method_response TYPE bytea USING convert_to(method_response, 'UTF8');
+ALTER TABLE toolkit.test_run_details_archive ALTER COLUMN method_request TYPE bytea USING convert_to(method_request, 'UTF8');
+ALTER TABLE toolkit.test_run_details_archive ALTER COLUMN method_response TYPE bytea USING convert_to(method_response, 'UTF8');
+COMMENT ON COLUMN toolkit.test_run_details.method_request IS 'Method Request: request used for method execution, UTF-8 or deflate compressed when prefixed with the 0x0001 format marker.';
+COMMENT ON COLUMN toolkit.test_run_details.method_response IS 'Method Response: response received on method execution, UTF-8 or deflate compressed when prefixed with the 0x0001 format marker.';
+COMMENT ON COLUMN toolkit.test_run_details_archive.method_request IS 'Method Request: request used for method execution, UTF-8 or deflate compressed when prefixed with the 0x0001 format marker.';
+COMMENT ON COLUMN toolkit.test_run_details_archive.method_response IS 'Method Response: response received on method execution, UTF-8 or deflate compressed when prefixed with the 0x0001 format marker.';
+
+-- asynchronous report generation jobs
+CREATE TABLE IF NOT EXISTS toolkit.report_job(
+    id character varying(64) NOT NULL,
+    partner_id character varying(36) NOT NULL,
+    report_type character varying(36) NOT NULL,
+    status character varying(36) NOT NULL,
+    file_name character varying(256),
+    report_content bytea,
+    error_message character varying(2048),
+    cr_by character varying(256) NOT NULL,
+    cr_dtimes timestamp NOT NULL,
+    upd_dtimes timestamp,
+    CONSTRAINT report_job_pk PRIMARY KEY (id)
+);
+CREATE INDEX IF NOT EXISTS idx_report_job_cr_dtimes ON toolkit.report_job USING btree (cr_dtimes);
+COMMENT ON TABLE toolkit.report_job IS 'This table has the asynchronous report generation jobs of partners.';
+COMMENT ON COLUMN toolkit.report_job.id IS 'ID: Unique Id generated.';
+COMMENT ON COLUMN toolkit.report_job.partner_id IS 'Partner Id: partner who has submitted the job.';
+COMMENT ON COLUMN toolkit.report_job.report_type IS 'Report Type: draft, draft_qa, submitted or partner.';
+COMMENT ON COLUMN toolkit.report_job.status IS 'Status: queued, processing, completed or failed.';
+COMMENT ON COLUMN toolkit.report_job.file_name IS 'File Name: name of the generated report file.';
+COMMENT ON COLUMN toolkit.report_job.report_content IS 'Report Content: generated PDF, available once the job is completed.';
+COMMENT ON COLUMN toolkit.report_job.error_message IS 'Error Message: reason the job has failed.';
+COMMENT ON COLUMN toolkit.report_job.cr_by IS 'Created By : ID or name of the user who create / insert record.';
+COMMENT ON COLUMN toolkit.report_job.cr_dtimes IS 'Created DateTimestamp : Date and Timestamp when the record is created/inserted';
+COMMENT ON COLUMN toolkit.report_job.upd_dtimes IS 'Updated DateTimestamp : Date and Timestamp when any of the fields in the record is updated with new values.';
+
+-- binary report data snapshot, existing base64 JSON rows are migrated by the application when they are read
+ALTER TABLE toolkit.compliance_testrun_summary ADD COLUMN IF NOT EXISTS report_data bytea;
+ALTER TABLE toolkit.compliance_testrun_summary ALTER COLUMN report_data_json DROP NOT NULL;
+COMMENT ON COLUMN toolkit.compliance_testrun_summary.report_data_json IS 'Report Data Json: base64 encoded JSON with report data, only for reports saved before report_data was introduced';
+COMMENT ON COLUMN toolkit.compliance_testrun_summary.report_data IS 'Report Data: versioned binary (Smile) snapshot of the report data';
+
+-- project summaries
+CREATE INDEX IF NOT EXISTS idx_collections_partner_id ON toolkit.collections USING btree (partner_id);
+
+-- device fingerprint captured when test run details are saved, rows without it are checked from the method response
+ALTER TABLE toolkit.test_run_details ADD COLUMN IF NOT EXISTS device_fingerprint character varying;
+ALTER TABLE toolkit.test_run_details_archive ADD COLUMN IF NOT EXISTS device_fingerprint character varying;
+COMMENT ON COLUMN toolkit.test_run_details.device_fingerprint IS 'Device Fingerprint: make, model, serial number and provider of the SBI device in the method response, empty when it has no device details.';
+COMMENT ON COLUMN toolkit.test_run_details_archive.device_fingerprint IS 'Device Fingerprint: make, model, serial number and provider of the SBI device in the method response, empty when it has no device details.';
+
+-- report model of a test run for draft reports
+CREATE TABLE IF NOT EXISTS toolkit.test_run_report_model(
+    run_id character varying(36) NOT NULL,
+    partner_id character varying(36) NOT NULL,
+    report_model bytea NOT NULL,
+    cr_by character varying(256) NOT NULL,
+    cr_dtimes timestamp NOT NULL,
+    upd_by character varying(256),
+    upd_dtimes timestamp,
+    CONSTRAINT test_run_report_model_pk PRIMARY KEY (run_id)
+);
+COMMENT ON TABLE toolkit.test_run_report_model IS 'This table has the report model of a test run, updated with the test run, its details and biometric scores, used to generate draft reports.';
+COMMENT ON COLUMN toolkit.test_run_report_model.run_id IS 'Run ID: Id of the corresponding test run.';
+COMMENT ON COLUMN toolkit.test_run_report_model.partner_id IS 'Partner Id: partner id who has created the test run.';
+COMMENT ON COLUMN toolkit.test_run_report_model.report_model IS 'Report Model: versioned binary (Smile) model with the run header, collection testcases, method results, device validation, partner details and biometric score tables of the test run.';
+COMMENT ON COLUMN toolkit.test_run_report_model.cr_by IS 'Created By : ID or name of the user who create / insert record.';
+COMMENT ON COLUMN toolkit.test_run_report_model.cr_dtimes IS 'Created DateTimestamp : Date and Timestamp when the record is created/inserted';
+COMMENT ON COLUMN toolkit.test_run_report_model.upd_by IS 'Updated By : ID or name of the user who update the record with new values';
+COMMENT ON COLUMN toolkit.test_run_report_model.upd_dtimes IS 'Updated DateTimestamp : Date and Timestamp when any of the fields in the record is updated with new values.';
+
+-- reference counts of the method payloads offloaded to the object store
+CREATE TABLE IF NOT EXISTS toolkit.test_run_payload_ref(
+    hash character varying(64) NOT NULL,
+    ref_count bigint NOT NULL,
+    cr_dtimes timestamp NOT NULL,
+    upd_dtimes timestamp,
+    CONSTRAINT test_run_payload_ref_pk PRIMARY KEY (hash)
+);
+COMMENT ON TABLE toolkit.test_run_payload_ref IS 'This table has the reference counts of the method payloads offloaded to the object store, a payload is deleted from the object store with its last reference.';
+COMMENT ON COLUMN toolkit.test_run_payload_ref.hash IS 'Hash: SHA-256 hash of the payload, the name of its object in the object store.';
+COMMENT ON COLUMN toolkit.test_run_payload_ref.ref_count IS 'Reference Count: number of test run details and archived test run details referencing the payload.';
+COMMENT ON COLUMN toolkit.test_run_payload_ref.cr_dtimes IS 'Created DateTimestamp : Date and Timestamp when the record is created/inserted';
+COMMENT ON COLUMN toolkit.test_run_payload_ref.upd_dtimes IS 'Updated DateTimestamp : Date and Timestamp when any of the fields in the record is updated with new values.';
@@ -4,11 +4,13 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @ComponentScan(basePackages = { "io.mosip.kernel.virusscanner.*", "io.mosip.compliance.*", "io.mosip.commons.*",
 		"${mosip.auth.adapter.impl.basepackage}" })
 @EnableCaching
+@EnableScheduling
 public class ToolkitApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,54 @@
+package io.mosip.compliance.toolkit.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * In-memory caches with an expiry per cache name. Evictions are only seen by
+ * the replica that made the change, so the expiry bounds how long the other
+ * replicas serve the old values. Setting spring.cache.type=none still turns
+ * caching off.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.cache", name = "type", havingValue = "caffeine", matchIfMissing = true)
+public class CacheConfig {
+
+	static final String EXPIRY_PROPERTY = "mosip.toolkit.cache.expiry.seconds";
+
+	static final String MAXIMUM_SIZE_PROPERTY = "mosip.toolkit.cache.maximum.size";
+
+	@Autowired
+	private Environment environment;
+
+	@Bean
+	public CacheManager cacheManager() {
+		return new ExpiringCacheManager(environment);
+	}
+
+	static class ExpiringCacheManager extends CaffeineCacheManager {
+
+		private final Environment environment;
+
+		ExpiringCacheManager(Environment environment) {
+			this.environment = environment;
+		}
+
+		@Override
+		protected Cache<Object, Object> createNativeCaffeineCache(String name) {
+			long defaultExpiry = environment.getProperty(EXPIRY_PROPERTY, Long.class, 3600L);
+			long expiry = environment.getProperty(EXPIRY_PROPERTY + "." + name, Long.class, defaultExpiry);
+			long maximumSize = environment.getProperty(MAXIMUM_SIZE_PROPERTY, Long.class, 10000L);
+			return Caffeine.newBuilder().expireAfterWrite(expiry, TimeUnit.SECONDS).maximumSize(maximumSize).build();
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package io.mosip.compliance.toolkit.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
+
+/**
+ * Bounded executor for the asynchronous report jobs. The security context of
+ * the submitting request is carried over, since report generation reads the
+ * partner from it.
+ */
+@Configuration
+public class ReportJobExecutorConfig {
+
+	@Value("${mosip.toolkit.report.job.pool.size:2}")
+	private int poolSize;
+
+	@Value("${mosip.toolkit.report.job.queue.capacity:20}")
+	private int queueCapacity;
+
+	@Bean(name = "reportJobExecutor")
+	public AsyncTaskExecutor reportJobExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("report-job-");
+		executor.setWaitForTasksToCompleteOnShutdown(false);
+		executor.initialize();
+		return new DelegatingSecurityContextAsyncTaskExecutor(executor);
+	}
+}
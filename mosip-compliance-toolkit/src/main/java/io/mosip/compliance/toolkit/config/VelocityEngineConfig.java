@@ -8,28 +8,40 @@ import org.apache.velocity.runtime.RuntimeConstants;
 import org.apache.velocity.runtime.log.NullLogChute;
 import org.apache.velocity.runtime.resource.loader.ClasspathResourceLoader;
 import org.apache.velocity.runtime.resource.loader.FileResourceLoader;
-import org.springframework.context.annotation.Bean;
 
+/**
+ * Holds the shared velocity engine. The engine is created once by the holder
+ * class, so the accessor needs no lock, and classpath templates are parsed once
+ * and served from the resource cache afterwards.
+ */
 public class VelocityEngineConfig {
-	
-	private static VelocityEngine engine;
-	@Bean
-	public static synchronized VelocityEngine getVelocityEngine() throws Exception {
-		if (engine == null) {
-			final Properties properties = new Properties();
-			properties.put(RuntimeConstants.INPUT_ENCODING, StandardCharsets.UTF_8.name());
-			properties.put(RuntimeConstants.OUTPUT_ENCODING, StandardCharsets.UTF_8.name());
-			properties.put(RuntimeConstants.ENCODING_DEFAULT, StandardCharsets.UTF_8.name());
-			properties.put(RuntimeConstants.RESOURCE_LOADER, "classpath");
-			properties.put(RuntimeConstants.FILE_RESOURCE_LOADER_PATH, ".");
-			properties.put(RuntimeConstants.RUNTIME_LOG_LOGSYSTEM_CLASS, NullLogChute.class.getName());
-			properties.put("classpath.resource.loader.class", ClasspathResourceLoader.class.getName());
-			properties.put("file.resource.loader.class", FileResourceLoader.class.getName());
 
-			engine = new VelocityEngine(properties);
+	private static class EngineHolder {
+		private static final VelocityEngine ENGINE = createVelocityEngine();
+	}
+
+	public static VelocityEngine getVelocityEngine() {
+		return EngineHolder.ENGINE;
+	}
+
+	private static VelocityEngine createVelocityEngine() {
+		final Properties properties = new Properties();
+		properties.put(RuntimeConstants.INPUT_ENCODING, StandardCharsets.UTF_8.name());
+		properties.put(RuntimeConstants.OUTPUT_ENCODING, StandardCharsets.UTF_8.name());
+		properties.put(RuntimeConstants.ENCODING_DEFAULT, StandardCharsets.UTF_8.name());
+		properties.put(RuntimeConstants.RESOURCE_LOADER, "classpath");
+		properties.put(RuntimeConstants.FILE_RESOURCE_LOADER_PATH, ".");
+		properties.put(RuntimeConstants.RUNTIME_LOG_LOGSYSTEM_CLASS, NullLogChute.class.getName());
+		properties.put("classpath.resource.loader.class", ClasspathResourceLoader.class.getName());
+		properties.put("classpath.resource.loader.cache", "true");
+		properties.put("classpath.resource.loader.modificationCheckInterval", "0");
+		properties.put("file.resource.loader.class", FileResourceLoader.class.getName());
+		try {
+			VelocityEngine engine = new VelocityEngine(properties);
 			engine.init();
-	
+			return engine;
+		} catch (Exception ex) {
+			throw new IllegalStateException("Velocity engine could not be initialized", ex);
 		}
-		return engine;
 	}
 }
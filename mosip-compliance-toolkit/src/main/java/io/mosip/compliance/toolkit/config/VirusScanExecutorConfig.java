@@ -0,0 +1,38 @@
+package io.mosip.compliance.toolkit.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Bounded executor for the virus scans of uploads, which run while the upload
+ * is validated. When all threads are busy and the queue is full the scan is
+ * rejected and the upload fails with a busy error, a scan never runs on the
+ * request thread where its timeout could not be applied.
+ */
+@Configuration
+public class VirusScanExecutorConfig {
+
+	@Value("${mosip.toolkit.virus.scan.pool.size:4}")
+	private int poolSize;
+
+	@Value("${mosip.toolkit.virus.scan.queue.capacity:20}")
+	private int queueCapacity;
+
+	@Bean(name = "virusScanExecutor")
+	public TaskExecutor virusScanExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("virus-scan-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(false);
+		executor.initialize();
+		return executor;
+	}
+}
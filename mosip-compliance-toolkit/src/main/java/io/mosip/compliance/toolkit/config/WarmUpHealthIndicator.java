@@ -0,0 +1,27 @@
+package io.mosip.compliance.toolkit.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import io.mosip.compliance.toolkit.service.WarmUpService;
+
+/**
+ * Reports the application as out of service until the startup warm up is
+ * done, so the startup and readiness probes only pass on a warmed up pod.
+ */
+@Component
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+	@Autowired
+	private WarmUpService warmUpService;
+
+	@Override
+	public Health health() {
+		if (warmUpService.isCompleted()) {
+			return Health.up().withDetail("warmUp", "completed").build();
+		}
+		return Health.outOfService().withDetail("warmUp", "in progress").build();
+	}
+}
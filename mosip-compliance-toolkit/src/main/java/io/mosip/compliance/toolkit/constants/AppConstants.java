@@ -98,6 +98,22 @@ public class AppConstants {
 	
 	public static final String REPORT_STATUS_REJECTED = "rejected";
 
+	public static final String REPORT_JOB_QUEUED = "queued";
+
+	public static final String REPORT_JOB_PROCESSING = "processing";
+
+	public static final String REPORT_JOB_COMPLETED = "completed";
+
+	public static final String REPORT_JOB_FAILED = "failed";
+
+	public static final String REPORT_JOB_TYPE_DRAFT = "draft";
+
+	public static final String REPORT_JOB_TYPE_DRAFT_QA = "draft_qa";
+
+	public static final String REPORT_JOB_TYPE_SUBMITTED = "submitted";
+
+	public static final String REPORT_JOB_TYPE_PARTNER = "partner";
+
 	public static final String CERTIFICATE_TYPE = "X.509";
 
 	public static final String BIOMETRIC_SCORES_FINGER = "Finger";
@@ -126,4 +142,10 @@ public class AppConstants {
 
 	public static final String TO_BE_ADDED = "To_Be_Added";
 
+	public static final String LOCAL_KEYMANAGER_PROFILE = "local-keymanager";
+
+	public static final String LOCAL_DATASHARE_PROFILE = "local-datashare";
+
+	public static final String LOCAL_PARTNERMANAGER_PROFILE = "local-partnermanager";
+
 }
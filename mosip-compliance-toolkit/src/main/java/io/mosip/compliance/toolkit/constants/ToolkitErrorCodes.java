@@ -98,6 +98,7 @@ public enum ToolkitErrorCodes {
 	INVALID_FILE_SIZE("TOOLKIT_REQ_ERR_063", "File size is not allowed more than "),
 	INVALID_FILE_NAME_LENGTH("TOOLKIT_REQ_ERR_064", "File name is not allowed more than "),
 	CHARACTERS("TOOLKIT_REQ_ERR_065", " characters"),
+	VIRUS_SCAN_BUSY("TOOLKIT_REQ_ERR_066", "Too many uploads are being scanned, try again later"),
 	PROJECT_NAME_EXISTS("TOOLKIT_DB_ERR_001", "You have previously created a project with name: "),
 	BIO_TEST_DATA_FILE_EXISTS("TOOLKIT_DB_ERR_002", "You have previously added biometric test data with name: "),
 	COLLECTION_NAME_EXISTS("TOOLKIT_DB_ERR_003", "You have previously created a collection with name: "),
@@ -148,6 +149,10 @@ public enum ToolkitErrorCodes {
 	TOOLKIT_REPORT_STATUS_UPDATE_ERR("TOOLKIT_REPORT_004", "Error while changing report status"),
 	TOOLKIT_REPORT_GET_ERR("TOOLKIT_REPORT_005", "Error while fetching list of reports"),
 	TOOLKIT_INVALID_REPORT_STATUS_ERR("TOOLKIT_REPORT_006", "Error while fetching list of reports. Invalid report status: "),
+	TOOLKIT_REPORT_JOB_NOT_AVAILABLE_ERR("TOOLKIT_REPORT_007", "No matching report job available for the given id"),
+	TOOLKIT_REPORT_JOB_REJECTED_ERR("TOOLKIT_REPORT_008", "Too many reports are being generated, try again later"),
+	TOOLKIT_REPORT_JOB_NOT_COMPLETED_ERR("TOOLKIT_REPORT_009", "Report job is not completed, current status: "),
+	TOOLKIT_REPORT_JOB_STALE_ERR("TOOLKIT_REPORT_010", "Report job was not completed in time, submit it again"),
 	TOOLKIT_CERTIFICATE_PARSING_ERR("TOOLKIT_CERTIFICATE_PARSING_001", "Error while parsing certificate : "),
 	TOOLKIT_CONSENT_ERR("TOOLKIT_CONSENT_ERR_001", "Error while fetching partner consent."),
 	TOOLKIT_CONSENT_UNABLE_TO_ADD("TOOLKIT_CONSENT_ERR_002", "Error while saving partner consent.");
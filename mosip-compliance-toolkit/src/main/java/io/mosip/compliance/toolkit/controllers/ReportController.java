@@ -21,11 +21,15 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.mosip.compliance.toolkit.constants.AppConstants;
+import io.mosip.compliance.toolkit.dto.PageDto;
 import io.mosip.compliance.toolkit.dto.report.ComplianceTestRunSummaryDto;
+import io.mosip.compliance.toolkit.dto.report.ReportJobDto;
 import io.mosip.compliance.toolkit.dto.report.ReportRequestDto;
+import io.mosip.compliance.toolkit.service.ReportJobService;
 import io.mosip.compliance.toolkit.service.ReportService;
 import io.mosip.compliance.toolkit.util.DataValidationUtil;
 import io.mosip.compliance.toolkit.util.RequestValidator;
@@ -54,6 +58,9 @@ public class ReportController {
 	@Autowired
 	private ReportService service;
 
+	@Autowired
+	private ReportJobService reportJobService;
+
 	@Autowired
 	private RequestValidator requestValidator;
 
@@ -159,6 +166,35 @@ public class ReportController {
 		return service.getReportList(true, reportStatus);
 	}
 
+	@GetMapping(value = "/getSubmittedReportPage")
+	@Operation(summary = "Get submitted report page", description = "Get a sorted page of submitted reports", tags = "report-controller")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "OK"),
+			@ApiResponse(responseCode = "201", description = "Created" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "401", description = "Unauthorized" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "403", description = "Forbidden" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "404", description = "Not Found" ,content = @Content(schema = @Schema(hidden = true)))})
+	public ResponseWrapper<PageDto<ComplianceTestRunSummaryDto>> getSubmittedReportPage(
+			@RequestParam(defaultValue = "0") int pageNo, @RequestParam(defaultValue = "10") int pageSize,
+			@RequestParam(defaultValue = "crDtimes") String sortBy, @RequestParam(defaultValue = "desc") String sortDir)
+			throws Exception {
+		return service.getReportPage(false, null, pageNo, pageSize, sortBy, sortDir);
+	}
+
+	@PreAuthorize("hasAnyRole(@authorizedRoles.getAdminPartnerReport())")
+	@GetMapping(value = "/getPartnerReportPage/{reportStatus}")
+	@Operation(summary = "Get partner report page", description = "Get a sorted page of partner reports by report status", tags = "report-controller")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "OK"),
+			@ApiResponse(responseCode = "201", description = "Created" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "401", description = "Unauthorized" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "403", description = "Forbidden" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "404", description = "Not Found" ,content = @Content(schema = @Schema(hidden = true)))})
+	public ResponseWrapper<PageDto<ComplianceTestRunSummaryDto>> getPartnerReportPage(
+			@PathVariable String reportStatus, @RequestParam(defaultValue = "0") int pageNo,
+			@RequestParam(defaultValue = "10") int pageSize, @RequestParam(defaultValue = "crDtimes") String sortBy,
+			@RequestParam(defaultValue = "desc") String sortDir) throws Exception {
+		return service.getReportPage(true, reportStatus, pageNo, pageSize, sortBy, sortDir);
+	}
+
 	@PreAuthorize("hasAnyRole(@authorizedRoles.getAdminPartnerReport())")
 	@PostMapping(value = "/getPartnerReport/{partnerId}")
 	@Operation(summary = "Get partner report", description = "Get partner report by partner id", tags = "report-controller")
@@ -203,6 +239,86 @@ public class ReportController {
 				AppConstants.REPORT_STATUS_REJECTED);
 	}
 
+	@PostMapping(value = "/generateDraftReportJob")
+	@Operation(summary = "Generate draft report job", description = "Queue generation of the draft report for compliance collection", tags = "report-controller")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "OK"),
+			@ApiResponse(responseCode = "201", description = "Created" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "401", description = "Unauthorized" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "403", description = "Forbidden" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "404", description = "Not Found" ,content = @Content(schema = @Schema(hidden = true)))})
+	public ResponseWrapper<ReportJobDto> generateDraftReportJob(
+			@RequestBody @Valid RequestWrapper<ReportRequestDto> value, @RequestHeader String origin, Errors errors)
+			throws Exception {
+		validateRequestForPartner(value, errors);
+		return reportJobService.submitReportJob(AppConstants.REPORT_JOB_TYPE_DRAFT, null, value.getRequest(), origin);
+	}
+
+	@PostMapping(value = "/generateDraftQAReportJob")
+	@Operation(summary = "Generate QA draft report job", description = "Queue generation of the draft report for quality assessment collection", tags = "report-controller")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "OK"),
+			@ApiResponse(responseCode = "201", description = "Created" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "401", description = "Unauthorized" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "403", description = "Forbidden" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "404", description = "Not Found" ,content = @Content(schema = @Schema(hidden = true)))})
+	public ResponseWrapper<ReportJobDto> generateDraftQAReportJob(
+			@RequestBody @Valid RequestWrapper<ReportRequestDto> value, @RequestHeader String origin, Errors errors)
+			throws Exception {
+		validateRequestForPartner(value, errors);
+		return reportJobService.submitReportJob(AppConstants.REPORT_JOB_TYPE_DRAFT_QA, null, value.getRequest(),
+				origin);
+	}
+
+	@PostMapping(value = "/getSubmittedReportJob")
+	@Operation(summary = "Get submitted report job", description = "Queue generation of the submitted report", tags = "report-controller")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "OK"),
+			@ApiResponse(responseCode = "201", description = "Created" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "401", description = "Unauthorized" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "403", description = "Forbidden" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "404", description = "Not Found" ,content = @Content(schema = @Schema(hidden = true)))})
+	public ResponseWrapper<ReportJobDto> getSubmittedReportJob(
+			@RequestBody @Valid RequestWrapper<ReportRequestDto> reportRequestWrapper, Errors errors) throws Exception {
+		validateRequestForPartner(reportRequestWrapper, errors);
+		return reportJobService.submitReportJob(AppConstants.REPORT_JOB_TYPE_SUBMITTED, service.getPartnerId(),
+				reportRequestWrapper.getRequest(), null);
+	}
+
+	@PreAuthorize("hasAnyRole(@authorizedRoles.getAdminPartnerReport())")
+	@PostMapping(value = "/getPartnerReportJob/{partnerId}")
+	@Operation(summary = "Get partner report job", description = "Queue generation of the report of a partner", tags = "report-controller")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "OK"),
+			@ApiResponse(responseCode = "201", description = "Created" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "401", description = "Unauthorized" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "403", description = "Forbidden" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "404", description = "Not Found" ,content = @Content(schema = @Schema(hidden = true)))})
+	public ResponseWrapper<ReportJobDto> getPartnerReportJob(@PathVariable String partnerId,
+			@RequestBody @Valid RequestWrapper<ReportRequestDto> reportRequestWrapper, Errors errors) throws Exception {
+		validateRequestForAdmin(reportRequestWrapper, errors);
+		return reportJobService.submitReportJob(AppConstants.REPORT_JOB_TYPE_PARTNER, partnerId,
+				reportRequestWrapper.getRequest(), null);
+	}
+
+	@GetMapping(value = "/getReportJobStatus/{jobId}")
+	@Operation(summary = "Get report job status", description = "Get the status of a report job", tags = "report-controller")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "OK"),
+			@ApiResponse(responseCode = "201", description = "Created" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "401", description = "Unauthorized" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "403", description = "Forbidden" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "404", description = "Not Found" ,content = @Content(schema = @Schema(hidden = true)))})
+	public ResponseWrapper<ReportJobDto> getReportJobStatus(@PathVariable String jobId) {
+		return reportJobService.getReportJobStatus(jobId);
+	}
+
+	@GetMapping(value = "/getReportJobResult/{jobId}")
+	@Operation(summary = "Get report job result", description = "Download the report of a completed report job", tags = "report-controller")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "OK"),
+			@ApiResponse(responseCode = "201", description = "Created" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "401", description = "Unauthorized" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "403", description = "Forbidden" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "404", description = "Not Found" ,content = @Content(schema = @Schema(hidden = true)))})
+	public ResponseEntity<?> getReportJobResult(@PathVariable String jobId) {
+		return reportJobService.getReportJobResult(jobId);
+	}
+
 	private void validateRequestForAdmin(RequestWrapper<ReportRequestDto> reportRequestWrapper, Errors errors)
 			throws Exception {
 		requestValidator.validate(reportRequestWrapper, errors);
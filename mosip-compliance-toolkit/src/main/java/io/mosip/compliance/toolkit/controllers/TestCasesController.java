@@ -2,6 +2,7 @@ package io.mosip.compliance.toolkit.controllers;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 
 import javax.validation.Valid;
 
@@ -14,6 +15,8 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.WebDataBinder;
@@ -24,6 +27,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import io.mosip.compliance.toolkit.constants.AppConstants;
 import io.mosip.compliance.toolkit.constants.ToolkitErrorCodes;
@@ -116,12 +120,15 @@ public class TestCasesController {
 	public ResponseWrapper<List<TestCaseDto>> getSbiTestCases(@RequestParam(required = true) String specVersion,
 			@RequestParam(required = true) String purpose, @RequestParam(required = true) String deviceType,
 			@RequestParam(required = true) String deviceSubType,
-			@RequestParam(required = true) boolean isAndroid) {
+			@RequestParam(required = true) boolean isAndroid, ServletWebRequest webRequest) {
 		try {
 			String isAndroidSbi = "no";
 			if (isAndroid) {
 				isAndroidSbi = "yes";
 			}
+			if (isNotModified(service.getTestCasesVersion(AppConstants.SBI, specVersion), webRequest)) {
+				return null;
+			}
 			return service.getSbiTestCases(specVersion, purpose, deviceType, deviceSubType, isAndroidSbi);
 		} catch (Exception ex) {
 			return handleFailureForGetTestcases(ex);
@@ -136,14 +143,32 @@ public class TestCasesController {
 			@ApiResponse(responseCode = "403", description = "Forbidden" ,content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = "404", description = "Not Found" ,content = @Content(schema = @Schema(hidden = true)))})
 	public ResponseWrapper<List<TestCaseDto>> getSdkTestCases(@RequestParam(required = true) String specVersion,
-			@RequestParam(required = true) String sdkPurpose) {
+			@RequestParam(required = true) String sdkPurpose, ServletWebRequest webRequest) {
 		try {
+			if (isNotModified(service.getTestCasesVersion(AppConstants.SDK, specVersion), webRequest)) {
+				return null;
+			}
 			return service.getSdkTestCases(specVersion, sdkPurpose);
 		} catch (Exception ex) {
 			return handleFailureForGetTestcases(ex);
 		}
 	}
 
+	/**
+	 * Sets the test cases version as the ETag, the client has to revalidate every
+	 * time and gets a 304 without a body while the test cases are unchanged.
+	 */
+	private boolean isNotModified(String testCasesVersion, ServletWebRequest webRequest) {
+		if (Objects.isNull(testCasesVersion) || Objects.isNull(webRequest)) {
+			return false;
+		}
+		if (Objects.nonNull(webRequest.getResponse())) {
+			webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL,
+					CacheControl.noCache().cachePrivate().getHeaderValue());
+		}
+		return webRequest.checkNotModified(testCasesVersion);
+	}
+
 	private ResponseWrapper<List<TestCaseDto>> handleFailureForGetTestcases(Exception ex) {
 		ResponseWrapper<List<TestCaseDto>> responseWrapper = new ResponseWrapper<>();
 		responseWrapper.setId(getTestCasesId);
@@ -163,8 +188,12 @@ public class TestCasesController {
 			@ApiResponse(responseCode = "401", description = "Unauthorized" ,content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = "403", description = "Forbidden" ,content = @Content(schema = @Schema(hidden = true))),
 			@ApiResponse(responseCode = "404", description = "Not Found" ,content = @Content(schema = @Schema(hidden = true)))})
-	public ResponseWrapper<List<TestCaseDto>> getAbisTestCases(@RequestParam(required = true) String abisSpecVersion) {
+	public ResponseWrapper<List<TestCaseDto>> getAbisTestCases(@RequestParam(required = true) String abisSpecVersion,
+			ServletWebRequest webRequest) {
 		try {
+			if (isNotModified(service.getTestCasesVersion(AppConstants.ABIS, abisSpecVersion), webRequest)) {
+				return null;
+			}
 			return service.getAbisTestCases(abisSpecVersion);
 		} catch (Exception ex) {
 			return handleFailureForGetTestcases(ex);
@@ -212,6 +241,19 @@ public class TestCasesController {
 		return service.saveTestCases(testCaseRequestDto.getRequest().getTestCases());
 	}
 
+	@PreAuthorize("hasAnyRole(@authorizedRoles.getSaveTestCases())")
+	@PostMapping(value = "/importTestCases", produces = "application/json")
+	@Operation(summary = "Import testcases", description = "Saves all the testcases in one upsert, nothing is saved when any testcase is invalid. The user must have the CTK_ADMIN role in order to import test cases.", tags = "test-cases-controller")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "OK"),
+			@ApiResponse(responseCode = "201", description = "Created" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "401", description = "Unauthorized" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "403", description = "Forbidden" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "404", description = "Not Found" ,content = @Content(schema = @Schema(hidden = true)))})
+	public ResponseWrapper<TestCaseResponseDto> importTestCases(
+			@RequestBody @Valid RequestWrapper<TestCaseRequestDto> testCaseRequestDto) throws Exception {
+		return service.importTestCases(testCaseRequestDto.getRequest().getTestCases());
+	}
+
 	@GetMapping(value = "/getTestCase/{testId}")
 	@Operation(summary = "Get testcase", description = "Get testcase by testId", tags = "test-cases-controller")
 	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "OK"),
@@ -7,6 +7,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.mosip.compliance.toolkit.dto.PageDto;
 import io.mosip.compliance.toolkit.dto.testrun.TestRunDetailsDto;
@@ -117,6 +119,19 @@ public class TestRunController {
 		return testRunService.getMethodDetails(testRunService.getPartnerId(), runId, testcaseId, methodId);
 	}
 
+	@GetMapping(value = "/getMethodPayload/{runId}/{testcaseId}/{methodId}/{payloadType}")
+	@Operation(summary = "Get method payload", description = "Get the stored method request or response based on the run id, testcase id and method id", tags = "test-run-controller")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "OK"),
+			@ApiResponse(responseCode = "201", description = "Created" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "401", description = "Unauthorized" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "403", description = "Forbidden" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "404", description = "Not Found" ,content = @Content(schema = @Schema(hidden = true)))})
+	public ResponseEntity<StreamingResponseBody> getMethodPayload(@PathVariable String runId,
+			@PathVariable String testcaseId, @PathVariable String methodId, @PathVariable String payloadType) {
+		return testRunService.getMethodPayload(testRunService.getPartnerId(), runId, testcaseId, methodId,
+				payloadType);
+	}
+
 	@PreAuthorize("hasAnyRole(@authorizedRoles.getAdminPartnerReport())")
 	@GetMapping(value = "/getPartnerTestRunDetails/{partnerId}/{runId}")
 	@Operation(summary = "Get partner test run details", description = "Get partner test run details by partner id and run id", tags = "test-run-controller")
@@ -143,6 +158,20 @@ public class TestRunController {
 		return testRunService.getMethodDetails(partnerId, runId, testcaseId, methodId);
 	}
 
+	@PreAuthorize("hasAnyRole(@authorizedRoles.getAdminPartnerReport())")
+	@GetMapping(value = "/getPartnerMethodPayload/{partnerId}/{runId}/{testcaseId}/{methodId}/{payloadType}")
+	@Operation(summary = "Get partner method payload", description = "Get the stored method request or response of a partner", tags = "test-run-controller")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "OK"),
+			@ApiResponse(responseCode = "201", description = "Created" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "401", description = "Unauthorized" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "403", description = "Forbidden" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "404", description = "Not Found" ,content = @Content(schema = @Schema(hidden = true)))})
+	public ResponseEntity<StreamingResponseBody> getPartnerMethodPayload(@PathVariable String partnerId,
+			@PathVariable String runId, @PathVariable String testcaseId, @PathVariable String methodId,
+			@PathVariable String payloadType) {
+		return testRunService.getMethodPayload(partnerId, runId, testcaseId, methodId, payloadType);
+	}
+
 	@GetMapping(value = "/getTestRunHistory")
 	@Operation(summary = "Get test run history", description = "Get test run history for a collection", tags = "test-run-controller")
 	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "OK"),
@@ -156,6 +185,31 @@ public class TestRunController {
 		return testRunService.getTestRunHistory(collectionId, pageNo, pageSize);
 	}
 
+	@GetMapping(value = "/getTestRunHistoryPage")
+	@Operation(summary = "Get test run history page", description = "Get test run history for a collection using a continuation token", tags = "test-run-controller")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "OK"),
+			@ApiResponse(responseCode = "201", description = "Created" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "401", description = "Unauthorized" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "403", description = "Forbidden" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "404", description = "Not Found" ,content = @Content(schema = @Schema(hidden = true)))})
+	public ResponseWrapper<PageDto<TestRunHistoryDto>> getTestRunHistoryPage(
+			@RequestParam(required = true) String collectionId, @RequestParam(defaultValue = "10") int pageSize,
+			@RequestParam(required = false) String pageToken) {
+		return testRunService.getTestRunHistoryPage(collectionId, pageSize, pageToken);
+	}
+
+	@GetMapping(value = "/getTestRunDetailsPage/{runId}")
+	@Operation(summary = "Get test run details page", description = "Get test run details by run id using a continuation token", tags = "test-run-controller")
+	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "OK"),
+			@ApiResponse(responseCode = "201", description = "Created" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "401", description = "Unauthorized" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "403", description = "Forbidden" ,content = @Content(schema = @Schema(hidden = true))),
+			@ApiResponse(responseCode = "404", description = "Not Found" ,content = @Content(schema = @Schema(hidden = true)))})
+	public ResponseWrapper<PageDto<TestRunDetailsDto>> getTestRunDetailsPage(@PathVariable String runId,
+			@RequestParam(defaultValue = "10") int pageSize, @RequestParam(required = false) String pageToken) {
+		return testRunService.getTestRunDetailsPage(testRunService.getPartnerId(), runId, pageSize, pageToken);
+	}
+
 	@GetMapping(value = "/getTestRunStatus/{runId}")
 	@Operation(summary = "Get test run status", description = "Get test run status by run id", tags = "test-run-controller")
 	@ApiResponses(value = { @ApiResponse(responseCode = "200", description = "OK"),
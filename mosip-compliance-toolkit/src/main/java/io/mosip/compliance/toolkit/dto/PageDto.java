@@ -29,4 +29,6 @@ public class PageDto<T> {
 
 	private List<T> content;
 
+	private String nextPageToken;
+
 }
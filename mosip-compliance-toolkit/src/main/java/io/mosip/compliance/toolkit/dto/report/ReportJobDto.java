@@ -0,0 +1,21 @@
+package io.mosip.compliance.toolkit.dto.report;
+
+import java.time.LocalDateTime;
+
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Data
+public class ReportJobDto {
+
+	private String jobId;
+	private String reportType;
+	private String status;
+	private String fileName;
+	private String errorMessage;
+	private LocalDateTime crDtimes;
+	private LocalDateTime updDtimes;
+}
@@ -0,0 +1,24 @@
+package io.mosip.compliance.toolkit.dto.testrun;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestRunReportMethodDto {
+
+	private String executionStatus;
+
+	private String resultStatus;
+
+	private String testDataSource;
+
+	private String deviceFingerprint;
+
+}
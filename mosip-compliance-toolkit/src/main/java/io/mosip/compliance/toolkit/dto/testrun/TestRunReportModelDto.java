@@ -0,0 +1,156 @@
+package io.mosip.compliance.toolkit.dto.testrun;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import io.mosip.compliance.toolkit.constants.AppConstants;
+import io.mosip.compliance.toolkit.dto.report.BiometricScores;
+import io.mosip.compliance.toolkit.dto.report.PartnerTable;
+import io.mosip.compliance.toolkit.dto.testcases.TestCaseDto;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The inputs of a draft report kept with a test run, so that a draft report
+ * does not read the details, the collection testcases and the biometric scores
+ * of the run again. The run header, the collection testcases, the latest result
+ * of each method and the device validation are kept up to date as the run
+ * goes on. The partner details and the biometric score tables are kept once
+ * the first draft report has read them, null means they are not read yet.
+ */
+@Getter
+@Setter
+@Data
+public class TestRunReportModelDto {
+
+	private static final String KEY_SEPARATOR = "#";
+
+	private String collectionId;
+
+	private String collectionName;
+
+	private LocalDateTime runDtimes;
+
+	private LocalDateTime executionDtimes;
+
+	private String executionStatus;
+
+	private String runStatus;
+
+	/** Name by id of the testcases of the collection, null when they could not be read. */
+	private Map<String, String> collectionTestcases;
+
+	private Map<String, Map<String, TestRunReportMethodDto>> testcases = new TreeMap<>();
+
+	/** Make, model, serial number, provider and provider id of the device of the report. */
+	private List<String> device;
+
+	private String invalidDeviceTestcaseId = "";
+
+	private PartnerTable partnerDetails;
+
+	private String biometricScoresProjectId;
+
+	private String biometricType;
+
+	private List<BiometricScores> biometricScores;
+
+	/** Incremented when biometric scores are added to the run. */
+	private long biometricScoresRevision;
+
+	public void putMethod(TestRunDetailsDto testRunDetailsDto) {
+		putMethod(testRunDetailsDto, null);
+	}
+
+	public void putMethod(TestRunDetailsDto testRunDetailsDto, String deviceFingerprint) {
+		testcases.computeIfAbsent(testRunDetailsDto.getTestcaseId(), testcaseId -> new TreeMap<>()).put(
+				testRunDetailsDto.getMethodId(),
+				new TestRunReportMethodDto(testRunDetailsDto.getExecutionStatus(),
+						testRunDetailsDto.getResultStatus(), testRunDetailsDto.getTestDataSource(),
+						deviceFingerprint));
+	}
+
+	public void putCollectionTestcases(List<TestCaseDto> testcasesList) {
+		collectionTestcases = new TreeMap<>();
+		for (TestCaseDto testcase : testcasesList) {
+			collectionTestcases.put(testcase.getTestId(), testcase.getTestName());
+		}
+	}
+
+	public List<TestCaseDto> toTestCaseList() {
+		List<TestCaseDto> testcasesList = new ArrayList<>();
+		for (Map.Entry<String, String> testcase : collectionTestcases.entrySet()) {
+			TestCaseDto testCaseDto = new TestCaseDto();
+			testCaseDto.setTestId(testcase.getKey());
+			testCaseDto.setTestName(testcase.getValue());
+			testcasesList.add(testCaseDto);
+		}
+		return testcasesList;
+	}
+
+	public boolean hasBiometricScores(String projectId, String biometricType) {
+		return Objects.nonNull(biometricScores) && Objects.equals(biometricScoresProjectId, projectId)
+				&& Objects.equals(this.biometricType, biometricType);
+	}
+
+	public TestRunDetailsResponseDto toTestRunDetailsResponse(String runId) {
+		TestRunDetailsResponseDto testRunDetailsResponseDto = new TestRunDetailsResponseDto();
+		testRunDetailsResponseDto.setCollectionId(collectionId);
+		testRunDetailsResponseDto.setRunId(runId);
+		testRunDetailsResponseDto.setRunDtimes(runDtimes);
+		testRunDetailsResponseDto.setExecutionDtimes(executionDtimes);
+		testRunDetailsResponseDto.setRunStatus(runStatus);
+		testRunDetailsResponseDto.setExecutionStatus(executionStatus);
+		testRunDetailsResponseDto.setTestRunDetailsList(toTestRunDetailsList(runId));
+		return testRunDetailsResponseDto;
+	}
+
+	public List<TestRunDetailsDto> toTestRunDetailsList(String runId) {
+		List<TestRunDetailsDto> testRunDetailsList = new ArrayList<>();
+		for (Map.Entry<String, Map<String, TestRunReportMethodDto>> testcase : testcases.entrySet()) {
+			for (Map.Entry<String, TestRunReportMethodDto> method : testcase.getValue().entrySet()) {
+				TestRunDetailsDto testRunDetailsDto = new TestRunDetailsDto();
+				testRunDetailsDto.setRunId(runId);
+				testRunDetailsDto.setTestcaseId(testcase.getKey());
+				testRunDetailsDto.setMethodId(method.getKey());
+				testRunDetailsDto.setExecutionStatus(method.getValue().getExecutionStatus());
+				testRunDetailsDto.setResultStatus(method.getValue().getResultStatus());
+				testRunDetailsDto.setTestDataSource(method.getValue().getTestDataSource());
+				testRunDetailsList.add(testRunDetailsDto);
+			}
+		}
+		return testRunDetailsList;
+	}
+
+	/**
+	 * Result of each testcase, a success only when the latest result of each of
+	 * its methods is a success. The list is ordered newest first, as the details
+	 * of a run are read, so only the first result of a method is used. Draft
+	 * reports use this for the report model and for the details of older runs,
+	 * so both agree.
+	 */
+	public static Map<String, String> getTestCaseResults(List<TestRunDetailsDto> testRunDetailsList) {
+		Set<String> methods = new HashSet<>();
+		Map<String, String> testCaseResults = new HashMap<>();
+		for (TestRunDetailsDto testRunDetailsDto : testRunDetailsList) {
+			if (!methods.add(testRunDetailsDto.getTestcaseId() + KEY_SEPARATOR + testRunDetailsDto.getMethodId())) {
+				// an earlier result of the method
+				continue;
+			}
+			if (AppConstants.SUCCESS.equals(testRunDetailsDto.getResultStatus())) {
+				testCaseResults.putIfAbsent(testRunDetailsDto.getTestcaseId(), AppConstants.SUCCESS);
+			} else {
+				testCaseResults.put(testRunDetailsDto.getTestcaseId(), AppConstants.FAILURE);
+			}
+		}
+		return testCaseResults;
+	}
+}
@@ -68,4 +68,7 @@ public class ComplianceReportSummaryEntity {
 
     @Column(name = "collection_name")
     private String collectionName;
+
+    @Column(name = "project_name")
+    private String projectName;
 }
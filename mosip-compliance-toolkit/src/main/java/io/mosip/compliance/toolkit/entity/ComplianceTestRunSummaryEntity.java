@@ -21,7 +21,7 @@ import lombok.ToString;
 @Getter
 @Setter
 @NoArgsConstructor
-@ToString
+@ToString(exclude = "reportData")
 @IdClass(ComplianceTestRunSummaryPK.class)
 public class ComplianceTestRunSummaryEntity {
 
@@ -49,6 +49,9 @@ public class ComplianceTestRunSummaryEntity {
 	@Column(name = "report_data_json")
 	private String reportDataJson;
 
+	@Column(name = "report_data")
+	private byte[] reportData;
+
 	@Column(name = "report_status")
 	private String reportStatus;
 	
@@ -0,0 +1,57 @@
+package io.mosip.compliance.toolkit.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Component
+@Entity
+@Table(name = "report_job", schema = "toolkit")
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString(exclude = "reportContent")
+public class ReportJobEntity {
+
+	@Id
+	@Column(name = "id")
+	private String id;
+
+	@Column(name = "partner_id")
+	private String partnerId;
+
+	@Column(name = "report_type")
+	private String reportType;
+
+	@Column(name = "status")
+	private String status;
+
+	@Column(name = "file_name")
+	private String fileName;
+
+	@Column(name = "report_content")
+	private byte[] reportContent;
+
+	@Column(name = "error_message")
+	private String errorMessage;
+
+	@Column(name = "cr_by")
+	private String crBy;
+
+	@Column(name = "cr_dtimes")
+	private LocalDateTime crDtimes;
+
+	@Column(name = "upd_dtimes")
+	private LocalDateTime updDtimes;
+
+}
@@ -0,0 +1,32 @@
+package io.mosip.compliance.toolkit.entity;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Projection of a report job row without the generated report, used while the
+ * client polls for the job status.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+public class ReportJobStatusEntity {
+
+	private String id;
+
+	private String reportType;
+
+	private String status;
+
+	private String fileName;
+
+	private String errorMessage;
+
+	private LocalDateTime crDtimes;
+
+	private LocalDateTime updDtimes;
+
+}
@@ -3,6 +3,7 @@ package io.mosip.compliance.toolkit.entity;
 import java.time.LocalDateTime;
 
 import javax.persistence.Column;
+import javax.persistence.Convert;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.IdClass;
@@ -41,9 +42,11 @@ public class TestRunDetailsEntity {
 	private String methodUrl;
 	
 	@Column(name = "method_request")
+	@Convert(converter = PayloadCompressionConverter.class)
 	private String methodRequest;
 	
 	@Column(name = "method_response")
+	@Convert(converter = PayloadCompressionConverter.class)
 	private String methodResponse;
 
 	@Column(name = "execution_status")
@@ -57,6 +60,9 @@ public class TestRunDetailsEntity {
 	
 	@Column(name = "test_data_source")
 	private String testDataSource;
+
+	@Column(name = "device_fingerprint")
+	private String deviceFingerprint;
 	
 	@Column(name = "partner_id")
 	private String partnerId;
@@ -0,0 +1,22 @@
+package io.mosip.compliance.toolkit.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Projection of the test run details of a run grouped by device fingerprint,
+ * with one of the testcases and the number of details of each group.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+public class TestRunDeviceFingerprintEntity {
+
+	private String deviceFingerprint;
+
+	private String testcaseId;
+
+	private Long count;
+
+}
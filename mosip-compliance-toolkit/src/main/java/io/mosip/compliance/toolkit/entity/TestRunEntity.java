@@ -73,4 +73,10 @@ public class TestRunEntity implements Serializable {
 
 	@Column(name = "del_dtimes")
 	private LocalDateTime delTime;
+
+	@Column(name = "testcase_count")
+	private long testCaseCount;
+
+	@Column(name = "passcase_count")
+	private long passCaseCount;
 }
@@ -0,0 +1,22 @@
+package io.mosip.compliance.toolkit.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Projection of a test run detail row carrying only the method response, used
+ * when the report needs the device details of every testcase in a run.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+public class TestRunMethodResponseEntity {
+
+	private String testcaseId;
+
+	private String methodId;
+
+	private String methodResponse;
+
+}
@@ -46,6 +46,9 @@ public class TestRunPartialDetailsEntity {
 	@Column(name = "result_status")
 	private String resultStatus;
 	
+	@Column(name = "result_description")
+	private String resultDescription;
+	
 	@Column(name = "test_data_source")
 	private String testDataSource;
 	
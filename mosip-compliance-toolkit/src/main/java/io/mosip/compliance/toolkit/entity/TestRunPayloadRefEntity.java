@@ -0,0 +1,39 @@
+package io.mosip.compliance.toolkit.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Component
+@Entity
+@Table(name = "test_run_payload_ref", schema = "toolkit")
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class TestRunPayloadRefEntity {
+
+	@Id
+	@Column(name = "hash")
+	private String hash;
+
+	@Column(name = "ref_count")
+	private long refCount;
+
+	@Column(name = "cr_dtimes")
+	private LocalDateTime crDtimes;
+
+	@Column(name = "upd_dtimes")
+	private LocalDateTime updDtimes;
+
+}
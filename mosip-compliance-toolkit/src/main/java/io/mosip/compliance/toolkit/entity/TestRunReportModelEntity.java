@@ -0,0 +1,48 @@
+package io.mosip.compliance.toolkit.entity;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Component
+@Entity
+@Table(name = "test_run_report_model", schema = "toolkit")
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString(exclude = "reportModel")
+public class TestRunReportModelEntity {
+
+	@Id
+	@Column(name = "run_id")
+	private String runId;
+
+	@Column(name = "partner_id")
+	private String partnerId;
+
+	@Column(name = "report_model")
+	private byte[] reportModel;
+
+	@Column(name = "cr_by")
+	private String crBy;
+
+	@Column(name = "cr_dtimes")
+	private LocalDateTime crDtimes;
+
+	@Column(name = "upd_by")
+	private String updBy;
+
+	@Column(name = "upd_dtimes")
+	private LocalDateTime updDtimes;
+
+}
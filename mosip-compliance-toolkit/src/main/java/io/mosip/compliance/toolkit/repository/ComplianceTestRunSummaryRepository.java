@@ -2,7 +2,12 @@ package io.mosip.compliance.toolkit.repository;
 
 import java.util.List;
 
+import javax.transaction.Transactional;
+
 import io.mosip.compliance.toolkit.entity.ComplianceReportSummaryEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -14,7 +19,7 @@ import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
 public interface ComplianceTestRunSummaryRepository
         extends BaseRepository<ComplianceTestRunSummaryEntity, ComplianceTestRunSummaryPK> {
 
-    @Query("SELECT new io.mosip.compliance.toolkit.entity.ComplianceReportSummaryEntity(" +
+    String REPORT_SUMMARY_SELECT = "SELECT new io.mosip.compliance.toolkit.entity.ComplianceReportSummaryEntity(" +
             "cts.projectId AS project_id, " +
             "cts.collectionId AS collection_id, " +
             "cts.runId AS run_id, " +
@@ -31,38 +36,47 @@ public interface ComplianceTestRunSummaryRepository
             "cts.updBy AS upd_by, " +
             "cts.updDtimes AS upd_dtimes, " +
             "c.collectionType AS collection_type, " +
-            "c.name AS collection_name) " +
-            "FROM ComplianceTestRunSummaryEntity cts, CollectionEntity c " +
-            "WHERE cts.collectionId = c.id " +
-            "AND cts.reportStatus = ?1 " +
-            "AND cts.isDeleted <> 'true' " +
-            "ORDER BY cts.crDtimes DESC")
-    public List<ComplianceReportSummaryEntity> findAllByReportStatus(String reportStatus);
+            "c.name AS collection_name, " +
+            "COALESCE(sbi.name, sdk.name, abis.name) AS project_name) ";
 
-    @Query("SELECT new io.mosip.compliance.toolkit.entity.ComplianceReportSummaryEntity(" +
-            "cts.projectId AS project_id, " +
-            "cts.collectionId AS collection_id, " +
-            "cts.runId AS run_id, " +
-            "cts.projectType AS project_type, " +
-            "cts.partnerId AS partner_id, " +
-            "cts.orgName AS org_name, " +
-            "cts.reportStatus AS report_status, " +
-            "cts.partnerComments AS partner_comments, " +
-            "cts.adminComments AS admin_comments, " +
-            "cts.reviewDtimes AS review_dttimes, " +
-            "cts.approveRejectDtimes AS approve_reject_dttimes, " +
-            "cts.crBy AS cr_by, " +
-            "cts.crDtimes AS cr_dtimes, " +
-            "cts.updBy AS upd_by, " +
-            "cts.updDtimes AS upd_dtimes, " +
-            "c.collectionType AS collection_type, " +
-            "c.name AS collection_name) " +
-            "FROM ComplianceTestRunSummaryEntity cts, CollectionEntity c " +
-            "WHERE cts.collectionId = c.id " +
-            "AND cts.partnerId = ?1 " +
+    // the project name comes from the project table matching the project type
+    String REPORT_SUMMARY_FROM = "FROM ComplianceTestRunSummaryEntity cts " +
+            "JOIN CollectionEntity c ON (cts.collectionId = c.id) " +
+            "LEFT JOIN SbiProjectEntity sbi ON (cts.projectType = 'SBI' AND sbi.id = cts.projectId " +
+            "AND sbi.partnerId = cts.partnerId AND sbi.isDeleted <> 'true') " +
+            "LEFT JOIN SdkProjectEntity sdk ON (cts.projectType = 'SDK' AND sdk.id = cts.projectId " +
+            "AND sdk.partnerId = cts.partnerId AND sdk.isDeleted <> 'true') " +
+            "LEFT JOIN AbisProjectEntity abis ON (cts.projectType = 'ABIS' AND abis.id = cts.projectId " +
+            "AND abis.partnerId = cts.partnerId AND abis.isDeleted <> 'true') ";
+
+    String REPORT_SUMMARY_COUNT = "SELECT COUNT(cts.runId) FROM ComplianceTestRunSummaryEntity cts " +
+            "JOIN CollectionEntity c ON (cts.collectionId = c.id) ";
+
+    String REPORT_STATUS_WHERE = "WHERE cts.reportStatus = ?1 " +
+            "AND cts.isDeleted <> 'true' ";
+
+    String SUBMITTED_REPORTS_WHERE = "WHERE cts.partnerId = ?1 " +
             "AND cts.reportStatus<>'draft' " +
-            "AND cts.isDeleted <> 'true' " +
-            "ORDER BY cts.crDtimes DESC")
+            "AND cts.isDeleted <> 'true' ";
+
+    @Query(REPORT_SUMMARY_SELECT + REPORT_SUMMARY_FROM + REPORT_STATUS_WHERE + "ORDER BY cts.crDtimes DESC")
+    public List<ComplianceReportSummaryEntity> findAllByReportStatus(String reportStatus);
+
+    @Query(REPORT_SUMMARY_SELECT + REPORT_SUMMARY_FROM + SUBMITTED_REPORTS_WHERE + "ORDER BY cts.crDtimes DESC")
     public List<ComplianceReportSummaryEntity> findAllBySubmittedReportsPartnerId(String partnerId);
 
+    @Query(value = REPORT_SUMMARY_SELECT + REPORT_SUMMARY_FROM + REPORT_STATUS_WHERE,
+            countQuery = REPORT_SUMMARY_COUNT + REPORT_STATUS_WHERE)
+    public Page<ComplianceReportSummaryEntity> findAllByReportStatus(String reportStatus, Pageable pageable);
+
+    @Query(value = REPORT_SUMMARY_SELECT + REPORT_SUMMARY_FROM + SUBMITTED_REPORTS_WHERE,
+            countQuery = REPORT_SUMMARY_COUNT + SUBMITTED_REPORTS_WHERE)
+    public Page<ComplianceReportSummaryEntity> findAllBySubmittedReportsPartnerId(String partnerId, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ComplianceTestRunSummaryEntity cts SET cts.reportData = ?4, cts.reportDataJson = NULL " +
+            "WHERE cts.partnerId = ?1 AND cts.projectId = ?2 AND cts.collectionId = ?3")
+    public int updateReportData(String partnerId, String projectId, String collectionId, byte[] reportData);
+
 }
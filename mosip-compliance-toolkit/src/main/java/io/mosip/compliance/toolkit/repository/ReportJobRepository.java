@@ -0,0 +1,45 @@
+package io.mosip.compliance.toolkit.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.transaction.Transactional;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import io.mosip.compliance.toolkit.entity.ReportJobEntity;
+import io.mosip.compliance.toolkit.entity.ReportJobStatusEntity;
+import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
+
+@Repository("ReportJobRepository")
+public interface ReportJobRepository extends BaseRepository<ReportJobEntity, String> {
+
+	@Query("SELECT new io.mosip.compliance.toolkit.entity.ReportJobStatusEntity(e.id, e.reportType, e.status, e.fileName, e.errorMessage, e.crDtimes, e.updDtimes) FROM ReportJobEntity e WHERE e.id = ?1 AND e.partnerId = ?2")
+	public ReportJobStatusEntity getReportJobStatus(String id, String partnerId);
+
+	@Query("SELECT e.reportContent FROM ReportJobEntity e WHERE e.id = ?1 AND e.partnerId = ?2")
+	public byte[] getReportContent(String id, String partnerId);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE ReportJobEntity e SET e.status = ?2, e.errorMessage = ?3, e.updDtimes = ?4 WHERE e.id = ?1")
+	public int updateReportJobStatus(String id, String status, String errorMessage, LocalDateTime updDtimes);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE ReportJobEntity e SET e.status = ?2, e.reportContent = ?3, e.updDtimes = ?4 WHERE e.id = ?1")
+	public int updateReportJobContent(String id, String status, byte[] reportContent, LocalDateTime updDtimes);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE ReportJobEntity e SET e.status = ?2, e.errorMessage = ?3, e.updDtimes = ?4 WHERE e.status IN ?1 AND COALESCE(e.updDtimes, e.crDtimes) < ?5")
+	public int updateReportJobsNotUpdatedSince(List<String> statuses, String status, String errorMessage,
+			LocalDateTime updDtimes, LocalDateTime lastUpdDtimes);
+
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM ReportJobEntity e WHERE e.status IN ?1 AND e.crDtimes < ?2")
+	public int deleteReportJobsCreatedBefore(List<String> statuses, LocalDateTime crDtimes);
+}
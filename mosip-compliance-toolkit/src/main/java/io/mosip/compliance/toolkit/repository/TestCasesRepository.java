@@ -2,6 +2,9 @@ package io.mosip.compliance.toolkit.repository;
 
 import java.util.List;
 
+import javax.transaction.Transactional;
+
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -30,4 +33,14 @@ public interface TestCasesRepository extends BaseRepository<TestCaseEntity, Stri
 	
 	@Query("SELECT e FROM TestCaseEntity e WHERE e.id =:testCaseId")
 	public TestCaseEntity getTestCasesById(String testCaseId);
+
+	/**
+	 * Inserts or updates all the test cases in one statement. The test cases are
+	 * a JSON array of objects with id, testcase_json, testcase_type and
+	 * spec_version, the ids must be unique.
+	 */
+	@Modifying
+	@Transactional
+	@Query(value = "INSERT INTO toolkit.testcase (id, testcase_json, testcase_type, spec_version) SELECT t.id, t.testcase_json, t.testcase_type, t.spec_version FROM json_to_recordset(CAST(:testCases AS json)) AS t(id character varying, testcase_json character varying, testcase_type character varying, spec_version character varying) ON CONFLICT (id) DO UPDATE SET testcase_json = EXCLUDED.testcase_json, testcase_type = EXCLUDED.testcase_type, spec_version = EXCLUDED.spec_version", nativeQuery = true)
+	public int upsertTestCases(@Param("testCases") String testCases);
 }
@@ -1,15 +1,19 @@
 package io.mosip.compliance.toolkit.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import io.mosip.compliance.toolkit.entity.TestRunDetailsEntity;
 import io.mosip.compliance.toolkit.entity.TestRunDetailsPK;
+import io.mosip.compliance.toolkit.entity.TestRunDeviceFingerprintEntity;
+import io.mosip.compliance.toolkit.entity.TestRunMethodResponseEntity;
 import io.mosip.compliance.toolkit.entity.TestRunPartialDetailsEntity;
 import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
 
@@ -22,6 +26,14 @@ public interface TestRunDetailsRepository extends BaseRepository<TestRunDetailsE
 	@Query("SELECT e FROM TestRunPartialDetailsEntity e  WHERE e.runId= ?1 and e.partnerId= ?2 and e.isDeleted<>'true' order by e.crDtimes desc")
 	public List<TestRunPartialDetailsEntity> getTestRunPartialDetails(String runId, String partnerId);
 
+	@Query("SELECT e FROM TestRunPartialDetailsEntity e WHERE e.runId= ?1 and e.partnerId= ?2 and e.isDeleted<>'true' order by e.crDtimes desc, e.testcaseId desc, e.methodId desc")
+	public List<TestRunPartialDetailsEntity> getTestRunPartialDetailsFirstPage(String runId, String partnerId,
+			Pageable pageable);
+
+	@Query("SELECT e FROM TestRunPartialDetailsEntity e WHERE e.runId= ?1 and e.partnerId= ?2 and e.isDeleted<>'true' and (e.crDtimes < ?3 or (e.crDtimes = ?3 and (e.testcaseId < ?4 or (e.testcaseId = ?4 and e.methodId < ?5)))) order by e.crDtimes desc, e.testcaseId desc, e.methodId desc")
+	public List<TestRunPartialDetailsEntity> getTestRunPartialDetailsAfter(String runId, String partnerId,
+			LocalDateTime lastCrDtimes, String lastTestcaseId, String lastMethodId, Pageable pageable);
+
 	@Modifying
 	@Transactional
 	@Query(value = "INSERT INTO toolkit.test_run_details_archive (SELECT * FROM toolkit.test_run_details trd WHERE trd.run_id = ?1 AND trd.partner_id = ?2)", nativeQuery = true)
@@ -34,5 +46,29 @@ public interface TestRunDetailsRepository extends BaseRepository<TestRunDetailsE
 	
 	@Query("SELECT e FROM TestRunDetailsEntity e  WHERE e.runId= ?1 and e.partnerId= ?2 and e.testcaseId= ?3 and e.methodId= ?4 and e.isDeleted<>'true' order by e.crDtimes desc")
 	public TestRunDetailsEntity getMethodDetails(String runId, String partnerId, String testcaseId, String methodId);
-	
+
+	@Query("SELECT e.methodRequest FROM TestRunDetailsEntity e WHERE e.runId= ?1 and e.partnerId= ?2 and e.testcaseId= ?3 and e.methodId= ?4 and e.isDeleted<>'true'")
+	public String getMethodRequest(String runId, String partnerId, String testcaseId, String methodId);
+
+	@Query("SELECT e.methodResponse FROM TestRunDetailsEntity e WHERE e.runId= ?1 and e.partnerId= ?2 and e.testcaseId= ?3 and e.methodId= ?4 and e.isDeleted<>'true'")
+	public String getMethodResponse(String runId, String partnerId, String testcaseId, String methodId);
+
+	@Query("SELECT e.methodRequest FROM TestRunDetailsEntity e WHERE e.runId= ?1 and e.partnerId= ?2")
+	public List<String> getAllMethodRequests(String runId, String partnerId);
+
+	@Query("SELECT e.methodResponse FROM TestRunDetailsEntity e WHERE e.runId= ?1 and e.partnerId= ?2")
+	public List<String> getAllMethodResponses(String runId, String partnerId);
+
+	@Query("SELECT new io.mosip.compliance.toolkit.entity.TestRunMethodResponseEntity(e.testcaseId, e.methodId, e.methodResponse) FROM TestRunDetailsEntity e WHERE e.runId= ?1 and e.partnerId= ?2 and e.isDeleted<>'true' order by e.crDtimes desc")
+	public List<TestRunMethodResponseEntity> getMethodResponses(String runId, String partnerId);
+
+	@Query("SELECT new io.mosip.compliance.toolkit.entity.TestRunDeviceFingerprintEntity(e.deviceFingerprint, MIN(e.testcaseId), COUNT(e)) FROM TestRunDetailsEntity e WHERE e.runId= ?1 and e.partnerId= ?2 and e.isDeleted<>'true' group by e.deviceFingerprint order by COUNT(e) desc")
+	public List<TestRunDeviceFingerprintEntity> getDeviceFingerprints(String runId, String partnerId);
+
+	@Query("SELECT COUNT(e) FROM TestRunDetailsEntity e WHERE e.runId= ?1 and e.partnerId= ?2 and e.testcaseId= ?3 and e.isDeleted<>'true'")
+	public long getTestCaseDetailsCount(String runId, String partnerId, String testcaseId);
+
+	@Query("SELECT COUNT(e) FROM TestRunDetailsEntity e WHERE e.runId= ?1 and e.partnerId= ?2 and e.testcaseId= ?3 and e.methodId= ?4 and e.resultStatus = 'success' and e.executionStatus = 'complete' and e.isDeleted<>'true'")
+	public long getMethodPassCount(String runId, String partnerId, String testcaseId, String methodId);
+
 }
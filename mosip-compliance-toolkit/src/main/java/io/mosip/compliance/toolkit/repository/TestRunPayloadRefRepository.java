@@ -0,0 +1,27 @@
+package io.mosip.compliance.toolkit.repository;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.LockModeType;
+import javax.transaction.Transactional;
+
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import io.mosip.compliance.toolkit.entity.TestRunPayloadRefEntity;
+import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
+
+@Repository("TestRunPayloadRefRepository")
+public interface TestRunPayloadRefRepository extends BaseRepository<TestRunPayloadRefEntity, String> {
+
+	@Modifying
+	@Transactional
+	@Query(value = "INSERT INTO toolkit.test_run_payload_ref (hash, ref_count, cr_dtimes) VALUES (?1, 1, ?2) ON CONFLICT (hash) DO UPDATE SET ref_count = toolkit.test_run_payload_ref.ref_count + 1, upd_dtimes = ?2", nativeQuery = true)
+	public int addReference(String hash, LocalDateTime dtimes);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT e FROM TestRunPayloadRefEntity e WHERE e.hash = ?1")
+	public TestRunPayloadRefEntity lockByHash(String hash);
+}
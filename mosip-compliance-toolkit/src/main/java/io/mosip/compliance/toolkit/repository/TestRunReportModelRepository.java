@@ -0,0 +1,22 @@
+package io.mosip.compliance.toolkit.repository;
+
+import javax.transaction.Transactional;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import io.mosip.compliance.toolkit.entity.TestRunReportModelEntity;
+import io.mosip.kernel.core.dataaccess.spi.repository.BaseRepository;
+
+@Repository("TestRunReportModelRepository")
+public interface TestRunReportModelRepository extends BaseRepository<TestRunReportModelEntity, String> {
+
+	@Query("SELECT e FROM TestRunReportModelEntity e WHERE e.runId = ?1 AND e.partnerId = ?2")
+	public TestRunReportModelEntity getReportModel(String runId, String partnerId);
+
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM TestRunReportModelEntity e WHERE e.runId = ?1 AND e.partnerId = ?2")
+	public void deleteById(String runId, String partnerId);
+}
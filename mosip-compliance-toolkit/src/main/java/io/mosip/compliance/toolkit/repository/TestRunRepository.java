@@ -3,10 +3,12 @@ package io.mosip.compliance.toolkit.repository;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import javax.persistence.LockModeType;
 import javax.transaction.Transactional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -30,10 +32,27 @@ public interface TestRunRepository extends BaseRepository<TestRunEntity, String>
 	@Query("SELECT e.partnerId FROM TestRunEntity e WHERE e.id = ?1 AND e.isDeleted<>'true' and e.partnerId= ?2")
 	public String getPartnerIdByRunId(String id, String partnerId);
 
-	@Query("SELECT new io.mosip.compliance.toolkit.entity.TestRunHistoryEntity(tr.id as runId, MAX(tr.runDtimes) AS last_run_time, COUNT(DISTINCT trd.testcaseId) AS testcase_count, COUNT(CASE WHEN trd.resultStatus = 'success' and trd.executionStatus = 'complete' THEN 1 ELSE NULL END) as passcase_count) FROM TestRunEntity AS tr LEFT JOIN TestRunDetailsEntity AS trd ON (tr.id = trd.runId) WHERE tr.collectionId = ?1 AND tr.partnerId = ?2 AND tr.isDeleted<>'true' AND (trd.isDeleted<>'true' OR trd.isDeleted IS NULL) GROUP BY (tr.id) ORDER BY last_run_time DESC")
+	@Query("SELECT new io.mosip.compliance.toolkit.entity.TestRunHistoryEntity(tr.id, tr.runDtimes, tr.testCaseCount, tr.passCaseCount) FROM TestRunEntity AS tr WHERE tr.collectionId = ?1 AND tr.partnerId = ?2 AND tr.isDeleted<>'true' ORDER BY tr.runDtimes DESC, tr.id DESC")
 	public Page<TestRunHistoryEntity> getTestRunHistoryByCollectionId(Pageable pageable, String collectionId,
 			String partnerId);
 
+	@Query("SELECT new io.mosip.compliance.toolkit.entity.TestRunHistoryEntity(tr.id, tr.runDtimes, tr.testCaseCount, tr.passCaseCount) FROM TestRunEntity AS tr WHERE tr.collectionId = ?1 AND tr.partnerId = ?2 AND tr.isDeleted<>'true' ORDER BY tr.runDtimes DESC, tr.id DESC")
+	public List<TestRunHistoryEntity> getTestRunHistoryFirstPage(String collectionId, String partnerId,
+			Pageable pageable);
+
+	@Query("SELECT new io.mosip.compliance.toolkit.entity.TestRunHistoryEntity(tr.id, tr.runDtimes, tr.testCaseCount, tr.passCaseCount) FROM TestRunEntity AS tr WHERE tr.collectionId = ?1 AND tr.partnerId = ?2 AND tr.isDeleted<>'true' AND (tr.runDtimes < ?3 OR (tr.runDtimes = ?3 AND tr.id < ?4)) ORDER BY tr.runDtimes DESC, tr.id DESC")
+	public List<TestRunHistoryEntity> getTestRunHistoryAfter(String collectionId, String partnerId,
+			LocalDateTime lastRunDtimes, String lastRunId, Pageable pageable);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT tr FROM TestRunEntity tr WHERE tr.id = ?1 AND tr.partnerId = ?2 AND tr.isDeleted<>'true'")
+	public TestRunEntity lockTestRunById(String runId, String partnerId);
+
+	@Modifying
+	@Transactional
+	@Query("UPDATE TestRunEntity e SET e.testCaseCount = e.testCaseCount + ?3, e.passCaseCount = e.passCaseCount + ?4 WHERE e.id = ?1 AND e.partnerId = ?2 AND e.isDeleted<>'true'")
+	public int updateTestRunCounters(String runId, String partnerId, long testCaseIncrement, long passCaseIncrement);
+
 	@Query("SELECT COUNT(CASE WHEN LOWER(tr.runStatus)='success' AND LOWER(tr.executionStatus)='complete' THEN 1 ELSE NULL END) FROM TestRunEntity AS tr WHERE tr.id = ?1 AND tr.partnerId = ?2 AND tr.isDeleted<>'true'")
 	public int getTestRunSuccessCount(String runId, String partnerId);
 
@@ -68,6 +68,9 @@ public class AbisProjectService {
 	@Autowired
 	private ProjectHelper projectHelper;
 
+	@Autowired
+	private ProjectSummaryCacheService projectSummaryCacheService;
+
 	@Qualifier("S3Adapter")
 	@Autowired
 	private ObjectStoreAdapter objectStore;
@@ -176,6 +179,7 @@ public class AbisProjectService {
 						entity.setAbisVersion(abisProjectDto.getAbisVersion());
 
 						AbisProjectEntity outputEntity = abisProjectRepository.save(entity);
+						projectSummaryCacheService.evictProjectSummaries(entity.getPartnerId());
 						// Add a default "ALL" collection for the newly created project
 						collectionsService.addDefaultCollection(AppConstants.COMPLIANCE_COLLECTION, null, null,
 								abisProjectDto, entity.getId());
@@ -294,6 +298,7 @@ public class AbisProjectService {
 						entity.setUpdDate(updDate);
 						AbisProjectEntity outputEntity = abisProjectRepository.save(entity);
 						abisProjectDto = objectMapperConfig.objectMapper().convertValue(outputEntity, AbisProjectDto.class);
+						projectSummaryCacheService.evictProjectSummaries(entity.getPartnerId());
 					} else {
 						String errorCode = ToolkitErrorCodes.ABIS_PROJECT_NOT_AVAILABLE.getErrorCode();
 						String errorMessage = ToolkitErrorCodes.ABIS_PROJECT_NOT_AVAILABLE.getErrorMessage();
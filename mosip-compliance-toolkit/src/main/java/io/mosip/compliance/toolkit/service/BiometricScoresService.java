@@ -44,6 +44,9 @@ public class BiometricScoresService {
 	@Autowired
 	ResourceCacheService resourceCacheService;
 
+	@Autowired
+	TestRunReportModelService testRunReportModelService;
+
 	@Value("${mosip.toolkit.sbi.qualitycheck.finger.sdk.urls}")
 	private String fingerSdkUrlsJsonStr;
 
@@ -101,6 +104,8 @@ public class BiometricScoresService {
 				entity.setTestRunId(testRunId);
 				entity.setTestCaseId(testId);
 				biometricScoresRepository.save(entity);
+				// score tables kept for draft reports are read again
+				testRunReportModelService.biometricScoresAdded(getPartnerId(), testRunId, getUserBy());
 			} else {
 				// only log the exception since this is a fail safe situation
 				log.error("sessionId", "idType", "id",
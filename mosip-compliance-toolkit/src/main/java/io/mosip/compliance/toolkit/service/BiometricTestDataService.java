@@ -22,6 +22,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -49,9 +50,10 @@ import io.mosip.compliance.toolkit.entity.TestCaseEntity;
 import io.mosip.compliance.toolkit.exceptions.ToolkitException;
 import io.mosip.compliance.toolkit.repository.BiometricTestDataRepository;
 import io.mosip.compliance.toolkit.util.CommonUtil;
-import io.mosip.compliance.toolkit.util.CryptoUtil;
 import io.mosip.compliance.toolkit.util.ObjectMapperConfig;
 import io.mosip.compliance.toolkit.util.RandomIdGenerator;
+import io.mosip.compliance.toolkit.util.SpooledUpload;
+import io.mosip.compliance.toolkit.util.VirusScanTask;
 import io.mosip.kernel.core.authmanager.authadapter.model.AuthUserDetails;
 import io.mosip.kernel.core.http.ResponseWrapper;
 import io.mosip.kernel.core.logger.spi.Logger;
@@ -77,6 +79,13 @@ public class BiometricTestDataService {
     @Autowired
     VirusScanner<Boolean, InputStream> virusScan;
 
+    @Qualifier("virusScanExecutor")
+    @Autowired
+    TaskExecutor virusScanExecutor;
+
+    @Value("${mosip.toolkit.virus.scan.timeout.seconds:120}")
+    private long virusScanTimeoutSeconds;
+
     @Autowired
     ResourceCacheService resourceCacheService;
 
@@ -126,6 +135,12 @@ public class BiometricTestDataService {
     @Value("${mosip.toolkit.documentupload.allowed.file.nameLength}")
     private String allowedFileNameLength;
 
+    /**
+     * Uploads larger than this are spooled to a temp file instead of memory
+     */
+    @Value("${mosip.toolkit.upload.spool.threshold.bytes:1048576}")
+    private long uploadSpoolThreshold = SpooledUpload.DEFAULT_THRESHOLD;
+
     @Qualifier("S3Adapter")
     @Autowired
     private ObjectStoreAdapter objectStore;
@@ -187,11 +202,15 @@ public class BiometricTestDataService {
             MultipartFile file) {
         ResponseWrapper<AddBioTestDataResponseDto> responseWrapper = new ResponseWrapper<>();
         AddBioTestDataResponseDto addBioTestDataResponseDto = null;
+        SpooledUpload upload = null;
+        VirusScanTask scan = null;
         try {
             if (validInputRequest(inputBiometricTestDataDto, file)) {
-                CommonUtil.performFileValidation(file, scanDocument, true, virusScan);
-                if (Objects.nonNull(inputBiometricTestDataDto) && Objects.nonNull(file) && !file.isEmpty()
-                        && file.getSize() > 0) {
+                upload = SpooledUpload.of(file, uploadSpoolThreshold);
+                // the scan runs while the zip structure is validated
+                scan = CommonUtil.startVirusScan(upload, scanDocument, virusScan, virusScanExecutor);
+                CommonUtil.performFileValidation(upload, true);
+                if (Objects.nonNull(inputBiometricTestDataDto) && !upload.isEmpty()) {
 
                     String requestPurpose = inputBiometricTestDataDto.getPurpose();
                     String purpose = "";
@@ -201,16 +220,17 @@ public class BiometricTestDataService {
                     } else {
                         purpose = requestPurpose;
                     }
-                    TestDataValidationDto testDataValidation = validateTestData(purpose, file);
+                    TestDataValidationDto testDataValidation = validateTestData(purpose, upload);
+                    CommonUtil.awaitVirusScan(scan, virusScanTimeoutSeconds);
 
-                    String encodedHash = CryptoUtil.getEncodedHash(file.getBytes());
+                    String encodedHash = upload.getEncodedHash();
 
                     ObjectMapper mapper = objectMapperConfig.objectMapper();
                     BiometricTestDataEntity inputEntity = mapper.convertValue(inputBiometricTestDataDto,
                             BiometricTestDataEntity.class);
                     inputEntity.setId(RandomIdGenerator.generateUUID("btd", "", 36));
                     inputEntity.setPartnerId(getPartnerId());
-                    inputEntity.setFileId(file.getOriginalFilename());
+                    inputEntity.setFileId(upload.getOriginalFilename());
                     inputEntity.setFileHash(encodedHash);
                     inputEntity.setOrgName(resourceCacheService.getOrgName(getPartnerId()));
                     inputEntity.setCrBy(getUserBy());
@@ -226,7 +246,7 @@ public class BiometricTestDataService {
                         BiometricTestDataEntity entity = biometricTestDataRepository.save(inputEntity);
 
                         boolean status = false;
-                        InputStream is = file.getInputStream();
+                        InputStream is = upload.getInputStream();
                         try {
                             status = putInObjectStore(container, inputEntity.getFileId(), is);
                         } catch (Exception ex) {
@@ -299,6 +319,13 @@ public class BiometricTestDataService {
             String errorMessage = ToolkitErrorCodes.BIOMETRIC_TESTDATA_NOT_AVAILABLE.getErrorMessage() + BLANK_SPACE
                     + ex.getMessage();
             responseWrapper.setErrors(CommonUtil.getServiceErr(errorCode, errorMessage));
+        } finally {
+            // the scan closes the upload once it is no longer read
+            if (Objects.nonNull(scan)) {
+                scan.close();
+            } else if (Objects.nonNull(upload)) {
+                upload.close();
+            }
         }
         responseWrapper.setId(postBiometricTestDataId);
         responseWrapper.setResponse(addBioTestDataResponseDto);
@@ -343,7 +370,7 @@ public class BiometricTestDataService {
         return true;
     }
 
-	private TestDataValidationDto validateTestData(String purpose, MultipartFile file) throws IOException {
+	private TestDataValidationDto validateTestData(String purpose, SpooledUpload file) throws IOException {
 		TestDataValidationDto testDataValidation = new TestDataValidationDto();
 		testDataValidation.setPurpose(purpose);
 		ZipInputStream zis = null;
@@ -88,6 +88,9 @@ public class CollectionsService {
 	@Autowired
 	private CollectionsRepository collectionsRepository;
 
+	@Autowired
+	private ProjectSummaryCacheService projectSummaryCacheService;
+
 	@Autowired
 	private ObjectMapperConfig objectMapperConfig;
 
@@ -315,6 +318,7 @@ public class CollectionsService {
 						inputEntity.setDeleted(false);
 						inputEntity.setDelTime(null);
 						CollectionEntity outputEntity = collectionsRepository.save(inputEntity);
+						projectSummaryCacheService.evictProjectSummaries(outputEntity.getPartnerId());
 
 						collection = objectMapperConfig.objectMapper().convertValue(outputEntity, CollectionDto.class);
 						collection.setCollectionId(outputEntity.getId());
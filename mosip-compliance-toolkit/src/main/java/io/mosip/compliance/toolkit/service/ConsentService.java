@@ -6,7 +6,6 @@ import io.mosip.compliance.toolkit.constants.AppConstants;
 import io.mosip.compliance.toolkit.constants.ToolkitErrorCodes;
 import io.mosip.compliance.toolkit.dto.PartnerConsentDto;
 import io.mosip.compliance.toolkit.entity.PartnerConsentEntity;
-import io.mosip.compliance.toolkit.repository.MasterTemplatesRepository;
 import io.mosip.compliance.toolkit.repository.PartnerConsentRepository;
 import io.mosip.compliance.toolkit.util.CommonUtil;
 import io.mosip.compliance.toolkit.util.ObjectMapperConfig;
@@ -40,7 +39,7 @@ public class ConsentService {
     ObjectMapperConfig objectMapperConfig;
 
     @Autowired
-    MasterTemplatesRepository masterTemplatesRepository;
+    TemplateCacheService templateCacheService;
 
     @Value("$(mosip.toolkit.api.id.biometric.consent.get)")
     private String getPartnerConsentId;
@@ -76,7 +75,7 @@ public class ConsentService {
                 PartnerConsentEntity entity = optionalEntity.get();
                 if (entity.getConsentGiven().equals(YES)){
                     log.info("sessionId", "idType", "id", "fetching latest template timestamp from Db");
-                    LocalDateTime latestTemplateTimestamp = masterTemplatesRepository.getTimestampForTemplateVersion(version, templateName);
+                    LocalDateTime latestTemplateTimestamp = templateCacheService.getTimestampForTemplateVersion(version, templateName);
                     if (Objects.nonNull(latestTemplateTimestamp)) {
                         // checking whether if partner ConsentGivenDtimes is after the latest template timestamp
                         if (entity.getConsentGivenDtimes().isAfter(latestTemplateTimestamp)) {
@@ -0,0 +1,154 @@
+package io.mosip.compliance.toolkit.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import io.mosip.compliance.toolkit.config.LoggerConfiguration;
+import io.mosip.compliance.toolkit.entity.CollectionEntity;
+import io.mosip.compliance.toolkit.entity.ProjectSummaryEntity;
+import io.mosip.compliance.toolkit.repository.CollectionsRepository;
+import io.mosip.compliance.toolkit.repository.ProjectSummaryRepository;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * Keeps the project summaries of a partner, all project types together, so the
+ * dashboard does not aggregate the test run history on every load. Project and
+ * collection writes evict the partner, a new test run only replaces the latest
+ * run of its project. A change during a load of the partner bumps the
+ * generation of the load, which is then returned but not cached. The
+ * generations are kept only while loads of the partner run. Other replicas
+ * see the change once their entry expires, see
+ * mosip.toolkit.cache.expiry.seconds.projectSummaries.
+ */
+@Service
+public class ProjectSummaryCacheService {
+
+	static final String PROJECT_SUMMARIES = "projectSummaries";
+
+	@Autowired
+	private ProjectSummaryRepository projectSummaryRepository;
+
+	@Autowired
+	private CollectionsRepository collectionsRepository;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	// guarded by this
+	private final Map<String, Load> loads = new HashMap<>();
+
+	private Logger log = LoggerConfiguration.logConfig(ProjectSummaryCacheService.class);
+
+	public List<ProjectSummaryEntity> getProjectSummaries(String partnerId) {
+		Cache cache = cacheManager.getCache(PROJECT_SUMMARIES);
+		if (Objects.isNull(cache)) {
+			return projectSummaryRepository.getSummaryOfAllProjects(partnerId);
+		}
+		@SuppressWarnings("unchecked")
+		List<ProjectSummaryEntity> summaries = cache.get(partnerId, List.class);
+		if (Objects.nonNull(summaries)) {
+			return summaries;
+		}
+		Load load;
+		long generation;
+		synchronized (this) {
+			load = loads.computeIfAbsent(partnerId, key -> new Load());
+			load.count++;
+			generation = load.generation;
+		}
+		try {
+			summaries = projectSummaryRepository.getSummaryOfAllProjects(partnerId);
+			synchronized (this) {
+				// a change during the load may not be part of the loaded summaries
+				if (generation == load.generation) {
+					cache.put(partnerId, summaries);
+				}
+			}
+			return summaries;
+		} finally {
+			synchronized (this) {
+				if (--load.count == 0) {
+					loads.remove(partnerId);
+				}
+			}
+		}
+	}
+
+	public synchronized void evictProjectSummaries(String partnerId) {
+		nextGeneration(partnerId);
+		Cache cache = cacheManager.getCache(PROJECT_SUMMARIES);
+		if (Objects.nonNull(cache)) {
+			cache.evict(partnerId);
+		}
+		log.info("sessionId", "idType", "id", "Evicted project summaries of partner " + partnerId);
+	}
+
+	/**
+	 * Sets the run as the latest run of the project of the collection. Nothing is
+	 * done when the partner is not cached, the next load reads it from the
+	 * database.
+	 */
+	public synchronized void updateLatestRun(String partnerId, String collectionId, String runId,
+			LocalDateTime runDtimes) {
+		nextGeneration(partnerId);
+		Cache cache = cacheManager.getCache(PROJECT_SUMMARIES);
+		if (Objects.isNull(cache)) {
+			return;
+		}
+		@SuppressWarnings("unchecked")
+		List<ProjectSummaryEntity> summaries = cache.get(partnerId, List.class);
+		if (Objects.isNull(summaries)) {
+			return;
+		}
+		CollectionEntity collection = collectionsRepository.getCollectionById(collectionId, partnerId);
+		String projectId = Objects.nonNull(collection) ? getProjectId(collection) : null;
+		if (Objects.isNull(projectId)) {
+			cache.evict(partnerId);
+			return;
+		}
+		// cached lists are shared with readers, so the list is copied instead of changed
+		List<ProjectSummaryEntity> updatedSummaries = new ArrayList<>(summaries.size());
+		for (ProjectSummaryEntity summary : summaries) {
+			if (projectId.equals(summary.getProjectId()) && (Objects.isNull(summary.getRunDate())
+					|| Objects.isNull(runDtimes) || !runDtimes.isBefore(summary.getRunDate()))) {
+				summary = new ProjectSummaryEntity(summary.getProjectId(), summary.getProjectName(),
+						summary.getProjectType(), summary.getProjectCrDate(), summary.getIsAndroidSbi(),
+						summary.getCollectionsCount(), collectionId, runId, runDtimes);
+			}
+			updatedSummaries.add(summary);
+		}
+		cache.put(partnerId, updatedSummaries);
+	}
+
+	private void nextGeneration(String partnerId) {
+		Load load = loads.get(partnerId);
+		if (Objects.nonNull(load)) {
+			load.generation++;
+		}
+	}
+
+	private String getProjectId(CollectionEntity collection) {
+		if (Objects.nonNull(collection.getSbiProjectId())) {
+			return collection.getSbiProjectId();
+		} else if (Objects.nonNull(collection.getSdkProjectId())) {
+			return collection.getSdkProjectId();
+		}
+		return collection.getAbisProjectId();
+	}
+
+	private static class Load {
+
+		private int count;
+
+		private long generation;
+	}
+}
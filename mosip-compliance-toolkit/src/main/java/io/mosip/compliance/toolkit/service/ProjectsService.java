@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 import io.mosip.compliance.toolkit.util.CommonUtil;
 import org.apache.commons.lang3.exception.ExceptionUtils;
@@ -18,7 +19,6 @@ import io.mosip.compliance.toolkit.constants.ToolkitErrorCodes;
 import io.mosip.compliance.toolkit.dto.projects.ProjectDto;
 import io.mosip.compliance.toolkit.dto.projects.ProjectsResponseDto;
 import io.mosip.compliance.toolkit.entity.ProjectSummaryEntity;
-import io.mosip.compliance.toolkit.repository.ProjectSummaryRepository;
 import io.mosip.kernel.core.authmanager.authadapter.model.AuthUserDetails;
 import io.mosip.kernel.core.http.ResponseWrapper;
 import io.mosip.kernel.core.logger.spi.Logger;
@@ -38,7 +38,7 @@ public class ProjectsService {
 	private String getProjectsId;
 
 	@Autowired
-	private ProjectSummaryRepository projectSummaryRepository;
+	private ProjectSummaryCacheService projectSummaryCacheService;
 
 	private Logger log = LoggerConfiguration.logConfig(ProjectsService.class);
 
@@ -78,19 +78,14 @@ public class ProjectsService {
 				if (type == null || "".equalsIgnoreCase(type.trim())) {
 					fetchAll = true;
 				}
-				List<ProjectSummaryEntity> projectsSummaryList = null;
-				if (fetchAll) {
-					log.info("sessionId", "idType", "id", "fetching ALL projects for partner {}", partnerId);
-					projectsSummaryList = projectSummaryRepository.getSummaryOfAllProjects(partnerId);
-				} else if (type.equalsIgnoreCase(AppConstants.SDK)) {
-					log.info("sessionId", "idType", "id", "fetching SDK projects for partner {}", partnerId);
-					projectsSummaryList = projectSummaryRepository.getSummaryOfAllSDKProjects(partnerId);
-				} else if (type.equalsIgnoreCase(AppConstants.SBI)) {
-					log.info("sessionId", "idType", "id", "fetching SBI projects for partner {}", partnerId);
-					projectsSummaryList = projectSummaryRepository.getSummaryOfAllSBIProjects(partnerId);
-				} else if (type.equalsIgnoreCase(AppConstants.ABIS)) {
-					log.info("sessionId", "idType", "id", "fetching ABIS projects for partner {}", partnerId);
-					projectsSummaryList = projectSummaryRepository.getSummaryOfAllABISProjects(partnerId);
+				log.info("sessionId", "idType", "id", "fetching {} projects for partner {}",
+						fetchAll ? "ALL" : type.toUpperCase(), partnerId);
+				List<ProjectSummaryEntity> projectsSummaryList = projectSummaryCacheService
+						.getProjectSummaries(partnerId);
+				if (!fetchAll && projectsSummaryList != null) {
+					projectsSummaryList = projectsSummaryList.stream()
+							.filter(entity -> type.equalsIgnoreCase(entity.getProjectType()))
+							.collect(Collectors.toList());
 				}
 				if (projectsSummaryList != null) {
 					log.info("sessionId", "idType", "id", "number of projects found {}", projectsSummaryList.size());
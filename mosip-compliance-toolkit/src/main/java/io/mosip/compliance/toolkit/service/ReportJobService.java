@@ -0,0 +1,268 @@
+package io.mosip.compliance.toolkit.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import io.mosip.compliance.toolkit.config.LoggerConfiguration;
+import io.mosip.compliance.toolkit.constants.AppConstants;
+import io.mosip.compliance.toolkit.constants.ToolkitErrorCodes;
+import io.mosip.compliance.toolkit.dto.report.ReportJobDto;
+import io.mosip.compliance.toolkit.dto.report.ReportRequestDto;
+import io.mosip.compliance.toolkit.entity.ReportJobEntity;
+import io.mosip.compliance.toolkit.entity.ReportJobStatusEntity;
+import io.mosip.compliance.toolkit.repository.ReportJobRepository;
+import io.mosip.compliance.toolkit.util.CommonUtil;
+import io.mosip.compliance.toolkit.util.RandomIdGenerator;
+import io.mosip.kernel.core.authmanager.authadapter.model.AuthUserDetails;
+import io.mosip.kernel.core.http.ResponseWrapper;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * Runs report generation on a bounded executor instead of the request thread.
+ * The client gets a job id back, polls the job status and downloads the PDF
+ * once the job is completed. Finished jobs are kept in the report_job table
+ * for the configured number of hours, jobs left queued or processing by a
+ * restarted pod are marked failed by the periodic clean up.
+ */
+@Service
+public class ReportJobService {
+
+	private static final String PDF_EXTENSION = ".pdf";
+
+	@Value("${mosip.toolkit.api.id.report.job.get}")
+	private String getReportJobId;
+
+	private static final List<String> IN_FLIGHT_STATUSES = List.of(AppConstants.REPORT_JOB_QUEUED,
+			AppConstants.REPORT_JOB_PROCESSING);
+
+	private static final List<String> FINISHED_STATUSES = List.of(AppConstants.REPORT_JOB_COMPLETED,
+			AppConstants.REPORT_JOB_FAILED);
+
+	@Value("${mosip.toolkit.report.job.retention.hours:24}")
+	private long retentionHours;
+
+	@Value("${mosip.toolkit.report.job.stale.minutes:30}")
+	private long staleMinutes;
+
+	@Autowired
+	private ReportService reportService;
+
+	@Autowired
+	private ReportJobRepository reportJobRepository;
+
+	@Qualifier("reportJobExecutor")
+	@Autowired
+	private AsyncTaskExecutor reportJobExecutor;
+
+	private Logger log = LoggerConfiguration.logConfig(ReportJobService.class);
+
+	private AuthUserDetails authUserDetails() {
+		return (AuthUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+	}
+
+	private String getPartnerId() {
+		String partnerId = authUserDetails().getUsername();
+		return partnerId;
+	}
+
+	private String getUserBy() {
+		String crBy = authUserDetails().getMail();
+		return crBy;
+	}
+
+	/**
+	 * Queues a report job. The partner id is the owner of the report and is only
+	 * used by the submitted and partner report types, the job itself belongs to
+	 * the logged in user.
+	 */
+	public ResponseWrapper<ReportJobDto> submitReportJob(String reportType, String partnerId,
+			ReportRequestDto requestDto, String origin) {
+		ResponseWrapper<ReportJobDto> responseWrapper = new ResponseWrapper<>();
+		ReportJobDto reportJobDto = null;
+		try {
+			ReportJobEntity entity = new ReportJobEntity();
+			entity.setId(RandomIdGenerator.generateUUID(reportType.toLowerCase(), "", 36));
+			entity.setPartnerId(getPartnerId());
+			entity.setReportType(reportType);
+			entity.setStatus(AppConstants.REPORT_JOB_QUEUED);
+			entity.setFileName(requestDto.getTestRunId() + PDF_EXTENSION);
+			entity.setCrBy(getUserBy());
+			entity.setCrDtimes(LocalDateTime.now());
+			ReportJobEntity outputEntity = reportJobRepository.save(entity);
+			String jobId = outputEntity.getId();
+			try {
+				reportJobExecutor.execute(() -> runReportJob(jobId, reportType, partnerId, requestDto, origin));
+				reportJobDto = toReportJobDto(outputEntity.getId(), outputEntity.getReportType(),
+						outputEntity.getStatus(), outputEntity.getFileName(), null, outputEntity.getCrDtimes(),
+						null);
+			} catch (RejectedExecutionException ex) {
+				reportJobRepository.updateReportJobStatus(jobId, AppConstants.REPORT_JOB_FAILED,
+						ToolkitErrorCodes.TOOLKIT_REPORT_JOB_REJECTED_ERR.getErrorMessage(), LocalDateTime.now());
+				responseWrapper.setErrors(
+						CommonUtil.getServiceErr(ToolkitErrorCodes.TOOLKIT_REPORT_JOB_REJECTED_ERR.getErrorCode(),
+								ToolkitErrorCodes.TOOLKIT_REPORT_JOB_REJECTED_ERR.getErrorMessage()));
+			}
+		} catch (Exception ex) {
+			log.debug("sessionId", "idType", "id", ex.getStackTrace());
+			log.error("sessionId", "idType", "id", "In submitReportJob method of ReportJobService - " + ex.getMessage());
+			responseWrapper.setErrors(CommonUtil.getServiceErr(ToolkitErrorCodes.TOOLKIT_REPORT_ERR.getErrorCode(),
+					ToolkitErrorCodes.TOOLKIT_REPORT_ERR.getErrorMessage() + " " + ex.getMessage()));
+		}
+		responseWrapper.setId(getReportJobId);
+		responseWrapper.setVersion(AppConstants.VERSION);
+		responseWrapper.setResponse(reportJobDto);
+		responseWrapper.setResponsetime(LocalDateTime.now());
+		return responseWrapper;
+	}
+
+	public ResponseWrapper<ReportJobDto> getReportJobStatus(String jobId) {
+		ResponseWrapper<ReportJobDto> responseWrapper = new ResponseWrapper<>();
+		ReportJobDto reportJobDto = null;
+		try {
+			ReportJobStatusEntity statusEntity = reportJobRepository.getReportJobStatus(jobId, getPartnerId());
+			if (Objects.nonNull(statusEntity)) {
+				reportJobDto = toReportJobDto(statusEntity.getId(), statusEntity.getReportType(),
+						statusEntity.getStatus(), statusEntity.getFileName(), statusEntity.getErrorMessage(),
+						statusEntity.getCrDtimes(), statusEntity.getUpdDtimes());
+			} else {
+				responseWrapper.setErrors(CommonUtil.getServiceErr(
+						ToolkitErrorCodes.TOOLKIT_REPORT_JOB_NOT_AVAILABLE_ERR.getErrorCode(),
+						ToolkitErrorCodes.TOOLKIT_REPORT_JOB_NOT_AVAILABLE_ERR.getErrorMessage()));
+			}
+		} catch (Exception ex) {
+			log.debug("sessionId", "idType", "id", ex.getStackTrace());
+			log.error("sessionId", "idType", "id",
+					"In getReportJobStatus method of ReportJobService - " + ex.getMessage());
+			responseWrapper.setErrors(CommonUtil.getServiceErr(ToolkitErrorCodes.TOOLKIT_REPORT_GET_ERR.getErrorCode(),
+					ToolkitErrorCodes.TOOLKIT_REPORT_GET_ERR.getErrorMessage() + " " + ex.getMessage()));
+		}
+		responseWrapper.setId(getReportJobId);
+		responseWrapper.setVersion(AppConstants.VERSION);
+		responseWrapper.setResponse(reportJobDto);
+		responseWrapper.setResponsetime(LocalDateTime.now());
+		return responseWrapper;
+	}
+
+	/**
+	 * Returns the PDF of a completed job, or the job status with an error while
+	 * the job is not completed.
+	 */
+	public ResponseEntity<?> getReportJobResult(String jobId) {
+		ResponseWrapper<ReportJobDto> statusResponse = getReportJobStatus(jobId);
+		ReportJobDto reportJobDto = statusResponse.getResponse();
+		if (Objects.isNull(reportJobDto)) {
+			return ResponseEntity.ok(statusResponse);
+		}
+		if (!AppConstants.REPORT_JOB_COMPLETED.equals(reportJobDto.getStatus())) {
+			statusResponse.setErrors(CommonUtil.getServiceErr(
+					ToolkitErrorCodes.TOOLKIT_REPORT_JOB_NOT_COMPLETED_ERR.getErrorCode(),
+					ToolkitErrorCodes.TOOLKIT_REPORT_JOB_NOT_COMPLETED_ERR.getErrorMessage()
+							+ reportJobDto.getStatus()));
+			return ResponseEntity.ok(statusResponse);
+		}
+		byte[] reportContent = reportJobRepository.getReportContent(jobId, getPartnerId());
+		if (Objects.isNull(reportContent)) {
+			return ResponseEntity.noContent().build();
+		}
+		Resource resource = new ByteArrayResource(reportContent);
+		HttpHeaders header = new HttpHeaders();
+		header.add(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + reportJobDto.getFileName());
+		header.add("Cache-Control", "no-cache, no-store, must-revalidate");
+		header.add("Pragma", "no-cache");
+		header.add("Expires", "0");
+		return ResponseEntity.ok().headers(header).contentLength(reportContent.length)
+				.contentType(MediaType.APPLICATION_PDF).body(resource);
+	}
+
+	void runReportJob(String jobId, String reportType, String partnerId, ReportRequestDto requestDto,
+			String origin) {
+		reportJobRepository.updateReportJobStatus(jobId, AppConstants.REPORT_JOB_PROCESSING, null,
+				LocalDateTime.now());
+		try {
+			ResponseEntity<?> response;
+			switch (reportType) {
+			case AppConstants.REPORT_JOB_TYPE_DRAFT:
+				response = reportService.generateDraftReport(requestDto, origin);
+				break;
+			case AppConstants.REPORT_JOB_TYPE_DRAFT_QA:
+				response = reportService.generateDraftQAReport(requestDto, origin);
+				break;
+			case AppConstants.REPORT_JOB_TYPE_SUBMITTED:
+				response = reportService.getSubmittedReport(partnerId, requestDto, true);
+				break;
+			default:
+				response = reportService.getSubmittedReport(partnerId, requestDto, false);
+				break;
+			}
+			Object body = Objects.nonNull(response) ? response.getBody() : null;
+			if (body instanceof ByteArrayResource) {
+				reportJobRepository.updateReportJobContent(jobId, AppConstants.REPORT_JOB_COMPLETED,
+						((ByteArrayResource) body).getByteArray(), LocalDateTime.now());
+				log.info("sessionId", "idType", "id", "Report job completed: " + jobId);
+			} else {
+				reportJobRepository.updateReportJobStatus(jobId, AppConstants.REPORT_JOB_FAILED,
+						ToolkitErrorCodes.TOOLKIT_REPORT_ERR.getErrorMessage(), LocalDateTime.now());
+			}
+		} catch (Exception ex) {
+			log.debug("sessionId", "idType", "id", ex.getStackTrace());
+			log.error("sessionId", "idType", "id", "In runReportJob method of ReportJobService - " + ex.getMessage());
+			reportJobRepository.updateReportJobStatus(jobId, AppConstants.REPORT_JOB_FAILED,
+					ToolkitErrorCodes.TOOLKIT_REPORT_ERR.getErrorMessage() + " " + ex.getMessage(),
+					LocalDateTime.now());
+		}
+	}
+
+	/**
+	 * Runs on every pod. Jobs are only executed in the memory of the pod that
+	 * accepted them, so a job that has not moved for the stale period will never
+	 * finish and is marked failed to stop clients from polling it. Finished jobs
+	 * past the retention period are deleted.
+	 */
+	@Scheduled(initialDelayString = "${mosip.toolkit.report.job.cleanup.initial.delay.ms:60000}", fixedDelayString = "${mosip.toolkit.report.job.cleanup.interval.ms:600000}")
+	public void cleanUpReportJobs() {
+		try {
+			LocalDateTime now = LocalDateTime.now();
+			int failed = reportJobRepository.updateReportJobsNotUpdatedSince(IN_FLIGHT_STATUSES,
+					AppConstants.REPORT_JOB_FAILED, ToolkitErrorCodes.TOOLKIT_REPORT_JOB_STALE_ERR.getErrorMessage(),
+					now, now.minusMinutes(staleMinutes));
+			int deleted = reportJobRepository.deleteReportJobsCreatedBefore(FINISHED_STATUSES,
+					now.minusHours(retentionHours));
+			if (failed > 0 || deleted > 0) {
+				log.info("sessionId", "idType", "id",
+						"Report job clean up marked " + failed + " stale jobs failed and deleted " + deleted + " jobs");
+			}
+		} catch (Exception ex) {
+			log.debug("sessionId", "idType", "id", ex.getStackTrace());
+			log.error("sessionId", "idType", "id",
+					"In cleanUpReportJobs method of ReportJobService - " + ex.getMessage());
+		}
+	}
+
+	private ReportJobDto toReportJobDto(String jobId, String reportType, String status, String fileName,
+			String errorMessage, LocalDateTime crDtimes, LocalDateTime updDtimes) {
+		ReportJobDto reportJobDto = new ReportJobDto();
+		reportJobDto.setJobId(jobId);
+		reportJobDto.setReportType(reportType);
+		reportJobDto.setStatus(status);
+		reportJobDto.setFileName(fileName);
+		reportJobDto.setErrorMessage(errorMessage);
+		reportJobDto.setCrDtimes(crDtimes);
+		reportJobDto.setUpdDtimes(updDtimes);
+		return reportJobDto;
+	}
+}
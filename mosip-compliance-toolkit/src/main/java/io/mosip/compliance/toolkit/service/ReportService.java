@@ -1,6 +1,5 @@
 package io.mosip.compliance.toolkit.service;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
@@ -11,7 +10,9 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
@@ -25,27 +26,28 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
-import org.xhtmlrenderer.layout.SharedContext;
-import org.xhtmlrenderer.pdf.ITextRenderer;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.mosip.compliance.toolkit.config.LoggerConfiguration;
 import io.mosip.compliance.toolkit.config.VelocityEngineConfig;
 import io.mosip.compliance.toolkit.constants.AppConstants;
 import io.mosip.compliance.toolkit.constants.ProjectTypes;
 import io.mosip.compliance.toolkit.constants.ToolkitErrorCodes;
+import io.mosip.compliance.toolkit.dto.PageDto;
 import io.mosip.compliance.toolkit.dto.collections.CollectionTestCasesResponseDto;
 import io.mosip.compliance.toolkit.dto.projects.AbisProjectDto;
 import io.mosip.compliance.toolkit.dto.projects.SbiProjectDto;
@@ -64,17 +66,20 @@ import io.mosip.compliance.toolkit.dto.report.TestRunTable;
 import io.mosip.compliance.toolkit.dto.testcases.TestCaseDto;
 import io.mosip.compliance.toolkit.dto.testrun.TestRunDetailsDto;
 import io.mosip.compliance.toolkit.dto.testrun.TestRunDetailsResponseDto;
+import io.mosip.compliance.toolkit.dto.testrun.TestRunReportModelDto;
 import io.mosip.compliance.toolkit.entity.ComplianceTestRunSummaryEntity;
 import io.mosip.compliance.toolkit.entity.ComplianceTestRunSummaryPK;
-import io.mosip.compliance.toolkit.repository.AbisProjectRepository;
+import io.mosip.compliance.toolkit.entity.TestRunDeviceFingerprintEntity;
+import io.mosip.compliance.toolkit.entity.TestRunMethodResponseEntity;
 import io.mosip.compliance.toolkit.repository.CollectionsRepository;
 import io.mosip.compliance.toolkit.repository.ComplianceTestRunSummaryRepository;
-import io.mosip.compliance.toolkit.repository.SbiProjectRepository;
-import io.mosip.compliance.toolkit.repository.SdkProjectRepository;
+import io.mosip.compliance.toolkit.repository.TestRunDetailsRepository;
 import io.mosip.compliance.toolkit.util.CommonUtil;
+import io.mosip.compliance.toolkit.util.DeviceFingerprintUtil;
 import io.mosip.compliance.toolkit.util.ObjectMapperConfig;
 import io.mosip.compliance.toolkit.util.PartnerManagerHelper;
-import io.mosip.compliance.toolkit.util.StringUtil;
+import io.mosip.compliance.toolkit.util.PdfRendererPool;
+import io.mosip.compliance.toolkit.util.ReportDataSnapshotUtil;
 import io.mosip.kernel.core.authmanager.authadapter.model.AuthUserDetails;
 import io.mosip.kernel.core.exception.ServiceError;
 import io.mosip.kernel.core.http.RequestWrapper;
@@ -130,6 +135,13 @@ public class ReportService {
 
 	private static final String BLANK_STRING = "";
 
+	private static final String KEY_SEPARATOR = "#";
+
+	private static final String RUN_ID_SORT_FIELD = "runId";
+
+	private static final List<String> REPORT_SORT_FIELDS = Arrays.asList("crDtimes", "updDtimes", "reviewDtimes",
+			"approveRejectDtimes", "orgName", "projectType", "reportStatus");
+
 	private static final String VALIDATION_ERR_REPORT_UNDER_REVIEW = "Report for this project is already under review hence new report cannot be generated.";
 
 	private static final String VALIDATION_ERR_TEST_DATA = "Only MOSIP_DEFAULT test data should be used with the Test Run to generate the report. It is failing for testcase :";
@@ -181,13 +193,10 @@ public class ReportService {
 	private CollectionsRepository collectionsRepository;
 
 	@Autowired
-	private SbiProjectRepository sbiProjectRepository;
-
-	@Autowired
-	private SdkProjectRepository sdkProjectRepository;
+	private TestRunDetailsRepository testRunDetailsRepository;
 
 	@Autowired
-	private AbisProjectRepository abisProjectRepository;
+	private TestRunPayloadService testRunPayloadService;
 
 	@Autowired
 	ResourceCacheService resourceCacheService;
@@ -195,6 +204,12 @@ public class ReportService {
 	@Autowired
 	BiometricScoresService biometricScoresService;
 
+	@Autowired
+	TestRunReportModelService testRunReportModelService;
+
+	@Autowired
+	PdfRendererPool pdfRendererPool;
+
 	@Value("#{'${mosip.toolkit.quality.assessment.age.groups}'.split(',')}")
 	private List<String> ageGroups;
 
@@ -225,8 +240,10 @@ public class ReportService {
 			String projectId = requestDto.getProjectId();
 			logInput(requestDto, projectType, projectId);
 			// 1. get the test run details
-			ResponseWrapper<TestRunDetailsResponseDto> testRunDetailsResponse = getTestRunDetails(
+			TestRunReportModelDto reportModel = testRunReportModelService.getReportModel(getPartnerId(),
 					requestDto.getTestRunId());
+			ResponseWrapper<TestRunDetailsResponseDto> testRunDetailsResponse = getTestRunDetails(
+					requestDto.getTestRunId(), reportModel);
 			ResponseEntity<Resource> errResource = handleServiceErrors(requestDto, testRunDetailsResponse.getErrors());
 			if (errResource != null) {
 				return errResource;
@@ -248,7 +265,7 @@ public class ReportService {
 			SbiProjectTable sbiProjectTable = new SbiProjectTable();
 			if (ProjectTypes.SBI.getCode().equals(projectType)) {
 				String invalidTestCaseId = this.validateDeviceInfo(getPartnerId(), testRunDetailsResponseDto,
-						sbiProjectTable);
+						sbiProjectTable, reportModel);
 				if (!BLANK_STRING.equals(invalidTestCaseId)) {
 					return handleValidationErrors(requestDto, VALIDATION_ERR_DEVICE_INFO + invalidTestCaseId);
 				}
@@ -292,7 +309,8 @@ public class ReportService {
 			}
 			// 4. Populate all attributes in velocity template
 			VelocityContext velocityContext = populateVelocityAttributes(testRunDetailsResponseDto, sbiProjectDto,
-					sdkProjectDto, abisProjectDto, origin, projectType, projectId, sbiProjectTable, null, null);
+					sdkProjectDto, abisProjectDto, origin, projectType, projectId, sbiProjectTable, null, null,
+					reportModel);
 			// 5. Merge velocity HTML template with all attributes
 			String mergedHtml = mergeVelocityTemplate(velocityContext, TEST_RUN_REPORT_VM);
 			// 6. Covert the merged HTML to PDF
@@ -330,8 +348,10 @@ public class ReportService {
 				return handleValidationErrors(requestDto, "Invalid request. Test Run Id cannot be null");
 			}
 			// 2. get the test run details
-			ResponseWrapper<TestRunDetailsResponseDto> testRunDetailsResponse = getTestRunDetails(
+			TestRunReportModelDto reportModel = testRunReportModelService.getReportModel(getPartnerId(),
 					requestDto.getTestRunId());
+			ResponseWrapper<TestRunDetailsResponseDto> testRunDetailsResponse = getTestRunDetails(
+					requestDto.getTestRunId(), reportModel);
 			ResponseEntity<Resource> errResource = handleServiceErrors(requestDto, testRunDetailsResponse.getErrors());
 			if (errResource != null) {
 				return errResource;
@@ -352,7 +372,7 @@ public class ReportService {
 			}
 			SbiProjectTable sbiProjectTable = new SbiProjectTable();
 			String invalidTestCaseId = this.validateDeviceInfo(getPartnerId(), testRunDetailsResponseDto,
-					sbiProjectTable);
+					sbiProjectTable, reportModel);
 			if (!BLANK_STRING.equals(invalidTestCaseId)) {
 				return handleValidationErrors(requestDto, VALIDATION_ERR_DEVICE_INFO + invalidTestCaseId);
 			}
@@ -366,22 +386,12 @@ public class ReportService {
 			sbiProjectDto = sbiProjectResponse.getResponse();
 			String biometricType = sbiProjectDto.getDeviceType();
 			// 5. Get the list of biometric scores
-			List<BiometricScores> biometricScoresList = null;
-			if (AppConstants.BIOMETRIC_SCORES_FINGER.equals(biometricType)) {
-				biometricScoresList = biometricScoresService.getFingerBiometricScoresList(getPartnerId(), projectId,
-						requestDto.getTestRunId());
-			}
-			if (AppConstants.BIOMETRIC_SCORES_FACE.equals(biometricType)) {
-				biometricScoresList = biometricScoresService.getFaceBiometricScoresList(getPartnerId(), projectId,
-						requestDto.getTestRunId());
-			}
-			if (AppConstants.BIOMETRIC_SCORES_IRIS.equals(biometricType)) {
-				biometricScoresList = biometricScoresService.getIrisBiometricScoresList(getPartnerId(), projectId,
-						requestDto.getTestRunId());
-			}
+			List<BiometricScores> biometricScoresList = getBiometricScoresList(projectId, requestDto.getTestRunId(),
+					biometricType, reportModel);
 			// 6. Populate all attributes in velocity template
 			VelocityContext velocityContext = populateVelocityAttributes(testRunDetailsResponseDto, sbiProjectDto, null,
-					null, origin, projectType, projectId, sbiProjectTable, biometricScoresList, biometricType);
+					null, origin, projectType, projectId, sbiProjectTable, biometricScoresList, biometricType,
+					reportModel);
 
 			// 7. Merge velocity HTML template with all attributes
 			String mergedHtml = mergeVelocityTemplate(velocityContext, TEST_RUN_REPORT_VM);
@@ -403,6 +413,38 @@ public class ReportService {
 
 	}
 
+	private List<BiometricScores> getBiometricScoresList(String projectId, String testRunId, String biometricType,
+			TestRunReportModelDto reportModel) throws Exception {
+		if (Objects.nonNull(reportModel) && reportModel.hasBiometricScores(projectId, biometricType)) {
+			return reportModel.getBiometricScores();
+		}
+		List<BiometricScores> biometricScoresList = null;
+		if (AppConstants.BIOMETRIC_SCORES_FINGER.equals(biometricType)) {
+			biometricScoresList = biometricScoresService.getFingerBiometricScoresList(getPartnerId(), projectId,
+					testRunId);
+		}
+		if (AppConstants.BIOMETRIC_SCORES_FACE.equals(biometricType)) {
+			biometricScoresList = biometricScoresService.getFaceBiometricScoresList(getPartnerId(), projectId,
+					testRunId);
+		}
+		if (AppConstants.BIOMETRIC_SCORES_IRIS.equals(biometricType)) {
+			biometricScoresList = biometricScoresService.getIrisBiometricScoresList(getPartnerId(), projectId,
+					testRunId);
+		}
+		if (Objects.nonNull(reportModel) && Objects.nonNull(biometricScoresList)) {
+			try {
+				testRunReportModelService.saveBiometricScores(getPartnerId(), testRunId,
+						reportModel.getBiometricScoresRevision(), projectId, biometricType, biometricScoresList,
+						getUserBy());
+			} catch (Exception ex) {
+				// the scores are read again for the next draft report
+				log.error("sessionId", "idType", "id",
+						"In getBiometricScoresList method of ReportService - " + ex.getMessage());
+			}
+		}
+		return biometricScoresList;
+	}
+
 	private void logInput(ReportRequestDto requestDto, String projectType, String projectId) {
 		log.info("sessionId", "idType", "id", "projectType: " + projectType);
 		log.info("sessionId", "idType", "id", "projectId: " + projectId);
@@ -469,9 +511,7 @@ public class ReportService {
 		entity.setProjectType(projectType);
 		entity.setPartnerId(getPartnerId());
 		entity.setOrgName(resourceCacheService.getOrgName(this.getPartnerId()));
-		String reportData = getObjectMapper().writeValueAsString(reportDataDto);
-		String encodedReportData = StringUtil.base64Encode(reportData);
-		entity.setReportDataJson(encodedReportData);
+		entity.setReportData(ReportDataSnapshotUtil.toSnapshot(reportDataDto));
 		entity.setReportStatus(AppConstants.REPORT_STATUS_DRAFT);
 
 		ComplianceTestRunSummaryPK pk = new ComplianceTestRunSummaryPK();
@@ -526,13 +566,14 @@ public class ReportService {
 	private VelocityContext populateVelocityAttributes(TestRunDetailsResponseDto testRunDetailsResponseDto,
 			SbiProjectDto sbiProjectDto, SdkProjectDto sdkProjectDto, AbisProjectDto abisProjectDto, String origin,
 			String projectType, String projectId, SbiProjectTable sbiProjectTable,
-			List<BiometricScores> biometricScoresList, String biometricType) throws Exception {
+			List<BiometricScores> biometricScoresList, String biometricType, TestRunReportModelDto reportModel)
+			throws Exception {
 
 		VelocityContext velocityContext = new VelocityContext();
 		velocityContext.put(PROJECT_TYPE, projectType);
 		velocityContext.put(STATUS_TEXT, AppConstants.REPORT_STATUS_DRAFT.toUpperCase());
 		velocityContext.put(ORIGIN_KEY, getOrigin(origin));
-		velocityContext.put(PARTNER_DETAILS, getPartnerDetails(getPartnerId()));
+		velocityContext.put(PARTNER_DETAILS, getPartnerDetails(testRunDetailsResponseDto.getRunId(), reportModel));
 		if (ProjectTypes.SBI.getCode().equals(projectType)) {
 			velocityContext.put(SBI_PROJECT_DETAILS_TABLE, getSbiProjectDetails(sbiProjectDto,
 					testRunDetailsResponseDto.getTestRunDetailsList(), sbiProjectTable));
@@ -543,17 +584,23 @@ public class ReportService {
 		if (ProjectTypes.ABIS.getCode().equals(projectType)) {
 			velocityContext.put(ABIS_PROJECT_DETAILS_TABLE, getAbisProjectDetails(abisProjectDto));
 		}
-		List<TestCaseDto> allTestCases = getAllTestcases(testRunDetailsResponseDto);
+		List<TestCaseDto> allTestCases = Objects.nonNull(reportModel)
+				&& Objects.nonNull(reportModel.getCollectionTestcases()) ? reportModel.toTestCaseList()
+						: getAllTestcases(testRunDetailsResponseDto);
+		List<TestRunTable> testRunTable = populateTestRunTable(allTestCases,
+				getTestCaseResults(testRunDetailsResponseDto.getTestRunDetailsList()));
 		int countOfAllTestCases = allTestCases.size();
-		int countOfSuccessTestCases = countOfSuccessTestCases(allTestCases, testRunDetailsResponseDto);
+		int countOfSuccessTestCases = countOfSuccessTestCases(testRunTable);
 		int countOfFailedTestCases = countOfAllTestCases - countOfSuccessTestCases;
 
 		velocityContext.put(COLLECTION_NAME,
-				this.getCollectionName(testRunDetailsResponseDto.getCollectionId(), this.getPartnerId()));
+				Objects.nonNull(reportModel) && Objects.nonNull(reportModel.getCollectionName())
+						? reportModel.getCollectionName()
+						: this.getCollectionName(testRunDetailsResponseDto.getCollectionId(), this.getPartnerId()));
 		velocityContext.put(TEST_RUN_START_TIME, getTestRunStartDt(testRunDetailsResponseDto));
 		velocityContext.put(REPORT_EXPIRY_PERIOD, reportExpiryPeriod);
 		velocityContext.put(REPORT_VALIDITY_DATE, getReportValidityDt(testRunDetailsResponseDto));
-		velocityContext.put(TEST_RUN_DETAILS_LIST, populateTestRunTable(allTestCases, testRunDetailsResponseDto));
+		velocityContext.put(TEST_RUN_DETAILS_LIST, testRunTable);
 		velocityContext.put(TIME_TAKEN_BY_TEST_RUN, getTestRunExecutionTime(testRunDetailsResponseDto));
 		velocityContext.put(TOTAL_TEST_CASES_COUNT, countOfAllTestCases);
 		velocityContext.put(COUNT_OF_PASSED_TEST_CASES, countOfSuccessTestCases);
@@ -601,98 +648,139 @@ public class ReportService {
 	}
 
 	private String validateDeviceInfo(String partnerId, TestRunDetailsResponseDto testRunDetailsResponseDto,
-			SbiProjectTable sbiProjectTable) {
+			SbiProjectTable sbiProjectTable, TestRunReportModelDto reportModel) {
+		if (Objects.nonNull(reportModel)) {
+			// validated as the details were added
+			if (Objects.nonNull(reportModel.getDevice())) {
+				setDevice(sbiProjectTable, reportModel.getDevice().toArray(new String[0]));
+			}
+			return reportModel.getInvalidDeviceTestcaseId();
+		}
+		List<TestRunDeviceFingerprintEntity> deviceFingerprints = testRunDetailsRepository
+				.getDeviceFingerprints(testRunDetailsResponseDto.getRunId(), partnerId);
+		if (Objects.nonNull(deviceFingerprints) && !deviceFingerprints.isEmpty()
+				&& deviceFingerprints.stream().allMatch(f -> Objects.nonNull(f.getDeviceFingerprint()))) {
+			return validateDeviceFingerprints(deviceFingerprints, sbiProjectTable);
+		}
+		// details saved before device fingerprints were captured
 		List<TestRunDetailsDto> testRunDetailsList = testRunDetailsResponseDto.getTestRunDetailsList();
+		// load the method responses of the whole run at once, decryption is not needed
+		// since only the device details are read
+		Map<String, String> methodResponses = new HashMap<>();
+		List<TestRunMethodResponseEntity> methodResponseList = testRunDetailsRepository
+				.getMethodResponses(testRunDetailsResponseDto.getRunId(), partnerId);
+		if (Objects.nonNull(methodResponseList)) {
+			for (TestRunMethodResponseEntity methodResponseEntity : methodResponseList) {
+				methodResponses.putIfAbsent(
+						methodResponseEntity.getTestcaseId() + KEY_SEPARATOR + methodResponseEntity.getMethodId(),
+						methodResponseEntity.getMethodResponse());
+			}
+		}
 		String invalidTestCaseId = BLANK_STRING;
 		boolean validationResult = true;
 		String currentTestCaseId = BLANK_STRING;
 		for (TestRunDetailsDto testRunPartialDetails : testRunDetailsList) {
-			boolean proceed = false;
-			if (!currentTestCaseId.equals(testRunPartialDetails.getTestcaseId())) {
-				proceed = true;
-				currentTestCaseId = testRunPartialDetails.getTestcaseId();
-			} else if (currentTestCaseId.equals(testRunPartialDetails.getTestcaseId())) {
-				proceed = false;
+			if (currentTestCaseId.equals(testRunPartialDetails.getTestcaseId())) {
+				continue;
 			}
-			log.info("currentTestCaseId: " + currentTestCaseId);
-			log.info("methodId: " + testRunPartialDetails.getMethodId());
-			log.info("proceed: " + proceed);
-			if (proceed) {
-				// get the method details
-				TestRunDetailsDto testRunFullDetails = null;
-				try {
-					log.info("sessionId", "idType", "id",
-							"Fetching full test run details: " + testRunPartialDetails.getMethodId());
-					ResponseWrapper<TestRunDetailsDto> testRunFullDetailsResp = testRunService.getMethodDetails(
-							partnerId, testRunPartialDetails.getRunId(), testRunPartialDetails.getTestcaseId(),
-							testRunPartialDetails.getMethodId());
-					if (testRunFullDetailsResp != null) {
-						testRunFullDetails = testRunFullDetailsResp.getResponse();
-					}
-				} catch (Exception ex) {
-					log.debug("sessionId", "idType", "id", ex.getStackTrace());
-					log.debug("sessionId", "idType", "id", "unable to fetch test run full details{}",
-							testRunPartialDetails.getTestcaseId());
+			currentTestCaseId = testRunPartialDetails.getTestcaseId();
+			String methodResponse = methodResponses
+					.get(currentTestCaseId + KEY_SEPARATOR + testRunPartialDetails.getMethodId());
+			try {
+				methodResponse = testRunPayloadService.resolve(methodResponse);
+			} catch (Exception ex) {
+				log.error("sessionId", "idType", "id",
+						"In validateDeviceInfo method of ReportService - " + ex.getMessage());
+				methodResponse = null;
+			}
+			if (methodResponse != null
+					&& DeviceFingerprintUtil.hasEncryptedBiometrics(methodResponse, getObjectMapper())) {
+				// rcapture biometrics are stored encrypted, their device details are read decrypted
+				methodResponse = getDecryptedMethodResponse(partnerId, testRunDetailsResponseDto.getRunId(),
+						currentTestCaseId, testRunPartialDetails.getMethodId());
+				if (methodResponse == null
+						|| DeviceFingerprintUtil.hasEncryptedBiometrics(methodResponse, getObjectMapper())) {
+					// device details that cannot be read are not consistent
+					log.warn("sessionId", "idType", "id",
+							"In validateDeviceInfo method of ReportService - unable to decrypt device details of "
+									+ currentTestCaseId);
+					validationResult = false;
 				}
-				if (validationResult && testRunFullDetails != null && testRunFullDetails.getMethodResponse() != null) {
-					// check if the method is "discover"
-					try {
-						ArrayNode discoverRespArr = (ArrayNode) getObjectMapper()
-								.readValue(testRunFullDetails.getMethodResponse(), ArrayNode.class);
-						if (discoverRespArr != null && discoverRespArr.size() > 0) {
-							ObjectNode discoverResp = (ObjectNode) discoverRespArr.get(0);
-							validationResult = validateDeviceMakeModelSerialNo(sbiProjectTable, validationResult,
-									discoverResp);
-						}
-					} catch (Exception ex) {
-						// ignore since method may not be "discover"
+			}
+			if (validationResult && methodResponse != null) {
+				for (JsonNode dataNode : DeviceFingerprintUtil.getDeviceInfoNodes(methodResponse,
+						getObjectMapper())) {
+					if (!validationResult) {
+						break;
 					}
-				}
-				if (validationResult && testRunFullDetails != null && testRunFullDetails.getMethodResponse() != null) {
-					// check if the method is "deviceInfo"
 					try {
-						ArrayNode deviceInfoRespArr = (ArrayNode) getObjectMapper()
-								.readValue(testRunFullDetails.getMethodResponse(), ArrayNode.class);
-						ObjectNode deviceInfoResp = null;
-						if (deviceInfoRespArr != null && deviceInfoRespArr.size() > 0) {
-							deviceInfoResp = (ObjectNode) deviceInfoRespArr.get(0);
-							ObjectNode deviceInfoDecoded = (ObjectNode) deviceInfoResp
-									.get(AppConstants.DEVICE_INFO_DECODED);
-							validationResult = validateDeviceMakeModelSerialNo(sbiProjectTable, validationResult,
-									deviceInfoDecoded);
-						}
+						validationResult = validateDeviceMakeModelSerialNo(sbiProjectTable, validationResult,
+								dataNode);
 					} catch (Exception ex) {
-						// ignore since method may not be "deviceInfo"
-					}
-				}
-				if (validationResult && testRunFullDetails != null && testRunFullDetails.getMethodResponse() != null) {
-					// check if the method is "capture" or "rcapture"
-					try {
-						ObjectNode methodResponse = (ObjectNode) getObjectMapper()
-								.readValue(testRunFullDetails.getMethodResponse(), ObjectNode.class);
-						JsonNode arrBiometricNodes = methodResponse.get(AppConstants.BIOMETRICS);
-						if (!arrBiometricNodes.isNull() && arrBiometricNodes.isArray()) {
-							for (final JsonNode biometricNode : arrBiometricNodes) {
-								JsonNode dataNode = biometricNode.get(AppConstants.DECODED_DATA);
-								validationResult = validateDeviceMakeModelSerialNo(sbiProjectTable, validationResult,
-										dataNode);
-							}
-
-						}
-					} catch (Exception e) {
-						// ignore since method may not be "capture" or "rcapture"
+						// ignore since the device details may be incomplete
 					}
 				}
-				if (!validationResult) {
-					invalidTestCaseId = testRunFullDetails.getTestcaseId();
-					break;
-				}
+			}
+			if (!validationResult) {
+				invalidTestCaseId = currentTestCaseId;
+				break;
 			}
 		}
 		log.info("sessionId", "idType", "id", "validateDeviceInfo, validationResult: {}", validationResult);
 		return invalidTestCaseId;
 	}
 
+	private String getDecryptedMethodResponse(String partnerId, String runId, String testcaseId, String methodId) {
+		try {
+			ResponseWrapper<TestRunDetailsDto> methodDetailsResponse = testRunService.getMethodDetails(partnerId,
+					runId, testcaseId, methodId);
+			if (methodDetailsResponse != null && methodDetailsResponse.getResponse() != null) {
+				return methodDetailsResponse.getResponse().getMethodResponse();
+			}
+		} catch (Exception ex) {
+			log.error("sessionId", "idType", "id",
+					"In getDecryptedMethodResponse method of ReportService - " + ex.getMessage());
+		}
+		return null;
+	}
+
+	/**
+	 * Checks that all details of the run were captured with the same device,
+	 * using the fingerprints grouped by the database. The most used device is
+	 * the device of the report, the testcase of any other device is invalid.
+	 */
+	private String validateDeviceFingerprints(List<TestRunDeviceFingerprintEntity> deviceFingerprints,
+			SbiProjectTable sbiProjectTable) {
+		String[] reportDevice = null;
+		String invalidTestCaseId = BLANK_STRING;
+		for (TestRunDeviceFingerprintEntity deviceFingerprint : deviceFingerprints) {
+			String fingerprint = deviceFingerprint.getDeviceFingerprint();
+			if (DeviceFingerprintUtil.NO_DEVICE.equals(fingerprint)) {
+				continue;
+			}
+			String[] device = DeviceFingerprintUtil.parseFingerprint(fingerprint, getObjectMapper());
+			if (device == null || (reportDevice != null && !DeviceFingerprintUtil.isSameDevice(reportDevice, device))) {
+				invalidTestCaseId = deviceFingerprint.getTestcaseId();
+				break;
+			}
+			if (reportDevice == null) {
+				reportDevice = device;
+				setDevice(sbiProjectTable, device);
+			}
+		}
+		log.info("sessionId", "idType", "id", "validateDeviceInfo, validationResult: {}",
+				BLANK_STRING.equals(invalidTestCaseId));
+		return invalidTestCaseId;
+	}
+
+	private void setDevice(SbiProjectTable sbiProjectTable, String[] device) {
+		sbiProjectTable.setDeviceMake(device[0]);
+		sbiProjectTable.setDeviceModel(device[1]);
+		sbiProjectTable.setDeviceSerialNo(device[2]);
+		sbiProjectTable.setDeviceProvider(device[3]);
+		sbiProjectTable.setDeviceProviderId(device[4]);
+	}
+
 	private boolean validateDeviceMakeModelSerialNo(SbiProjectTable sbiProjectTable, boolean validationResult,
 			JsonNode dataNode) {
 		JsonNode digitalIdDecoded = dataNode.get(AppConstants.DIGITAL_ID_DECODED_DATA);
@@ -733,6 +821,23 @@ public class ReportService {
 		return validationResult;
 	}
 
+	private PartnerTable getPartnerDetails(String runId, TestRunReportModelDto reportModel) throws Exception {
+		if (Objects.nonNull(reportModel) && Objects.nonNull(reportModel.getPartnerDetails())) {
+			return reportModel.getPartnerDetails();
+		}
+		PartnerTable partnerTable = getPartnerDetails(getPartnerId());
+		if (Objects.nonNull(reportModel) && Objects.nonNull(partnerTable.getOrgName())) {
+			try {
+				testRunReportModelService.savePartnerDetails(getPartnerId(), runId, partnerTable, getUserBy());
+			} catch (Exception ex) {
+				// the partner details are read again for the next draft report
+				log.error("sessionId", "idType", "id",
+						"In getPartnerDetails method of ReportService - " + ex.getMessage());
+			}
+		}
+		return partnerTable;
+	}
+
 	private PartnerTable getPartnerDetails(String projectId) throws Exception {
 		PartnerTable partnerTable = new PartnerTable();
 		PartnerDetailsDto partnerDetailsDto = partnerManagerHelper.getPartnerDetails(projectId);
@@ -800,16 +905,30 @@ public class ReportService {
 		return origin;
 	}
 
-	private ResponseWrapper<TestRunDetailsResponseDto> getTestRunDetails(String testRunId) {
-		ResponseWrapper<TestRunDetailsResponseDto> testRunDetailsResponseDto = testRunService
-				.getTestRunDetails(getPartnerId(), testRunId, false);
-		return testRunDetailsResponseDto;
+	private ResponseWrapper<TestRunDetailsResponseDto> getTestRunDetails(String testRunId,
+			TestRunReportModelDto reportModel) {
+		if (Objects.isNull(reportModel)) {
+			// runs started before the report model was introduced are reported from their details
+			return testRunService.getTestRunDetails(getPartnerId(), testRunId, false);
+		}
+		ResponseWrapper<TestRunDetailsResponseDto> responseWrapper = new ResponseWrapper<>();
+		responseWrapper.setVersion(AppConstants.VERSION);
+		responseWrapper.setResponse(reportModel.toTestRunDetailsResponse(testRunId));
+		responseWrapper.setResponsetime(LocalDateTime.now());
+		return responseWrapper;
+	}
+
+	/**
+	 * Indexes the run details by testcase id in a single pass, the same way for
+	 * the report model and for the details of older runs.
+	 */
+	private Map<String, String> getTestCaseResults(List<TestRunDetailsDto> testRunDetailsList) {
+		return TestRunReportModelDto.getTestCaseResults(testRunDetailsList);
 	}
 
 	private List<TestRunTable> populateTestRunTable(List<TestCaseDto> testcasesList,
-			TestRunDetailsResponseDto testRunDetailsResponseDto) {
+			Map<String, String> testCaseResults) {
 		List<TestRunTable> testRunTable = new ArrayList<>();
-		List<TestRunDetailsDto> testRunDetailsList = testRunDetailsResponseDto.getTestRunDetailsList();
 		for (TestCaseDto testcase : testcasesList) {
 			TestRunTable item = new TestRunTable();
 			String testCaseId = testcase.getTestId();
@@ -819,25 +938,7 @@ public class ReportService {
 			}
 			item.setTestCaseId(testCaseId);
 			item.setTestCaseName(testCaseName);
-			boolean matchingTestCaseFound = false;
-			String result = "";
-			for (TestRunDetailsDto testRunDetailsDto : testRunDetailsList) {
-				if (testCaseId.equals(testRunDetailsDto.getTestcaseId())) {
-					matchingTestCaseFound = true;
-					// for each method in a testcase, check the result
-					if (AppConstants.SUCCESS.equals(testRunDetailsDto.getResultStatus())) {
-						if (!AppConstants.FAILURE.equals(result)) {
-							result = AppConstants.SUCCESS;
-						}
-					} else {
-						result = AppConstants.FAILURE;
-					}
-				}
-			}
-			if (!matchingTestCaseFound) {
-				item.setResultStatus(AppConstants.FAILURE);
-			}
-			item.setResultStatus(result);
+			item.setResultStatus(testCaseResults.getOrDefault(testCaseId, BLANK_STRING));
 			testRunTable.add(item);
 		}
 		if (testRunTable.size() > 0) {
@@ -864,27 +965,10 @@ public class ReportService {
 		return testcasesList;
 	}
 
-	private int countOfSuccessTestCases(List<TestCaseDto> testcasesList,
-			TestRunDetailsResponseDto testRunDetailsResponseDto) {
+	private int countOfSuccessTestCases(List<TestRunTable> testRunTable) {
 		int passCount = 0;
-		for (TestCaseDto testcase : testcasesList) {
-			String testCaseId = testcase.getTestId();
-			boolean matchingTestCaseFound = false;
-			String result = "";
-			for (TestRunDetailsDto testRunDetailsDto : testRunDetailsResponseDto.getTestRunDetailsList()) {
-				if (testCaseId.equals(testRunDetailsDto.getTestcaseId())) {
-					matchingTestCaseFound = true;
-					// for each method in a testcase, check the result
-					if (AppConstants.SUCCESS.equals(testRunDetailsDto.getResultStatus())) {
-						if (!AppConstants.FAILURE.equals(result)) {
-							result = AppConstants.SUCCESS;
-						}
-					} else {
-						result = AppConstants.FAILURE;
-					}
-				}
-			}
-			if (matchingTestCaseFound && AppConstants.SUCCESS.equals(result)) {
+		for (TestRunTable item : testRunTable) {
+			if (AppConstants.SUCCESS.equals(item.getResultStatus())) {
 				passCount++;
 			}
 		}
@@ -915,18 +999,9 @@ public class ReportService {
 		return mergedHtml;
 	}
 
-	private ByteArrayResource convertHtmltToPdf(String mergedHtml) throws IOException {
-		ITextRenderer renderer = new ITextRenderer();
-		SharedContext sharedContext = renderer.getSharedContext();
-		sharedContext.setPrint(true);
-		sharedContext.setInteractive(false);
-		renderer.setDocumentFromString(mergedHtml);
-		renderer.layout();
-		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-		renderer.createPDF(outputStream);
-		byte[] bytes = outputStream.toByteArray();
+	private ByteArrayResource convertHtmltToPdf(String mergedHtml) throws Exception {
+		byte[] bytes = pdfRendererPool.render(mergedHtml);
 		ByteArrayResource resource = new ByteArrayResource(bytes);
-		outputStream.close();
 		log.info("sessionId", "idType", "id", "Converted html to pdf successfully");
 		return resource;
 	}
@@ -1007,14 +1082,7 @@ public class ReportService {
 				} else {
 					listEntity = complianceTestRunSummaryRepository.findAllBySubmittedReportsPartnerId(getPartnerId());
 				}
-				ObjectMapper objectMapper = getObjectMapper();
-				for (ComplianceReportSummaryEntity respEntity : listEntity) {
-					ComplianceTestRunSummaryDto complianceTestRunSummaryDto = (ComplianceTestRunSummaryDto) objectMapper
-							.convertValue(respEntity, new TypeReference<ComplianceTestRunSummaryDto>() {
-							});
-					complianceTestRunSummaryDto.setProjectName(getProjectName(respEntity));
-					responseList.add(complianceTestRunSummaryDto);
-				}
+				responseList = getReportSummaryList(listEntity);
 			}
 			responseWrapper.setResponse(responseList);
 		} catch (Exception ex) {
@@ -1032,20 +1100,75 @@ public class ReportService {
 		return responseWrapper;
 	}
 
-	private String getProjectName(ComplianceReportSummaryEntity respEntity) {
-		String projectType = respEntity.getProjectType();
-		String projectName = null;
-		if (AppConstants.SBI.equals(projectType)) {
-			projectName = sbiProjectRepository.getProjectNameById(respEntity.getProjectId(), respEntity.getPartnerId());
-		}
-		if (AppConstants.SDK.equals(projectType)) {
-			projectName = sdkProjectRepository.getProjectNameById(respEntity.getProjectId(), respEntity.getPartnerId());
+	public ResponseWrapper<PageDto<ComplianceTestRunSummaryDto>> getReportPage(boolean isAdmin, String reportStatus,
+			int pageNo, int pageSize, String sortBy, String sortDir) {
+		ResponseWrapper<PageDto<ComplianceTestRunSummaryDto>> responseWrapper = new ResponseWrapper<>();
+		PageDto<ComplianceTestRunSummaryDto> pageData = null;
+		try {
+			log.info("sessionId", "idType", "id", "Started getReportPage processing");
+			log.info("sessionId", "idType", "id", "isAdmin: " + isAdmin);
+			log.info("sessionId", "idType", "id", "reportStatus: " + reportStatus);
+			Optional<Sort.Direction> direction = Sort.Direction.fromOptionalString(sortDir);
+			if (isAdmin && !(AppConstants.REPORT_STATUS_REVIEW.equals(reportStatus)
+					|| AppConstants.REPORT_STATUS_APPROVED.equals(reportStatus)
+					|| AppConstants.REPORT_STATUS_REJECTED.equals(reportStatus))) {
+				String errorCode = ToolkitErrorCodes.TOOLKIT_INVALID_REPORT_STATUS_ERR.getErrorCode();
+				String errorMessage = ToolkitErrorCodes.TOOLKIT_INVALID_REPORT_STATUS_ERR.getErrorMessage() + " "
+						+ reportStatus;
+				responseWrapper.setErrors(CommonUtil.getServiceErr(errorCode, errorMessage));
+			} else if (pageNo < 0 || pageSize < 1 || !REPORT_SORT_FIELDS.contains(sortBy)
+					|| !direction.isPresent()) {
+				String errorCode = ToolkitErrorCodes.INVALID_REQUEST_PARAM.getErrorCode();
+				String errorMessage = ToolkitErrorCodes.INVALID_REQUEST_PARAM.getErrorMessage();
+				responseWrapper.setErrors(CommonUtil.getServiceErr(errorCode, errorMessage));
+			} else {
+				// run id is added to keep the order stable between pages
+				Sort sort = Sort.by(direction.get(), sortBy).and(Sort.by(direction.get(), RUN_ID_SORT_FIELD));
+				Pageable pageable = PageRequest.of(pageNo, pageSize, sort);
+				Page<ComplianceReportSummaryEntity> page = null;
+				if (isAdmin) {
+					page = complianceTestRunSummaryRepository.findAllByReportStatus(reportStatus, pageable);
+				} else {
+					page = complianceTestRunSummaryRepository.findAllBySubmittedReportsPartnerId(getPartnerId(),
+							pageable);
+				}
+				pageData = new PageDto<>();
+				pageData.setPageSize(page.getSize());
+				pageData.setPageNo(page.getNumber());
+				pageData.setCurrentPageElements(page.getNumberOfElements());
+				pageData.setTotalElements(page.getTotalElements());
+				pageData.setTotalPages(page.getTotalPages());
+				pageData.setHasPrev(page.hasPrevious());
+				pageData.setHasNext(page.hasNext());
+				pageData.setSort(page.getSort().toString());
+				pageData.setContent(getReportSummaryList(page.getContent()));
+			}
+		} catch (Exception ex) {
+			log.debug("sessionId", "idType", "id", ex.getStackTrace());
+			log.error("sessionId", "idType", "id",
+					"In getReportPage method of ReportGenerator Service - " + ex.getMessage());
+			String errorCode = ToolkitErrorCodes.TOOLKIT_REPORT_GET_ERR.getErrorCode();
+			String errorMessage = ToolkitErrorCodes.TOOLKIT_REPORT_GET_ERR.getErrorMessage() + " " + ex.getMessage();
+			responseWrapper.setErrors(CommonUtil.getServiceErr(errorCode, errorMessage));
 		}
-		if (AppConstants.ABIS.equals(projectType)) {
-			projectName = abisProjectRepository.getProjectNameById(respEntity.getProjectId(),
-					respEntity.getPartnerId());
+		responseWrapper.setId(isAdmin ? getAdminReportId : getPartnerReportId);
+		responseWrapper.setVersion(AppConstants.VERSION);
+		responseWrapper.setResponse(pageData);
+		responseWrapper.setResponsetime(LocalDateTime.now());
+		return responseWrapper;
+	}
+
+	private List<ComplianceTestRunSummaryDto> getReportSummaryList(List<ComplianceReportSummaryEntity> listEntity) {
+		List<ComplianceTestRunSummaryDto> reportSummaryList = new ArrayList<>();
+		ObjectMapper objectMapper = getObjectMapper();
+		for (ComplianceReportSummaryEntity respEntity : listEntity) {
+			// project and collection names are already joined in the query
+			ComplianceTestRunSummaryDto complianceTestRunSummaryDto = (ComplianceTestRunSummaryDto) objectMapper
+					.convertValue(respEntity, new TypeReference<ComplianceTestRunSummaryDto>() {
+					});
+			reportSummaryList.add(complianceTestRunSummaryDto);
 		}
-		return projectName;
+		return reportSummaryList;
 	}
 
 	private String getCollectionName(String collectionId, String partnerId) {
@@ -1053,6 +1176,26 @@ public class ReportService {
 		return collectionName;
 	}
 
+	/**
+	 * Reads the report data snapshot. Reports saved before snapshots were
+	 * introduced are read from the base64 JSON and migrated to a snapshot.
+	 */
+	private ReportDataDto readReportData(ComplianceTestRunSummaryEntity entity) throws Exception {
+		if (Objects.nonNull(entity.getReportData())) {
+			return ReportDataSnapshotUtil.fromSnapshot(entity.getReportData());
+		}
+		ReportDataDto reportDataDto = ReportDataSnapshotUtil.fromLegacyJson(entity.getReportDataJson(),
+				getObjectMapper());
+		try {
+			complianceTestRunSummaryRepository.updateReportData(entity.getPartnerId(), entity.getProjectId(),
+					entity.getCollectionId(), ReportDataSnapshotUtil.toSnapshot(reportDataDto));
+			log.info("sessionId", "idType", "id", "Migrated report data to snapshot for run: " + entity.getRunId());
+		} catch (Exception ex) {
+			log.error("sessionId", "idType", "id", "Unable to migrate report data to snapshot - " + ex.getMessage());
+		}
+		return reportDataDto;
+	}
+
 	private ObjectMapper getObjectMapper() {
 		ObjectMapper objectMapper = objectMapperConfig.objectMapper();
 		objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
@@ -1081,10 +1224,7 @@ public class ReportService {
 				String reportStatus = optionalEntity.get().getReportStatus();
 				if (!AppConstants.REPORT_STATUS_DRAFT.equals(reportStatus)) {
 					log.info("sessionId", "idType", "id", "report data is available in DB");
-					String reportDateEncoded = optionalEntity.get().getReportDataJson();
-					String reportDataDecoded = StringUtil.base64Decode(reportDateEncoded);
-					ReportDataDto reportDataDto = (ReportDataDto) getObjectMapper().readValue(reportDataDecoded,
-							ReportDataDto.class);
+					ReportDataDto reportDataDto = readReportData(optionalEntity.get());
 					// 2. Populate all attributes in velocity template VelocityContext
 					VelocityContext velocityContext = new VelocityContext();
 					velocityContext.put(PROJECT_TYPE, reportDataDto.getProjectType());
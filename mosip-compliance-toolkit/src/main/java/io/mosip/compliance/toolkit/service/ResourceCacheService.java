@@ -1,39 +1,26 @@
 package io.mosip.compliance.toolkit.service;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.util.Objects;
 
 import io.mosip.compliance.toolkit.dto.report.PartnerDetailsDto;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import io.mosip.compliance.toolkit.util.PartnerManagerHelper;
 
-import io.mosip.commons.khazana.spi.ObjectStoreAdapter;
 import io.mosip.compliance.toolkit.config.LoggerConfiguration;
-import io.mosip.compliance.toolkit.constants.AppConstants;
 import io.mosip.compliance.toolkit.validators.SignatureValidator;
 import io.mosip.kernel.core.logger.spi.Logger;
 
 @Service
 public class ResourceCacheService {
-	@Value("${mosip.kernel.objectstore.account-name}")
-	private String objectStoreAccountName;
-
 	@Autowired
 	PartnerManagerHelper partnerManagerHelper;
 	private Logger log = LoggerConfiguration.logConfig(ResourceCacheService.class);
 
-	@Qualifier("S3Adapter")
 	@Autowired
-	private ObjectStoreAdapter objectStore;
+	private SchemaCacheService schemaCacheService;
 
 	@CachePut(cacheNames = "orgName", key = "{#partnerId}", condition = "#result == 'Not_Available'")
 	public String getOrgName(String partnerId) {
@@ -54,62 +41,16 @@ public class ResourceCacheService {
 		return "Not_Available";
 	}
 
-	@Cacheable(cacheNames = "schemas", key = "{#type, #version, #fileName}")
 	public String getSchema(String type, String version, String fileName) throws Exception {
-		try {
-			String schemaResponse = null;
-			String container = AppConstants.SCHEMAS.toLowerCase();
-			if (Objects.nonNull(type) && Objects.nonNull(version)) {
-				container += ("/" + type + "/" + version);
-			} else {
-				container += "";
-			}
-			log.debug("sessionId", "idType", "id", "Trying to get file from object store {}{}", container, fileName);
-			if (existsInObjectStore(container, fileName)) {
-				InputStream inputStream = getFromObjectStore(container, fileName);
-				if (Objects.nonNull(inputStream)) {
-					inputStream.reset();
-					InputStreamReader isr = new InputStreamReader(inputStream);
-					BufferedReader br = new BufferedReader(isr);
-					StringBuffer sb = new StringBuffer();
-					String str;
-					while ((str = br.readLine()) != null) {
-						sb.append(str);
-					}
-					schemaResponse = sb.toString();
-					inputStream.close();
-				}
-			} else {
-				log.debug("sessionId", "idType", "id", "Unable to get file from object store {}{}", container, fileName);
-			}
-			return schemaResponse;
-		} catch (Exception e) {
-			log.debug("sessionId", "idType", "id", e.getStackTrace());
-			log.error("sessionId", "idType", "id", "In getSchema - " + e.getMessage());
-			throw e;
-		}
+		return schemaCacheService.getSchemaJson(type, version, fileName);
 	}
 
-	@CacheEvict(cacheNames = "schemas", key = "{#type, #version #fileName}")
 	public boolean putSchema(String type, String version, String fileName, InputStream inputStream) {
-		String container = AppConstants.SCHEMAS.toLowerCase();
-		if (Objects.nonNull(type) && Objects.nonNull(version)) {
-			container += ("/" + type + "/" + version);
-		} else {
-			container += "";
+		try {
+			return schemaCacheService.putSchema(type, version, fileName, inputStream);
+		} catch (IOException ex) {
+			log.error("sessionId", "idType", "id", "In putSchema method of ResourceCacheService - " + ex.getMessage());
+			return false;
 		}
-		return putInObjectStore(container, fileName, inputStream);
-	}
-
-	private boolean existsInObjectStore(String container, String objectName) {
-		return objectStore.exists(objectStoreAccountName, container, null, null, objectName);
-	}
-
-	private InputStream getFromObjectStore(String container, String objectName) {
-		return objectStore.getObject(objectStoreAccountName, container, null, null, objectName);
-	}
-
-	private boolean putInObjectStore(String container, String objectName, InputStream data) {
-		return objectStore.putObject(objectStoreAccountName, container, null, null, objectName, data);
 	}
 }
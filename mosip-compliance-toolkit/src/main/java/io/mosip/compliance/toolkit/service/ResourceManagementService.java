@@ -8,14 +8,17 @@ import java.util.Objects;
 import java.util.regex.Pattern;
 
 import io.mosip.compliance.toolkit.entity.MasterTemplatesEntity;
-import io.mosip.compliance.toolkit.repository.MasterTemplatesRepository;
 import io.mosip.compliance.toolkit.util.CommonUtil;
+import io.mosip.compliance.toolkit.util.HashUtil;
 import io.mosip.compliance.toolkit.util.RandomIdGenerator;
+import io.mosip.compliance.toolkit.util.SpooledUpload;
+import io.mosip.compliance.toolkit.util.VirusScanTask;
 import io.mosip.kernel.core.authmanager.authadapter.model.AuthUserDetails;
 import io.mosip.kernel.core.virusscanner.spi.VirusScanner;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -59,14 +62,30 @@ public class ResourceManagementService {
     @Value("${mosip.toolkit.documentupload.allowed.file.nameLength}")
     private String allowedFileNameLength;
 
+    /**
+     * Uploads larger than this are spooled to a temp file instead of memory
+     */
+    @Value("${mosip.toolkit.upload.spool.threshold.bytes:1048576}")
+    private long uploadSpoolThreshold = SpooledUpload.DEFAULT_THRESHOLD;
+
     /**
      * Autowired reference for {@link #VirusScanner}
      */
     @Autowired
     VirusScanner<Boolean, InputStream> virusScan;
 
+    @Qualifier("virusScanExecutor")
     @Autowired
-    MasterTemplatesRepository masterTemplatesRepository;
+    TaskExecutor virusScanExecutor;
+
+    @Value("${mosip.toolkit.virus.scan.timeout.seconds:120}")
+    private long virusScanTimeoutSeconds;
+
+    @Autowired
+    TemplateCacheService templateCacheService;
+
+    @Autowired
+    SchemaCacheService schemaCacheService;
 
     @Value("$(mosip.toolkit.api.id.resource.file.post)")
     private String postResourceFileId;
@@ -92,15 +111,19 @@ public class ResourceManagementService {
     public ResponseWrapper<Boolean> uploadResourceFile(String type, String version, MultipartFile file) {
         ResponseWrapper<Boolean> responseWrapper = new ResponseWrapper<>();
         boolean status = false;
+        SpooledUpload upload = null;
+        VirusScanTask scan = null;
         try {
             if (validInputRequest(file) && validResourceFileInputRequest(type, version)) {
-                CommonUtil.performFileValidation(file, scanDocument, false, virusScan);
+                upload = SpooledUpload.of(file, uploadSpoolThreshold);
+                scan = CommonUtil.startVirusScan(upload, scanDocument, virusScan, virusScanExecutor);
+                CommonUtil.performFileValidation(upload, false);
                 if (Objects.nonNull(type)) {
                     if ((type.equals(SBI_SCHEMA) || type.equals(SDK_SCHEMA)) && !Objects.nonNull(version)) {
                         throw new ToolkitException(ToolkitErrorCodes.INVALID_REQUEST_PARAM.getErrorCode(),
                                 ToolkitErrorCodes.INVALID_REQUEST_PARAM.getErrorMessage());
                     }
-                    String fileName = file.getOriginalFilename();
+                    String fileName = upload.getOriginalFilename();
                     String container = null;
                     String objectName = null;
                     switch (type) {
@@ -156,9 +179,13 @@ public class ResourceManagementService {
                             throw new ToolkitException(ToolkitErrorCodes.INVALID_REQUEST_PARAM.getErrorCode(),
                                     ToolkitErrorCodes.INVALID_REQUEST_PARAM.getErrorMessage());
                     }
-                    InputStream is = file.getInputStream();
-                    status = putInObjectStore(container, objectName, is);
-                    is.close();
+                    CommonUtil.awaitVirusScan(scan, virusScanTimeoutSeconds);
+                    try (InputStream is = upload.getInputStream()) {
+                        status = putInObjectStore(container, objectName, is);
+                    }
+                    if (status && container.startsWith(AppConstants.SCHEMAS.toLowerCase())) {
+                        schemaCacheService.schemaUploaded(container, objectName, HashUtil.toHex(upload.getHash()));
+                    }
                 } else {
                     String errorCode = ToolkitErrorCodes.INVALID_REQUEST_PARAM.getErrorCode();
                     String errorMessage = ToolkitErrorCodes.INVALID_REQUEST_PARAM.getErrorMessage();
@@ -179,6 +206,13 @@ public class ResourceManagementService {
             String errorCode = ToolkitErrorCodes.RESOURCE_UPLOAD_ERROR.getErrorCode();
             String errorMessage = ToolkitErrorCodes.RESOURCE_UPLOAD_ERROR.getErrorMessage() + BLANK_SPACE + ex.getMessage();
             responseWrapper.setErrors(CommonUtil.getServiceErr(errorCode, errorMessage));
+        } finally {
+            // the scan closes the upload once it is no longer read
+            if (Objects.nonNull(scan)) {
+                scan.close();
+            } else if (Objects.nonNull(upload)) {
+                upload.close();
+            }
         }
         responseWrapper.setId(postResourceFileId);
         responseWrapper.setResponse(status);
@@ -195,10 +229,14 @@ public class ResourceManagementService {
     public ResponseWrapper<Boolean> uploadTemplate(String langCode, String templateName, String version, MultipartFile file) {
         ResponseWrapper<Boolean> responseWrapper = new ResponseWrapper<>();
         boolean status = false;
+        SpooledUpload upload = null;
+        VirusScanTask scan = null;
         try {
             if (validInputRequest(file) && validTemplateFileInputRequest(templateName)) {
-                CommonUtil.performFileValidation(file, scanDocument, false, virusScan);
-                String fileName = file.getOriginalFilename();
+                upload = SpooledUpload.of(file, uploadSpoolThreshold);
+                scan = CommonUtil.startVirusScan(upload, scanDocument, virusScan, virusScanExecutor);
+                CommonUtil.performFileValidation(upload, false);
+                String fileName = upload.getOriginalFilename();
                 if (Objects.nonNull(langCode) && Objects.nonNull(templateName) && Objects.nonNull(version)) {
                     //check template version format
                     if (!version.matches("v\\d+")) {
@@ -219,12 +257,14 @@ public class ResourceManagementService {
                     masterTemplatesEntity.setCrDtimes(nowDate);
                     masterTemplatesEntity.setVersion(version);
 
-                    InputStream inputStream = file.getInputStream();
-                    byte[] bytes = inputStream.readAllBytes();
-                    String template = new String(bytes, StandardCharsets.UTF_8);
+                    String template;
+                    try (InputStream inputStream = upload.getInputStream()) {
+                        template = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+                    }
                     masterTemplatesEntity.setTemplate(template);
 
-                    masterTemplatesRepository.save(masterTemplatesEntity);
+                    CommonUtil.awaitVirusScan(scan, virusScanTimeoutSeconds);
+                    templateCacheService.saveTemplate(masterTemplatesEntity);
                     log.info("sessionId", "idType", "id", "saved template successfully in Db having language code :", langCode
                             , "and template name :", templateName, "and version :", version);
                     status = true;
@@ -249,6 +289,13 @@ public class ResourceManagementService {
             String errorCode = ToolkitErrorCodes.RESOURCE_UPLOAD_ERROR.getErrorCode();
             String errorMessage = ToolkitErrorCodes.RESOURCE_UPLOAD_ERROR.getErrorMessage() + BLANK_SPACE + ex.getMessage();
             responseWrapper.setErrors(CommonUtil.getServiceErr(errorCode, errorMessage));
+        } finally {
+            // the scan closes the upload once it is no longer read
+            if (Objects.nonNull(scan)) {
+                scan.close();
+            } else if (Objects.nonNull(upload)) {
+                upload.close();
+            }
         }
         responseWrapper.setId(postResourceFileId);
         responseWrapper.setResponse(status);
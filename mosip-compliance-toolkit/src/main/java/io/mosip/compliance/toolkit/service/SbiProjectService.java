@@ -62,6 +62,9 @@ public class SbiProjectService {
 	@Autowired
 	private ProjectHelper projectHelper;
 
+	@Autowired
+	private ProjectSummaryCacheService projectSummaryCacheService;
+
 	private Logger log = LoggerConfiguration.logConfig(SbiProjectService.class);
 
 	private AuthUserDetails authUserDetails() {
@@ -142,6 +145,7 @@ public class SbiProjectService {
 					log.info("SbiProjectEntity" + entity);
 
 					sbiProjectRepository.save(entity);
+					projectSummaryCacheService.evictProjectSummaries(entity.getPartnerId());
 					// Add a default "ALL" collection for the newly created project
 					collectionsService.addDefaultCollection(AppConstants.COMPLIANCE_COLLECTION, sbiProjectDto, null, null,
 							entity.getId());
@@ -231,6 +235,7 @@ public class SbiProjectService {
 						entity.setUpdDate(updDate);
 						SbiProjectEntity outputEntity = sbiProjectRepository.save(entity);
 						sbiProjectDto = objectMapperConfig.objectMapper().convertValue(outputEntity, SbiProjectDto.class);
+						projectSummaryCacheService.evictProjectSummaries(entity.getPartnerId());
 					} else {
 						String errorCode = ToolkitErrorCodes.SBI_PROJECT_NOT_AVAILABLE.getErrorCode();
 						String errorMessage = ToolkitErrorCodes.SBI_PROJECT_NOT_AVAILABLE.getErrorMessage();
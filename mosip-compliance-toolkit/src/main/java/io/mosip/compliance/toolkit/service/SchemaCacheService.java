@@ -0,0 +1,260 @@
+package io.mosip.compliance.toolkit.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+
+import io.mosip.commons.khazana.spi.ObjectStoreAdapter;
+import io.mosip.compliance.toolkit.config.LoggerConfiguration;
+import io.mosip.compliance.toolkit.constants.AppConstants;
+import io.mosip.compliance.toolkit.util.HashUtil;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * Keeps the schemas of the object store in memory together with their
+ * compiled form and a hash of their content. An entry is revalidated once the
+ * revalidate interval has passed: the content hash stored as object metadata
+ * on upload is compared first and the content is only read again when the
+ * metadata has no hash or a different one. Uploads through this service store
+ * the hash and evict the entry immediately. A change of the testcase schema
+ * also evicts the testcase catalogs, which were validated against it.
+ */
+@Service
+public class SchemaCacheService {
+
+	static final String CONTENT_HASH = "contenthash";
+
+	private static final String KEY_SEPARATOR = "/";
+
+	@Value("${mosip.kernel.objectstore.account-name}")
+	private String objectStoreAccountName;
+
+	@Value("${mosip.toolkit.schema.revalidate.interval.seconds:300}")
+	private long revalidateIntervalSeconds;
+
+	@Qualifier("S3Adapter")
+	@Autowired
+	private ObjectStoreAdapter objectStore;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	private final Map<String, CachedSchema> schemas = new ConcurrentHashMap<>();
+
+	private final JsonSchemaFactory schemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V201909);
+
+	private Logger log = LoggerConfiguration.logConfig(SchemaCacheService.class);
+
+	/**
+	 * Returns the schema json, or null when the schema is not in the object store.
+	 */
+	public String getSchemaJson(String type, String version, String fileName) throws Exception {
+		return get(getContainer(type, version), fileName).json;
+	}
+
+	/**
+	 * Returns the compiled schema, or null when the schema is not in the object
+	 * store. The schema is compiled once per content and shared by all callers.
+	 */
+	public JsonSchema getSchema(String type, String version, String fileName) throws Exception {
+		CachedSchema cachedSchema = get(getContainer(type, version), fileName);
+		if (Objects.isNull(cachedSchema.json)) {
+			return null;
+		}
+		JsonSchema schema = cachedSchema.schema;
+		if (Objects.isNull(schema)) {
+			schema = schemaFactory.getSchema(cachedSchema.json);
+			cachedSchema.schema = schema;
+		}
+		return schema;
+	}
+
+	/**
+	 * Returns the hex encoded SHA-256 hash of the schema content, the same hash
+	 * that is stored as its contenthash metadata, or null when the schema is not
+	 * in the object store.
+	 */
+	public String getSchemaContentHash(String type, String version, String fileName) throws Exception {
+		return get(getContainer(type, version), fileName).contentHash;
+	}
+
+	public boolean putSchema(String type, String version, String fileName, InputStream inputStream)
+			throws IOException {
+		byte[] content = inputStream.readAllBytes();
+		String container = getContainer(type, version);
+		boolean status = objectStore.putObject(objectStoreAccountName, container, null, null, fileName,
+				new ByteArrayInputStream(content));
+		if (status) {
+			schemaUploaded(container, fileName, content);
+		}
+		return status;
+	}
+
+	/**
+	 * Stores the content hash of an uploaded schema as object metadata and evicts
+	 * the cached entry.
+	 */
+	public void schemaUploaded(String container, String fileName, byte[] content) {
+		String contentHash = null;
+		try {
+			contentHash = getContentHash(content);
+		} catch (Exception ex) {
+			log.error("sessionId", "idType", "id", "In schemaUploaded method of SchemaCacheService - " + container
+					+ KEY_SEPARATOR + fileName + " - " + ex.getMessage());
+		}
+		schemaUploaded(container, fileName, contentHash);
+	}
+
+	/**
+	 * Same as {@link #schemaUploaded(String, String, byte[])} for callers that
+	 * already have the hex encoded SHA-256 hash of the content.
+	 */
+	public void schemaUploaded(String container, String fileName, String contentHash) {
+		try {
+			if (Objects.nonNull(contentHash)) {
+				objectStore.addObjectMetaData(objectStoreAccountName, container, null, null, fileName, CONTENT_HASH,
+						contentHash);
+			}
+		} catch (Exception ex) {
+			// the revalidation falls back to comparing the content
+			log.error("sessionId", "idType", "id", "In schemaUploaded method of SchemaCacheService - " + container
+					+ KEY_SEPARATOR + fileName + " - " + ex.getMessage());
+		} finally {
+			schemas.remove(container + KEY_SEPARATOR + fileName);
+			schemaChanged(container, fileName);
+		}
+	}
+
+	static String getContainer(String type, String version) {
+		String container = AppConstants.SCHEMAS.toLowerCase();
+		if (Objects.nonNull(type) && Objects.nonNull(version)) {
+			container += (KEY_SEPARATOR + type + KEY_SEPARATOR + version);
+		}
+		return container;
+	}
+
+	private CachedSchema get(String container, String fileName) throws Exception {
+		String key = container + KEY_SEPARATOR + fileName;
+		CachedSchema cachedSchema = schemas.get(key);
+		if (Objects.isNull(cachedSchema)) {
+			cachedSchema = load(container, fileName);
+			CachedSchema existing = schemas.putIfAbsent(key, cachedSchema);
+			return Objects.nonNull(existing) ? existing : cachedSchema;
+		}
+		if (!isDue(cachedSchema)) {
+			return cachedSchema;
+		}
+		synchronized (cachedSchema) {
+			if (!isDue(cachedSchema)) {
+				return schemas.getOrDefault(key, cachedSchema);
+			}
+			CachedSchema revalidated = revalidate(container, fileName, cachedSchema);
+			cachedSchema.checkedAt = System.currentTimeMillis();
+			if (revalidated != cachedSchema) {
+				schemas.put(key, revalidated);
+			}
+			return revalidated;
+		}
+	}
+
+	private boolean isDue(CachedSchema cachedSchema) {
+		return System.currentTimeMillis() - cachedSchema.checkedAt >= revalidateIntervalSeconds * 1000;
+	}
+
+	/**
+	 * Returns the cached entry when the schema is unchanged, otherwise the
+	 * reloaded one. Object store errors keep the cached entry.
+	 */
+	private CachedSchema revalidate(String container, String fileName, CachedSchema cachedSchema) {
+		try {
+			if (Objects.nonNull(cachedSchema.json)) {
+				Map<String, Object> metaData = objectStore.getMetaData(objectStoreAccountName, container, null, null,
+						fileName);
+				Object contentHash = Objects.nonNull(metaData) ? metaData.get(CONTENT_HASH) : null;
+				if (Objects.nonNull(contentHash) && contentHash.equals(cachedSchema.contentHash)) {
+					return cachedSchema;
+				}
+			}
+			CachedSchema loaded = load(container, fileName);
+			if (Objects.equals(loaded.contentHash, cachedSchema.contentHash)) {
+				return cachedSchema;
+			}
+			log.info("sessionId", "idType", "id",
+					"Schema changed in object store, reloaded " + container + KEY_SEPARATOR + fileName);
+			schemaChanged(container, fileName);
+			return loaded;
+		} catch (Exception ex) {
+			log.error("sessionId", "idType", "id", "In revalidate method of SchemaCacheService - " + container
+					+ KEY_SEPARATOR + fileName + " - " + ex.getMessage());
+			return cachedSchema;
+		}
+	}
+
+	private void schemaChanged(String container, String fileName) {
+		if (getContainer(null, null).equals(container) && AppConstants.TESTCASE_SCHEMA_JSON.equals(fileName)) {
+			Cache cache = cacheManager.getCache(TestCaseCatalogService.TESTCASE_CATALOGS);
+			if (Objects.nonNull(cache)) {
+				cache.clear();
+				log.info("sessionId", "idType", "id", "Testcase schema changed, evicted the testcase catalogs");
+			}
+		}
+	}
+
+	private CachedSchema load(String container, String fileName) throws Exception {
+		try {
+			log.debug("sessionId", "idType", "id", "Trying to get file from object store {}{}", container, fileName);
+			if (!objectStore.exists(objectStoreAccountName, container, null, null, fileName)) {
+				log.debug("sessionId", "idType", "id", "Unable to get file from object store {}{}", container,
+						fileName);
+				return new CachedSchema(null, null);
+			}
+			try (InputStream inputStream = objectStore.getObject(objectStoreAccountName, container, null, null,
+					fileName)) {
+				if (Objects.isNull(inputStream)) {
+					return new CachedSchema(null, null);
+				}
+				byte[] content = inputStream.readAllBytes();
+				return new CachedSchema(new String(content, StandardCharsets.UTF_8), getContentHash(content));
+			}
+		} catch (Exception e) {
+			log.debug("sessionId", "idType", "id", e.getStackTrace());
+			log.error("sessionId", "idType", "id", "In getSchema - " + e.getMessage());
+			throw e;
+		}
+	}
+
+	private String getContentHash(byte[] content) throws Exception {
+		return HashUtil.toHex(HashUtil.generateHash(content));
+	}
+
+	private static class CachedSchema {
+
+		private final String json;
+
+		private final String contentHash;
+
+		private volatile JsonSchema schema;
+
+		private volatile long checkedAt = System.currentTimeMillis();
+
+		CachedSchema(String json, String contentHash) {
+			this.json = json;
+			this.contentHash = contentHash;
+		}
+	}
+}
@@ -65,6 +65,9 @@ public class SdkProjectService {
 	@Autowired
 	private ProjectHelper projectHelper;
 
+	@Autowired
+	private ProjectSummaryCacheService projectSummaryCacheService;
+
 	@Value("${mosip.kernel.objectstore.account-name}")
 	private String objectStoreAccountName;
 
@@ -162,6 +165,7 @@ public class SdkProjectService {
 						entity.setDeleted(false);
 
 						SdkProjectEntity outputEntity = sdkProjectRepository.save(entity);
+						projectSummaryCacheService.evictProjectSummaries(entity.getPartnerId());
 						// Add a default "ALL" collection for the newly created project
 						collectionsService.addDefaultCollection(AppConstants.COMPLIANCE_COLLECTION, null, sdkProjectDto,
 								null, entity.getId());
@@ -263,6 +267,7 @@ public class SdkProjectService {
 						entity.setUpdDate(updDate);
 						SdkProjectEntity outputEntity = sdkProjectRepository.save(entity);
 						sdkProjectDto = objectMapperConfig.objectMapper().convertValue(outputEntity, SdkProjectDto.class);
+						projectSummaryCacheService.evictProjectSummaries(entity.getPartnerId());
 
 					} else {
 						String errorCode = ToolkitErrorCodes.SDK_PROJECT_NOT_AVAILABLE.getErrorCode();
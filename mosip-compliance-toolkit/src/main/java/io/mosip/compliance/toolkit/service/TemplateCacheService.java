@@ -0,0 +1,48 @@
+package io.mosip.compliance.toolkit.service;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.stereotype.Service;
+
+import io.mosip.compliance.toolkit.entity.MasterTemplatesEntity;
+import io.mosip.compliance.toolkit.repository.MasterTemplatesRepository;
+
+/**
+ * Caches the master templates and their versions. An upload evicts the entries
+ * of this replica, the other replicas pick up the new template once their
+ * entries expire, see mosip.toolkit.cache.expiry.seconds.templates.
+ */
+@Service
+public class TemplateCacheService {
+
+	@Autowired
+	MasterTemplatesRepository masterTemplatesRepository;
+
+	@Cacheable(cacheNames = "templates", key = "{#langCode, #templateName, #version}", unless = "#result == null")
+	public Optional<MasterTemplatesEntity> getTemplate(String langCode, String templateName, String version) {
+		return masterTemplatesRepository.getTemplate(langCode, templateName, version);
+	}
+
+	@Cacheable(cacheNames = "templateVersions", key = "#templateName", unless = "#result == null")
+	public String getLatestTemplateVersion(String templateName) {
+		return masterTemplatesRepository.getLatestTemplateVersion(templateName);
+	}
+
+	@Cacheable(cacheNames = "templateTimestamps", key = "{#version, #templateName}", unless = "#result == null")
+	public LocalDateTime getTimestampForTemplateVersion(String version, String templateName) {
+		return masterTemplatesRepository.getTimestampForTemplateVersion(version, templateName);
+	}
+
+	@Caching(evict = {
+			@CacheEvict(cacheNames = "templates", key = "{#entity.langCode, #entity.templateName, #entity.version}"),
+			@CacheEvict(cacheNames = "templateVersions", key = "#entity.templateName"),
+			@CacheEvict(cacheNames = "templateTimestamps", key = "{#entity.version, #entity.templateName}") })
+	public MasterTemplatesEntity saveTemplate(MasterTemplatesEntity entity) {
+		return masterTemplatesRepository.save(entity);
+	}
+}
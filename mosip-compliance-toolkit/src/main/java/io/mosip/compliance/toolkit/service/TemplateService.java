@@ -6,7 +6,6 @@ import io.mosip.compliance.toolkit.constants.AppConstants;
 import io.mosip.compliance.toolkit.constants.ToolkitErrorCodes;
 import io.mosip.compliance.toolkit.dto.MasterTemplatesDto;
 import io.mosip.compliance.toolkit.entity.MasterTemplatesEntity;
-import io.mosip.compliance.toolkit.repository.MasterTemplatesRepository;
 import io.mosip.compliance.toolkit.util.CommonUtil;
 import io.mosip.compliance.toolkit.util.ObjectMapperConfig;
 import io.mosip.kernel.core.http.ResponseWrapper;
@@ -26,7 +25,7 @@ public class TemplateService {
     ObjectMapperConfig objectMapperConfig;
 
     @Autowired
-    MasterTemplatesRepository masterTemplatesRepository;
+    TemplateCacheService templateCacheService;
 
     @Value("$(mosip.toolkit.api.id.template.get)")
     private String getTemplateId;
@@ -39,7 +38,7 @@ public class TemplateService {
             if (Objects.nonNull(langCode) && Objects.nonNull(version) && Objects.nonNull(templateName)) {
                 log.info("sessionId", "idType", "id", "fetching template for the language code :", langCode
                         , " and template name :", templateName, " and templateVersion :", version);
-                Optional<MasterTemplatesEntity> optionalEntity = masterTemplatesRepository.getTemplate(langCode, templateName, version);
+                Optional<MasterTemplatesEntity> optionalEntity = templateCacheService.getTemplate(langCode, templateName, version);
                 if (optionalEntity.isPresent()) {
                     MasterTemplatesDto masterTemplatesDto = (MasterTemplatesDto) objectMapperConfig.objectMapper()
                             .convertValue(optionalEntity.get(), new TypeReference<MasterTemplatesDto>() {
@@ -74,7 +73,7 @@ public class TemplateService {
         ResponseWrapper<String> responseWrapper = new ResponseWrapper<>();
         try {
             log.info("sessionId", "idType", "id", "fetching latest template version for :", templateName);
-            String latestTemplateVersion = masterTemplatesRepository.getLatestTemplateVersion(templateName);
+            String latestTemplateVersion = templateCacheService.getLatestTemplateVersion(templateName);
             if (Objects.nonNull(latestTemplateVersion)) {
                 //check template version format
                 if (latestTemplateVersion.matches("v\\d+")) {
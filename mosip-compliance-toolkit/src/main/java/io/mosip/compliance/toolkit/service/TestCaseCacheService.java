@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 
 import io.mosip.compliance.toolkit.entity.TestCaseEntity;
@@ -31,16 +32,28 @@ public class TestCaseCacheService {
 		return testCasesRepository.findAllAbisTestCaseBySpecVersion(specVersion);
 	}
 
-	@CacheEvict(cacheNames = "testcases", key = "{#entity.testcaseType, #entity.specVersion}")
+	@Caching(evict = {
+			@CacheEvict(cacheNames = "testcases", key = "{#entity.testcaseType, #entity.specVersion}"),
+			@CacheEvict(cacheNames = TestCaseCatalogService.TESTCASE_CATALOGS,
+					key = "{#entity.testcaseType, #entity.specVersion}") })
 	public TestCaseEntity saveTestCase(TestCaseEntity entity) {
 		return testCasesRepository.save(entity);
 	}
 
-	@CacheEvict(cacheNames = "testcases", key = "{#entity.testcaseType, #entity.specVersion}")
+	@Caching(evict = {
+			@CacheEvict(cacheNames = "testcases", key = "{#entity.testcaseType, #entity.specVersion}"),
+			@CacheEvict(cacheNames = TestCaseCatalogService.TESTCASE_CATALOGS,
+					key = "{#entity.testcaseType, #entity.specVersion}") })
 	public TestCaseEntity updateTestCase(TestCaseEntity entity) {
 		return testCasesRepository.update(entity);
 	}
 
+	@Caching(evict = { @CacheEvict(cacheNames = "testcases", allEntries = true),
+			@CacheEvict(cacheNames = TestCaseCatalogService.TESTCASE_CATALOGS, allEntries = true) })
+	public int upsertTestCases(String testCases) {
+		return testCasesRepository.upsertTestCases(testCases);
+	}
+
 	@CacheEvict(cacheNames = "testcases", key = "#testCaseId")
 	public TestCaseEntity getTestCase(String testCaseId) {
 		return testCasesRepository.getTestCasesById(testCaseId);
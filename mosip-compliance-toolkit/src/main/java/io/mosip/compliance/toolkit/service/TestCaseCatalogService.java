@@ -0,0 +1,199 @@
+package io.mosip.compliance.toolkit.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.commons.codec.binary.Hex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.ValidationMessage;
+
+import io.mosip.compliance.toolkit.config.LoggerConfiguration;
+import io.mosip.compliance.toolkit.constants.AppConstants;
+import io.mosip.compliance.toolkit.constants.ToolkitErrorCodes;
+import io.mosip.compliance.toolkit.dto.testcases.TestCaseDto;
+import io.mosip.compliance.toolkit.entity.TestCaseEntity;
+import io.mosip.compliance.toolkit.exceptions.ToolkitException;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * Keeps the test cases of a type and spec version validated against
+ * testcase_schema.json and parsed, indexed by the attributes the projects
+ * select them with. The catalog is built once and evicted together with the
+ * cached test case entities when a test case of the same type and spec version
+ * is saved. The catalog version is a digest of the loaded test cases and of
+ * the content hash of the schema they were validated against, and is used as
+ * the ETag of the test case endpoints.
+ */
+@Service
+public class TestCaseCatalogService {
+
+	static final String TESTCASE_CATALOGS = "testcaseCatalogs";
+
+	private static final String KEY_SEPARATOR = "|";
+
+	private static final int VERSION_LENGTH = 32;
+
+	@Autowired
+	private TestCaseCacheService testCaseCacheService;
+
+	@Autowired
+	private SchemaCacheService schemaCacheService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private Logger log = LoggerConfiguration.logConfig(TestCaseCatalogService.class);
+
+	@Cacheable(cacheNames = TESTCASE_CATALOGS, key = "{#type, #specVersion}")
+	public Catalog getCatalog(String type, String specVersion) throws Exception {
+		List<TestCaseEntity> testCaseEntities = null;
+		if (AppConstants.SBI.equals(type)) {
+			testCaseEntities = testCaseCacheService.getSbiTestCases(AppConstants.SBI, specVersion);
+		} else if (AppConstants.SDK.equals(type)) {
+			testCaseEntities = testCaseCacheService.getSdkTestCases(AppConstants.SDK, specVersion);
+		} else if (AppConstants.ABIS.equals(type)) {
+			testCaseEntities = testCaseCacheService.getAbisTestCases(AppConstants.ABIS, specVersion);
+		}
+		Catalog catalog = new Catalog();
+		MessageDigest digest = MessageDigest.getInstance("SHA-256");
+		digest.update((type + KEY_SEPARATOR + specVersion).getBytes(StandardCharsets.UTF_8));
+		if (Objects.isNull(testCaseEntities) || testCaseEntities.isEmpty()) {
+			catalog.version = getVersion(digest);
+			return catalog;
+		}
+		JsonSchema schema = getTestCaseSchema();
+		// a changed schema can change which test cases are valid
+		String schemaContentHash = schemaCacheService.getSchemaContentHash(null, null,
+				AppConstants.TESTCASE_SCHEMA_JSON);
+		if (Objects.nonNull(schemaContentHash)) {
+			digest.update(schemaContentHash.getBytes(StandardCharsets.UTF_8));
+		}
+		int skipped = 0;
+		for (TestCaseEntity testCaseEntity : testCaseEntities) {
+			digest.update(testCaseEntity.getTestcaseJson().getBytes(StandardCharsets.UTF_8));
+			TestCaseDto testCaseDto = parse(testCaseEntity.getTestcaseJson(), schema);
+			if (Objects.isNull(testCaseDto)) {
+				skipped++;
+			} else if (!testCaseDto.isInactive() && specVersion.equals(testCaseDto.getSpecVersion())) {
+				catalog.add(type, testCaseDto);
+			}
+		}
+		log.info("sessionId", "idType", "id", "Built " + type + " " + specVersion + " testcase catalog, skipped "
+				+ skipped + " testcases failing schema validation");
+		catalog.version = getVersion(digest);
+		return catalog;
+	}
+
+	private String getVersion(MessageDigest digest) {
+		return Hex.encodeHexString(digest.digest()).substring(0, VERSION_LENGTH);
+	}
+
+	private JsonSchema getTestCaseSchema() throws Exception {
+		JsonSchema schema = schemaCacheService.getSchema(null, null, AppConstants.TESTCASE_SCHEMA_JSON);
+		if (Objects.isNull(schema)) {
+			throw new ToolkitException(ToolkitErrorCodes.OBJECT_STORE_FILE_NOT_AVAILABLE.getErrorCode(),
+					ToolkitErrorCodes.OBJECT_STORE_FILE_NOT_AVAILABLE.getErrorMessage());
+		}
+		return schema;
+	}
+
+	private TestCaseDto parse(String testcaseJson, JsonSchema schema) throws Exception {
+		JsonNode json = objectMapper.readTree(testcaseJson);
+		Set<ValidationMessage> validationResult = schema.validate(json);
+		if (!validationResult.isEmpty()) {
+			log.debug("sessionId", "idType", "id", "Schema validations failed: {}", validationResult.toString());
+			return null;
+		}
+		return objectMapper.treeToValue(json, TestCaseDto.class);
+	}
+
+	/**
+	 * Active test cases of one type and spec version in the order they were
+	 * loaded. The test cases are shared by all requests and must not be changed.
+	 */
+	public static class Catalog {
+
+		private final Map<String, List<TestCaseDto>> index = new HashMap<>();
+
+		private final List<TestCaseDto> testCases = new ArrayList<>();
+
+		private String version;
+
+		public String getVersion() {
+			return version;
+		}
+
+		public List<TestCaseDto> getTestCases() {
+			return Collections.unmodifiableList(testCases);
+		}
+
+		public List<TestCaseDto> getSbiTestCases(String purpose, String deviceType, String deviceSubType,
+				String isAndroidSbi) {
+			return get(purpose, deviceType, deviceSubType, isAndroidSbi);
+		}
+
+		public List<TestCaseDto> getSdkTestCases(String sdkPurpose) {
+			return get(sdkPurpose);
+		}
+
+		public List<TestCaseDto> getAbisTestCases() {
+			return get();
+		}
+
+		private List<TestCaseDto> get(String... attributes) {
+			List<TestCaseDto> testCases = index.get(String.join(KEY_SEPARATOR, attributes));
+			return Objects.nonNull(testCases) ? Collections.unmodifiableList(testCases) : Collections.emptyList();
+		}
+
+		void add(String type, TestCaseDto testCaseDto) {
+			testCases.add(testCaseDto);
+			TestCaseDto.OtherAttributes otherAttributes = testCaseDto.getOtherAttributes();
+			if (AppConstants.SBI.equals(type)) {
+				if (Objects.isNull(otherAttributes)) {
+					return;
+				}
+				for (String purpose : distinct(otherAttributes.getPurpose())) {
+					for (String deviceType : distinct(otherAttributes.getBiometricTypes())) {
+						for (String deviceSubType : distinct(otherAttributes.getDeviceSubTypes())) {
+							put(testCaseDto, purpose, deviceType, deviceSubType, "no");
+							if (!"yes".equals(testCaseDto.getInactiveForAndroid())) {
+								put(testCaseDto, purpose, deviceType, deviceSubType, "yes");
+							}
+						}
+					}
+				}
+			} else if (AppConstants.SDK.equals(type)) {
+				if (Objects.isNull(otherAttributes)) {
+					return;
+				}
+				for (String sdkPurpose : distinct(otherAttributes.getSdkPurpose())) {
+					put(testCaseDto, sdkPurpose);
+				}
+			} else if (AppConstants.ABIS.equals(type)) {
+				put(testCaseDto);
+			}
+		}
+
+		private void put(TestCaseDto testCaseDto, String... attributes) {
+			index.computeIfAbsent(String.join(KEY_SEPARATOR, attributes), key -> new ArrayList<>()).add(testCaseDto);
+		}
+
+		private static Set<String> distinct(List<String> values) {
+			return Objects.nonNull(values) ? new LinkedHashSet<>(values) : Collections.emptySet();
+		}
+	}
+}
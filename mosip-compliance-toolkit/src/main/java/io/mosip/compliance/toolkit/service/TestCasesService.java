@@ -66,6 +66,8 @@ import io.mosip.compliance.toolkit.util.CommonUtil;
 import io.mosip.compliance.toolkit.util.CryptoUtil;
 import io.mosip.compliance.toolkit.util.StringUtil;
 import io.mosip.compliance.toolkit.validators.BaseValidator;
+import io.mosip.compliance.toolkit.validators.ToolkitValidator;
+import io.mosip.compliance.toolkit.validators.ValidationContext;
 import io.mosip.kernel.biometrics.constant.BiometricType;
 import io.mosip.kernel.biometrics.entities.BiometricRecord;
 import io.mosip.kernel.biometrics.spi.CbeffUtil;
@@ -112,6 +114,9 @@ public class TestCasesService {
 	@Autowired
 	TestCaseCacheService testCaseCacheService;
 
+	@Autowired
+	TestCaseCatalogService testCaseCatalogService;
+
 	@Autowired
 	BiometricTestDataRepository biometricTestDataRepository;
 
@@ -146,52 +151,20 @@ public class TestCasesService {
 		List<TestCaseDto> testCases = new ArrayList<>();
 
 		try {
-			String testCaseSchemaJson = this.getSchemaJson(null, null, AppConstants.TESTCASE_SCHEMA_JSON);
-			List<TestCaseEntity> testCaseEntities = null;
-
 			if (testCaseType.equals(AppConstants.SBI)) {
 				if (isValidSbiTestCase(specVersion, purpose, deviceType, deviceSubType)) {
-					testCaseEntities = testCaseCacheService.getSbiTestCases(AppConstants.SBI, specVersion);
+					testCases.addAll(testCaseCatalogService.getCatalog(AppConstants.SBI, specVersion)
+							.getSbiTestCases(purpose, deviceType, deviceSubType, isAndroidSbi));
 				}
 			} else if (testCaseType.equals(AppConstants.SDK)) {
 				if (isValidSdkTestCase(specVersion, purpose)) {
-					testCaseEntities = testCaseCacheService.getSdkTestCases(AppConstants.SDK, specVersion);
+					testCases.addAll(
+							testCaseCatalogService.getCatalog(AppConstants.SDK, specVersion).getSdkTestCases(purpose));
 				}
 			} else if (testCaseType.equals(AppConstants.ABIS)) {
 				if (isValidAbisTestCase(specVersion)) {
-					testCaseEntities = testCaseCacheService.getAbisTestCases(AppConstants.ABIS, specVersion);
-				}
-			}
-
-			if (testCaseEntities != null) {
-				for (final TestCaseEntity testCaseEntity : testCaseEntities) {
-					String testcaseJson = testCaseEntity.getTestcaseJson();
-					if (AppConstants.SUCCESS
-							.equals(this.validateJsonWithSchema(testcaseJson, testCaseSchemaJson).getStatus())) {
-						TestCaseDto testCaseDto = objectMapper.readValue(testcaseJson, TestCaseDto.class);
-						if (!testCaseDto.isInactive() && testCaseDto.getSpecVersion() != null
-								&& testCaseDto.getSpecVersion().equals(specVersion)) {
-							if (testCaseType.equals(AppConstants.SBI)) {
-								if (testCaseDto.getOtherAttributes().getPurpose().contains(purpose)
-										&& testCaseDto.getOtherAttributes().getBiometricTypes().contains(deviceType)
-										&& testCaseDto.getOtherAttributes().getDeviceSubTypes()
-												.contains(deviceSubType)) {
-									if ("yes".equals(isAndroidSbi)
-											&& !"yes".equals(testCaseDto.getInactiveForAndroid())) {
-										testCases.add(testCaseDto);
-									} else if ("no".equals(isAndroidSbi)) {
-										testCases.add(testCaseDto);
-									}
-								}
-							} else if (testCaseType.equals(AppConstants.SDK)) {
-								if (testCaseDto.getOtherAttributes().getSdkPurpose().contains(purpose)) {
-									testCases.add(testCaseDto);
-								}
-							} else if (testCaseType.equals(AppConstants.ABIS)) {
-								testCases.add(testCaseDto);
-							}
-						}
-					}
+					testCases.addAll(
+							testCaseCatalogService.getCatalog(AppConstants.ABIS, specVersion).getAbisTestCases());
 				}
 			}
 		} catch (ToolkitException ex) {
@@ -217,6 +190,34 @@ public class TestCasesService {
 		return responseWrapper;
 	}
 
+	/**
+	 * Returns the version of the test cases of the type and spec version, it
+	 * changes whenever a test case of them is saved. Returns null when the spec
+	 * version is not valid.
+	 *
+	 * @param testCaseType, specVersion
+	 * @return String
+	 */
+	public String getTestCasesVersion(String testCaseType, String specVersion) {
+		try {
+			if (testCaseType.equals(AppConstants.SBI)) {
+				SbiSpecVersions.fromCode(specVersion);
+			} else if (testCaseType.equals(AppConstants.SDK)) {
+				SdkSpecVersions.fromCode(specVersion);
+			} else if (testCaseType.equals(AppConstants.ABIS)) {
+				AbisSpecVersions.fromCode(specVersion);
+			} else {
+				return null;
+			}
+			return testCaseCatalogService.getCatalog(testCaseType, specVersion).getVersion();
+		} catch (Exception ex) {
+			log.debug("sessionId", "idType", "id", ex.getStackTrace());
+			log.error("sessionId", "idType", "id",
+					"In getTestCasesVersion method of TestCasesService - " + ex.getMessage());
+			return null;
+		}
+	}
+
 	public ResponseWrapper<List<TestCaseDto>> getSbiTestCases(String specVersion, String purpose, String deviceType,
 			String deviceSubType, String isAndroidSbi) {
 		return getTestCases(specVersion, purpose, deviceType, deviceSubType, AppConstants.SBI, isAndroidSbi);
@@ -281,12 +282,32 @@ public class TestCasesService {
 	public ValidationResultDto validateJsonWithSchema(String sourceJson, String schemaJson) throws Exception {
 		// create an instance of the JsonSchemaFactory using version flag
 		JsonSchemaFactory schemaFactory = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V201909);
+		JsonSchema schema = null;
+		try {
+			// get schema from the schemaStream and store it into JsonSchema
+			schema = schemaFactory.getSchema(schemaJson);
+		} catch (Exception e) {
+			log.debug("sessionId", "idType", "id", e.getStackTrace());
+			log.error("sessionId", "idType", "id",
+					"In validateJsonWithSchema method of TestCasesService - " + e.getMessage());
+			throw e;
+		}
+		return validateJsonWithSchema(sourceJson, schema);
+	}
+
+	/**
+	 * Validates JSON against an already compiled schema.
+	 *
+	 * @param sourceJson
+	 * @param schema
+	 * @return
+	 * @throws Exception
+	 */
+	public ValidationResultDto validateJsonWithSchema(String sourceJson, JsonSchema schema) throws Exception {
 		// store the JSON data in InputStream
 		try {
 			// read data from the stream and store it into JsonNode
 			JsonNode json = objectMapper.readTree(sourceJson);
-			// get schema from the schemaStream and store it into JsonSchema
-			JsonSchema schema = schemaFactory.getSchema(schemaJson);
 			// create set of validation message and store result in it
 			Set<ValidationMessage> validationResult = schema.validate(json);
 			ValidationResultDto validationResultDto = new ValidationResultDto();
@@ -385,6 +406,109 @@ public class TestCasesService {
 		return responseWrapper;
 	}
 
+	/**
+	 * Imports the test cases with one query for the existing test cases and one
+	 * upsert, instead of a lookup and a save per test case. The test cases are
+	 * validated in parallel against the compiled schema and nothing is saved when
+	 * any of them is not valid. Existing test cases only take the inactive flags,
+	 * as in saveTestCases.
+	 *
+	 * @param values
+	 * @return ResponseWrapper
+	 */
+	public ResponseWrapper<TestCaseResponseDto> importTestCases(List<TestCaseDto> values) {
+		ResponseWrapper<TestCaseResponseDto> responseWrapper = new ResponseWrapper<>();
+		TestCaseResponseDto testCaseResponseDto = new TestCaseResponseDto();
+		Map<String, String> savedValues = new LinkedHashMap<>();
+
+		try {
+			JsonSchema schema = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V201909)
+					.getSchema(this.getSchemaJson(null, null, AppConstants.TESTCASE_SCHEMA_JSON));
+			Map<String, TestCaseDto> testCases = new LinkedHashMap<>();
+			for (TestCaseDto testCaseDto : values) {
+				testCases.put(testCaseDto.getTestId(), testCaseDto);
+			}
+			List<TestCaseDto> testCaseList = new ArrayList<>(testCases.values());
+			if (!testCaseList.isEmpty()) {
+				// the first validation loads the schema validators before they are shared
+				validateForImport(testCaseList.get(0), schema);
+			}
+			List<String> jsonValues = testCaseList.parallelStream()
+					.map(testCaseDto -> validateForImport(testCaseDto, schema)).collect(Collectors.toList());
+
+			Map<String, TestCaseEntity> existingTestCases = new HashMap<>();
+			for (TestCaseEntity testCase : testCasesRepository.findAllById(testCases.keySet())) {
+				existingTestCases.put(testCase.getId(), testCase);
+			}
+			List<Map<String, String>> upsertValues = new ArrayList<>();
+			for (int i = 0; i < testCaseList.size(); i++) {
+				TestCaseDto testCaseDto = testCaseList.get(i);
+				String jsonValue = jsonValues.get(i);
+				TestCaseEntity existingTestCase = existingTestCases.get(testCaseDto.getTestId());
+				String testcaseJson = jsonValue;
+				if (Objects.nonNull(existingTestCase)) {
+					Map<String, Object> jsonMap = objectMapper.readValue(existingTestCase.getTestcaseJson(), Map.class);
+					jsonMap.put("inactive", testCaseDto.isInactive());
+					if (testCaseDto.getInactiveForAndroid() != null) {
+						jsonMap.put("inactiveForAndroid", testCaseDto.inactiveForAndroid);
+					}
+					testcaseJson = objectMapper.writeValueAsString(jsonMap);
+				}
+				Map<String, String> upsertValue = new HashMap<>();
+				upsertValue.put("id", testCaseDto.getTestId());
+				upsertValue.put("testcase_json", testcaseJson);
+				upsertValue.put("testcase_type", testCaseDto.getTestCaseType());
+				upsertValue.put("spec_version", testCaseDto.getSpecVersion());
+				upsertValues.add(upsertValue);
+				savedValues.put(testCaseDto.getTestId(), jsonValue);
+			}
+			if (!upsertValues.isEmpty()) {
+				int count = testCaseCacheService.upsertTestCases(objectMapper.writeValueAsString(upsertValues));
+				log.info("sessionId", "idType", "id", "Imported " + count + " testcases, " + existingTestCases.size()
+						+ " of them existing");
+			}
+			testCaseResponseDto.setTestCases(savedValues);
+		} catch (Exception ex) {
+			testCaseResponseDto.setTestCases(null);
+			log.debug("sessionId", "idType", "id", ex.getStackTrace());
+			log.error("sessionId", "idType", "id",
+					"In importTestCases method of Test Cases Service - " + ex.getLocalizedMessage());
+			String errorCode = ToolkitErrorCodes.SAVE_TEST_CASE_JSON_ERROR.getErrorCode();
+			String errorMessage = ToolkitErrorCodes.SAVE_TEST_CASE_JSON_ERROR.getErrorMessage() + " " + ex.getMessage();
+			responseWrapper.setErrors(CommonUtil.getServiceErr(errorCode, errorMessage));
+		}
+		responseWrapper.setId(getProjectsId);
+		responseWrapper.setVersion(AppConstants.VERSION);
+		responseWrapper.setResponse(testCaseResponseDto);
+		responseWrapper.setResponsetime(LocalDateTime.now());
+		return responseWrapper;
+	}
+
+	/**
+	 * Returns the JSON of the test case after validating it against the schema
+	 * and the content checks of saveTestCases.
+	 */
+	private String validateForImport(TestCaseDto testCaseDto, JsonSchema schema) {
+		try {
+			String jsonValue = objectMapper.writeValueAsString(testCaseDto);
+			Set<ValidationMessage> validationResult = schema.validate(objectMapper.readTree(jsonValue));
+			if (!validationResult.isEmpty()) {
+				List<String> errors = new ArrayList<>();
+				validationResult.forEach(vm -> errors.add(vm.getMessage()));
+				ToolkitErrorCodes errorCode = ToolkitErrorCodes.INVALID_TEST_CASE_JSON;
+				throw new ToolkitException(errorCode.getErrorCode(),
+						errorCode.getErrorMessage() + '-' + testCaseDto.testId + " - " + errors.toString());
+			}
+			isValidTestCaseId(testCaseDto);
+			validateArrayLengths(testCaseDto);
+			return jsonValue;
+		} catch (IOException ex) {
+			ToolkitErrorCodes errorCode = ToolkitErrorCodes.INVALID_TEST_CASE_JSON;
+			throw new ToolkitException(errorCode.getErrorCode(),
+					errorCode.getErrorMessage() + '-' + testCaseDto.testId + " - " + ex.getMessage());
+		}
+	}
+
 	public ResponseWrapper<ValidationResultDto> performRequestValidations(ValidateRequestSchemaDto requestDto) {
 		ResponseWrapper<ValidationResultDto> responseWrapper = new ResponseWrapper<>();
 		try {
@@ -426,6 +550,8 @@ public class TestCasesService {
 		List<ValidationResultDto> validationResults = new ArrayList<ValidationResultDto>();
 		try {
 			List<ValidatorDefDto> validatorDefs = validationInputDto.getValidatorDefs();
+			// the response is parsed once and shared by all validators
+			ValidationContext validationContext = new ValidationContext(validationInputDto, objectMapper);
 			// first check all validator definitions
 			// now perform validation for all
 			validatorDefs.forEach(v -> {
@@ -436,6 +562,9 @@ public class TestCasesService {
 					log.debug("sessionId", "idType", "id", "invloking validator: {}", className);
 					validator = (BaseValidator) className.getDeclaredConstructor().newInstance();
 					context.getAutowireCapableBeanFactory().autowireBean(validator);
+					if (validator instanceof ToolkitValidator) {
+						((ToolkitValidator) validator).setValidationContext(validationContext);
+					}
 					resultDto = validator.validateResponse(validationInputDto);
 					resultDto.setValidatorName(v.getName());
 					resultDto.setValidatorDescription(v.getDescription());
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import io.mosip.compliance.toolkit.repository.TestRunDetailsRepository;
+import io.mosip.compliance.toolkit.repository.TestRunReportModelRepository;
 import io.mosip.compliance.toolkit.repository.TestRunRepository;
 import io.mosip.kernel.core.authmanager.authadapter.model.AuthUserDetails;
 
@@ -19,6 +20,12 @@ public class TestRunArchiveService {
 	@Autowired
 	TestRunDetailsRepository testRunDetailsRepository;
 
+	@Autowired
+	TestRunReportModelRepository testRunReportModelRepository;
+
+	@Autowired
+	ProjectSummaryCacheService projectSummaryCacheService;
+
 	private AuthUserDetails authUserDetails() {
 		return (AuthUserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
 	}
@@ -28,11 +35,19 @@ public class TestRunArchiveService {
 		return partnerId;
 	}
 
+	/**
+	 * Moves the test run and its details to the archive tables. Payloads held in
+	 * the object store are shared by content hash, so only their references are
+	 * copied and the objects stay where they are. The report model of the run is
+	 * only used for draft reports and is not archived.
+	 */
 	@Transactional
 	public void archiveTestRun(String runId) {
 		testRunDetailsRepository.copyTestRunDetailsToArchive(runId, getPartnerId());
 		testRunRepository.copyTestRunToArchive(runId, getPartnerId());
 		testRunDetailsRepository.deleteById(runId, getPartnerId());
+		testRunReportModelRepository.deleteById(runId, getPartnerId());
 		testRunRepository.deleteById(runId, getPartnerId());
+		projectSummaryCacheService.evictProjectSummaries(getPartnerId());
 	}
 }
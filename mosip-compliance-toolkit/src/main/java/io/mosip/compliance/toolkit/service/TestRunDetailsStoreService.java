@@ -0,0 +1,60 @@
+package io.mosip.compliance.toolkit.service;
+
+import java.util.Arrays;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.mosip.compliance.toolkit.constants.AppConstants;
+import io.mosip.compliance.toolkit.entity.TestRunDetailsEntity;
+import io.mosip.compliance.toolkit.repository.TestRunDetailsRepository;
+import io.mosip.compliance.toolkit.repository.TestRunRepository;
+
+/**
+ * Saves a test run detail together with the counters and the report model of
+ * its run in one transaction. Exceptions are not caught here, so a failure
+ * rolls the whole save back and reaches the caller, which maps it to an error
+ * response.
+ */
+@Service
+public class TestRunDetailsStoreService {
+
+	@Autowired
+	TestRunRepository testRunRepository;
+
+	@Autowired
+	TestRunDetailsRepository testRunDetailsRepository;
+
+	@Autowired
+	TestRunReportModelService testRunReportModelService;
+
+	@Autowired
+	TestRunPayloadService testRunPayloadService;
+
+	@Transactional
+	public TestRunDetailsEntity saveTestRunDetails(TestRunDetailsEntity entity) {
+		// lock the test run so that its counters stay in step with the details
+		testRunRepository.lockTestRunById(entity.getRunId(), entity.getPartnerId());
+		long testCaseIncrement = testRunDetailsRepository.getTestCaseDetailsCount(entity.getRunId(),
+				entity.getPartnerId(), entity.getTestcaseId()) == 0 ? 1 : 0;
+		// a method saved again replaces its earlier result
+		long passCaseIncrement = (isPassed(entity) ? 1 : 0) - testRunDetailsRepository.getMethodPassCount(
+				entity.getRunId(), entity.getPartnerId(), entity.getTestcaseId(), entity.getMethodId());
+		String replacedRequest = testRunDetailsRepository.getMethodRequest(entity.getRunId(), entity.getPartnerId(),
+				entity.getTestcaseId(), entity.getMethodId());
+		String replacedResponse = testRunDetailsRepository.getMethodResponse(entity.getRunId(),
+				entity.getPartnerId(), entity.getTestcaseId(), entity.getMethodId());
+		TestRunDetailsEntity outputEntity = testRunDetailsRepository.save(entity);
+		testRunRepository.updateTestRunCounters(entity.getRunId(), entity.getPartnerId(), testCaseIncrement,
+				passCaseIncrement);
+		testRunReportModelService.putMethod(entity);
+		testRunPayloadService.release(Arrays.asList(replacedRequest, replacedResponse));
+		return outputEntity;
+	}
+
+	private boolean isPassed(TestRunDetailsEntity entity) {
+		return AppConstants.SUCCESS.equals(entity.getResultStatus())
+				&& AppConstants.COMPLETE.equals(entity.getExecutionStatus());
+	}
+}
@@ -0,0 +1,275 @@
+package io.mosip.compliance.toolkit.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.mosip.commons.khazana.spi.ObjectStoreAdapter;
+import io.mosip.compliance.toolkit.config.LoggerConfiguration;
+import io.mosip.compliance.toolkit.constants.ToolkitErrorCodes;
+import io.mosip.compliance.toolkit.entity.TestRunPayloadRefEntity;
+import io.mosip.compliance.toolkit.exceptions.ToolkitException;
+import io.mosip.compliance.toolkit.repository.TestRunPayloadRefRepository;
+import io.mosip.compliance.toolkit.util.HashUtil;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * Moves method payloads above the configured size to the object store. The
+ * payload is stored under its SHA-256 hash and the test run details row keeps
+ * only a reference holding that hash, so identical payloads are stored once and
+ * archiving a test run copies just the references. The references to each
+ * object are counted, the object is deleted with its last reference. Inline
+ * payloads that start like a reference are stored tagged, so that they are
+ * never read as one.
+ */
+@Service
+public class TestRunPayloadService {
+
+	private static final String REFERENCE_PREFIX = "@objectstore:sha256:";
+
+	private static final String INLINE_PREFIX = "@inline:";
+
+	private static final String CONTAINER = "testrun-payloads";
+
+	private static final String HASH_ALGORITHM_NAME = "SHA-256";
+
+	@Value("${mosip.kernel.objectstore.account-name}")
+	private String objectStoreAccountName;
+
+	@Value("${mosip.toolkit.testrun.payload.offload.enabled:false}")
+	private boolean offloadEnabled;
+
+	@Value("${mosip.toolkit.testrun.payload.offload.threshold.bytes:65536}")
+	private int offloadThresholdBytes;
+
+	@Qualifier("S3Adapter")
+	@Autowired
+	private ObjectStoreAdapter objectStore;
+
+	@Autowired
+	private TestRunPayloadRefRepository testRunPayloadRefRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private Logger log = LoggerConfiguration.logConfig(TestRunPayloadService.class);
+
+	/**
+	 * Returns the value to store in the row, either the payload itself or a
+	 * reference to the copy in the object store. The reference is counted before
+	 * the copy is checked, so that it can not be deleted by the release of the
+	 * last earlier reference in the meantime. A row that is not saved after all
+	 * leaves the object counted once too often, which only keeps it stored.
+	 */
+	public String offload(String payload) throws Exception {
+		if (Objects.isNull(payload)) {
+			return payload;
+		}
+		if (!offloadEnabled) {
+			return toInline(payload);
+		}
+		byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+		if (bytes.length <= offloadThresholdBytes) {
+			return toInline(payload);
+		}
+		String hash = HashUtil.toHex(HashUtil.generateHash(bytes));
+		String container = getContainer(hash);
+		testRunPayloadRefRepository.addReference(hash, LocalDateTime.now());
+		if (!objectStore.exists(objectStoreAccountName, container, null, null, hash)) {
+			boolean stored = objectStore.putObject(objectStoreAccountName, container, null, null, hash,
+					new ByteArrayInputStream(bytes));
+			if (!stored) {
+				throw new ToolkitException(ToolkitErrorCodes.OBJECT_STORE_UNABLE_TO_ADD_FILE.getErrorCode(),
+						ToolkitErrorCodes.OBJECT_STORE_UNABLE_TO_ADD_FILE.getErrorMessage());
+			}
+			log.info("sessionId", "idType", "id", "Offloaded method payload to object store: " + hash);
+		}
+		return REFERENCE_PREFIX + hash;
+	}
+
+	/**
+	 * Returns the payload for a stored row value, reading it from the object
+	 * store when the row holds a reference.
+	 */
+	public String resolve(String storedValue) throws Exception {
+		if (!isReference(storedValue)) {
+			return fromInline(storedValue);
+		}
+		try (InputStream inputStream = open(storedValue)) {
+			return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+	/**
+	 * Opens the object store copy of a referenced payload for streaming. The
+	 * hash is checked as the stream is read, reading to the end fails with an
+	 * IOException when the object does not match its reference.
+	 */
+	public InputStream open(String reference) throws Exception {
+		String hash = reference.substring(REFERENCE_PREFIX.length());
+		InputStream inputStream = objectStore.getObject(objectStoreAccountName, getContainer(hash), null, null, hash);
+		if (Objects.isNull(inputStream)) {
+			throw new ToolkitException(ToolkitErrorCodes.OBJECT_STORE_FILE_NOT_AVAILABLE.getErrorCode(),
+					ToolkitErrorCodes.OBJECT_STORE_FILE_NOT_AVAILABLE.getErrorMessage() + " " + hash);
+		}
+		return new HashCheckingInputStream(inputStream, hash);
+	}
+
+	public boolean isReference(String storedValue) {
+		return Objects.nonNull(storedValue) && storedValue.startsWith(REFERENCE_PREFIX);
+	}
+
+	/**
+	 * Releases the references of stored row values that are replaced or deleted.
+	 * Within a transaction they are released once it has committed, so that a
+	 * rollback keeps them.
+	 */
+	public void release(Collection<String> storedValues) {
+		List<String> hashes = storedValues.stream().filter(this::isReference)
+				.map(reference -> reference.substring(REFERENCE_PREFIX.length())).collect(Collectors.toList());
+		if (hashes.isEmpty()) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				@Override
+				public void afterCommit() {
+					releaseReferences(hashes);
+				}
+			});
+		} else {
+			releaseReferences(hashes);
+		}
+	}
+
+	private void releaseReferences(List<String> hashes) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		for (String hash : hashes) {
+			try {
+				transactionTemplate.execute(status -> {
+					releaseReference(hash);
+					return null;
+				});
+			} catch (Exception ex) {
+				// the object is kept, which only leaves it stored
+				log.error("sessionId", "idType", "id",
+						"In releaseReferences method of TestRunPayloadService Service - " + hash + " "
+								+ ex.getMessage());
+			}
+		}
+	}
+
+	private void releaseReference(String hash) {
+		// the row stays locked until the object is deleted, an offload of the same
+		// payload waits for it and then stores the object again
+		TestRunPayloadRefEntity refEntity = testRunPayloadRefRepository.lockByHash(hash);
+		if (Objects.isNull(refEntity)) {
+			// offloaded before references were counted, kept
+			return;
+		}
+		if (refEntity.getRefCount() > 1) {
+			refEntity.setRefCount(refEntity.getRefCount() - 1);
+			refEntity.setUpdDtimes(LocalDateTime.now());
+			testRunPayloadRefRepository.save(refEntity);
+			return;
+		}
+		testRunPayloadRefRepository.delete(refEntity);
+		testRunPayloadRefRepository.flush();
+		objectStore.deleteObject(objectStoreAccountName, getContainer(hash), null, null, hash);
+		log.info("sessionId", "idType", "id", "Deleted method payload from object store: " + hash);
+	}
+
+	private String toInline(String payload) {
+		if (payload.startsWith(REFERENCE_PREFIX) || payload.startsWith(INLINE_PREFIX)) {
+			return INLINE_PREFIX + payload;
+		}
+		return payload;
+	}
+
+	private String fromInline(String storedValue) {
+		if (Objects.nonNull(storedValue) && storedValue.startsWith(INLINE_PREFIX)) {
+			return storedValue.substring(INLINE_PREFIX.length());
+		}
+		return storedValue;
+	}
+
+	private String getContainer(String hash) {
+		// spread the objects over prefixes instead of one flat folder
+		return CONTAINER + "/" + hash.substring(0, 2);
+	}
+
+	private static class HashCheckingInputStream extends FilterInputStream {
+
+		private final MessageDigest digest;
+
+		private final String hash;
+
+		private boolean checked;
+
+		HashCheckingInputStream(InputStream inputStream, String hash) throws Exception {
+			super(inputStream);
+			this.digest = MessageDigest.getInstance(HASH_ALGORITHM_NAME);
+			this.hash = hash;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b < 0) {
+				check();
+			} else {
+				digest.update((byte) b);
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int nBytes = super.read(b, off, len);
+			if (nBytes < 0) {
+				check();
+			} else {
+				digest.update(b, off, nBytes);
+			}
+			return nBytes;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			throw new IOException("Skipping is not supported by a hash checked payload");
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		private void check() throws IOException {
+			if (!checked) {
+				checked = true;
+				if (!hash.equals(HashUtil.toHex(digest.digest()))) {
+					throw new IOException("Method payload does not match its hash " + hash);
+				}
+			}
+		}
+	}
+}
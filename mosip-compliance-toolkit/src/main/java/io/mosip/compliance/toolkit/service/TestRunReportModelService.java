@@ -0,0 +1,214 @@
+package io.mosip.compliance.toolkit.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.compliance.toolkit.config.LoggerConfiguration;
+import io.mosip.compliance.toolkit.dto.collections.CollectionTestCasesResponseDto;
+import io.mosip.compliance.toolkit.dto.report.BiometricScores;
+import io.mosip.compliance.toolkit.dto.report.PartnerTable;
+import io.mosip.compliance.toolkit.dto.testrun.TestRunDetailsDto;
+import io.mosip.compliance.toolkit.dto.testrun.TestRunReportMethodDto;
+import io.mosip.compliance.toolkit.dto.testrun.TestRunReportModelDto;
+import io.mosip.compliance.toolkit.entity.TestRunDetailsEntity;
+import io.mosip.compliance.toolkit.entity.TestRunEntity;
+import io.mosip.compliance.toolkit.entity.TestRunReportModelEntity;
+import io.mosip.compliance.toolkit.repository.CollectionsRepository;
+import io.mosip.compliance.toolkit.repository.TestRunReportModelRepository;
+import io.mosip.compliance.toolkit.repository.TestRunRepository;
+import io.mosip.compliance.toolkit.util.DeviceFingerprintUtil;
+import io.mosip.compliance.toolkit.util.ObjectMapperConfig;
+import io.mosip.compliance.toolkit.util.TestRunReportModelUtil;
+import io.mosip.kernel.core.http.ResponseWrapper;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * Keeps the report model of a test run in one row. Each update reads the row,
+ * changes it and writes it back with the test run locked, so updates of the
+ * same run are applied one after the other.
+ */
+@Service
+public class TestRunReportModelService {
+
+	private static final String BLANK_STRING = "";
+
+	@Autowired
+	TestRunRepository testRunRepository;
+
+	@Autowired
+	TestRunReportModelRepository testRunReportModelRepository;
+
+	@Autowired
+	CollectionsService collectionsService;
+
+	@Autowired
+	CollectionsRepository collectionsRepository;
+
+	@Autowired
+	ObjectMapperConfig objectMapperConfig;
+
+	private Logger log = LoggerConfiguration.logConfig(TestRunReportModelService.class);
+
+	public void addReportModel(TestRunEntity testRunEntity) {
+		String partnerId = testRunEntity.getPartnerId();
+		String collectionId = testRunEntity.getCollectionId();
+		TestRunReportModelDto reportModel = new TestRunReportModelDto();
+		reportModel.setCollectionId(collectionId);
+		reportModel.setCollectionName(collectionsRepository.getCollectionNameById(collectionId, partnerId));
+		reportModel.setRunDtimes(testRunEntity.getRunDtimes());
+		reportModel.setExecutionDtimes(testRunEntity.getExecutionDtimes());
+		reportModel.setExecutionStatus(testRunEntity.getExecutionStatus());
+		reportModel.setRunStatus(testRunEntity.getRunStatus());
+		ResponseWrapper<CollectionTestCasesResponseDto> testcasesForCollection = collectionsService
+				.getTestCasesForCollection(partnerId, collectionId);
+		if (Objects.nonNull(testcasesForCollection) && Objects.nonNull(testcasesForCollection.getResponse())) {
+			reportModel.putCollectionTestcases(testcasesForCollection.getResponse().getTestcases());
+		}
+		TestRunReportModelEntity modelEntity = new TestRunReportModelEntity();
+		modelEntity.setRunId(testRunEntity.getId());
+		modelEntity.setPartnerId(partnerId);
+		modelEntity.setReportModel(TestRunReportModelUtil.toBytes(reportModel));
+		modelEntity.setCrBy(testRunEntity.getCrBy());
+		modelEntity.setCrDtimes(testRunEntity.getCrDtimes());
+		testRunReportModelRepository.save(modelEntity);
+	}
+
+	/**
+	 * Returns null when the run has no report model.
+	 */
+	public TestRunReportModelDto getReportModel(String partnerId, String runId) {
+		try {
+			TestRunReportModelEntity modelEntity = testRunReportModelRepository.getReportModel(runId, partnerId);
+			if (Objects.isNull(modelEntity)) {
+				return null;
+			}
+			return TestRunReportModelUtil.fromBytes(modelEntity.getReportModel());
+		} catch (Exception ex) {
+			log.error("sessionId", "idType", "id",
+					"In getReportModel method of TestRunReportModelService Service - " + ex.getMessage());
+			return null;
+		}
+	}
+
+	@Transactional
+	public void putMethod(TestRunDetailsEntity entity) {
+		TestRunDetailsDto testRunDetailsDto = new TestRunDetailsDto();
+		testRunDetailsDto.setTestcaseId(entity.getTestcaseId());
+		testRunDetailsDto.setMethodId(entity.getMethodId());
+		testRunDetailsDto.setExecutionStatus(entity.getExecutionStatus());
+		testRunDetailsDto.setResultStatus(entity.getResultStatus());
+		testRunDetailsDto.setTestDataSource(entity.getTestDataSource());
+		updateReportModel(entity.getPartnerId(), entity.getRunId(), entity.getCrBy(), reportModel -> {
+			reportModel.putMethod(testRunDetailsDto, entity.getDeviceFingerprint());
+			validateDevice(reportModel);
+		});
+	}
+
+	@Transactional
+	public void updateRun(String partnerId, String runId, LocalDateTime executionDtimes, String executionStatus,
+			String runStatus, String updBy) {
+		updateReportModel(partnerId, runId, updBy, reportModel -> {
+			reportModel.setExecutionDtimes(executionDtimes);
+			reportModel.setExecutionStatus(executionStatus);
+			reportModel.setRunStatus(runStatus);
+		});
+	}
+
+	@Transactional
+	public void biometricScoresAdded(String partnerId, String runId, String updBy) {
+		updateReportModel(partnerId, runId, updBy, reportModel -> {
+			reportModel.setBiometricScores(null);
+			reportModel.setBiometricScoresRevision(reportModel.getBiometricScoresRevision() + 1);
+		});
+	}
+
+	@Transactional
+	public void savePartnerDetails(String partnerId, String runId, PartnerTable partnerDetails, String updBy) {
+		updateReportModel(partnerId, runId, updBy, reportModel -> reportModel.setPartnerDetails(partnerDetails));
+	}
+
+	/**
+	 * Keeps the score tables read for a draft report, unless scores were added
+	 * to the run after the report model they were read with.
+	 */
+	@Transactional
+	public void saveBiometricScores(String partnerId, String runId, long biometricScoresRevision, String projectId,
+			String biometricType, List<BiometricScores> biometricScores, String updBy) {
+		updateReportModel(partnerId, runId, updBy, reportModel -> {
+			if (reportModel.getBiometricScoresRevision() == biometricScoresRevision) {
+				reportModel.setBiometricScoresProjectId(projectId);
+				reportModel.setBiometricType(biometricType);
+				reportModel.setBiometricScores(biometricScores);
+			}
+		});
+	}
+
+	private void updateReportModel(String partnerId, String runId, String updBy,
+			Consumer<TestRunReportModelDto> update) {
+		if (Objects.isNull(testRunRepository.lockTestRunById(runId, partnerId))) {
+			return;
+		}
+		TestRunReportModelEntity modelEntity = testRunReportModelRepository.getReportModel(runId, partnerId);
+		if (Objects.isNull(modelEntity)) {
+			return;
+		}
+		TestRunReportModelDto reportModel = TestRunReportModelUtil.fromBytes(modelEntity.getReportModel());
+		update.accept(reportModel);
+		modelEntity.setReportModel(TestRunReportModelUtil.toBytes(reportModel));
+		modelEntity.setUpdBy(updBy);
+		modelEntity.setUpdDtimes(LocalDateTime.now());
+		testRunReportModelRepository.save(modelEntity);
+	}
+
+	/**
+	 * Checks that all methods of the run were captured with the same device. The
+	 * most used device is the device of the report, the first testcase of any
+	 * other device is invalid.
+	 */
+	private void validateDevice(TestRunReportModelDto reportModel) {
+		Map<String, String> firstTestcaseIds = new LinkedHashMap<>();
+		Map<String, Integer> counts = new LinkedHashMap<>();
+		for (Map.Entry<String, Map<String, TestRunReportMethodDto>> testcase : reportModel.getTestcases()
+				.entrySet()) {
+			for (TestRunReportMethodDto method : testcase.getValue().values()) {
+				String fingerprint = method.getDeviceFingerprint();
+				if (Objects.isNull(fingerprint) || DeviceFingerprintUtil.NO_DEVICE.equals(fingerprint)) {
+					continue;
+				}
+				firstTestcaseIds.putIfAbsent(fingerprint, testcase.getKey());
+				counts.merge(fingerprint, 1, Integer::sum);
+			}
+		}
+		List<String> fingerprints = new ArrayList<>(counts.keySet());
+		fingerprints.sort(Comparator.comparing((String fingerprint) -> counts.get(fingerprint)).reversed()
+				.thenComparing(firstTestcaseIds::get));
+		ObjectMapper mapper = objectMapperConfig.objectMapper();
+		String[] reportDevice = null;
+		String invalidTestCaseId = BLANK_STRING;
+		for (String fingerprint : fingerprints) {
+			String[] device = DeviceFingerprintUtil.parseFingerprint(fingerprint, mapper);
+			if (device == null || (reportDevice != null && !DeviceFingerprintUtil.isSameDevice(reportDevice, device))) {
+				invalidTestCaseId = firstTestcaseIds.get(fingerprint);
+				break;
+			}
+			if (reportDevice == null) {
+				reportDevice = device;
+			}
+		}
+		reportModel.setDevice(Objects.nonNull(reportDevice) ? Arrays.asList(reportDevice) : null);
+		reportModel.setInvalidDeviceTestcaseId(invalidTestCaseId);
+	}
+}
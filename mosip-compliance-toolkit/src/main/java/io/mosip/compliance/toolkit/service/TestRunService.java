@@ -1,9 +1,14 @@
 package io.mosip.compliance.toolkit.service;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -22,8 +27,13 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -33,6 +43,7 @@ import io.mosip.compliance.toolkit.constants.ToolkitErrorCodes;
 import io.mosip.compliance.toolkit.dto.PageDto;
 import io.mosip.compliance.toolkit.repository.CollectionsRepository;
 import io.mosip.compliance.toolkit.repository.TestRunDetailsRepository;
+import io.mosip.compliance.toolkit.repository.TestRunReportModelRepository;
 import io.mosip.compliance.toolkit.repository.TestRunRepository;
 import io.mosip.kernel.core.authmanager.authadapter.model.AuthUserDetails;
 import io.mosip.kernel.core.http.ResponseWrapper;
@@ -80,17 +91,36 @@ public class TestRunService {
 	@Autowired
 	CollectionsRepository collectionsRepository;
 
+	@Autowired
+	ProjectSummaryCacheService projectSummaryCacheService;
+
 	@Autowired
 	KeyManagerHelper keyManagerHelper;
 
 	@Autowired
 	TestCaseCacheService testCaseCacheService;
 
+	@Autowired
+	TestRunPayloadService testRunPayloadService;
+
+	@Autowired
+	TestRunReportModelRepository testRunReportModelRepository;
+
+	@Autowired
+	TestRunReportModelService testRunReportModelService;
+
+	@Autowired
+	TestRunDetailsStoreService testRunDetailsStoreService;
+
 	@Autowired
 	private ObjectMapperConfig objectMapperConfig;
 
 	private static final String BLANK_STRING = "";
 
+	private static final String PAYLOAD_REQUEST = "request";
+
+	private static final String PAYLOAD_RESPONSE = "response";
+
 	private Logger log = LoggerConfiguration.logConfig(TestRunService.class);
 
 	private AuthUserDetails authUserDetails() {
@@ -133,6 +163,9 @@ public class TestRunService {
 					entity.setDeleted(false);
 					entity.setDelTime(null);
 					TestRunEntity outputEntity = testRunRepository.save(entity);
+					testRunReportModelService.addReportModel(outputEntity);
+					projectSummaryCacheService.updateLatestRun(outputEntity.getPartnerId(), collectionId,
+							outputEntity.getId(), outputEntity.getRunDtimes());
 
 					testRun = mapper.convertValue(outputEntity, TestRunDto.class);
 					log.info("sessionId", "idType", "id", "outputEntity" + outputEntity);
@@ -177,6 +210,9 @@ public class TestRunService {
 						inputTestRun.getExecutionStatus(), inputTestRun.getRunStatus(), getUserBy(),
 						LocalDateTime.now(), inputTestRun.getId(), getPartnerId());
 				if (updateRowCount > 0) {
+					testRunReportModelService.updateRun(getPartnerId(), inputTestRun.getId(),
+							inputTestRun.getExecutionDtimes(), inputTestRun.getExecutionStatus(),
+							inputTestRun.getRunStatus(), getUserBy());
 					testRun = inputTestRun;
 				} else {
 					handleToolkitError(ToolkitErrorCodes.TESTRUN_UNABLE_TO_UPDATE, responseWrapper);
@@ -214,14 +250,25 @@ public class TestRunService {
 					entity.setPartnerId(getPartnerId());
 					entity.setOrgName(resourceCacheService.getOrgName(getPartnerId()));
 					TestRunDetailsEntity outputEntity = new TestRunDetailsEntity();
+					// captured once here, from the plain response since the digital id of "rcapture"
+					// biometrics can not be read once encrypted, so that reports do not parse the responses again
+					String deviceFingerprint = DeviceFingerprintUtil.getFingerprint(entity.getMethodResponse(), mapper);
 					String methodName = getTestCaseMethodName(entity.getTestcaseId());
 					if (isRcaptureEncryptionEnabled && methodName != null && methodName.equals(RCAPTURE)) {
-						TestRunDetailsEntity testRunDetailsEntity = performRcaptureEncryption(entity);
-						outputEntity = testRunDetailsRepository.save(testRunDetailsEntity);
-					} else {
-						outputEntity = testRunDetailsRepository.save(entity);
+						entity = performRcaptureEncryption(entity);
 					}
+					String methodRequest = entity.getMethodRequest();
+					String methodResponse = entity.getMethodResponse();
+					entity.setDeviceFingerprint(deviceFingerprint);
+					entity.setMethodRequest(testRunPayloadService.offload(methodRequest));
+					entity.setMethodResponse(testRunPayloadService.offload(methodResponse));
+					outputEntity = testRunDetailsStoreService.saveTestRunDetails(entity);
 					testRunDetails = mapper.convertValue(outputEntity, TestRunDetailsDto.class);
+					if (Objects.nonNull(testRunDetails)) {
+						// answer with the payloads, not the object store references
+						testRunDetails.setMethodRequest(methodRequest);
+						testRunDetails.setMethodResponse(methodResponse);
+					}
 				} else {
 					handleToolkitError(toolkitError, responseWrapper);
 				}
@@ -266,6 +313,7 @@ public class TestRunService {
 						if (Objects.nonNull(testRunDetailsEntityList) && !testRunDetailsEntityList.isEmpty()) {
 							ObjectMapper mapper = objectMapperConfig.objectMapper();
 							for (TestRunDetailsEntity testRunDetailsEntity : testRunDetailsEntityList) {
+								resolvePayloads(testRunDetailsEntity);
 								TestRunDetailsDto dto = new TestRunDetailsDto();
 								String methodName = getTestCaseMethodName(testRunDetailsEntity.getTestcaseId());
 								if (methodName != null && methodName.equals(RCAPTURE)) {
@@ -315,6 +363,7 @@ public class TestRunService {
 					TestRunDetailsEntity testRunDetailsEntity = testRunDetailsRepository.getMethodDetails(runId,
 							partnerId, testcaseId, methodId);
 					if (Objects.nonNull(testRunDetailsEntity)) {
+						resolvePayloads(testRunDetailsEntity);
 						ObjectMapper mapper = objectMapperConfig.objectMapper();
 						String methodName = getTestCaseMethodName(testRunDetailsEntity.getTestcaseId());
 						if (methodName != null && methodName.equals(RCAPTURE)) {
@@ -341,6 +390,71 @@ public class TestRunService {
 		return responseWrapper;
 	}
 
+	/**
+	 * Streams the stored request or response of a single method as raw JSON, so
+	 * that the listings can skip the large payload columns and the client fetches
+	 * them only when a method is opened. Payloads in the object store are copied
+	 * to the response as they are read, only encrypted "rcapture" responses are
+	 * read in full since they have to be decrypted.
+	 */
+	public ResponseEntity<StreamingResponseBody> getMethodPayload(String partnerId, String runId, String testcaseId,
+			String methodId, String payloadType) {
+		try {
+			if (Objects.isNull(runId) || Objects.isNull(partnerId) || Objects.isNull(testcaseId)
+					|| Objects.isNull(methodId)
+					|| !(PAYLOAD_REQUEST.equals(payloadType) || PAYLOAD_RESPONSE.equals(payloadType))) {
+				return ResponseEntity.badRequest().build();
+			}
+			String storedValue;
+			if (PAYLOAD_REQUEST.equals(payloadType)) {
+				storedValue = testRunDetailsRepository.getMethodRequest(runId, partnerId, testcaseId, methodId);
+			} else {
+				storedValue = testRunDetailsRepository.getMethodResponse(runId, partnerId, testcaseId, methodId);
+				if (Objects.nonNull(storedValue) && RCAPTURE.equals(getTestCaseMethodName(testcaseId))) {
+					TestRunDetailsEntity entity = new TestRunDetailsEntity();
+					entity.setTestcaseId(testcaseId);
+					entity.setMethodResponse(resolvePayload(storedValue));
+					storedValue = performRcaptureDecryption(entity).getMethodResponse();
+				}
+			}
+			if (Objects.isNull(storedValue)) {
+				return ResponseEntity.notFound().build();
+			}
+			StreamingResponseBody body;
+			if (testRunPayloadService.isReference(storedValue)) {
+				// opened here, so that a missing object is answered with an error status
+				InputStream payloadStream = testRunPayloadService.open(storedValue);
+				body = outputStream -> {
+					try (InputStream inputStream = payloadStream) {
+						inputStream.transferTo(outputStream);
+					}
+				};
+			} else {
+				String payload = testRunPayloadService.resolve(storedValue);
+				body = outputStream -> {
+					Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+					writer.write(payload);
+					writer.flush();
+				};
+			}
+			return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON_UTF8).body(body);
+		} catch (Exception ex) {
+			log.debug("sessionId", "idType", "id", ex.getStackTrace());
+			log.error("sessionId", "idType", "id",
+					"In getMethodPayload method of TestRunService Service - " + ex.getMessage());
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+		}
+	}
+
+	private void resolvePayloads(TestRunDetailsEntity testRunDetailsEntity) throws Exception {
+		testRunDetailsEntity.setMethodRequest(resolvePayload(testRunDetailsEntity.getMethodRequest()));
+		testRunDetailsEntity.setMethodResponse(resolvePayload(testRunDetailsEntity.getMethodResponse()));
+	}
+
+	private String resolvePayload(String storedValue) throws Exception {
+		return testRunPayloadService.resolve(storedValue);
+	}
+
 	private TestRunDetailsEntity performRcaptureEncryption(TestRunDetailsEntity testRunDetailsEntity) {
 		try {
 			if (testRunDetailsEntity.getMethodResponse() != null) {
@@ -619,6 +733,114 @@ public class TestRunService {
 		return responseWrapper;
 	}
 
+	public ResponseWrapper<PageDto<TestRunHistoryDto>> getTestRunHistoryPage(String collectionId, int pageSize,
+			String pageToken) {
+		ResponseWrapper<PageDto<TestRunHistoryDto>> responseWrapper = new ResponseWrapper<>();
+		PageDto<TestRunHistoryDto> pageData = null;
+		try {
+			boolean firstPage = Objects.isNull(pageToken) || pageToken.isEmpty();
+			String[] lastKey = PageTokenUtil.decode(pageToken, 2);
+			LocalDateTime lastRunDtimes = Objects.nonNull(lastKey) ? parsePageTokenDtimes(lastKey[0]) : null;
+			if (Objects.nonNull(collectionId) && pageSize > 0 && (firstPage || Objects.nonNull(lastRunDtimes))) {
+				// one extra row tells whether another page follows, so no count query is needed
+				Pageable limit = PageRequest.of(0, pageSize + 1);
+				List<TestRunHistoryEntity> entities = firstPage
+						? testRunRepository.getTestRunHistoryFirstPage(collectionId, getPartnerId(), limit)
+						: testRunRepository.getTestRunHistoryAfter(collectionId, getPartnerId(), lastRunDtimes,
+								lastKey[1], limit);
+				boolean hasNext = entities.size() > pageSize;
+				List<TestRunHistoryEntity> pageEntities = hasNext ? entities.subList(0, pageSize) : entities;
+				List<TestRunHistoryDto> testRunHistoryList = new ArrayList<>();
+				ObjectMapper mapper = objectMapperConfig.objectMapper();
+				for (TestRunHistoryEntity entity : pageEntities) {
+					testRunHistoryList.add(mapper.convertValue(entity, TestRunHistoryDto.class));
+				}
+				pageData = new PageDto<>();
+				pageData.setPageSize(pageSize);
+				pageData.setCurrentPageElements(pageEntities.size());
+				pageData.setHasPrev(!firstPage);
+				pageData.setHasNext(hasNext);
+				pageData.setSort(Sort.by(Sort.Direction.DESC, "runDtimes", "id").toString());
+				pageData.setContent(testRunHistoryList);
+				if (hasNext) {
+					TestRunHistoryEntity last = pageEntities.get(pageEntities.size() - 1);
+					pageData.setNextPageToken(PageTokenUtil.encode(last.getLastRunTime().toString(), last.getRunId()));
+				}
+			} else {
+				handleToolkitError(ToolkitErrorCodes.INVALID_REQUEST_PARAM, responseWrapper);
+			}
+		} catch (Exception ex) {
+			logAndSetError(ex, responseWrapper, ToolkitErrorCodes.TESTRUN_DETAILS_NOT_AVAILABLE,
+					"In getTestRunHistoryPage method of TestRunService Service - ");
+		}
+		responseWrapper.setId(getTestRunHistoryId);
+		responseWrapper.setVersion(AppConstants.VERSION);
+		responseWrapper.setResponse(pageData);
+		responseWrapper.setResponsetime(LocalDateTime.now());
+		return responseWrapper;
+	}
+
+	public ResponseWrapper<PageDto<TestRunDetailsDto>> getTestRunDetailsPage(String partnerId, String runId,
+			int pageSize, String pageToken) {
+		ResponseWrapper<PageDto<TestRunDetailsDto>> responseWrapper = new ResponseWrapper<>();
+		PageDto<TestRunDetailsDto> pageData = null;
+		try {
+			boolean firstPage = Objects.isNull(pageToken) || pageToken.isEmpty();
+			String[] lastKey = PageTokenUtil.decode(pageToken, 3);
+			LocalDateTime lastCrDtimes = Objects.nonNull(lastKey) ? parsePageTokenDtimes(lastKey[0]) : null;
+			if (Objects.nonNull(runId) && Objects.nonNull(partnerId) && pageSize > 0
+					&& (firstPage || Objects.nonNull(lastCrDtimes))) {
+				if (firstPage && Objects.isNull(testRunRepository.getTestRunById(runId, partnerId))) {
+					handleToolkitError(ToolkitErrorCodes.TESTRUN_NOT_AVAILABLE, responseWrapper);
+				} else {
+					Pageable limit = PageRequest.of(0, pageSize + 1);
+					List<TestRunPartialDetailsEntity> entities = firstPage
+							? testRunDetailsRepository.getTestRunPartialDetailsFirstPage(runId, partnerId, limit)
+							: testRunDetailsRepository.getTestRunPartialDetailsAfter(runId, partnerId, lastCrDtimes,
+									lastKey[1], lastKey[2], limit);
+					boolean hasNext = entities.size() > pageSize;
+					List<TestRunPartialDetailsEntity> pageEntities = hasNext ? entities.subList(0, pageSize)
+							: entities;
+					List<TestRunDetailsDto> testRunDetailsList = new ArrayList<>();
+					ObjectMapper mapper = objectMapperConfig.objectMapper();
+					for (TestRunPartialDetailsEntity entity : pageEntities) {
+						testRunDetailsList.add(mapper.convertValue(entity, TestRunDetailsDto.class));
+					}
+					pageData = new PageDto<>();
+					pageData.setPageSize(pageSize);
+					pageData.setCurrentPageElements(pageEntities.size());
+					pageData.setHasPrev(!firstPage);
+					pageData.setHasNext(hasNext);
+					pageData.setSort(Sort.by(Sort.Direction.DESC, "crDtimes", "testcaseId", "methodId").toString());
+					pageData.setContent(testRunDetailsList);
+					if (hasNext) {
+						TestRunPartialDetailsEntity last = pageEntities.get(pageEntities.size() - 1);
+						pageData.setNextPageToken(PageTokenUtil.encode(last.getCrDtimes().toString(),
+								last.getTestcaseId(), last.getMethodId()));
+					}
+				}
+			} else {
+				handleToolkitError(ToolkitErrorCodes.INVALID_REQUEST_PARAM, responseWrapper);
+			}
+		} catch (Exception ex) {
+			logAndSetError(ex, responseWrapper, ToolkitErrorCodes.TESTRUN_DETAILS_NOT_AVAILABLE,
+					"In getTestRunDetailsPage method of TestRunService Service - ");
+		}
+		responseWrapper.setId(getTestRunDetailsId);
+		responseWrapper.setVersion(AppConstants.VERSION);
+		responseWrapper.setResponse(pageData);
+		responseWrapper.setResponsetime(LocalDateTime.now());
+		return responseWrapper;
+	}
+
+	private LocalDateTime parsePageTokenDtimes(String dtimes) {
+		try {
+			return LocalDateTime.parse(dtimes);
+		} catch (DateTimeParseException ex) {
+			return null;
+		}
+	}
+
 	public ResponseWrapper<TestRunStatusDto> getTestRunStatus(String runId) {
 		ResponseWrapper<TestRunStatusDto> responseWrapper = new ResponseWrapper<>();
 		TestRunStatusDto testRunStatus = null;
@@ -659,8 +881,14 @@ public class TestRunService {
 				TestRunEntity entity = testRunRepository.getTestRunById(runId, getPartnerId());
 				if (Objects.nonNull(entity)) {
 					deleteStatus = false;
+					List<String> storedPayloads = new ArrayList<>();
+					storedPayloads.addAll(testRunDetailsRepository.getAllMethodRequests(runId, getPartnerId()));
+					storedPayloads.addAll(testRunDetailsRepository.getAllMethodResponses(runId, getPartnerId()));
 					testRunDetailsRepository.deleteById(runId, getPartnerId());
+					testRunReportModelRepository.deleteById(runId, getPartnerId());
 					testRunRepository.deleteById(runId, getPartnerId());
+					testRunPayloadService.release(storedPayloads);
+					projectSummaryCacheService.evictProjectSummaries(getPartnerId());
 					deleteStatus = true;
 				} else {
 					handleToolkitError(ToolkitErrorCodes.TESTRUN_NOT_AVAILABLE, responseWrapper);
@@ -0,0 +1,241 @@
+package io.mosip.compliance.toolkit.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import javax.imageio.ImageIO;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
+
+import io.mosip.compliance.toolkit.config.LoggerConfiguration;
+import io.mosip.compliance.toolkit.config.VelocityEngineConfig;
+import io.mosip.compliance.toolkit.constants.AbisSpecVersions;
+import io.mosip.compliance.toolkit.constants.AppConstants;
+import io.mosip.compliance.toolkit.constants.SbiSpecVersions;
+import io.mosip.compliance.toolkit.constants.SdkPurpose;
+import io.mosip.compliance.toolkit.constants.SdkSpecVersions;
+import io.mosip.compliance.toolkit.dto.testcases.TestCaseDto;
+import io.mosip.compliance.toolkit.util.HashUtil;
+import io.mosip.kernel.biometrics.spi.CbeffUtil;
+import io.mosip.kernel.cbeffutil.impl.CbeffImpl;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * Loads the test case catalogs, schemas and templates once the application is
+ * started and runs a few synthetic validations, so the first test runs on a new
+ * pod do not pay for it. The health of the application is out of service until
+ * the warm up is done or the timeout has passed, which keeps the pod out of the
+ * readiness probe meanwhile. Every step is best effort, a failing step is only
+ * logged.
+ */
+@Service
+public class WarmUpService {
+
+	private static final String JSON_EXT = ".json";
+
+	private static final String XML_EXT = ".xml";
+
+	private static final int MAX_TESTDATA_XML_SIZE = 5 * 1024 * 1024;
+
+	private static final String[] REPORT_TEMPLATES = { "testRunReport.vm", "errTestRunReport.vm" };
+
+	@Value("${mosip.toolkit.warmup.enabled:true}")
+	private boolean enabled;
+
+	@Value("${mosip.toolkit.warmup.timeout.seconds:240}")
+	private long timeoutSeconds;
+
+	@Autowired
+	private TestCaseCatalogService testCaseCatalogService;
+
+	@Autowired
+	private SchemaCacheService schemaCacheService;
+
+	@Autowired
+	private TemplateCacheService templateCacheService;
+
+	@Autowired
+	private TestCasesService testCasesService;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private volatile boolean completed;
+
+	private volatile long startedAt;
+
+	private Logger log = LoggerConfiguration.logConfig(WarmUpService.class);
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		if (!enabled) {
+			completed = true;
+			return;
+		}
+		startedAt = System.currentTimeMillis();
+		Thread thread = new Thread(this::warmUp, "toolkit-warmup");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Returns true once the warm up is done, or when it is disabled or has taken
+	 * longer than the timeout.
+	 */
+	public boolean isCompleted() {
+		if (completed) {
+			return true;
+		}
+		return startedAt > 0 && System.currentTimeMillis() - startedAt > timeoutSeconds * 1000;
+	}
+
+	void warmUp() {
+		try {
+			warmUpCrypto();
+			warmUpImageIO();
+			Set<String> schemaKeys = new LinkedHashSet<>();
+			for (SbiSpecVersions specVersion : SbiSpecVersions.values()) {
+				warmUpCatalog(AppConstants.SBI, specVersion.getCode(), schemaKeys);
+			}
+			for (SdkSpecVersions specVersion : SdkSpecVersions.values()) {
+				warmUpCatalog(AppConstants.SDK, specVersion.getCode(), schemaKeys);
+			}
+			for (AbisSpecVersions specVersion : AbisSpecVersions.values()) {
+				warmUpCatalog(AppConstants.ABIS, specVersion.getCode(), schemaKeys);
+			}
+			warmUpSchemas(schemaKeys);
+			warmUpTemplates();
+			warmUpTestData();
+			log.info("sessionId", "idType", "id", "Warm up completed in "
+					+ (System.currentTimeMillis() - startedAt) + " ms, " + schemaKeys.size() + " schemas loaded");
+		} finally {
+			completed = true;
+		}
+	}
+
+	private void warmUpCrypto() {
+		try {
+			HashUtil.generateHash("warmup".getBytes(StandardCharsets.UTF_8));
+		} catch (Exception ex) {
+			log.error("sessionId", "idType", "id", "In warmUpCrypto method of WarmUpService - " + ex.getMessage());
+		}
+	}
+
+	private void warmUpImageIO() {
+		try {
+			ImageIO.scanForPlugins();
+			ImageIO.getReaderFormatNames();
+		} catch (Exception ex) {
+			log.error("sessionId", "idType", "id", "In warmUpImageIO method of WarmUpService - " + ex.getMessage());
+		}
+	}
+
+	private void warmUpCatalog(String type, String specVersion, Set<String> schemaKeys) {
+		try {
+			TestCaseCatalogService.Catalog catalog = testCaseCatalogService.getCatalog(type, specVersion);
+			for (TestCaseDto testCaseDto : catalog.getTestCases()) {
+				addSchemaKeys(type, specVersion, testCaseDto.getRequestSchema(), schemaKeys);
+				addSchemaKeys(type, specVersion, testCaseDto.getResponseSchema(), schemaKeys);
+			}
+		} catch (Exception ex) {
+			log.error("sessionId", "idType", "id", "In warmUpCatalog method of WarmUpService - " + type + " "
+					+ specVersion + " - " + ex.getMessage());
+		}
+	}
+
+	private void addSchemaKeys(String type, String specVersion, List<String> schemaNames,
+			Set<String> schemaKeys) {
+		if (Objects.nonNull(schemaNames)) {
+			for (String schemaName : schemaNames) {
+				schemaKeys.add(type.toLowerCase() + "/" + specVersion + "/" + schemaName + JSON_EXT);
+			}
+		}
+	}
+
+	/**
+	 * Loads and compiles the request and response schemas of the test cases and
+	 * validates an empty object against each, which loads the schema validators.
+	 */
+	private void warmUpSchemas(Collection<String> schemaKeys) {
+		for (String schemaKey : schemaKeys) {
+			String[] parts = schemaKey.split("/", 3);
+			try {
+				JsonSchema schema = schemaCacheService.getSchema(parts[0], parts[1], parts[2]);
+				if (Objects.nonNull(schema)) {
+					schema.validate(objectMapper.readTree("{}"));
+				}
+			} catch (Exception ex) {
+				log.error("sessionId", "idType", "id",
+						"In warmUpSchemas method of WarmUpService - " + schemaKey + " - " + ex.getMessage());
+			}
+		}
+	}
+
+	private void warmUpTemplates() {
+		try {
+			templateCacheService.getLatestTemplateVersion(AppConstants.TERMS_AND_CONDTIONS_TEMPLATE);
+			for (String templateName : REPORT_TEMPLATES) {
+				VelocityEngineConfig.getVelocityEngine().getTemplate("templates/" + templateName,
+						StandardCharsets.UTF_8.name());
+			}
+		} catch (Exception ex) {
+			log.error("sessionId", "idType", "id", "In warmUpTemplates method of WarmUpService - " + ex.getMessage());
+		}
+	}
+
+	/**
+	 * Parses the first CBEFF xml of each default SDK test data zip.
+	 */
+	private void warmUpTestData() {
+		CbeffUtil cbeffReader = new CbeffImpl();
+		for (SdkPurpose sdkPurpose : SdkPurpose.values()) {
+			try (InputStream testDataStream = testCasesService.getDefaultTestDataStream(sdkPurpose.toString())) {
+				byte[] xmlBytes = getFirstXml(testDataStream);
+				if (Objects.nonNull(xmlBytes)) {
+					cbeffReader.getBIRDataFromXML(xmlBytes);
+				}
+			} catch (Exception ex) {
+				log.error("sessionId", "idType", "id", "In warmUpTestData method of WarmUpService - "
+						+ sdkPurpose.getCode() + " - " + ex.getMessage());
+			}
+		}
+	}
+
+	private byte[] getFirstXml(InputStream zipStream) throws Exception {
+		if (Objects.isNull(zipStream)) {
+			return null;
+		}
+		ZipInputStream zis = new ZipInputStream(zipStream);
+		ZipEntry zipEntry;
+		while ((zipEntry = zis.getNextEntry()) != null) {
+			if (!zipEntry.isDirectory() && zipEntry.getName().endsWith(XML_EXT)) {
+				ByteArrayOutputStream out = new ByteArrayOutputStream();
+				byte[] buffer = new byte[2048];
+				int nBytes;
+				while ((nBytes = zis.read(buffer)) > 0) {
+					out.write(buffer, 0, nBytes);
+					if (out.size() > MAX_TESTDATA_XML_SIZE) {
+						return null;
+					}
+				}
+				return out.toByteArray();
+			}
+		}
+		return null;
+	}
+}
@@ -4,6 +4,11 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import io.mosip.compliance.toolkit.config.LoggerConfiguration;
 import io.mosip.compliance.toolkit.constants.ToolkitErrorCodes;
@@ -11,7 +16,6 @@ import io.mosip.compliance.toolkit.exceptions.ToolkitException;
 import io.mosip.kernel.core.exception.ServiceError;
 import io.mosip.kernel.core.logger.spi.Logger;
 import io.mosip.kernel.core.virusscanner.exception.VirusScannerException;
-import org.springframework.web.multipart.MultipartFile;
 import io.mosip.kernel.core.virusscanner.spi.VirusScanner;
 
 public final class CommonUtil {
@@ -28,14 +32,13 @@ public final class CommonUtil {
         return serviceErrorsList;
     }
 
-    public static void performFileValidation(MultipartFile file, Boolean scanDocument, Boolean isBiometricTestDataFile, VirusScanner<Boolean, InputStream> virusScan) {
-        String filename = file.getOriginalFilename();
-
+    public static void performFileValidation(SpooledUpload file, Boolean isBiometricTestDataFile) {
         // check if the file is null or empty
-        if (Objects.isNull(file) || Objects.isNull(filename) || file.isEmpty() || file.getSize() <= 0) {
+        if (Objects.isNull(file) || Objects.isNull(file.getOriginalFilename()) || file.isEmpty()) {
             throw new ToolkitException(ToolkitErrorCodes.INVALID_REQUEST_PARAM.getErrorCode(),
                     ToolkitErrorCodes.INVALID_REQUEST_PARAM.getErrorMessage());
         }
+        String filename = file.getOriginalFilename();
 
         // Validate if the file has extensions
         if (!filename.contains(".")) {
@@ -53,18 +56,74 @@ public final class CommonUtil {
             throw new ToolkitException(ToolkitErrorCodes.INVALID_REQUEST_BODY.getErrorCode(),
                     ToolkitErrorCodes.INVALID_REQUEST_BODY.getErrorMessage());
         }
+    }
+
+    /**
+     * Starts the virus scan of the upload on the given executor, if scanning is
+     * enabled, so that it runs while the upload is validated. The upload is
+     * closed by closing the returned task, which waits for a running scan.
+     */
+    public static VirusScanTask startVirusScan(SpooledUpload file, Boolean scanDocument,
+            VirusScanner<Boolean, InputStream> virusScan, Executor executor) {
+        if (!scanDocument) {
+            VirusScanTask scan = new VirusScanTask(() -> true, file, executor);
+            scan.run();
+            return scan;
+        }
+        VirusScanTask scan = new VirusScanTask(() -> isVirusScanSuccess(file, virusScan), file, executor);
+        try {
+            executor.execute(scan);
+        } catch (RejectedExecutionException e) {
+            log.error("sessionId", "idType", "id", "In startVirusScan method of CommonUtil - " + e.getMessage());
+            throw new ToolkitException(ToolkitErrorCodes.VIRUS_SCAN_BUSY.getErrorCode(),
+                    ToolkitErrorCodes.VIRUS_SCAN_BUSY.getErrorMessage());
+        }
+        return scan;
+    }
 
-        // Perform virus scanning if enabled
-        if (scanDocument && !isVirusScanSuccess(file, virusScan)) {
+    /**
+     * Waits for the virus scan started with
+     * {@link #startVirusScan(SpooledUpload, Boolean, VirusScanner, Executor)}
+     * and fails when the upload is infected or the scan did not complete. A scan
+     * that times out is cancelled.
+     */
+    public static void awaitVirusScan(VirusScanTask scan, long timeoutSeconds) {
+        boolean clean;
+        try {
+            clean = scan.get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new VirusScannerException(ToolkitErrorCodes.RESOURCE_UPLOAD_ERROR.getErrorCode(),
+                    ToolkitErrorCodes.RESOURCE_UPLOAD_ERROR.getErrorMessage() + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new VirusScannerException(ToolkitErrorCodes.RESOURCE_UPLOAD_ERROR.getErrorCode(),
+                    ToolkitErrorCodes.RESOURCE_UPLOAD_ERROR.getErrorMessage() + e.getMessage());
+        } catch (TimeoutException e) {
+            scan.cancel(true);
+            log.error("sessionId", "idType", "id",
+                    "In awaitVirusScan method of CommonUtil - scan timed out after " + timeoutSeconds + "s");
+            throw new VirusScannerException(ToolkitErrorCodes.RESOURCE_UPLOAD_ERROR.getErrorCode(),
+                    ToolkitErrorCodes.RESOURCE_UPLOAD_ERROR.getErrorMessage() + "virus scan timed out");
+        }
+        if (!clean) {
             throw new ToolkitException(ToolkitErrorCodes.VIRUS_FOUND.getErrorCode(),
                     ToolkitErrorCodes.VIRUS_FOUND.getErrorMessage());
         }
     }
 
-    private static boolean isVirusScanSuccess(MultipartFile file, VirusScanner<Boolean, InputStream> virusScan) {
+    private static boolean isVirusScanSuccess(SpooledUpload file, VirusScanner<Boolean, InputStream> virusScan) {
         try {
             log.info("sessionId", "idType", "id", "In isVirusScanSuccess method of CommonUtil");
-            return virusScan.scanDocument(file.getBytes());
+            if (file.isInMemory()) {
+                return virusScan.scanDocument(file.getBytes());
+            }
+            // large uploads are streamed to the scanner from the spooled file
+            try (InputStream inputStream = file.getInputStream()) {
+                return virusScan.scanFile(inputStream);
+            }
         } catch (Exception e) {
             log.debug("sessionId", "idType", "id", e.getStackTrace());
             log.error("sessionId", "idType", "id",
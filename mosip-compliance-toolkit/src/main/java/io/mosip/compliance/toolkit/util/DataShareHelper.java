@@ -5,6 +5,7 @@ import java.io.IOException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.http.HttpEntity;
@@ -18,10 +19,16 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.web.client.RestTemplate;
 
 import io.mosip.compliance.toolkit.config.LoggerConfiguration;
+import io.mosip.compliance.toolkit.constants.AppConstants;
 import io.mosip.compliance.toolkit.dto.abis.DataShareResponseDto;
 import io.mosip.kernel.core.logger.spi.Logger;
 
+/**
+ * Calls the remote MOSIP datashare and IAM services. Replaced by
+ * {@link LocalDataShareHelper} when the "local-datashare" profile is active.
+ */
 @Component
+@Profile("!" + AppConstants.LOCAL_DATASHARE_PROFILE)
 public class DataShareHelper {
 
 	private static final String FILE = "file";
@@ -0,0 +1,177 @@
+package io.mosip.compliance.toolkit.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+import io.mosip.compliance.toolkit.config.LoggerConfiguration;
+import io.mosip.compliance.toolkit.constants.AppConstants;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * Normalized fingerprint of the device that answered an SBI method, taken from
+ * the decoded digital ids of the method response. It is stored with each test
+ * run detail, so that the device consistency check of a report can group the
+ * details of a run by fingerprint instead of parsing every method response.
+ * <p>
+ * The fingerprint is a JSON array of make, model, serial number, device
+ * provider and device provider id. Responses without device details get
+ * {@link #NO_DEVICE}, responses reporting more than one make, model and serial
+ * number get {@link #INCONSISTENT_DEVICE}.
+ */
+public final class DeviceFingerprintUtil {
+
+	public static final String NO_DEVICE = "";
+
+	public static final String INCONSISTENT_DEVICE = "inconsistent";
+
+	private static final int MAKE_INDEX = 0;
+
+	private static final int MODEL_INDEX = 1;
+
+	private static final int SERIAL_NO_INDEX = 2;
+
+	private static final int DEVICE_PROVIDER_INDEX = 3;
+
+	private static final int DEVICE_PROVIDER_ID_INDEX = 4;
+
+	private static Logger log = LoggerConfiguration.logConfig(DeviceFingerprintUtil.class);
+
+	private DeviceFingerprintUtil() {
+	}
+
+	public static String getFingerprint(String methodResponse, ObjectMapper objectMapper) {
+		if (Objects.isNull(methodResponse)) {
+			return NO_DEVICE;
+		}
+		ArrayNode fingerprint = null;
+		for (JsonNode dataNode : getDeviceInfoNodes(methodResponse, objectMapper)) {
+			JsonNode digitalIdDecoded = dataNode.get(AppConstants.DIGITAL_ID_DECODED_DATA);
+			JsonNode make = digitalIdDecoded.get(AppConstants.MAKE);
+			JsonNode model = digitalIdDecoded.get(AppConstants.MODEL);
+			JsonNode serialNo = digitalIdDecoded.get(AppConstants.SERIAL_NO);
+			JsonNode deviceProvider = digitalIdDecoded.get(AppConstants.DEVICE_PROVIDER);
+			JsonNode deviceProviderId = digitalIdDecoded.get(AppConstants.DEVICE_PROVIDER_ID);
+			if (Objects.isNull(make) || Objects.isNull(model) || Objects.isNull(serialNo)
+					|| Objects.isNull(deviceProvider) || Objects.isNull(deviceProviderId)) {
+				// ignore since the device details may be incomplete
+				continue;
+			}
+			ArrayNode current = objectMapper.createArrayNode().add(make.asText()).add(model.asText())
+					.add(serialNo.asText()).add(deviceProvider.asText()).add(deviceProviderId.asText());
+			if (Objects.nonNull(fingerprint) && !isSameDevice(fingerprint, current)) {
+				return INCONSISTENT_DEVICE;
+			}
+			fingerprint = current;
+		}
+		return Objects.nonNull(fingerprint) ? fingerprint.toString() : NO_DEVICE;
+	}
+
+	/**
+	 * Parses a fingerprint into make, model, serial number, device provider and
+	 * device provider id, returns null for {@link #NO_DEVICE} and
+	 * {@link #INCONSISTENT_DEVICE}.
+	 */
+	public static String[] parseFingerprint(String fingerprint, ObjectMapper objectMapper) {
+		if (Objects.isNull(fingerprint) || NO_DEVICE.equals(fingerprint) || INCONSISTENT_DEVICE.equals(fingerprint)) {
+			return null;
+		}
+		try {
+			JsonNode fingerprintNode = objectMapper.readTree(fingerprint);
+			return new String[] { fingerprintNode.get(MAKE_INDEX).asText(), fingerprintNode.get(MODEL_INDEX).asText(),
+					fingerprintNode.get(SERIAL_NO_INDEX).asText(), fingerprintNode.get(DEVICE_PROVIDER_INDEX).asText(),
+					fingerprintNode.get(DEVICE_PROVIDER_ID_INDEX).asText() };
+		} catch (Exception ex) {
+			log.debug("sessionId", "idType", "id", "unable to parse device fingerprint {}", ex.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Make, model and serial number identify the device, the provider details are
+	 * only shown in the report.
+	 */
+	public static boolean isSameDevice(String[] device, String[] otherDevice) {
+		return device[MAKE_INDEX].equals(otherDevice[MAKE_INDEX]) && device[MODEL_INDEX].equals(otherDevice[MODEL_INDEX])
+				&& device[SERIAL_NO_INDEX].equals(otherDevice[SERIAL_NO_INDEX]);
+	}
+
+	private static boolean isSameDevice(ArrayNode device, ArrayNode otherDevice) {
+		for (int i = MAKE_INDEX; i <= SERIAL_NO_INDEX; i++) {
+			if (!device.get(i).asText().equals(otherDevice.get(i).asText())) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Whether the response has "rcapture" biometrics stored encrypted, their
+	 * decoded digital id can only be read once the response is decrypted.
+	 */
+	public static boolean hasEncryptedBiometrics(String methodResponse, ObjectMapper objectMapper) {
+		try {
+			JsonNode responseNode = objectMapper.readTree(methodResponse);
+			if (responseNode == null || !responseNode.isObject()) {
+				return false;
+			}
+			JsonNode arrBiometricNodes = responseNode.get(AppConstants.BIOMETRICS);
+			if (arrBiometricNodes != null && arrBiometricNodes.isArray()) {
+				for (final JsonNode biometricNode : arrBiometricNodes) {
+					if (biometricNode.path(AppConstants.IS_ENCRYPTED).asBoolean()) {
+						return true;
+					}
+				}
+			}
+		} catch (Exception ex) {
+			log.debug("sessionId", "idType", "id", "unable to parse method response {}", ex.getMessage());
+		}
+		return false;
+	}
+
+	/**
+	 * Parses the method response once and returns the nodes holding the decoded
+	 * digital id, for "discover", "deviceInfo" and "capture" / "rcapture"
+	 * responses. Encrypted biometrics are skipped.
+	 */
+	public static List<JsonNode> getDeviceInfoNodes(String methodResponse, ObjectMapper objectMapper) {
+		List<JsonNode> deviceInfoNodes = new ArrayList<>();
+		try {
+			JsonNode responseNode = objectMapper.readTree(methodResponse);
+			if (responseNode == null) {
+				return deviceInfoNodes;
+			}
+			if (responseNode.isArray() && responseNode.size() > 0) {
+				JsonNode firstNode = responseNode.get(0);
+				// "discover" response
+				if (firstNode.has(AppConstants.DIGITAL_ID_DECODED_DATA)) {
+					deviceInfoNodes.add(firstNode);
+				}
+				// "deviceInfo" response
+				JsonNode deviceInfoDecoded = firstNode.get(AppConstants.DEVICE_INFO_DECODED);
+				if (deviceInfoDecoded != null && deviceInfoDecoded.has(AppConstants.DIGITAL_ID_DECODED_DATA)) {
+					deviceInfoNodes.add(deviceInfoDecoded);
+				}
+			} else if (responseNode.isObject()) {
+				// "capture" or "rcapture" response
+				JsonNode arrBiometricNodes = responseNode.get(AppConstants.BIOMETRICS);
+				if (arrBiometricNodes != null && arrBiometricNodes.isArray()) {
+					for (final JsonNode biometricNode : arrBiometricNodes) {
+						JsonNode dataNode = biometricNode.get(AppConstants.DECODED_DATA);
+						if (!biometricNode.path(AppConstants.IS_ENCRYPTED).asBoolean() && dataNode != null
+								&& dataNode.has(AppConstants.DIGITAL_ID_DECODED_DATA)) {
+							deviceInfoNodes.add(dataNode);
+						}
+					}
+				}
+			}
+		} catch (Exception ex) {
+			log.debug("sessionId", "idType", "id", "unable to parse method response {}", ex.getMessage());
+		}
+		return deviceInfoNodes;
+	}
+}
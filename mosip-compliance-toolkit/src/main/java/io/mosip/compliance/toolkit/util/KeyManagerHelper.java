@@ -5,6 +5,7 @@ import java.io.IOException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -15,10 +16,16 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import io.mosip.compliance.toolkit.constants.AppConstants;
 import io.mosip.compliance.toolkit.dto.EncryptionKeyResponseDto;
 import io.mosip.compliance.toolkit.validators.SBIValidator.*;
 
+/**
+ * Calls the remote MOSIP keymanager. Replaced by {@link LocalKeyManagerHelper}
+ * when the "local-keymanager" profile is active.
+ */
 @Component
+@Profile("!" + AppConstants.LOCAL_KEYMANAGER_PROFILE)
 public class KeyManagerHelper {
 
 	@Value("${mosip.service.keymanager.decrypt.appid}")
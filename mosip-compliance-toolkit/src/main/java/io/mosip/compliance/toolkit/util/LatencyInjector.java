@@ -0,0 +1,28 @@
+package io.mosip.compliance.toolkit.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Delays the calling thread to simulate a slow remote dependency in the local
+ * stand-in helpers.
+ */
+public final class LatencyInjector {
+
+	private LatencyInjector() {
+	}
+
+	public static void inject(long latencyMillis, long jitterMillis) {
+		long delay = latencyMillis;
+		if (jitterMillis > 0) {
+			delay += ThreadLocalRandom.current().nextLong(-jitterMillis, jitterMillis + 1);
+		}
+		if (delay <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(delay);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,149 @@
+package io.mosip.compliance.toolkit.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import io.mosip.compliance.toolkit.config.LoggerConfiguration;
+import io.mosip.compliance.toolkit.constants.AppConstants;
+import io.mosip.compliance.toolkit.dto.abis.DataShareResponseDto;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * In-memory stand-in for the MOSIP datashare service and the IAM token
+ * revocation, used for offline performance testing of the ABIS flow. Shares
+ * honour the configured validity and transaction limits, and every call can be
+ * delayed to simulate a slow dependency.
+ */
+@Component
+@Profile(AppConstants.LOCAL_DATASHARE_PROFILE)
+public class LocalDataShareHelper extends DataShareHelper {
+
+	private static final String PATH_SEPARATOR = "/";
+
+	private static final String EXPIRED_RESPONSE = "{\"dataShare\":null,\"errors\":[{\"errorCode\":\"DAT-SER-008\",\"message\":\"Data share usuage expired\"}]}";
+
+	private Logger log = LoggerConfiguration.logConfig(LocalDataShareHelper.class);
+
+	@Value("${mosip.toolkit.local.datashare.latency.millis:0}")
+	private long latencyMillis;
+
+	@Value("${mosip.toolkit.local.datashare.latency.jitter.millis:0}")
+	private long jitterMillis;
+
+	@Value("${mosip.toolkit.local.datashare.valid.minutes:30}")
+	private long validForInMinutes;
+
+	@Value("${mosip.toolkit.local.datashare.transactions.allowed:2}")
+	private long transactionsAllowed;
+
+	private final Map<String, SharedData> dataShares = new ConcurrentHashMap<>();
+
+	private final Set<String> revokedTokens = ConcurrentHashMap.newKeySet();
+
+	@Override
+	public DataShareResponseDto createDataShareUrl(byte[] cbeffFileBytes, String dataShareFullCreateUrl)
+			throws IOException {
+		LatencyInjector.inject(latencyMillis, jitterMillis);
+		removeExpiredDataShares();
+		String key = UUID.randomUUID().toString().replace("-", "");
+		dataShares.put(key, new SharedData(cbeffFileBytes, LocalDateTime.now().plusMinutes(validForInMinutes),
+				transactionsAllowed));
+
+		// same url layout as the datashare service, the last segment is the key
+		String[] splits = dataShareFullCreateUrl.split(PATH_SEPARATOR);
+		DataShareResponseDto.DataShare dataShare = new DataShareResponseDto.DataShare();
+		dataShare.setUrl(dataShareFullCreateUrl + PATH_SEPARATOR + key);
+		dataShare.setValidForInMinutes(validForInMinutes);
+		dataShare.setTransactionsAllowed(transactionsAllowed);
+		if (splits.length > 1) {
+			dataShare.setPolicyId(splits[splits.length - 2]);
+			dataShare.setSubscriberId(splits[splits.length - 1]);
+		}
+		DataShareResponseDto dataShareResponseDto = new DataShareResponseDto();
+		dataShareResponseDto.setVersion(AppConstants.VERSION);
+		dataShareResponseDto.setResponseTime(LocalDateTime.now().toString());
+		dataShareResponseDto.setDataShare(dataShare);
+		log.info("sessionId", "idType", "id", "Created local data share: {}", key);
+		return dataShareResponseDto;
+	}
+
+	@Override
+	public String callDataShareUrl(String urlToBeInvoked) throws IOException {
+		byte[] data = getDataShare(getKey(urlToBeInvoked));
+		if (Objects.isNull(data)) {
+			return EXPIRED_RESPONSE;
+		}
+		return new String(data, StandardCharsets.UTF_8);
+	}
+
+	@Override
+	public boolean revokeToken(String authToken) throws IOException {
+		LatencyInjector.inject(latencyMillis, jitterMillis);
+		revokedTokens.add(authToken);
+		return true;
+	}
+
+	/**
+	 * Returns the shared bytes and consumes one transaction, or null when the
+	 * share is unknown, expired or used up.
+	 */
+	public byte[] getDataShare(String key) {
+		LatencyInjector.inject(latencyMillis, jitterMillis);
+		if (Objects.isNull(key)) {
+			return null;
+		}
+		SharedData sharedData = dataShares.get(key);
+		if (Objects.isNull(sharedData) || sharedData.isExpired()) {
+			return null;
+		}
+		if (sharedData.remainingTransactions.getAndDecrement() <= 0) {
+			dataShares.remove(key);
+			return null;
+		}
+		return sharedData.data;
+	}
+
+	public boolean isTokenRevoked(String authToken) {
+		return revokedTokens.contains(authToken);
+	}
+
+	private String getKey(String url) {
+		if (Objects.isNull(url)) {
+			return null;
+		}
+		String path = url.split("\\?")[0];
+		String[] splits = path.split(PATH_SEPARATOR);
+		return splits[splits.length - 1];
+	}
+
+	private void removeExpiredDataShares() {
+		dataShares.entrySet().removeIf(entry -> entry.getValue().isExpired());
+	}
+
+	private static class SharedData {
+		private final byte[] data;
+		private final LocalDateTime expiryDtimes;
+		private final AtomicLong remainingTransactions;
+
+		SharedData(byte[] data, LocalDateTime expiryDtimes, long transactionsAllowed) {
+			this.data = data;
+			this.expiryDtimes = expiryDtimes;
+			this.remainingTransactions = new AtomicLong(transactionsAllowed);
+		}
+
+		boolean isExpired() {
+			return LocalDateTime.now().isAfter(expiryDtimes);
+		}
+	}
+}
@@ -0,0 +1,344 @@
+package io.mosip.compliance.toolkit.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.SecureRandom;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.MGF1ParameterSpec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Objects;
+
+import javax.annotation.PostConstruct;
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.OAEPParameterSpec;
+import javax.crypto.spec.PSource;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.bouncycastle.asn1.x500.X500Name;
+import org.bouncycastle.cert.jcajce.JcaX509CertificateConverter;
+import org.bouncycastle.cert.jcajce.JcaX509v3CertificateBuilder;
+import org.bouncycastle.operator.jcajce.JcaContentSignerBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import io.mosip.compliance.toolkit.config.LoggerConfiguration;
+import io.mosip.compliance.toolkit.constants.AppConstants;
+import io.mosip.compliance.toolkit.dto.EncryptionKeyResponseDto;
+import io.mosip.compliance.toolkit.validators.SBIValidator;
+import io.mosip.compliance.toolkit.validators.SBIValidator.*;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * In-process stand-in for the MOSIP keymanager, used for offline performance
+ * testing. It performs the same RSA-OAEP / AES-GCM hybrid encryption as the
+ * keymanager, using a key pair generated at startup (or loaded from a
+ * configured keystore) and validates certificate trust against a configured
+ * trust store.
+ */
+@Component
+@Profile(AppConstants.LOCAL_KEYMANAGER_PROFILE)
+public class LocalKeyManagerHelper extends KeyManagerHelper {
+
+	private static final String RSA_ALGORITHM = "RSA";
+
+	private static final String RSA_TRANSFORMATION = "RSA/ECB/OAEPWITHSHA-256ANDMGF1PADDING";
+
+	private static final String AES_ALGORITHM = "AES";
+
+	private static final String AES_TRANSFORMATION = "AES/GCM/NoPadding";
+
+	private static final String SIGNATURE_ALGORITHM = "SHA256withRSA";
+
+	private static final String THUMBPRINT_ALGORITHM = "SHA-256";
+
+	private static final int GCM_TAG_LENGTH = 128;
+
+	private static final int THUMBPRINT_LENGTH = 32;
+
+	private static final String BEGIN_CERTIFICATE = "-----BEGIN CERTIFICATE-----\n";
+
+	private static final String END_CERTIFICATE = "\n-----END CERTIFICATE-----\n";
+
+	private Logger log = LoggerConfiguration.logConfig(LocalKeyManagerHelper.class);
+
+	@Value("${mosip.toolkit.local.keymanager.key.size:2048}")
+	private int rsaKeySize;
+
+	@Value("${mosip.toolkit.local.keymanager.symmetric.key.size:256}")
+	private int aesKeySize;
+
+	@Value("${mosip.toolkit.local.keymanager.keystore.path:}")
+	private String keyStorePath;
+
+	@Value("${mosip.toolkit.local.keymanager.keystore.password:}")
+	private String keyStorePassword;
+
+	@Value("${mosip.toolkit.local.keymanager.keystore.alias:}")
+	private String keyStoreAlias;
+
+	@Value("${mosip.toolkit.local.keymanager.truststore.path:}")
+	private String trustStorePath;
+
+	@Value("${mosip.toolkit.local.keymanager.truststore.password:}")
+	private String trustStorePassword;
+
+	@Value("${mosip.toolkit.local.keymanager.keystore.type:PKCS12}")
+	private String keyStoreType;
+
+	private PrivateKey privateKey;
+
+	private X509Certificate certificate;
+
+	private byte[] certificateThumbprint;
+
+	private List<X509Certificate> trustedCertificates;
+
+	private final SecureRandom secureRandom = new SecureRandom();
+
+	@PostConstruct
+	public void init() throws Exception {
+		if (Objects.nonNull(keyStorePath) && !keyStorePath.isEmpty()) {
+			loadKeyPair();
+		} else {
+			generateKeyPair();
+		}
+		certificateThumbprint = MessageDigest.getInstance(THUMBPRINT_ALGORITHM).digest(certificate.getEncoded());
+		trustedCertificates = loadTrustStore();
+		if (trustedCertificates.isEmpty()) {
+			log.warn("sessionId", "idType", "id",
+					"Local keymanager has no trusted certificates, every device certificate will be untrusted");
+		}
+		log.info("sessionId", "idType", "id", "Local keymanager initialized with " + trustedCertificates.size()
+				+ " trusted certificates");
+	}
+
+	@Override
+	public DecryptValidatorResponseDto decryptionResponse(DecryptValidatorRequestDto decryptValidatorRequestDto) {
+		DecryptValidatorResponseDto responseDto = new DecryptValidatorResponseDto();
+		DecryptRequestDto decryptRequest = (DecryptRequestDto) decryptValidatorRequestDto.getRequest();
+		byte[] encryptedHybridData = StringUtil.base64UrlDecode(decryptRequest.getData());
+		byte[] keySplitter = StringUtil.toUtf8ByteArray(SBIValidator.KEY_SPLITTER);
+		int splitterIndex = indexOf(encryptedHybridData, keySplitter);
+		if (splitterIndex < 0) {
+			throw new IllegalArgumentException("Key splitter not found in encrypted data");
+		}
+		byte[] encryptedKey = Arrays.copyOfRange(encryptedHybridData, 0, splitterIndex);
+		byte[] encryptedData = Arrays.copyOfRange(encryptedHybridData, splitterIndex + keySplitter.length,
+				encryptedHybridData.length);
+		// the thumbprint is prepended to the session key by SBI devices and by encrypt
+		int rsaKeyLength = (((RSAPublicKey) certificate.getPublicKey()).getModulus().bitLength() + 7) / 8;
+		if (encryptedKey.length == rsaKeyLength + THUMBPRINT_LENGTH) {
+			encryptedKey = Arrays.copyOfRange(encryptedKey, THUMBPRINT_LENGTH, encryptedKey.length);
+		}
+		try {
+			Cipher rsaCipher = Cipher.getInstance(RSA_TRANSFORMATION);
+			rsaCipher.init(Cipher.DECRYPT_MODE, privateKey, getOaepParameterSpec());
+			SecretKey sessionKey = new SecretKeySpec(rsaCipher.doFinal(encryptedKey), AES_ALGORITHM);
+
+			Cipher aesCipher = Cipher.getInstance(AES_TRANSFORMATION);
+			aesCipher.init(Cipher.DECRYPT_MODE, sessionKey,
+					new GCMParameterSpec(GCM_TAG_LENGTH, StringUtil.base64UrlDecode(decryptRequest.getSalt())));
+			aesCipher.updateAAD(StringUtil.base64UrlDecode(decryptRequest.getAad()));
+			byte[] decryptedData = aesCipher.doFinal(encryptedData);
+
+			DecryptValidatorResponse response = new DecryptValidatorResponse();
+			// plain base64 is accepted by both the url safe and the standard decoders used by callers
+			response.setData(Base64.getEncoder().encodeToString(decryptedData));
+			responseDto.setResponse(response);
+		} catch (GeneralSecurityException e) {
+			log.debug("sessionId", "idType", "id", e.getStackTrace());
+			log.error("sessionId", "idType", "id", "In decryptionResponse of LocalKeyManagerHelper - " + e.getMessage());
+			throw new IllegalStateException("Local decryption failed - " + e.getMessage(), e);
+		}
+		responseDto.setResponsetime(decryptValidatorRequestDto.getRequesttime());
+		return responseDto;
+	}
+
+	@Override
+	public EncryptValidatorResponseDto encryptionResponse(EncryptValidatorRequestDto encryptValidatorRequestDto) {
+		EncryptValidatorResponseDto responseDto = new EncryptValidatorResponseDto();
+		EncryptRequestDto encryptRequest = encryptValidatorRequestDto.getRequest();
+		try {
+			KeyGenerator keyGenerator = KeyGenerator.getInstance(AES_ALGORITHM);
+			keyGenerator.init(aesKeySize, secureRandom);
+			SecretKey sessionKey = keyGenerator.generateKey();
+
+			Cipher aesCipher = Cipher.getInstance(AES_TRANSFORMATION);
+			aesCipher.init(Cipher.ENCRYPT_MODE, sessionKey,
+					new GCMParameterSpec(GCM_TAG_LENGTH, StringUtil.base64UrlDecode(encryptRequest.getSalt())));
+			aesCipher.updateAAD(StringUtil.base64UrlDecode(encryptRequest.getAad()));
+			byte[] encryptedData = aesCipher.doFinal(StringUtil.base64UrlDecode(encryptRequest.getData()));
+
+			Cipher rsaCipher = Cipher.getInstance(RSA_TRANSFORMATION);
+			rsaCipher.init(Cipher.ENCRYPT_MODE, certificate.getPublicKey(), getOaepParameterSpec());
+			byte[] encryptedKey = rsaCipher.doFinal(sessionKey.getEncoded());
+
+			byte[] hybridData = CryptoUtil.concatByteArrays(certificateThumbprint, encryptedKey,
+					StringUtil.toUtf8ByteArray(SBIValidator.KEY_SPLITTER), encryptedData);
+			EncryptValidatorResponse response = new EncryptValidatorResponse();
+			response.setData(StringUtil.base64UrlEncode(hybridData));
+			responseDto.setResponse(response);
+		} catch (GeneralSecurityException e) {
+			log.debug("sessionId", "idType", "id", e.getStackTrace());
+			log.error("sessionId", "idType", "id", "In encryptionResponse of LocalKeyManagerHelper - " + e.getMessage());
+			throw new IllegalStateException("Local encryption failed - " + e.getMessage(), e);
+		}
+		responseDto.setResponsetime(encryptValidatorRequestDto.getRequesttime());
+		return responseDto;
+	}
+
+	@Override
+	public DeviceValidatorResponseDto trustValidationResponse(DeviceValidatorDto deviceValidatorDto)
+			throws IOException {
+		DeviceTrustRequestDto trustRequest = (DeviceTrustRequestDto) deviceValidatorDto.getRequest();
+		boolean trusted = false;
+		try {
+			X509Certificate reqCertificate = parseCertificate(trustRequest.getCertificateData());
+			reqCertificate.checkValidity();
+			trusted = isTrusted(reqCertificate);
+		} catch (GeneralSecurityException e) {
+			log.debug("sessionId", "idType", "id", e.getStackTrace());
+			log.error("sessionId", "idType", "id",
+					"In trustValidationResponse of LocalKeyManagerHelper - " + e.getMessage());
+		}
+		DeviceValidatorResponse response = new DeviceValidatorResponse();
+		response.setStatus(String.valueOf(trusted));
+		DeviceValidatorResponseDto responseDto = new DeviceValidatorResponseDto();
+		responseDto.setResponse(response);
+		responseDto.setResponsetime(deviceValidatorDto.getRequesttime());
+		return responseDto;
+	}
+
+	@Override
+	public EncryptionKeyResponseDto getCertificate() throws IOException {
+		EncryptionKeyResponseDto.EncryptionKeyResponse response = new EncryptionKeyResponseDto.EncryptionKeyResponse();
+		try {
+			response.setCertificate(BEGIN_CERTIFICATE
+					+ Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.UTF_8))
+							.encodeToString(certificate.getEncoded())
+					+ END_CERTIFICATE);
+		} catch (GeneralSecurityException e) {
+			throw new IOException("Unable to encode local certificate - " + e.getMessage(), e);
+		}
+		response.setIssuedAt(certificate.getNotBefore().toInstant().toString());
+		response.setExpiryAt(certificate.getNotAfter().toInstant().toString());
+		EncryptionKeyResponseDto responseDto = new EncryptionKeyResponseDto();
+		responseDto.setResponse(response);
+		return responseDto;
+	}
+
+	private boolean isTrusted(X509Certificate reqCertificate) {
+		if (trustedCertificates.isEmpty()) {
+			// fail closed, a missing or empty trust store must not make every certificate trusted
+			log.warn("sessionId", "idType", "id",
+					"In isTrusted of LocalKeyManagerHelper - no trusted certificates configured");
+			return false;
+		}
+		for (X509Certificate trustedCertificate : trustedCertificates) {
+			if (trustedCertificate.equals(reqCertificate)) {
+				return true;
+			}
+			if (trustedCertificate.getSubjectX500Principal().equals(reqCertificate.getIssuerX500Principal())) {
+				try {
+					reqCertificate.verify(trustedCertificate.getPublicKey());
+					return true;
+				} catch (GeneralSecurityException e) {
+					// signed by a different key with the same subject, try the next one
+				}
+			}
+		}
+		return false;
+	}
+
+	private X509Certificate parseCertificate(String certificateData) throws GeneralSecurityException {
+		CertificateFactory certFactory = CertificateFactory.getInstance(AppConstants.CERTIFICATE_TYPE);
+		return (X509Certificate) certFactory
+				.generateCertificate(new ByteArrayInputStream(certificateData.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private OAEPParameterSpec getOaepParameterSpec() {
+		return new OAEPParameterSpec("SHA-256", "MGF1", MGF1ParameterSpec.SHA256, PSource.PSpecified.DEFAULT);
+	}
+
+	private void generateKeyPair() throws Exception {
+		KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance(RSA_ALGORITHM);
+		keyPairGenerator.initialize(rsaKeySize, secureRandom);
+		KeyPair keyPair = keyPairGenerator.generateKeyPair();
+		X500Name subject = new X500Name("CN=" + getAppId() + ", OU=" + getRefId() + ", O=LOCAL KEYMANAGER");
+		Date notBefore = new Date(System.currentTimeMillis() - 60_000L);
+		Date notAfter = new Date(notBefore.getTime() + 365L * 24 * 60 * 60 * 1000);
+		JcaX509v3CertificateBuilder builder = new JcaX509v3CertificateBuilder(subject,
+				BigInteger.valueOf(System.currentTimeMillis()), notBefore, notAfter, subject, keyPair.getPublic());
+		certificate = new JcaX509CertificateConverter().getCertificate(
+				builder.build(new JcaContentSignerBuilder(SIGNATURE_ALGORITHM).build(keyPair.getPrivate())));
+		privateKey = keyPair.getPrivate();
+		log.info("sessionId", "idType", "id", "Generated local keymanager key pair");
+	}
+
+	private void loadKeyPair() throws Exception {
+		KeyStore keyStore = KeyStore.getInstance(keyStoreType);
+		try (InputStream inputStream = new FileInputStream(keyStorePath)) {
+			keyStore.load(inputStream, keyStorePassword.toCharArray());
+		}
+		String alias = keyStoreAlias;
+		if (Objects.isNull(alias) || alias.isEmpty()) {
+			alias = keyStore.aliases().nextElement();
+		}
+		privateKey = (PrivateKey) keyStore.getKey(alias, keyStorePassword.toCharArray());
+		certificate = (X509Certificate) keyStore.getCertificate(alias);
+		log.info("sessionId", "idType", "id", "Loaded local keymanager key pair from keystore");
+	}
+
+	private List<X509Certificate> loadTrustStore() throws Exception {
+		List<X509Certificate> certificates = new ArrayList<>();
+		if (Objects.isNull(trustStorePath) || trustStorePath.isEmpty()) {
+			return certificates;
+		}
+		KeyStore trustStore = KeyStore.getInstance(keyStoreType);
+		try (InputStream inputStream = new FileInputStream(trustStorePath)) {
+			trustStore.load(inputStream, trustStorePassword.toCharArray());
+		}
+		Enumeration<String> aliases = trustStore.aliases();
+		while (aliases.hasMoreElements()) {
+			java.security.cert.Certificate trustedCertificate = trustStore.getCertificate(aliases.nextElement());
+			if (trustedCertificate instanceof X509Certificate) {
+				certificates.add((X509Certificate) trustedCertificate);
+			}
+		}
+		return certificates;
+	}
+
+	private static int indexOf(byte[] data, byte[] pattern) {
+		for (int i = 0; i <= data.length - pattern.length; i++) {
+			int j = 0;
+			while (j < pattern.length && data[i + j] == pattern[j]) {
+				j++;
+			}
+			if (j == pattern.length) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
@@ -0,0 +1,53 @@
+package io.mosip.compliance.toolkit.util;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import io.mosip.compliance.toolkit.constants.AppConstants;
+import io.mosip.compliance.toolkit.dto.report.PartnerDetailsDto;
+
+/**
+ * Stand-in for the MOSIP partner manager, used for offline performance
+ * testing. Every partner id resolves to an active partner of the configured
+ * organization, after an optional simulated delay.
+ */
+@Component
+@Profile(AppConstants.LOCAL_PARTNERMANAGER_PROFILE)
+public class LocalPartnerManagerHelper extends PartnerManagerHelper {
+
+	private static final String ACTIVE = "Active";
+
+	@Value("${mosip.toolkit.local.partnermanager.latency.millis:0}")
+	private long latencyMillis;
+
+	@Value("${mosip.toolkit.local.partnermanager.latency.jitter.millis:0}")
+	private long jitterMillis;
+
+	@Value("${mosip.toolkit.local.partnermanager.org.name:}")
+	private String orgName;
+
+	@Value("${mosip.toolkit.local.partnermanager.partner.type:Device_Provider}")
+	private String partnerType;
+
+	@Override
+	public PartnerDetailsDto getPartnerDetails(String partnerId) throws IOException {
+		LatencyInjector.inject(latencyMillis, jitterMillis);
+		PartnerDetailsDto.Partner partner = new PartnerDetailsDto.Partner();
+		partner.setPartnerID(partnerId);
+		partner.setStatus(ACTIVE);
+		partner.setOrganizationName(orgName.isBlank() ? partnerId : orgName);
+		partner.setPartnerType(partnerType);
+
+		PartnerDetailsDto partnerDetailsDto = new PartnerDetailsDto();
+		partnerDetailsDto.setVersion(AppConstants.VERSION);
+		partnerDetailsDto.setResponsetime(LocalDateTime.now().toString());
+		partnerDetailsDto.setResponse(partner);
+		partnerDetailsDto.setErrors(new ArrayList<>());
+		return partnerDetailsDto;
+	}
+}
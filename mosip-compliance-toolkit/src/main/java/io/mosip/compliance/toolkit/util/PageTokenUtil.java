@@ -0,0 +1,52 @@
+package io.mosip.compliance.toolkit.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Encodes the sort key of the last row of a keyset page into an opaque
+ * continuation token, and decodes it back for the next page.
+ */
+public final class PageTokenUtil {
+
+	private static final String SEPARATOR = ".";
+
+	private PageTokenUtil() {
+	}
+
+	public static String encode(String... keyParts) {
+		StringBuilder token = new StringBuilder();
+		for (String keyPart : keyParts) {
+			if (token.length() > 0) {
+				token.append(SEPARATOR);
+			}
+			token.append(Base64.getUrlEncoder().withoutPadding()
+					.encodeToString(Objects.requireNonNull(keyPart).getBytes(StandardCharsets.UTF_8)));
+		}
+		return token.toString();
+	}
+
+	/**
+	 * Returns the key parts of the token, or null when the token is malformed or
+	 * does not hold the expected number of parts.
+	 */
+	public static String[] decode(String token, int expectedParts) {
+		if (Objects.isNull(token) || token.isEmpty()) {
+			return null;
+		}
+		String[] encodedParts = token.split("\\" + SEPARATOR, -1);
+		if (encodedParts.length != expectedParts) {
+			return null;
+		}
+		String[] keyParts = new String[expectedParts];
+		try {
+			for (int i = 0; i < expectedParts; i++) {
+				keyParts[i] = new String(Base64.getUrlDecoder().decode(encodedParts[i]), StandardCharsets.UTF_8);
+			}
+		} catch (IllegalArgumentException ex) {
+			return null;
+		}
+		return keyParts;
+	}
+}
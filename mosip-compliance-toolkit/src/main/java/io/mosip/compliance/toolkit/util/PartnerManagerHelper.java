@@ -5,6 +5,7 @@ import java.io.IOException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
@@ -14,9 +15,15 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import io.mosip.compliance.toolkit.constants.AppConstants;
 import io.mosip.compliance.toolkit.dto.report.PartnerDetailsDto;
 
+/**
+ * Calls the remote MOSIP partner manager. Replaced by
+ * {@link LocalPartnerManagerHelper} when the "local-partnermanager" profile is active.
+ */
 @Component
+@Profile("!" + AppConstants.LOCAL_PARTNERMANAGER_PROFILE)
 public class PartnerManagerHelper {
 
 	@Value("${mosip.service.partnermanager.getparnter.url}")
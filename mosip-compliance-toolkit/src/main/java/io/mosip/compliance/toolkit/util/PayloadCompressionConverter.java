@@ -0,0 +1,93 @@
+package io.mosip.compliance.toolkit.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+import io.mosip.compliance.toolkit.constants.ToolkitErrorCodes;
+import io.mosip.compliance.toolkit.exceptions.ToolkitException;
+
+/**
+ * Stores large method request and response payloads as deflate compressed
+ * bytea. Compressed values start with a format marker, everything else is read
+ * as plain UTF-8, so small payloads and rows written before compression was
+ * introduced stay readable.
+ */
+@Converter
+public class PayloadCompressionConverter implements AttributeConverter<String, byte[]> {
+
+	private static final byte MARKER = 0x00;
+
+	private static final byte FORMAT_DEFLATE = 0x01;
+
+	private static final int COMPRESSION_THRESHOLD = 512;
+
+	private static final int BUFFER_SIZE = 8192;
+
+	@Override
+	public byte[] convertToDatabaseColumn(String payload) {
+		if (Objects.isNull(payload)) {
+			return null;
+		}
+		byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+		if (bytes.length < COMPRESSION_THRESHOLD) {
+			return bytes;
+		}
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try {
+			deflater.setInput(bytes);
+			deflater.finish();
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 2);
+			outputStream.write(MARKER);
+			outputStream.write(FORMAT_DEFLATE);
+			byte[] buffer = new byte[BUFFER_SIZE];
+			while (!deflater.finished()) {
+				outputStream.write(buffer, 0, deflater.deflate(buffer));
+			}
+			// keep the plain form when the payload does not compress
+			return outputStream.size() < bytes.length ? outputStream.toByteArray() : bytes;
+		} finally {
+			deflater.end();
+		}
+	}
+
+	@Override
+	public String convertToEntityAttribute(byte[] data) {
+		if (Objects.isNull(data)) {
+			return null;
+		}
+		if (data.length < 2 || data[0] != MARKER) {
+			return new String(data, StandardCharsets.UTF_8);
+		}
+		if (data[1] != FORMAT_DEFLATE) {
+			throw new ToolkitException(ToolkitErrorCodes.TESTRUN_DETAILS_NOT_AVAILABLE.getErrorCode(),
+					"Unsupported payload format " + data[1]);
+		}
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(data, 2, data.length - 2);
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream(data.length * 4);
+			byte[] buffer = new byte[BUFFER_SIZE];
+			while (!inflater.finished()) {
+				int count = inflater.inflate(buffer);
+				if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new ToolkitException(ToolkitErrorCodes.TESTRUN_DETAILS_NOT_AVAILABLE.getErrorCode(),
+							"Truncated compressed payload");
+				}
+				outputStream.write(buffer, 0, count);
+			}
+			return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+		} catch (DataFormatException ex) {
+			throw new ToolkitException(ToolkitErrorCodes.TESTRUN_DETAILS_NOT_AVAILABLE.getErrorCode(),
+					"Corrupt compressed payload", ex);
+		} finally {
+			inflater.end();
+		}
+	}
+}
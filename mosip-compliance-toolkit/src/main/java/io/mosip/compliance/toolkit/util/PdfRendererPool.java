@@ -0,0 +1,169 @@
+package io.mosip.compliance.toolkit.util;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.xhtmlrenderer.extend.FSImage;
+import org.xhtmlrenderer.layout.SharedContext;
+import org.xhtmlrenderer.pdf.ITextFSImage;
+import org.xhtmlrenderer.pdf.ITextOutputDevice;
+import org.xhtmlrenderer.pdf.ITextRenderer;
+import org.xhtmlrenderer.pdf.ITextUserAgent;
+import org.xhtmlrenderer.resource.ImageResource;
+import org.xhtmlrenderer.util.ImageUtil;
+
+import com.lowagie.text.pdf.BaseFont;
+
+import io.mosip.compliance.toolkit.config.LoggerConfiguration;
+import io.mosip.compliance.toolkit.constants.ToolkitErrorCodes;
+import io.mosip.compliance.toolkit.exceptions.ToolkitException;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * Bounded pool of flying saucer renderers used to convert the merged report
+ * HTML to PDF. A renderer keeps its font resolver between reports, so the
+ * configured fonts are loaded once per renderer instead of once per report.
+ * No fonts are configured by default, then only the built-in PDF fonts are
+ * used.
+ * Images embedded in the template are decoded once and shared by all
+ * renderers.
+ */
+@Component
+public class PdfRendererPool {
+
+	private static final int MAX_CACHED_IMAGES = 32;
+
+	@Value("${mosip.toolkit.report.render.pool.size:4}")
+	private int poolSize;
+
+	@Value("${mosip.toolkit.report.render.borrow.timeout.seconds:60}")
+	private long borrowTimeoutSeconds;
+
+	@Value("${mosip.toolkit.report.render.font.paths:}")
+	private String[] fontPaths;
+
+	private BlockingQueue<ITextRenderer> idleRenderers;
+
+	/** One permit per renderer in use, so at most poolSize renderers exist. */
+	private Semaphore permits;
+
+	private final AtomicInteger createdRenderers = new AtomicInteger();
+
+	private final Map<String, ImageResource> embeddedImages = new ConcurrentHashMap<>();
+
+	private Logger log = LoggerConfiguration.logConfig(PdfRendererPool.class);
+
+	@PostConstruct
+	public void init() {
+		idleRenderers = new ArrayBlockingQueue<>(Math.max(poolSize, 1));
+		permits = new Semaphore(Math.max(poolSize, 1), true);
+	}
+
+	public byte[] render(String html) throws Exception {
+		ITextRenderer renderer = borrow();
+		boolean reusable = false;
+		try {
+			renderer.setDocumentFromString(html);
+			renderer.layout();
+			ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+			renderer.createPDF(outputStream);
+			reusable = true;
+			return outputStream.toByteArray();
+		} finally {
+			release(renderer, reusable);
+		}
+	}
+
+	private ITextRenderer borrow() throws Exception {
+		if (!permits.tryAcquire(borrowTimeoutSeconds, TimeUnit.SECONDS)) {
+			throw new ToolkitException(ToolkitErrorCodes.TOOLKIT_REPORT_ERR.getErrorCode(),
+					"No pdf renderer available within " + borrowTimeoutSeconds + " seconds");
+		}
+		ITextRenderer renderer = idleRenderers.poll();
+		if (Objects.nonNull(renderer)) {
+			return renderer;
+		}
+		try {
+			createdRenderers.incrementAndGet();
+			return createRenderer();
+		} catch (Exception ex) {
+			createdRenderers.decrementAndGet();
+			permits.release();
+			throw ex;
+		}
+	}
+
+	/**
+	 * A renderer that failed is dropped and its permit is released, so a
+	 * waiting borrow creates a fresh one.
+	 */
+	private void release(ITextRenderer renderer, boolean reusable) {
+		if (!reusable || !idleRenderers.offer(renderer)) {
+			createdRenderers.decrementAndGet();
+		}
+		permits.release();
+	}
+
+	private ITextRenderer createRenderer() throws Exception {
+		ITextRenderer renderer = new ITextRenderer();
+		SharedContext sharedContext = renderer.getSharedContext();
+		sharedContext.setPrint(true);
+		sharedContext.setInteractive(false);
+		CachingUserAgent userAgent = new CachingUserAgent(renderer.getOutputDevice());
+		userAgent.setSharedContext(sharedContext);
+		sharedContext.setUserAgentCallback(userAgent);
+		if (Objects.nonNull(fontPaths)) {
+			for (String fontPath : fontPaths) {
+				if (!fontPath.trim().isEmpty()) {
+					renderer.getFontResolver().addFont(fontPath.trim(), BaseFont.IDENTITY_H, BaseFont.EMBEDDED);
+				}
+			}
+		}
+		log.info("sessionId", "idType", "id", "Created pdf renderer " + createdRenderers.get() + " of " + poolSize);
+		return renderer;
+	}
+
+	/**
+	 * Keeps decoded base64 images of the report template, flying saucer decodes
+	 * them again for every document otherwise.
+	 */
+	private class CachingUserAgent extends ITextUserAgent {
+
+		CachingUserAgent(ITextOutputDevice outputDevice) {
+			super(outputDevice);
+		}
+
+		@Override
+		public ImageResource getImageResource(String uri) {
+			if (!ImageUtil.isEmbeddedBase64Image(uri)) {
+				return super.getImageResource(uri);
+			}
+			ImageResource resource = embeddedImages.get(uri);
+			if (Objects.isNull(resource)) {
+				resource = super.getImageResource(uri);
+				if (Objects.isNull(resource) || Objects.isNull(resource.getImage())
+						|| embeddedImages.size() >= MAX_CACHED_IMAGES) {
+					return resource;
+				}
+				embeddedImages.putIfAbsent(uri, resource);
+			}
+			// the image is scaled per document, so every document gets its own copy
+			FSImage image = resource.getImage();
+			if (image instanceof ITextFSImage) {
+				image = (FSImage) ((ITextFSImage) image).clone();
+			}
+			return new ImageResource(resource.getImageUri(), image);
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package io.mosip.compliance.toolkit.util;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.compliance.toolkit.dto.report.ReportDataDto;
+
+/**
+ * Binary snapshot of the report data kept with a submitted report, written
+ * with {@link SmileSnapshotCodec}. Reports saved before the snapshot was
+ * introduced only have base64 encoded JSON and are read with
+ * {@link #fromLegacyJson(String, ObjectMapper)}.
+ */
+public final class ReportDataSnapshotUtil {
+
+	private static final SmileSnapshotCodec<ReportDataDto> CODEC = new SmileSnapshotCodec<>(ReportDataDto.class,
+			"report data snapshot");
+
+	private ReportDataSnapshotUtil() {
+	}
+
+	public static byte[] toSnapshot(ReportDataDto reportDataDto) {
+		return CODEC.encode(reportDataDto);
+	}
+
+	public static ReportDataDto fromSnapshot(byte[] snapshot) {
+		return CODEC.decode(snapshot);
+	}
+
+	public static ReportDataDto fromLegacyJson(String encodedReportData, ObjectMapper objectMapper)
+			throws IOException {
+		String reportData = StringUtil.base64Decode(encodedReportData);
+		return objectMapper.readValue(reportData, ReportDataDto.class);
+	}
+}
@@ -0,0 +1,76 @@
+package io.mosip.compliance.toolkit.util;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.mosip.compliance.toolkit.constants.ToolkitErrorCodes;
+import io.mosip.compliance.toolkit.exceptions.ToolkitException;
+
+/**
+ * Binary form of a value stored in a bytea column: a format marker and version
+ * byte followed by the value as Smile, so repeated names and statuses are
+ * written once and the value is read without JSON text parsing. The name is
+ * only used in error messages.
+ */
+public final class SmileSnapshotCodec<T> {
+
+	private static final byte MARKER = 0x00;
+
+	private static final byte VERSION_SMILE = 0x01;
+
+	private static final ObjectMapper SMILE_MAPPER = createSmileMapper();
+
+	private final Class<T> type;
+
+	private final String name;
+
+	public SmileSnapshotCodec(Class<T> type, String name) {
+		this.type = type;
+		this.name = name;
+	}
+
+	public byte[] encode(T value) {
+		try {
+			byte[] smile = SMILE_MAPPER.writeValueAsBytes(value);
+			byte[] bytes = new byte[smile.length + 2];
+			bytes[0] = MARKER;
+			bytes[1] = VERSION_SMILE;
+			System.arraycopy(smile, 0, bytes, 2, smile.length);
+			return bytes;
+		} catch (IOException ex) {
+			throw new ToolkitException(ToolkitErrorCodes.TOOLKIT_REPORT_ERR.getErrorCode(), "Unable to write " + name,
+					ex);
+		}
+	}
+
+	public T decode(byte[] bytes) {
+		if (Objects.isNull(bytes) || bytes.length < 2 || bytes[0] != MARKER) {
+			throw new ToolkitException(ToolkitErrorCodes.TOOLKIT_REPORT_ERR.getErrorCode(), "Invalid " + name);
+		}
+		if (bytes[1] != VERSION_SMILE) {
+			throw new ToolkitException(ToolkitErrorCodes.TOOLKIT_REPORT_ERR.getErrorCode(),
+					"Unsupported " + name + " version " + bytes[1]);
+		}
+		try {
+			return SMILE_MAPPER.readValue(bytes, 2, bytes.length - 2, type);
+		} catch (IOException ex) {
+			throw new ToolkitException(ToolkitErrorCodes.TOOLKIT_REPORT_ERR.getErrorCode(), "Unable to read " + name,
+					ex);
+		}
+	}
+
+	private static ObjectMapper createSmileMapper() {
+		SmileFactory smileFactory = SmileFactory.builder().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+				.build();
+		ObjectMapper mapper = new ObjectMapper(smileFactory);
+		mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+		mapper.registerModule(new JavaTimeModule());
+		return mapper;
+	}
+}
@@ -0,0 +1,160 @@
+package io.mosip.compliance.toolkit.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Objects;
+
+import org.springframework.web.multipart.MultipartFile;
+
+import io.mosip.compliance.toolkit.config.LoggerConfiguration;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+/**
+ * An uploaded file read once from the multipart request. Uploads up to the
+ * threshold are kept in memory, larger ones are written to a temp file, so the
+ * memory used per upload is bounded by the threshold. The SHA-256 hash and the
+ * size are computed while the upload is read and the content can be read again
+ * any number of times. The temp file is deleted on close.
+ */
+public final class SpooledUpload implements Closeable {
+
+	public static final long DEFAULT_THRESHOLD = 1024 * 1024;
+
+	private static final String HASH_ALGORITHM_NAME = "SHA-256";
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private static Logger log = LoggerConfiguration.logConfig(SpooledUpload.class);
+
+	private final String originalFilename;
+
+	private final long size;
+
+	private final byte[] hash;
+
+	private final byte[] content;
+
+	private final Path file;
+
+	private SpooledUpload(String originalFilename, long size, byte[] hash, byte[] content, Path file) {
+		this.originalFilename = originalFilename;
+		this.size = size;
+		this.hash = hash;
+		this.content = content;
+		this.file = file;
+	}
+
+	public static SpooledUpload of(MultipartFile multipartFile, long threshold) throws IOException {
+		MessageDigest digest = getDigest();
+		ByteArrayOutputStream memory = new ByteArrayOutputStream();
+		Path file = null;
+		OutputStream out = memory;
+		long size = 0;
+		try (InputStream in = new DigestInputStream(multipartFile.getInputStream(), digest)) {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			int nBytes;
+			while ((nBytes = in.read(buffer)) > 0) {
+				size += nBytes;
+				if (Objects.isNull(file) && size > threshold) {
+					file = Files.createTempFile("toolkit-upload-", ".tmp");
+					out = Files.newOutputStream(file);
+					memory.writeTo(out);
+					memory = null;
+				}
+				out.write(buffer, 0, nBytes);
+			}
+		} catch (IOException ex) {
+			deleteQuietly(file);
+			throw ex;
+		} finally {
+			if (Objects.nonNull(file)) {
+				out.close();
+			}
+		}
+		return new SpooledUpload(multipartFile.getOriginalFilename(), size, digest.digest(),
+				Objects.nonNull(memory) ? memory.toByteArray() : null, file);
+	}
+
+	public String getOriginalFilename() {
+		return originalFilename;
+	}
+
+	public long getSize() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * The SHA-256 hash of the content.
+	 */
+	public byte[] getHash() {
+		return hash.clone();
+	}
+
+	/**
+	 * The SHA-256 hash of the content, base64 url encoded like
+	 * {@link CryptoUtil#getEncodedHash(byte[])}.
+	 */
+	public String getEncodedHash() {
+		return Base64.getUrlEncoder().encodeToString(hash);
+	}
+
+	public boolean isInMemory() {
+		return Objects.isNull(file);
+	}
+
+	/**
+	 * The content of an upload kept in memory, uploads written to a temp file
+	 * have to be read with {@link #getInputStream()}.
+	 */
+	public byte[] getBytes() {
+		if (!isInMemory()) {
+			throw new IllegalStateException("Upload is spooled to a file, read it as a stream");
+		}
+		return content;
+	}
+
+	public InputStream getInputStream() throws IOException {
+		if (isInMemory()) {
+			return new ByteArrayInputStream(content);
+		}
+		return Files.newInputStream(file);
+	}
+
+	@Override
+	public void close() {
+		deleteQuietly(file);
+	}
+
+	private static void deleteQuietly(Path file) {
+		if (Objects.nonNull(file)) {
+			try {
+				Files.deleteIfExists(file);
+			} catch (IOException ex) {
+				log.error("sessionId", "idType", "id", "In SpooledUpload - unable to delete " + file + " - "
+						+ ex.getMessage());
+			}
+		}
+	}
+
+	private static MessageDigest getDigest() throws IOException {
+		try {
+			return MessageDigest.getInstance(HASH_ALGORITHM_NAME);
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IOException(ex);
+		}
+	}
+}
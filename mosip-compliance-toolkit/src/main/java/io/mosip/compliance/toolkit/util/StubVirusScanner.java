@@ -0,0 +1,95 @@
+package io.mosip.compliance.toolkit.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import io.mosip.compliance.toolkit.config.LoggerConfiguration;
+import io.mosip.kernel.core.logger.spi.Logger;
+import io.mosip.kernel.core.virusscanner.exception.VirusScannerException;
+import io.mosip.kernel.core.virusscanner.spi.VirusScanner;
+
+/**
+ * Local scanner used instead of ClamAV for offline and throughput testing of
+ * uploads. It reads the whole content, waits for the configured delay to
+ * simulate the scan time and reports only content with the EICAR test
+ * signature as infected. Never enable it in a real deployment.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "mosip.toolkit.virus.scanner.stub.enabled", havingValue = "true")
+public class StubVirusScanner implements VirusScanner<Boolean, InputStream> {
+
+	private static final String EICAR_SIGNATURE = "EICAR-STANDARD-ANTIVIRUS-TEST-FILE";
+
+	private static final String SCANNER_ERROR = "TOOLKIT_VIRUS_SCAN_ERR";
+
+	@Value("${mosip.toolkit.virus.scanner.stub.delay.millis:0}")
+	private long delayMillis;
+
+	private Logger log = LoggerConfiguration.logConfig(StubVirusScanner.class);
+
+	public StubVirusScanner() {
+		log.warn("sessionId", "idType", "id", "Stub virus scanner is enabled, uploads are not scanned for malware");
+	}
+
+	@Override
+	public Boolean scanFile(String fileName) {
+		return scanDocument(new File(fileName));
+	}
+
+	@Override
+	public Boolean scanFile(InputStream file) {
+		try {
+			return scan(file.readAllBytes());
+		} catch (IOException ex) {
+			throw new VirusScannerException(SCANNER_ERROR, ex.getMessage());
+		}
+	}
+
+	@Override
+	public Boolean scanFolder(String folderPath) {
+		File[] files = new File(folderPath).listFiles();
+		if (files != null) {
+			for (File file : files) {
+				if (file.isFile() && !scanDocument(file)) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public Boolean scanDocument(byte[] document) {
+		return scan(document);
+	}
+
+	@Override
+	public Boolean scanDocument(File document) {
+		try {
+			return scan(Files.readAllBytes(document.toPath()));
+		} catch (IOException ex) {
+			throw new VirusScannerException(SCANNER_ERROR, ex.getMessage());
+		}
+	}
+
+	private boolean scan(byte[] document) {
+		if (delayMillis > 0) {
+			try {
+				Thread.sleep(delayMillis);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new VirusScannerException(SCANNER_ERROR, "Scan interrupted");
+			}
+		}
+		return !new String(document, StandardCharsets.ISO_8859_1).contains(EICAR_SIGNATURE);
+	}
+}
@@ -0,0 +1,24 @@
+package io.mosip.compliance.toolkit.util;
+
+import io.mosip.compliance.toolkit.dto.testrun.TestRunReportModelDto;
+
+/**
+ * Binary form of the report model kept with a test run, written with
+ * {@link SmileSnapshotCodec} like the report data snapshot.
+ */
+public final class TestRunReportModelUtil {
+
+	private static final SmileSnapshotCodec<TestRunReportModelDto> CODEC = new SmileSnapshotCodec<>(
+			TestRunReportModelDto.class, "test run report model");
+
+	private TestRunReportModelUtil() {
+	}
+
+	public static byte[] toBytes(TestRunReportModelDto reportModel) {
+		return CODEC.encode(reportModel);
+	}
+
+	public static TestRunReportModelDto fromBytes(byte[] bytes) {
+		return CODEC.decode(bytes);
+	}
+}
@@ -0,0 +1,85 @@
+package io.mosip.compliance.toolkit.util;
+
+import java.io.Closeable;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Virus scan of an upload, executed as is on the scan executor so that
+ * cancelling it interrupts the scanning thread and removes a scan that is still
+ * queued. The scanner may not react to the interrupt, so the upload is only
+ * closed once the scan no longer reads it.
+ */
+public final class VirusScanTask extends FutureTask<Boolean> implements Closeable {
+
+	private final SpooledUpload upload;
+
+	private final Executor executor;
+
+	private boolean running;
+
+	private boolean closed;
+
+	VirusScanTask(Callable<Boolean> scan, SpooledUpload upload, Executor executor) {
+		super(scan);
+		this.upload = upload;
+		this.executor = executor;
+	}
+
+	@Override
+	public void run() {
+		synchronized (this) {
+			if (closed) {
+				return;
+			}
+			running = true;
+		}
+		try {
+			super.run();
+		} finally {
+			synchronized (this) {
+				running = false;
+				if (closed) {
+					upload.close();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Cancels the scan when it is not done yet and closes the upload, right away
+	 * or when the running scan returns.
+	 */
+	@Override
+	public void close() {
+		cancel(true);
+		if (isCancelled()) {
+			// a cancelled scan would otherwise hold its queue slot until a thread takes it
+			ThreadPoolExecutor threadPoolExecutor = getThreadPoolExecutor();
+			if (Objects.nonNull(threadPoolExecutor)) {
+				threadPoolExecutor.remove(this);
+			}
+		}
+		synchronized (this) {
+			closed = true;
+			if (running) {
+				return;
+			}
+		}
+		upload.close();
+	}
+
+	private ThreadPoolExecutor getThreadPoolExecutor() {
+		if (executor instanceof ThreadPoolTaskExecutor) {
+			return ((ThreadPoolTaskExecutor) executor).getThreadPoolExecutor();
+		} else if (executor instanceof ThreadPoolExecutor) {
+			return (ThreadPoolExecutor) executor;
+		}
+		return null;
+	}
+}
@@ -311,9 +311,7 @@ public class BiometricsQualityCheckValidator extends ISOStandardsValidator {
 	}
 
 	private JsonNode captureInfoResponse(ValidationInputDto inputDto) throws Exception {
-		ObjectNode captureInfoResponse = (ObjectNode) objectMapperConfig.objectMapper()
-				.readValue(inputDto.getMethodResponse(), ObjectNode.class);
-		return captureInfoResponse.get(BIOMETRICS);
+		return getValidationContext(inputDto).getMethodResponse().get(BIOMETRICS);
 	}
 
 	private DeviceAttributes getDeviceAttributes(JsonNode biometricNode) {
@@ -5,7 +5,6 @@ import org.springframework.stereotype.Component;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
-import io.mosip.biometrics.util.CommonUtil;
 import io.mosip.compliance.toolkit.config.LoggerConfiguration;
 import io.mosip.compliance.toolkit.constants.AppConstants;
 import io.mosip.compliance.toolkit.dto.testcases.ValidationInputDto;
@@ -25,16 +24,11 @@ public class HashValidator extends ISOStandardsValidator {
 
 		try {
 
-			ObjectNode extraInfo = (ObjectNode) objectMapperConfig.objectMapper().readValue(inputDto.getExtraInfoJson(),
-					ObjectNode.class);
+			ValidationContext validationContext = getValidationContext(inputDto);
+			ObjectNode extraInfo = validationContext.getExtraInfo();
 			String previousHash = extraInfo.get("previousHash").asText();
 
-			String responseJson = inputDto.getMethodResponse();
-
-			ObjectNode captureInfoResponse = (ObjectNode) objectMapperConfig.objectMapper().readValue(responseJson,
-					ObjectNode.class);
-
-			JsonNode arrBiometricNodes = captureInfoResponse.get(BIOMETRICS);
+			JsonNode arrBiometricNodes = validationContext.getMethodResponse().get(BIOMETRICS);
 
 			String errHashReceived = null;
 			String errGeneratedHashValue = null;
@@ -42,8 +36,8 @@ public class HashValidator extends ISOStandardsValidator {
 				for (final JsonNode biometricNode : arrBiometricNodes) {
 					log.info("sessionId", "idType", "id", "previousHash {}", previousHash);
 					String hashReceivedInResponse = biometricNode.get("hash").asText();
-					String bioValue = extractBioValue(biometricNode);
-					byte[] decodedBioValue = CommonUtil.decodeURLSafeBase64(bioValue);
+					byte[] decodedBioValue = validationContext.getDecodedBioValue(biometricNode,
+							this::extractBioValue);
 					String generatedHash = HashUtil.generateHash(previousHash, decodedBioValue);
 					log.info("sessionId", "idType", "id", "generatedHash {}", generatedHash);
 					if (generatedHash != null && generatedHash.equals(hashReceivedInResponse)) {
@@ -6,7 +6,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import io.mosip.biometrics.util.CommonUtil;
 import io.mosip.biometrics.util.ConvertRequestDto;
@@ -57,18 +56,14 @@ public class ISOStandardsValidator extends SBIValidator {
 	public ValidationResultDto validateResponse(ValidationInputDto inputDto) {
 		ValidationResultDto validationResultDto = new ValidationResultDto();
 		try {
-			String responseJson = inputDto.getMethodResponse();
-
-			ObjectNode captureInfoResponse = (ObjectNode) objectMapperConfig.objectMapper().readValue(responseJson,
-					ObjectNode.class);
-
-			JsonNode arrBiometricNodes = captureInfoResponse.get(BIOMETRICS);
+			ValidationContext validationContext = getValidationContext(inputDto);
+			JsonNode arrBiometricNodes = validationContext.getMethodResponse().get(BIOMETRICS);
 			if (!arrBiometricNodes.isNull() && arrBiometricNodes.isArray()) {
 				for (final JsonNode biometricNode : arrBiometricNodes) {
 					JsonNode dataNode = biometricNode.get(DECODED_DATA);
 					String purpose = dataNode.get(PURPOSE).asText();
 					String bioType = dataNode.get(BIO_TYPE).asText();
-					String bioValue = extractBioValue(biometricNode);
+					String bioValue = validationContext.getBioValue(biometricNode, this::extractBioValue);
 					validationResultDto = doISOValidations(purpose, bioType, bioValue);
 					if (validationResultDto.getStatus().equals(AppConstants.FAILURE)) {
 						break;
@@ -36,12 +36,9 @@ public class ResponseMismatchValidator extends ToolkitValidator {
         ValidationResultDto validationResultDto = new ValidationResultDto();
         ToolkitErrorCodes errorCode = null;
         try {
-            String requestJson = inputDto.getMethodRequest();
-            String responseJson = inputDto.getMethodResponse();
-            ObjectNode captureInfoResponse = (ObjectNode) objectMapperConfig.objectMapper().readValue(responseJson,
-                    ObjectNode.class);
-            ObjectNode captureInfoRequest = (ObjectNode) objectMapperConfig.objectMapper().readValue(requestJson,
-                    ObjectNode.class);
+            ValidationContext validationContext = getValidationContext(inputDto);
+            ObjectNode captureInfoResponse = (ObjectNode) validationContext.getMethodResponse();
+            ObjectNode captureInfoRequest = (ObjectNode) validationContext.getMethodRequest();
             JsonNode respBiometricNodesArr = captureInfoResponse.get(BIOMETRICS);
             JsonNode reqBiometricNodesArr = captureInfoRequest.get(BIO);
 
@@ -122,12 +122,21 @@ public abstract class SBIValidator extends ToolkitValidator {
 	}
 
 	protected String getCertificate(String jwtInfo) throws JoseException, IOException {
-		String certificate = null;
 		JsonWebSignature jws = new JsonWebSignature();
 		jws.setCompactSerialization(jwtInfo);
 		String encodedHeader = jws.getHeaders().getEncodedHeader();
 		String jsonHeader = StringUtil.toUtf8String(StringUtil.base64UrlDecode(encodedHeader));
 		ObjectNode headerNode = (ObjectNode) objectMapperConfig.objectMapper().readValue(jsonHeader, ObjectNode.class);
+		return getCertificate(headerNode);
+	}
+
+	protected String getCertificate(String jwtInfo, ValidationContext validationContext)
+			throws JoseException, IOException {
+		return getCertificate(validationContext.getJwsHeader(jwtInfo));
+	}
+
+	private String getCertificate(ObjectNode headerNode) {
+		String certificate = null;
 		String algType = headerNode.get(ALG).asText();
 		if (algType.equals(AppConstants.RS256_ALGORITHM_TYPE)) {
 			ArrayNode arrCertificates = (ArrayNode) headerNode.get(X5C);
@@ -176,7 +185,7 @@ public abstract class SBIValidator extends ToolkitValidator {
 	}
 
 	@Data
-	protected static class DeviceTrustRequestDto implements Serializable {
+	public static class DeviceTrustRequestDto implements Serializable {
 		private static final long serialVersionUID = -4874932813550831900L;
 		String certificateData;
 		String partnerDomain;
@@ -282,7 +291,7 @@ public abstract class SBIValidator extends ToolkitValidator {
 	}
 
 	@Data
-	protected static class DeviceValidatorResponse implements Serializable {
+	public static class DeviceValidatorResponse implements Serializable {
 		private static final long serialVersionUID = -2714540550294089151L;
 		String status;
 	}
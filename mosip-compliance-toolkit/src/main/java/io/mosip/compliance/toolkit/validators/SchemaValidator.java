@@ -5,6 +5,8 @@ import io.mosip.kernel.core.logger.spi.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import com.networknt.schema.JsonSchema;
+
 import io.mosip.compliance.toolkit.constants.AppConstants;
 import io.mosip.compliance.toolkit.dto.testcases.ValidationInputDto;
 import io.mosip.compliance.toolkit.dto.testcases.ValidationResultDto;
@@ -26,8 +28,8 @@ public class SchemaValidator extends ToolkitValidator {
 			String methodResponseJson = responseDto.getMethodResponse();
 			String type = responseDto.getTestCaseType().toLowerCase();
 			String version = responseDto.getSpecVersion();
-			String responseSchemaJson = getSchemaJson(type, version, responseDto.getResponseSchema() + JSON_EXT);
-			return service.validateJsonWithSchema(methodResponseJson, responseSchemaJson);
+			JsonSchema responseSchema = getSchema(type, version, responseDto.getResponseSchema() + JSON_EXT);
+			return service.validateJsonWithSchema(methodResponseJson, responseSchema);
 		} catch (Exception e) {
 			log.debug("sessionId", "idType", "id", e.getStackTrace());
 			log.error("sessionId", "idType", "id", "In SchemaValidator - " + e.getMessage());
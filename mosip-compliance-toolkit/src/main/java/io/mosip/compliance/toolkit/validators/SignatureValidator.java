@@ -126,8 +126,7 @@ public class SignatureValidator extends SBIValidator {
 	protected ValidationResultDto validateDiscoverySignature(ValidationInputDto inputDto) {
 		ValidationResultDto validationResultDto = new ValidationResultDto();
 		try {
-			ArrayNode arrDiscoverResponse = (ArrayNode) objectMapperConfig.objectMapper()
-					.readValue(inputDto.getMethodResponse(), ArrayNode.class);
+			ArrayNode arrDiscoverResponse = (ArrayNode) getValidationContext(inputDto).getMethodResponse();
 			ObjectNode discoveryInfoNode = (ObjectNode) arrDiscoverResponse.get(0);
 
 			String digitalId = StringUtil
@@ -162,8 +161,7 @@ public class SignatureValidator extends SBIValidator {
 	protected ValidationResultDto validateDeviceSignature(ValidationInputDto inputDto) {
 		ValidationResultDto validationResultDto = new ValidationResultDto();
 		try {
-			ArrayNode arrDeviceInfoResponse = (ArrayNode) objectMapperConfig.objectMapper()
-					.readValue(inputDto.getMethodResponse(), ArrayNode.class);
+			ArrayNode arrDeviceInfoResponse = (ArrayNode) getValidationContext(inputDto).getMethodResponse();
 
 			for (int deviceIndex = 0; deviceIndex < arrDeviceInfoResponse.size(); deviceIndex++) {
 				ObjectNode deviceInfoNode = (ObjectNode) arrDeviceInfoResponse.get(deviceIndex);
@@ -255,28 +253,24 @@ public class SignatureValidator extends SBIValidator {
 	protected ValidationResultDto validateSignature(ValidationInputDto inputDto) {
 		ValidationResultDto validationResultDto = new ValidationResultDto();
 		try {
-			ObjectNode captureInfoResponse = (ObjectNode) objectMapperConfig.objectMapper()
-					.readValue(inputDto.getMethodResponse(), ObjectNode.class);
-
-			final JsonNode arrBiometricNodes = captureInfoResponse.get(BIOMETRICS);
+			ValidationContext validationContext = getValidationContext(inputDto);
+			final JsonNode arrBiometricNodes = validationContext.getMethodResponse().get(BIOMETRICS);
 			if (arrBiometricNodes.isArray()) {
 				for (final JsonNode biometricNode : arrBiometricNodes) {
 					String dataInfo = biometricNode.get(DATA).asText();
 					validationResultDto = checkIfJWTSignatureIsValid(dataInfo);
 					if (validationResultDto.getStatus().equals(AppConstants.SUCCESS)) {
-						validationResultDto = trustRootValidation(getCertificate(dataInfo),
+						String certificate = getCertificate(dataInfo, validationContext);
+						validationResultDto = trustRootValidation(certificate,
 								PartnerTypes.DEVICE.toString(), TRUST_FOR_BIOMETRIC_INFO);
 						// validate orgName after trust root validation is successful
 						if (validationResultDto.getStatus().equals(AppConstants.SUCCESS) && isDeviceProvider()) {
-							validationResultDto = validateOrgNameInCertificate(getCertificate(dataInfo), PartnerTypes.DEVICE.toString(), TRUST_FOR_BIOMETRIC_INFO);
+							validationResultDto = validateOrgNameInCertificate(certificate, PartnerTypes.DEVICE.toString(), TRUST_FOR_BIOMETRIC_INFO);
 						}
 						if (validationResultDto.getStatus().equals(AppConstants.SUCCESS)) {
-							String biometricData = getPayload(dataInfo);
-							ObjectNode biometricDataNode = (ObjectNode) objectMapperConfig.objectMapper()
-									.readValue(biometricData, ObjectNode.class);
+							ObjectNode biometricDataNode = validationContext.getJwsPayloadNode(dataInfo);
 
-							ObjectNode extraInfo = (ObjectNode) objectMapperConfig.objectMapper()
-									.readValue(inputDto.getExtraInfoJson(), ObjectNode.class);
+							ObjectNode extraInfo = validationContext.getExtraInfo();
 							String certificationType = extraInfo.get(CERTIFICATION_TYPE).asText();
 							validationResultDto = validateSignedDigitalId(biometricDataNode.get(DIGITAL_ID).asText(),
 									certificationType, TRUST_FOR_DIGITAL_ID);
@@ -29,17 +29,14 @@ public class TimeCheckValidator extends SBIValidator{
     public ValidationResultDto validateResponse(ValidationInputDto inputDto) {
         ValidationResultDto validationResultDto = new ValidationResultDto();
         try {
-            ObjectNode extraInfo = (ObjectNode) objectMapperConfig.objectMapper()
-                    .readValue(inputDto.getExtraInfoJson(), ObjectNode.class);
+            ValidationContext validationContext = getValidationContext(inputDto);
+            ObjectNode extraInfo = validationContext.getExtraInfo();
             String startTime=extraInfo.get("startExecutionTime").asText();
             LocalDateTime localStartTime=getLocalDate(startTime);
 
             long time_interval=Long.parseLong(interval);
 
-            String responseJson = inputDto.getMethodResponse();
-            ObjectNode captureInfoResponse = (ObjectNode) objectMapperConfig.objectMapper()
-                    .readValue(responseJson, ObjectNode.class);
-            JsonNode arrBiometricNodes = captureInfoResponse.get(BIOMETRICS);
+            JsonNode arrBiometricNodes = validationContext.getMethodResponse().get(BIOMETRICS);
             if (!arrBiometricNodes.isNull() && arrBiometricNodes.isArray()) {
                 boolean result=false;
                 long diff=0;
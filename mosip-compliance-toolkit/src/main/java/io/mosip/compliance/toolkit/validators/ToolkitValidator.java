@@ -5,9 +5,13 @@ import java.util.Objects;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.io.ResourceLoader;
 
+import com.networknt.schema.JsonSchema;
+
 import io.mosip.compliance.toolkit.constants.ToolkitErrorCodes;
+import io.mosip.compliance.toolkit.dto.testcases.ValidationInputDto;
 import io.mosip.compliance.toolkit.exceptions.ToolkitException;
 import io.mosip.compliance.toolkit.service.ResourceCacheService;
+import io.mosip.compliance.toolkit.service.SchemaCacheService;
 import io.mosip.compliance.toolkit.util.ObjectMapperConfig;
 
 public abstract class ToolkitValidator implements BaseValidator {
@@ -21,6 +25,29 @@ public abstract class ToolkitValidator implements BaseValidator {
 	@Autowired
 	private ResourceCacheService resourceCacheService;
 
+	@Autowired
+	private SchemaCacheService schemaCacheService;
+
+	private ValidationContext validationContext;
+
+	/**
+	 * Sets the context shared by the validators of one validation call.
+	 */
+	public void setValidationContext(ValidationContext validationContext) {
+		this.validationContext = validationContext;
+	}
+
+	/**
+	 * Returns the shared context of the validation call, or a context of its own
+	 * when the validator is used outside of one.
+	 */
+	protected ValidationContext getValidationContext(ValidationInputDto inputDto) {
+		if (Objects.nonNull(validationContext)) {
+			return validationContext;
+		}
+		return new ValidationContext(inputDto, objectMapperConfig.objectMapper());
+	}
+
 	protected String getSchemaJson(String type, String version, String fileName) throws Exception {
 		// Read File Content
 		String schemaResponse = resourceCacheService.getSchema(type, version, fileName);
@@ -31,4 +58,14 @@ public abstract class ToolkitValidator implements BaseValidator {
 					ToolkitErrorCodes.OBJECT_STORE_SCHEMA_NOT_AVAILABLE.getErrorMessage());
 		}
 	}
+
+	protected JsonSchema getSchema(String type, String version, String fileName) throws Exception {
+		JsonSchema schema = schemaCacheService.getSchema(type, version, fileName);
+		if (Objects.nonNull(schema)) {
+			return schema;
+		} else {
+			throw new ToolkitException(ToolkitErrorCodes.OBJECT_STORE_SCHEMA_NOT_AVAILABLE.getErrorCode(),
+					ToolkitErrorCodes.OBJECT_STORE_SCHEMA_NOT_AVAILABLE.getErrorMessage());
+		}
+	}
 }
@@ -0,0 +1,126 @@
+package io.mosip.compliance.toolkit.validators;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.jose4j.jws.JsonWebSignature;
+import org.jose4j.lang.JoseException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.mosip.biometrics.util.CommonUtil;
+import io.mosip.compliance.toolkit.dto.testcases.ValidationInputDto;
+import io.mosip.compliance.toolkit.util.StringUtil;
+
+/**
+ * The method request, method response and extra info of one validation call,
+ * parsed once and shared by all validators of the call. Biometric values and
+ * the headers and payloads of the JWS in the response are decoded on first use.
+ * The parsed nodes are shared and must not be changed. A context is used by
+ * the validators of one call only and is not thread safe.
+ */
+public class ValidationContext {
+
+	private final ValidationInputDto inputDto;
+
+	private final ObjectMapper objectMapper;
+
+	private JsonNode methodRequest;
+
+	private JsonNode methodResponse;
+
+	private ObjectNode extraInfo;
+
+	private final Map<JsonNode, String> bioValues = new IdentityHashMap<>();
+
+	private final Map<JsonNode, byte[]> decodedBioValues = new IdentityHashMap<>();
+
+	private final Map<String, ObjectNode> jwsHeaders = new HashMap<>();
+
+	private final Map<String, String> jwsPayloads = new HashMap<>();
+
+	private final Map<String, ObjectNode> jwsPayloadNodes = new HashMap<>();
+
+	public ValidationContext(ValidationInputDto inputDto, ObjectMapper objectMapper) {
+		this.inputDto = inputDto;
+		this.objectMapper = objectMapper;
+	}
+
+	public JsonNode getMethodRequest() throws IOException {
+		if (Objects.isNull(methodRequest)) {
+			methodRequest = objectMapper.readTree(inputDto.getMethodRequest());
+		}
+		return methodRequest;
+	}
+
+	public JsonNode getMethodResponse() throws IOException {
+		if (Objects.isNull(methodResponse)) {
+			methodResponse = objectMapper.readTree(inputDto.getMethodResponse());
+		}
+		return methodResponse;
+	}
+
+	public ObjectNode getExtraInfo() throws IOException {
+		if (Objects.isNull(extraInfo)) {
+			extraInfo = (ObjectNode) objectMapper.readTree(inputDto.getExtraInfoJson());
+		}
+		return extraInfo;
+	}
+
+	/**
+	 * Returns the bio value of a biometric node of the response, extracted once
+	 * with the given extractor, which decrypts it for authentication captures.
+	 */
+	public String getBioValue(JsonNode biometricNode, Function<JsonNode, String> bioValueExtractor) {
+		return bioValues.computeIfAbsent(biometricNode, bioValueExtractor);
+	}
+
+	public byte[] getDecodedBioValue(JsonNode biometricNode, Function<JsonNode, String> bioValueExtractor)
+			throws Exception {
+		byte[] decodedBioValue = decodedBioValues.get(biometricNode);
+		if (Objects.isNull(decodedBioValue)) {
+			decodedBioValue = CommonUtil.decodeURLSafeBase64(getBioValue(biometricNode, bioValueExtractor));
+			decodedBioValues.put(biometricNode, decodedBioValue);
+		}
+		return decodedBioValue;
+	}
+
+	public ObjectNode getJwsHeader(String jwtInfo) throws JoseException, IOException {
+		ObjectNode headerNode = jwsHeaders.get(jwtInfo);
+		if (Objects.isNull(headerNode)) {
+			JsonWebSignature jws = new JsonWebSignature();
+			jws.setCompactSerialization(jwtInfo);
+			String jsonHeader = StringUtil
+					.toUtf8String(StringUtil.base64UrlDecode(jws.getHeaders().getEncodedHeader()));
+			headerNode = (ObjectNode) objectMapper.readTree(jsonHeader);
+			jwsHeaders.put(jwtInfo, headerNode);
+		}
+		return headerNode;
+	}
+
+	public String getJwsPayload(String jwtInfo) throws JoseException {
+		String payload = jwsPayloads.get(jwtInfo);
+		if (Objects.isNull(payload)) {
+			JsonWebSignature jws = new JsonWebSignature();
+			jws.setCompactSerialization(jwtInfo);
+			payload = StringUtil.toUtf8String(StringUtil.base64UrlDecode(jws.getEncodedPayload()));
+			jwsPayloads.put(jwtInfo, payload);
+		}
+		return payload;
+	}
+
+	public ObjectNode getJwsPayloadNode(String jwtInfo) throws JoseException, IOException {
+		ObjectNode payloadNode = jwsPayloadNodes.get(jwtInfo);
+		if (Objects.isNull(payloadNode)) {
+			payloadNode = (ObjectNode) objectMapper.readTree(getJwsPayload(jwtInfo));
+			jwsPayloadNodes.put(jwtInfo, payloadNode);
+		}
+		return payloadNode;
+	}
+}
@@ -0,0 +1,35 @@
+package io.mosip.compliance.toolkit.config;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+public class CacheConfigTest {
+
+    @Test
+    public void expiryPerCacheTest() {
+        MockEnvironment environment = new MockEnvironment().withProperty(CacheConfig.EXPIRY_PROPERTY, "3600")
+                .withProperty(CacheConfig.EXPIRY_PROPERTY + ".templates", "300");
+        CacheConfig.ExpiringCacheManager cacheManager = new CacheConfig.ExpiringCacheManager(environment);
+        Assert.assertEquals(300, getExpiry(cacheManager, "templates"));
+        Assert.assertEquals(3600, getExpiry(cacheManager, "testcases"));
+    }
+
+    @Test
+    public void defaultExpiryTest() {
+        CacheConfig.ExpiringCacheManager cacheManager = new CacheConfig.ExpiringCacheManager(new MockEnvironment());
+        Assert.assertEquals(3600, getExpiry(cacheManager, "templates"));
+        cacheManager.getCache("templates").put("key", "value");
+        Assert.assertEquals("value", cacheManager.getCache("templates").get("key", String.class));
+    }
+
+    private long getExpiry(CacheConfig.ExpiringCacheManager cacheManager, String name) {
+        Cache<Object, Object> cache = ((CaffeineCache) cacheManager.getCache(name)).getNativeCache();
+        return cache.policy().expireAfterWrite().get().getExpiresAfter(TimeUnit.SECONDS);
+    }
+}
@@ -23,6 +23,8 @@ import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.context.WebApplicationContext;
 
 import io.mosip.compliance.toolkit.dto.report.ReportRequestDto;
+import io.mosip.compliance.toolkit.constants.AppConstants;
+import io.mosip.compliance.toolkit.service.ReportJobService;
 import io.mosip.compliance.toolkit.service.ReportService;
 import io.mosip.compliance.toolkit.util.RequestValidator;
 import io.mosip.kernel.core.http.RequestWrapper;
@@ -37,6 +39,9 @@ public class ReportControllerTest {
     @Mock
     private ReportService reportGeneratorService;
 
+    @Mock
+    private ReportJobService reportJobService;
+
     @InjectMocks
     private ReportController reportGeneratorController;
 
@@ -125,6 +130,19 @@ public class ReportControllerTest {
         verify(reportGeneratorService).getReportList(eq(true), eq(reportStatus));
     }
 
+    @Test
+    public void getSubmittedReportPageTest() throws Exception {
+        reportGeneratorController.getSubmittedReportPage(0, 10, "crDtimes", "desc");
+        verify(reportGeneratorService).getReportPage(eq(false), eq(null), eq(0), eq(10), eq("crDtimes"), eq("desc"));
+    }
+
+    @Test
+    public void getPartnerReportPageTest() throws Exception {
+        String reportStatus = "review";
+        reportGeneratorController.getPartnerReportPage(reportStatus, 1, 20, "orgName", "asc");
+        verify(reportGeneratorService).getReportPage(eq(true), eq(reportStatus), eq(1), eq(20), eq("orgName"), eq("asc"));
+    }
+
     @Test
     public void getPartnerReportTest() throws Exception {
         RequestWrapper<ReportRequestDto> requestWrapper = new RequestWrapper<>();
@@ -148,4 +166,34 @@ public class ReportControllerTest {
         String partnerId = "abc";
         reportGeneratorController.rejectPartnerReport(partnerId, requestWrapper, errors);
     }
+
+    @Test
+    public void generateDraftReportJobTest() throws Exception {
+        RequestWrapper<ReportRequestDto> value = new RequestWrapper<>();
+        value.setRequest(new ReportRequestDto());
+        reportGeneratorController.generateDraftReportJob(value, "abc", errors);
+        verify(reportJobService).submitReportJob(eq(AppConstants.REPORT_JOB_TYPE_DRAFT), eq(null),
+                eq(value.getRequest()), eq("abc"));
+    }
+
+    @Test
+    public void getPartnerReportJobTest() throws Exception {
+        RequestWrapper<ReportRequestDto> requestWrapper = new RequestWrapper<>();
+        String partnerId = "abc";
+        reportGeneratorController.getPartnerReportJob(partnerId, requestWrapper, errors);
+        verify(reportJobService).submitReportJob(eq(AppConstants.REPORT_JOB_TYPE_PARTNER), eq(partnerId),
+                eq(requestWrapper.getRequest()), eq(null));
+    }
+
+    @Test
+    public void getReportJobStatusTest() {
+        reportGeneratorController.getReportJobStatus("job123");
+        verify(reportJobService).getReportJobStatus(eq("job123"));
+    }
+
+    @Test
+    public void getReportJobResultTest() {
+        reportGeneratorController.getReportJobResult("job123");
+        verify(reportJobService).getReportJobResult(eq("job123"));
+    }
 }
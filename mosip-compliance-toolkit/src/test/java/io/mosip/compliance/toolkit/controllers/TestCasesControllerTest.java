@@ -13,6 +13,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestContext;
 import org.springframework.test.context.junit4.SpringRunner;
@@ -20,6 +24,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.validation.Errors;
 import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -87,14 +92,14 @@ public class TestCasesControllerTest {
         String specVersion = "0.9.5";
         ResponseWrapper<List<TestCaseDto>> response = new ResponseWrapper<>();
         Mockito.when(testCasesService.getAbisTestCases(specVersion)).thenReturn(response);
-        Assert.assertEquals(response, testCasesController.getAbisTestCases(specVersion));
+        Assert.assertEquals(response, testCasesController.getAbisTestCases(specVersion, getWebRequest()));
     }
 
     @Test
     public void getAbisTestCasesTestExceptoion(){
         ResponseWrapper<List<TestCaseDto>> response = new ResponseWrapper<>();
         ReflectionTestUtils.setField(testCasesController, "service", null);
-        testCasesController.getAbisTestCases("0.9.0");
+        testCasesController.getAbisTestCases("0.9.0", getWebRequest());
     }
 
 
@@ -109,7 +114,44 @@ public class TestCasesControllerTest {
         String deviceSubType = "Slap";
         ResponseWrapper<List<TestCaseDto>> response = new ResponseWrapper<>();
         Mockito.when(testCasesService.getSbiTestCases(specVersion, purpose, deviceType, deviceSubType, "no")).thenReturn(response);
-        Assert.assertEquals(response, testCasesController.getSbiTestCases(specVersion, purpose, deviceType, deviceSubType, false));
+        Assert.assertEquals(response, testCasesController.getSbiTestCases(specVersion, purpose, deviceType, deviceSubType, false, getWebRequest()));
+    }
+
+    /*
+     * This class tests the getSbiTestCases method when the client has the current version
+     */
+    @Test
+    public void getSbiTestCasesNotModifiedTest(){
+        String specVersion = "0.9.5";
+        Mockito.when(testCasesService.getTestCasesVersion("SBI", specVersion)).thenReturn("v1");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/getSbiTestCases");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"v1\"");
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        Assert.assertNull(testCasesController.getSbiTestCases(specVersion, "Registration", "Finger", "Slap", false,
+                new ServletWebRequest(request, servletResponse)));
+        Assert.assertEquals(HttpStatus.NOT_MODIFIED.value(), servletResponse.getStatus());
+        Assert.assertEquals("\"v1\"", servletResponse.getHeader(HttpHeaders.ETAG));
+        Mockito.verify(testCasesService, Mockito.never()).getSbiTestCases(specVersion, "Registration", "Finger",
+                "Slap", "no");
+    }
+
+    /*
+     * This class tests the getSdkTestCases method when the test cases have changed
+     */
+    @Test
+    public void getSdkTestCasesModifiedTest(){
+        String specVersion = "0.9.0";
+        String purpose = "Matcher";
+        ResponseWrapper<List<TestCaseDto>> response = new ResponseWrapper<>();
+        Mockito.when(testCasesService.getTestCasesVersion("SDK", specVersion)).thenReturn("v2");
+        Mockito.when(testCasesService.getSdkTestCases(specVersion, purpose)).thenReturn(response);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/getSdkTestCases");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"v1\"");
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        Assert.assertEquals(response, testCasesController.getSdkTestCases(specVersion, purpose,
+                new ServletWebRequest(request, servletResponse)));
+        Assert.assertEquals("\"v2\"", servletResponse.getHeader(HttpHeaders.ETAG));
+        Assert.assertEquals("no-cache, private", servletResponse.getHeader(HttpHeaders.CACHE_CONTROL));
     }
 
     /*
@@ -123,7 +165,7 @@ public class TestCasesControllerTest {
         String deviceSubType = "Slap";
         ResponseWrapper<List<TestCaseDto>> response = new ResponseWrapper<>();
         ReflectionTestUtils.setField(testCasesController, "service", null);
-        testCasesController.getSbiTestCases(specVersion, purpose, deviceType, deviceSubType, false);
+        testCasesController.getSbiTestCases(specVersion, purpose, deviceType, deviceSubType, false, getWebRequest());
     }
 
     /*
@@ -135,7 +177,7 @@ public class TestCasesControllerTest {
         String purpose = "Registration";
         ResponseWrapper<List<TestCaseDto>> response = new ResponseWrapper<>();
         Mockito.when(testCasesService.getSdkTestCases(specVersion, purpose)).thenReturn(response);
-        Assert.assertEquals(response, testCasesController.getSdkTestCases(specVersion, purpose));
+        Assert.assertEquals(response, testCasesController.getSdkTestCases(specVersion, purpose, getWebRequest()));
     }
 
     /*
@@ -147,7 +189,7 @@ public class TestCasesControllerTest {
         String purpose = "Matcher";
         ResponseWrapper<List<TestCaseDto>> response = new ResponseWrapper<>();
         ReflectionTestUtils.setField(testCasesController, "service", null);
-        testCasesController.getSdkTestCases(specVersion, purpose);
+        testCasesController.getSdkTestCases(specVersion, purpose, getWebRequest());
     }
 
     /*
@@ -190,6 +232,21 @@ public class TestCasesControllerTest {
         Assert.assertEquals(response, testCasesController.saveTestCases(request));
     }
 
+    /*
+     * This class tests the importTestCases method
+     */
+    @Test
+    public void importTestCasesTest() throws Exception {
+        RequestWrapper<TestCaseRequestDto> request = new RequestWrapper<>();
+        TestCaseRequestDto testCaseRequestDto = new TestCaseRequestDto();
+        List<TestCaseDto> testCaseDtoList = new ArrayList<>();
+        testCaseRequestDto.setTestCases(testCaseDtoList);
+        request.setRequest(testCaseRequestDto);
+        ResponseWrapper<TestCaseResponseDto> response = new ResponseWrapper<>();
+        Mockito.when(testCasesService.importTestCases(testCaseDtoList)).thenReturn(response);
+        Assert.assertEquals(response, testCasesController.importTestCases(request));
+    }
+
     /*
      * This class tests the getTestCaseById method
      */
@@ -200,4 +257,8 @@ public class TestCasesControllerTest {
         Mockito.when(testCasesService.getTestCaseById(testId)).thenReturn(response);
         Assert.assertEquals(response, testCasesController.getTestCaseById(testId));
     }
+
+    private ServletWebRequest getWebRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+    }
 }
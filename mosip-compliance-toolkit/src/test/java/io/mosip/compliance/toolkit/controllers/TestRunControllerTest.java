@@ -9,11 +9,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestContext;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.validation.Errors;
 import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.mosip.compliance.toolkit.service.TestRunService;
 import io.mosip.compliance.toolkit.util.RequestValidator;
@@ -93,6 +95,29 @@ public class TestRunControllerTest {
         Assert.assertEquals(response, testRunController.getTestRunHistory(collectionId, pageNo, pageSize));
     }
 
+    /*
+     * This class tests the getTestRunHistoryPage method
+     */
+    @Test
+    public void getTestRunHistoryPageTest() throws Exception {
+        String collectionId = "123";
+        ResponseWrapper<PageDto<TestRunHistoryDto>> response = new ResponseWrapper<>();
+        Mockito.when(testRunService.getTestRunHistoryPage(collectionId, 10, "token")).thenReturn(response);
+        Assert.assertEquals(response, testRunController.getTestRunHistoryPage(collectionId, 10, "token"));
+    }
+
+    /*
+     * This class tests the getTestRunDetailsPage method
+     */
+    @Test
+    public void getTestRunDetailsPageTest() throws Exception {
+        String runId = "123";
+        ResponseWrapper<PageDto<TestRunDetailsDto>> response = new ResponseWrapper<>();
+        Mockito.when(testRunService.getPartnerId()).thenReturn(partnerId);
+        Mockito.when(testRunService.getTestRunDetailsPage(partnerId, runId, 10, null)).thenReturn(response);
+        Assert.assertEquals(response, testRunController.getTestRunDetailsPage(runId, 10, null));
+    }
+
     /*
      * This class tests the getTestRunDetails method
      */
@@ -105,6 +130,23 @@ public class TestRunControllerTest {
         Assert.assertEquals(response.getResponse(), result.getResponse());
     }
 
+    /*
+     * This class tests the getMethodPayload method
+     */
+    @Test
+    public void getMethodPayloadTest() throws Exception {
+        String runId = "123";
+        ResponseEntity<StreamingResponseBody> response = ResponseEntity.noContent().build();
+        Mockito.when(testRunService.getPartnerId()).thenReturn(partnerId);
+        Mockito.when(testRunService.getMethodPayload(partnerId, runId, "SBI1000", "method1", "response"))
+                .thenReturn(response);
+        Assert.assertEquals(response, testRunController.getMethodPayload(runId, "SBI1000", "method1", "response"));
+        Mockito.when(testRunService.getMethodPayload("1234", runId, "SBI1000", "method1", "request"))
+                .thenReturn(response);
+        Assert.assertEquals(response,
+                testRunController.getPartnerMethodPayload("1234", runId, "SBI1000", "method1", "request"));
+    }
+
     @Test
     public void getPartnerTestRunDetailsTest() throws Exception {
         String runId = "123";
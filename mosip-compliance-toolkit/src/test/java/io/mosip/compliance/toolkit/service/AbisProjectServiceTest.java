@@ -55,6 +55,9 @@ public class AbisProjectServiceTest {
     @Mock
     private AbisProjectRepository abisProjectRepository;
 
+    @Mock
+    private ProjectSummaryCacheService projectSummaryCacheService;
+
     @Mock
     private ObjectStoreAdapter objectStore;
 
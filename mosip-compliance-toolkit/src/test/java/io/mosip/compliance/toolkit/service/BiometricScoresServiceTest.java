@@ -61,6 +61,12 @@ public class BiometricScoresServiceTest {
     @Mock
     BiometricScoresSummaryRepository biometricScoresSummaryRepository;
 
+    @Mock
+    BiometricScoresRepository biometricScoresRepository;
+
+    @Mock
+    TestRunReportModelService testRunReportModelService;
+
     private MosipUserDto mosipUserDto;
 
     @Before
@@ -117,6 +123,9 @@ public class BiometricScoresServiceTest {
         when(resourceCacheService.getOrgName("abc")).thenReturn("abc");
         SecurityContextHolder.setContext(securityContext);
         biometricScoresService.addBiometricScores("123", "abc", "100", "score");
+        Mockito.verify(biometricScoresRepository).save(Mockito.any());
+        // score tables kept for draft reports of the run are read again
+        Mockito.verify(testRunReportModelService).biometricScoresAdded("123", "abc", "abc@gmail.com");
     }
 
     @Test
@@ -128,6 +137,8 @@ public class BiometricScoresServiceTest {
         when(resourceCacheService.getOrgName("abc")).thenReturn("abc");
         SecurityContextHolder.setContext(securityContext);
         biometricScoresService.addBiometricScores(null, "abc", "100", "score");
+        Mockito.verify(testRunReportModelService, Mockito.never()).biometricScoresAdded(Mockito.any(),
+                Mockito.any(), Mockito.any());
     }
 
     private MosipUserDto getMosipUserDto() {
@@ -27,6 +27,7 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.core.io.Resource;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -41,6 +42,8 @@ import org.springframework.test.context.TestContext;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.WebApplicationContext;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -81,6 +84,9 @@ public class BiometricTestDataServiceTest {
     @Mock
     VirusScanner<Boolean, InputStream> virusScan;
 
+    @Spy
+    TaskExecutor virusScanExecutor = new SyncTaskExecutor();
+
     @Mock
     private ObjectStoreAdapter objectStore;
 
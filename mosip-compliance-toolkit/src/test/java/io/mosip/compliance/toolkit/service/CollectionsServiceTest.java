@@ -55,6 +55,9 @@ public class CollectionsServiceTest {
     @Mock
     private ResourceCacheService resourceCacheService;
 
+    @Mock
+    private ProjectSummaryCacheService projectSummaryCacheService;
+
     @Mock
     private TestCasesService testCasesService;
 
@@ -4,7 +4,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.mosip.compliance.toolkit.dto.MasterTemplatesDto;
 import io.mosip.compliance.toolkit.dto.PartnerConsentDto;
 import io.mosip.compliance.toolkit.entity.PartnerConsentEntity;
-import io.mosip.compliance.toolkit.repository.MasterTemplatesRepository;
 import io.mosip.compliance.toolkit.repository.PartnerConsentRepository;
 import io.mosip.compliance.toolkit.util.ObjectMapperConfig;
 import io.mosip.kernel.core.authmanager.authadapter.model.AuthUserDetails;
@@ -49,7 +48,7 @@ public class ConsentServiceTest {
     private PartnerConsentRepository partnerConsentRepository;
 
     @Mock
-    private MasterTemplatesRepository masterTemplatesRepository;
+    private TemplateCacheService templateCacheService;
 
     @Mock
     ResourceCacheService resourceCacheService;
@@ -124,7 +123,7 @@ public class ConsentServiceTest {
         SecurityContextHolder.setContext(securityContext);
         when(authentication.getPrincipal()).thenReturn(authUserDetails);
         when(securityContext.getAuthentication()).thenReturn(authentication);
-        when(masterTemplatesRepository.getTimestampForTemplateVersion(anyString(),anyString())).thenReturn(LocalDateTime.now());
+        when(templateCacheService.getTimestampForTemplateVersion(anyString(),anyString())).thenReturn(LocalDateTime.now());
         PartnerConsentEntity partnerConsentEntity = new PartnerConsentEntity();
         partnerConsentEntity.setConsentGiven("YES");
         partnerConsentEntity.setConsentGivenDtimes(LocalDateTime.now());
@@ -148,7 +147,7 @@ public class ConsentServiceTest {
         SecurityContextHolder.setContext(securityContext);
         when(authentication.getPrincipal()).thenReturn(authUserDetails);
         when(securityContext.getAuthentication()).thenReturn(authentication);
-        when(masterTemplatesRepository.getTimestampForTemplateVersion(anyString(),anyString())).thenReturn(null);
+        when(templateCacheService.getTimestampForTemplateVersion(anyString(),anyString())).thenReturn(null);
         PartnerConsentEntity partnerConsentEntity = new PartnerConsentEntity();
         partnerConsentEntity.setConsentGiven("YES");
         partnerConsentEntity.setConsentGivenDtimes(LocalDateTime.now());
@@ -0,0 +1,152 @@
+package io.mosip.compliance.toolkit.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.WebApplicationContext;
+
+import io.mosip.compliance.toolkit.entity.CollectionEntity;
+import io.mosip.compliance.toolkit.entity.ProjectSummaryEntity;
+import io.mosip.compliance.toolkit.repository.CollectionsRepository;
+import io.mosip.compliance.toolkit.repository.ProjectSummaryRepository;
+
+@ContextConfiguration(classes = { TestContext.class, WebApplicationContext.class })
+@RunWith(SpringRunner.class)
+@WebMvcTest
+public class ProjectSummaryCacheServiceTest {
+
+    @InjectMocks
+    private ProjectSummaryCacheService projectSummaryCacheService;
+
+    @Mock
+    private ProjectSummaryRepository projectSummaryRepository;
+
+    @Mock
+    private CollectionsRepository collectionsRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    private ConcurrentMapCache cache;
+
+    @Before
+    public void before() {
+        cache = new ConcurrentMapCache(ProjectSummaryCacheService.PROJECT_SUMMARIES);
+        Mockito.when(cacheManager.getCache(ProjectSummaryCacheService.PROJECT_SUMMARIES)).thenReturn(cache);
+    }
+
+    @Test
+    public void getProjectSummariesTest() {
+        List<ProjectSummaryEntity> summaries = getSummaries(LocalDateTime.now());
+        Mockito.when(projectSummaryRepository.getSummaryOfAllProjects("partner")).thenReturn(summaries);
+        Assert.assertEquals(summaries, projectSummaryCacheService.getProjectSummaries("partner"));
+    }
+
+    @Test
+    public void getProjectSummariesCachedTest() {
+        List<ProjectSummaryEntity> summaries = getSummaries(LocalDateTime.now());
+        Mockito.when(projectSummaryRepository.getSummaryOfAllProjects("partner")).thenReturn(summaries);
+        projectSummaryCacheService.getProjectSummaries("partner");
+        Assert.assertSame(summaries, projectSummaryCacheService.getProjectSummaries("partner"));
+        Mockito.verify(projectSummaryRepository, Mockito.times(1)).getSummaryOfAllProjects("partner");
+    }
+
+    @Test
+    public void getProjectSummariesChangedDuringLoadTest() {
+        List<ProjectSummaryEntity> summaries = getSummaries(LocalDateTime.now());
+        // a test run is added while the summaries are read from the database
+        Mockito.when(projectSummaryRepository.getSummaryOfAllProjects("partner")).thenAnswer(invocation -> {
+            projectSummaryCacheService.updateLatestRun("partner", "collection2", "run2", LocalDateTime.now());
+            return summaries;
+        });
+        Assert.assertEquals(summaries, projectSummaryCacheService.getProjectSummaries("partner"));
+        Assert.assertNull(cache.get("partner"));
+        Assert.assertTrue(((Map<?, ?>) ReflectionTestUtils.getField(projectSummaryCacheService, "loads")).isEmpty());
+    }
+
+    @Test
+    public void getProjectSummariesLoadFailedTest() {
+        Mockito.when(projectSummaryRepository.getSummaryOfAllProjects("partner"))
+                .thenThrow(new IllegalStateException("query timeout"));
+        try {
+            projectSummaryCacheService.getProjectSummaries("partner");
+            Assert.fail();
+        } catch (IllegalStateException ex) {
+            Assert.assertTrue(((Map<?, ?>) ReflectionTestUtils.getField(projectSummaryCacheService, "loads")).isEmpty());
+        }
+    }
+
+    @Test
+    public void evictProjectSummariesTest() {
+        cache.put("partner", getSummaries(LocalDateTime.now()));
+        projectSummaryCacheService.evictProjectSummaries("partner");
+        Assert.assertNull(cache.get("partner"));
+    }
+
+    @Test
+    public void updateLatestRunTest() {
+        LocalDateTime runDate = LocalDateTime.now().minusDays(1);
+        List<ProjectSummaryEntity> summaries = getSummaries(runDate);
+        cache.put("partner", summaries);
+        Mockito.when(collectionsRepository.getCollectionById("collection2", "partner")).thenReturn(getCollection());
+        LocalDateTime newRunDate = LocalDateTime.now();
+        projectSummaryCacheService.updateLatestRun("partner", "collection2", "run2", newRunDate);
+
+        @SuppressWarnings("unchecked")
+        List<ProjectSummaryEntity> updated = cache.get("partner", List.class);
+        Assert.assertNotSame(summaries, updated);
+        Assert.assertEquals("run2", updated.get(0).getRunId());
+        Assert.assertEquals("collection2", updated.get(0).getCollectionId());
+        Assert.assertEquals(newRunDate, updated.get(0).getRunDate());
+        Assert.assertEquals("run3", updated.get(1).getRunId());
+        // the cached list seen by earlier readers is unchanged
+        Assert.assertEquals("run1", summaries.get(0).getRunId());
+    }
+
+    @Test
+    public void updateLatestRunNotCachedTest() {
+        projectSummaryCacheService.updateLatestRun("partner", "collection2", "run2", LocalDateTime.now());
+        Assert.assertNull(cache.get("partner"));
+        Mockito.verify(collectionsRepository, Mockito.never()).getCollectionById(Mockito.anyString(),
+                Mockito.anyString());
+    }
+
+    @Test
+    public void updateLatestRunUnknownCollectionTest() {
+        cache.put("partner", getSummaries(LocalDateTime.now()));
+        projectSummaryCacheService.updateLatestRun("partner", "collection2", "run2", LocalDateTime.now());
+        Assert.assertNull(cache.get("partner"));
+    }
+
+    private CollectionEntity getCollection() {
+        CollectionEntity collection = new CollectionEntity();
+        collection.setId("collection2");
+        collection.setSbiProjectId("project1");
+        return collection;
+    }
+
+    private List<ProjectSummaryEntity> getSummaries(LocalDateTime runDate) {
+        List<ProjectSummaryEntity> summaries = new ArrayList<>();
+        summaries.add(new ProjectSummaryEntity("project1", "name1", "SBI", runDate, "no", 2, "collection1", "run1",
+                runDate));
+        summaries.add(new ProjectSummaryEntity("project2", "name2", "SDK", runDate, "no", 1, "collection3", "run3",
+                runDate));
+        return summaries;
+    }
+}
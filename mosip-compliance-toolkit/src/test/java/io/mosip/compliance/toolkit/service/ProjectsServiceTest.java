@@ -4,7 +4,6 @@ import io.mosip.compliance.toolkit.constants.AppConstants;
 import io.mosip.compliance.toolkit.dto.projects.ProjectDto;
 import io.mosip.compliance.toolkit.dto.projects.ProjectsResponseDto;
 import io.mosip.compliance.toolkit.entity.ProjectSummaryEntity;
-import io.mosip.compliance.toolkit.repository.ProjectSummaryRepository;
 import io.mosip.kernel.core.authmanager.authadapter.model.AuthUserDetails;
 import io.mosip.kernel.core.authmanager.authadapter.model.MosipUserDto;
 import io.mosip.kernel.core.http.ResponseWrapper;
@@ -39,7 +38,7 @@ public class ProjectsServiceTest {
     public ProjectsService projectsService = new ProjectsService();
 
     @Mock
-    private ProjectSummaryRepository projectSummaryRepository;
+    private ProjectSummaryCacheService projectSummaryCacheService;
 
     @Mock
     private Authentication authentication;
@@ -88,7 +87,7 @@ public class ProjectsServiceTest {
         "no", 3, "collectionid", "runid", now);
         List<ProjectSummaryEntity> projectsSummaryList = new ArrayList<>();
         projectsSummaryList.add(projectSummaryEntity);
-        Mockito.when(projectSummaryRepository.getSummaryOfAllSBIProjects(Mockito.anyString())).thenReturn(projectsSummaryList);
+        Mockito.when(projectSummaryCacheService.getProjectSummaries(Mockito.anyString())).thenReturn(projectsSummaryList);
         projectsService.getProjects(AppConstants.SBI);
         ResponseWrapper<ProjectsResponseDto> responseWrapper = projectsService.getProjects("other");
         Assert.assertEquals(projectsResponseDtoExpected.getProjects(),
@@ -111,7 +110,7 @@ public class ProjectsServiceTest {
         projectsService.getProjects("SDK");
 //        When type=null
         projectsService.getProjects(null);
-        ReflectionTestUtils.setField(projectsService, "projectSummaryRepository", null);
+        ReflectionTestUtils.setField(projectsService, "projectSummaryCacheService", null);
         projectsService.getProjects("SBI");
     }
 
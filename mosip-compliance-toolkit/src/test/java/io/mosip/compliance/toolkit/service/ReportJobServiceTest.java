@@ -0,0 +1,199 @@
+package io.mosip.compliance.toolkit.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.WebApplicationContext;
+
+import io.mosip.compliance.toolkit.constants.AppConstants;
+import io.mosip.compliance.toolkit.constants.ToolkitErrorCodes;
+import io.mosip.compliance.toolkit.dto.report.ReportJobDto;
+import io.mosip.compliance.toolkit.dto.report.ReportRequestDto;
+import io.mosip.compliance.toolkit.entity.ReportJobEntity;
+import io.mosip.compliance.toolkit.entity.ReportJobStatusEntity;
+import io.mosip.compliance.toolkit.repository.ReportJobRepository;
+import io.mosip.kernel.core.authmanager.authadapter.model.AuthUserDetails;
+import io.mosip.kernel.core.authmanager.authadapter.model.MosipUserDto;
+import io.mosip.kernel.core.http.ResponseWrapper;
+
+@ContextConfiguration(classes = { TestContext.class, WebApplicationContext.class })
+@RunWith(SpringRunner.class)
+@WebMvcTest
+public class ReportJobServiceTest {
+
+	@InjectMocks
+	private ReportJobService reportJobService;
+
+	@Mock
+	private ReportService reportService;
+
+	@Mock
+	private ReportJobRepository reportJobRepository;
+
+	@Mock
+	private AsyncTaskExecutor reportJobExecutor;
+
+	@Mock
+	private Authentication authentication;
+
+	@Mock
+	private SecurityContext securityContext;
+
+	@Before
+	public void before() {
+		ReflectionTestUtils.setField(reportJobService, "retentionHours", 24L);
+		ReflectionTestUtils.setField(reportJobService, "staleMinutes", 30L);
+		Mockito.when(securityContext.getAuthentication()).thenReturn(authentication);
+		Mockito.when(authentication.getPrincipal()).thenReturn(new AuthUserDetails(getMosipUserDto(), "token"));
+		SecurityContextHolder.setContext(securityContext);
+	}
+
+	@Test
+	public void submitReportJobTest() {
+		Mockito.when(reportJobRepository.save(ArgumentMatchers.any(ReportJobEntity.class)))
+				.thenAnswer(invocation -> invocation.getArgument(0));
+		ResponseWrapper<ReportJobDto> response = reportJobService.submitReportJob(AppConstants.REPORT_JOB_TYPE_DRAFT,
+				null, getReportRequestDto(), "origin");
+		Assert.assertNull(response.getErrors());
+		Assert.assertEquals(AppConstants.REPORT_JOB_QUEUED, response.getResponse().getStatus());
+		Assert.assertEquals("run123.pdf", response.getResponse().getFileName());
+		Mockito.verify(reportJobRepository, Mockito.never()).deleteReportJobsCreatedBefore(ArgumentMatchers.anyList(),
+				ArgumentMatchers.any(LocalDateTime.class));
+		Mockito.verify(reportJobExecutor).execute(ArgumentMatchers.any(Runnable.class));
+	}
+
+	@Test
+	public void submitReportJobRejectedTest() {
+		Mockito.when(reportJobRepository.save(ArgumentMatchers.any(ReportJobEntity.class)))
+				.thenAnswer(invocation -> invocation.getArgument(0));
+		Mockito.doThrow(new RejectedExecutionException()).when(reportJobExecutor)
+				.execute(ArgumentMatchers.any(Runnable.class));
+		ResponseWrapper<ReportJobDto> response = reportJobService.submitReportJob(AppConstants.REPORT_JOB_TYPE_DRAFT,
+				null, getReportRequestDto(), "origin");
+		Assert.assertNull(response.getResponse());
+		Assert.assertEquals(ToolkitErrorCodes.TOOLKIT_REPORT_JOB_REJECTED_ERR.getErrorCode(),
+				response.getErrors().get(0).getErrorCode());
+		Mockito.verify(reportJobRepository).updateReportJobStatus(ArgumentMatchers.anyString(),
+				ArgumentMatchers.eq(AppConstants.REPORT_JOB_FAILED), ArgumentMatchers.anyString(),
+				ArgumentMatchers.any(LocalDateTime.class));
+	}
+
+	@Test
+	public void getReportJobStatusNotAvailableTest() {
+		ResponseWrapper<ReportJobDto> response = reportJobService.getReportJobStatus("job123");
+		Assert.assertNull(response.getResponse());
+		Assert.assertEquals(ToolkitErrorCodes.TOOLKIT_REPORT_JOB_NOT_AVAILABLE_ERR.getErrorCode(),
+				response.getErrors().get(0).getErrorCode());
+	}
+
+	@Test
+	public void getReportJobResultNotCompletedTest() {
+		Mockito.when(reportJobRepository.getReportJobStatus("job123", "123"))
+				.thenReturn(getStatusEntity(AppConstants.REPORT_JOB_PROCESSING));
+		ResponseEntity<?> response = reportJobService.getReportJobResult("job123");
+		ResponseWrapper<?> body = (ResponseWrapper<?>) response.getBody();
+		Assert.assertEquals(ToolkitErrorCodes.TOOLKIT_REPORT_JOB_NOT_COMPLETED_ERR.getErrorCode(),
+				body.getErrors().get(0).getErrorCode());
+		Mockito.verify(reportJobRepository, Mockito.never()).getReportContent(ArgumentMatchers.anyString(),
+				ArgumentMatchers.anyString());
+	}
+
+	@Test
+	public void getReportJobResultTest() {
+		Mockito.when(reportJobRepository.getReportJobStatus("job123", "123"))
+				.thenReturn(getStatusEntity(AppConstants.REPORT_JOB_COMPLETED));
+		Mockito.when(reportJobRepository.getReportContent("job123", "123")).thenReturn(new byte[] { 1, 2, 3 });
+		ResponseEntity<?> response = reportJobService.getReportJobResult("job123");
+		Assert.assertEquals(HttpStatus.OK, response.getStatusCode());
+		Assert.assertEquals(3, ((ByteArrayResource) response.getBody()).getByteArray().length);
+	}
+
+	@Test
+	public void runReportJobTest() throws Exception {
+		ReportRequestDto requestDto = getReportRequestDto();
+		ResponseEntity<?> report = ResponseEntity.ok(new ByteArrayResource(new byte[] { 1, 2, 3 }));
+		Mockito.<ResponseEntity<?>>when(reportService.generateDraftReport(requestDto, "origin")).thenReturn(report);
+		reportJobService.runReportJob("job123", AppConstants.REPORT_JOB_TYPE_DRAFT, null, requestDto, "origin");
+		Mockito.verify(reportJobRepository).updateReportJobContent(ArgumentMatchers.eq("job123"),
+				ArgumentMatchers.eq(AppConstants.REPORT_JOB_COMPLETED), ArgumentMatchers.any(byte[].class),
+				ArgumentMatchers.any(LocalDateTime.class));
+	}
+
+	@Test
+	public void runReportJobFailedTest() throws Exception {
+		ReportRequestDto requestDto = getReportRequestDto();
+		Mockito.when(reportService.getSubmittedReport("partner", requestDto, false))
+				.thenThrow(new RuntimeException("failed"));
+		reportJobService.runReportJob("job123", AppConstants.REPORT_JOB_TYPE_PARTNER, "partner", requestDto, null);
+		Mockito.verify(reportJobRepository).updateReportJobStatus(ArgumentMatchers.eq("job123"),
+				ArgumentMatchers.eq(AppConstants.REPORT_JOB_FAILED), ArgumentMatchers.anyString(),
+				ArgumentMatchers.any(LocalDateTime.class));
+	}
+
+	@Test
+	public void cleanUpReportJobsTest() {
+		reportJobService.cleanUpReportJobs();
+		Mockito.verify(reportJobRepository).updateReportJobsNotUpdatedSince(
+				ArgumentMatchers.eq(List.of(AppConstants.REPORT_JOB_QUEUED, AppConstants.REPORT_JOB_PROCESSING)),
+				ArgumentMatchers.eq(AppConstants.REPORT_JOB_FAILED),
+				ArgumentMatchers.eq(ToolkitErrorCodes.TOOLKIT_REPORT_JOB_STALE_ERR.getErrorMessage()),
+				ArgumentMatchers.any(LocalDateTime.class),
+				ArgumentMatchers.argThat(time -> time.isBefore(LocalDateTime.now().minusMinutes(29))));
+		// in-flight jobs are never deleted by the retention
+		Mockito.verify(reportJobRepository).deleteReportJobsCreatedBefore(
+				ArgumentMatchers.eq(List.of(AppConstants.REPORT_JOB_COMPLETED, AppConstants.REPORT_JOB_FAILED)),
+				ArgumentMatchers.argThat(time -> time.isBefore(LocalDateTime.now().minusHours(23))));
+	}
+
+	@Test
+	public void cleanUpReportJobsExceptionTest() {
+		Mockito.when(reportJobRepository.updateReportJobsNotUpdatedSince(ArgumentMatchers.anyList(),
+				ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any()))
+				.thenThrow(new RuntimeException("failed"));
+		reportJobService.cleanUpReportJobs();
+		Mockito.verify(reportJobRepository, Mockito.never()).deleteReportJobsCreatedBefore(ArgumentMatchers.anyList(),
+				ArgumentMatchers.any());
+	}
+
+	private ReportJobStatusEntity getStatusEntity(String status) {
+		return new ReportJobStatusEntity("job123", AppConstants.REPORT_JOB_TYPE_DRAFT, status, "run123.pdf", null,
+				LocalDateTime.now(), LocalDateTime.now());
+	}
+
+	private ReportRequestDto getReportRequestDto() {
+		ReportRequestDto reportRequestDto = new ReportRequestDto();
+		reportRequestDto.setProjectType("SBI");
+		reportRequestDto.setProjectId("project123");
+		reportRequestDto.setCollectionId("collection123");
+		reportRequestDto.setTestRunId("run123");
+		return reportRequestDto;
+	}
+
+	private MosipUserDto getMosipUserDto() {
+		MosipUserDto mosipUserDto = new MosipUserDto();
+		mosipUserDto.setUserId("123");
+		mosipUserDto.setMail("abc@gmail.com");
+		return mosipUserDto;
+	}
+}
@@ -1,6 +1,5 @@
 package io.mosip.compliance.toolkit.service;
 
-import io.mosip.commons.khazana.spi.ObjectStoreAdapter;
 import io.mosip.compliance.toolkit.constants.ProjectTypes;
 import io.mosip.compliance.toolkit.constants.SbiSpecVersions;
 import io.mosip.compliance.toolkit.dto.report.PartnerDetailsDto;
@@ -10,7 +9,6 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
-import org.mockito.stubbing.OngoingStubbing;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestContext;
@@ -20,6 +18,9 @@ import org.springframework.web.context.WebApplicationContext;
 import java.io.*;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.when;
 
 @ContextConfiguration(classes = { TestContext.class, WebApplicationContext.class })
@@ -31,7 +32,7 @@ public class ResourceCacheServiceTest {
     private ResourceCacheService resourceCacheService;
 
     @Mock
-    private ObjectStoreAdapter objectStore;
+    private SchemaCacheService schemaCacheService;
 
     @Mock
     private InputStream inputStream;
@@ -44,42 +45,20 @@ public class ResourceCacheServiceTest {
         String type = ProjectTypes.SBI.getCode();
         String version = SbiSpecVersions.SPEC_VER_0_9_5.getCode();
         String fileName = "testFile";
-
-        when(objectStore.exists(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
-        resourceCacheService.getSchema(null,version,fileName);
-        resourceCacheService.getSchema(type,version,fileName);
-    }
-
-    @Test(expected = Exception.class)
-    public void getSchemaTest1() throws Exception {
-        String type = ProjectTypes.SBI.getCode();
-        String version = SbiSpecVersions.SPEC_VER_0_9_5.getCode();
-        String fileName = "testFile";
-        when(objectStore.exists(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
-        InputStream input = new FileInputStream( "src/test/java/io/mosip/compliance/toolkit/testFile.txt");
-        OngoingStubbing<InputStream> inputStreamOngoingStubbing = when(objectStore.getObject(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(inputStream);
-        resourceCacheService.getSchema(type, version, fileName);
-    }
-
-    @Test(expected = Exception.class)
-    public void getSchemaExceptionTest() throws Exception {
-        String type = ProjectTypes.SBI.getCode();
-        String version = SbiSpecVersions.SPEC_VER_0_9_5.getCode();
-        String fileName = "testFile";
-        when(objectStore.exists(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(true);
-        InputStream input = new FileInputStream( "src/test/java/io/mosip/compliance/toolkit/testFile.txt");
-        when(objectStore.getObject(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any())).thenReturn(input);
-        resourceCacheService.getSchema(type, version, fileName);
+        when(schemaCacheService.getSchemaJson(type, version, fileName)).thenReturn("{}");
+        assertEquals("{}", resourceCacheService.getSchema(type, version, fileName));
+        assertNull(resourceCacheService.getSchema(null, version, fileName));
     }
 
     @Test
-    public void putSchemaTest() throws FileNotFoundException {
+    public void putSchemaTest() throws IOException {
         String type = ProjectTypes.SBI.getCode();
         String version = SbiSpecVersions.SPEC_VER_0_9_5.getCode();
         String fileName = "testFile";
-        InputStream input = new FileInputStream( "src/test/java/io/mosip/compliance/toolkit/testFile.txt");
-        resourceCacheService.putSchema(null,version,fileName,inputStream);
-        resourceCacheService.putSchema(type,version,fileName,inputStream);
+        when(schemaCacheService.putSchema(type, version, fileName, inputStream)).thenReturn(true);
+        assertTrue(resourceCacheService.putSchema(type, version, fileName, inputStream));
+        when(schemaCacheService.putSchema(null, version, fileName, inputStream)).thenThrow(new IOException());
+        assertFalse(resourceCacheService.putSchema(null, version, fileName, inputStream));
     }
 
     @Test
@@ -8,7 +8,6 @@ import io.mosip.compliance.toolkit.dto.AddBioTestDataResponseDto;
 import io.mosip.compliance.toolkit.dto.BiometricTestDataDto;
 import io.mosip.compliance.toolkit.entity.MasterTemplatesEntity;
 import io.mosip.compliance.toolkit.exceptions.ToolkitException;
-import io.mosip.compliance.toolkit.repository.MasterTemplatesRepository;
 import io.mosip.kernel.core.authmanager.authadapter.model.AuthUserDetails;
 import io.mosip.kernel.core.authmanager.authadapter.model.MosipUserDto;
 import io.mosip.kernel.core.http.ResponseWrapper;
@@ -18,6 +17,7 @@ import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.core.Authentication;
@@ -28,6 +28,8 @@ import org.springframework.test.context.TestContext;
 import org.springframework.test.context.junit4.SpringRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.context.WebApplicationContext;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -47,6 +49,9 @@ public class ResourceManagementServiceTest {
     @Mock
     VirusScanner<Boolean, InputStream> virusScan;
 
+    @Spy
+    TaskExecutor virusScanExecutor = new SyncTaskExecutor();
+
     @Mock
     private ObjectStoreAdapter objectStore;
 
@@ -57,7 +62,10 @@ public class ResourceManagementServiceTest {
     SecurityContext securityContext;
 
     @Mock
-    MasterTemplatesRepository masterTemplatesRepository;
+    TemplateCacheService templateCacheService;
+
+    @Mock
+    SchemaCacheService schemaCacheService;
 
     private static final String UNDERSCORE = "_";
 
@@ -297,7 +305,7 @@ public class ResourceManagementServiceTest {
         when(authentication.getPrincipal()).thenReturn(authUserDetails);
         when(securityContext.getAuthentication()).thenReturn(authentication);
         MasterTemplatesEntity masterTemplateEntity = new MasterTemplatesEntity();
-        when(masterTemplatesRepository.save(masterTemplateEntity)).thenReturn(masterTemplateEntity);
+        when(templateCacheService.saveTemplate(masterTemplateEntity)).thenReturn(masterTemplateEntity);
         ReflectionTestUtils.setField(resourceManagementService, "allowedFileSize", "2000000");
         ReflectionTestUtils.setField(resourceManagementService, "allowedFileNameLength", "50");
         resourceManagementService.uploadTemplate(langcode, templateName, version, file);
@@ -318,7 +326,7 @@ public class ResourceManagementServiceTest {
         when(authentication.getPrincipal()).thenReturn(authUserDetails);
         when(securityContext.getAuthentication()).thenReturn(authentication);
         MasterTemplatesEntity masterTemplateEntity = new MasterTemplatesEntity();
-        when(masterTemplatesRepository.save(masterTemplateEntity)).thenReturn(masterTemplateEntity);
+        when(templateCacheService.saveTemplate(masterTemplateEntity)).thenReturn(masterTemplateEntity);
         ReflectionTestUtils.setField(resourceManagementService, "allowedFileSize", "2000000");
         ReflectionTestUtils.setField(resourceManagementService, "allowedFileNameLength", "50");
         resourceManagementService.uploadTemplate(langcode, templateName, version, file);
@@ -58,6 +58,9 @@ public class SbiProjectServiceTest {
     @Mock
     private SbiProjectRepository sbiProjectRepository;
 
+    @Mock
+    private ProjectSummaryCacheService projectSummaryCacheService;
+
     @Mock
     private Authentication authentication;
 
@@ -0,0 +1,166 @@
+package io.mosip.compliance.toolkit.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.WebApplicationContext;
+
+import io.mosip.commons.khazana.spi.ObjectStoreAdapter;
+import io.mosip.compliance.toolkit.constants.AppConstants;
+import io.mosip.compliance.toolkit.util.HashUtil;
+
+@ContextConfiguration(classes = { TestContext.class, WebApplicationContext.class })
+@RunWith(SpringRunner.class)
+@WebMvcTest
+public class SchemaCacheServiceTest {
+
+    private static final String CONTAINER = "schemas/sbi/0.9.5";
+
+    private static final String FILE_NAME = "DiscoverResponseSchema.json";
+
+    private static final String SCHEMA = "{\"type\":\"object\",\"required\":[\"deviceId\"]}";
+
+    @InjectMocks
+    private SchemaCacheService schemaCacheService;
+
+    @Mock
+    private ObjectStoreAdapter objectStore;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    private ConcurrentMapCache catalogs;
+
+    @Before
+    public void before() {
+        ReflectionTestUtils.setField(schemaCacheService, "revalidateIntervalSeconds", 300L);
+        catalogs = new ConcurrentMapCache(TestCaseCatalogService.TESTCASE_CATALOGS);
+        catalogs.put("SBI|0.9.5", "catalog");
+        Mockito.when(cacheManager.getCache(TestCaseCatalogService.TESTCASE_CATALOGS)).thenReturn(catalogs);
+    }
+
+    @Test
+    public void getSchemaTest() throws Exception {
+        mockObject(SCHEMA);
+        Assert.assertEquals(SCHEMA, schemaCacheService.getSchemaJson("sbi", "0.9.5", FILE_NAME));
+        Assert.assertNotNull(schemaCacheService.getSchema("sbi", "0.9.5", FILE_NAME));
+        Assert.assertSame(schemaCacheService.getSchema("sbi", "0.9.5", FILE_NAME),
+                schemaCacheService.getSchema("sbi", "0.9.5", FILE_NAME));
+        Mockito.verify(objectStore, Mockito.times(1)).getObject(Mockito.any(), Mockito.eq(CONTAINER),
+                Mockito.any(), Mockito.any(), Mockito.eq(FILE_NAME));
+        Assert.assertEquals(HashUtil.toHex(HashUtil.generateHash(SCHEMA.getBytes(StandardCharsets.UTF_8))),
+                schemaCacheService.getSchemaContentHash("sbi", "0.9.5", FILE_NAME));
+    }
+
+    @Test
+    public void getSchemaNotAvailableTest() throws Exception {
+        Assert.assertNull(schemaCacheService.getSchemaJson(null, null, FILE_NAME));
+        Assert.assertNull(schemaCacheService.getSchema(null, null, FILE_NAME));
+        Assert.assertNull(schemaCacheService.getSchemaContentHash(null, null, FILE_NAME));
+    }
+
+    @Test(expected = Exception.class)
+    public void getSchemaExceptionTest() throws Exception {
+        Mockito.when(objectStore.exists(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(true);
+        Mockito.when(objectStore.getObject(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenThrow(new RuntimeException("object store not available"));
+        schemaCacheService.getSchemaJson("sbi", "0.9.5", FILE_NAME);
+    }
+
+    @Test
+    public void revalidateUnchangedTest() throws Exception {
+        mockObject(SCHEMA);
+        schemaCacheService.getSchemaJson("sbi", "0.9.5", FILE_NAME);
+        Map<String, Object> metaData = new HashMap<>();
+        metaData.put(SchemaCacheService.CONTENT_HASH,
+                HashUtil.toHex(HashUtil.generateHash(SCHEMA.getBytes(StandardCharsets.UTF_8))));
+        Mockito.when(objectStore.getMetaData(Mockito.any(), Mockito.eq(CONTAINER), Mockito.any(), Mockito.any(),
+                Mockito.eq(FILE_NAME))).thenReturn(metaData);
+        ReflectionTestUtils.setField(schemaCacheService, "revalidateIntervalSeconds", 0L);
+
+        Assert.assertEquals(SCHEMA, schemaCacheService.getSchemaJson("sbi", "0.9.5", FILE_NAME));
+        Mockito.verify(objectStore, Mockito.times(1)).getObject(Mockito.any(), Mockito.any(), Mockito.any(),
+                Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    public void revalidateChangedTest() throws Exception {
+        mockObject(SCHEMA);
+        schemaCacheService.getSchemaJson("sbi", "0.9.5", FILE_NAME);
+        String changedSchema = "{\"type\":\"object\"}";
+        mockObject(changedSchema);
+        ReflectionTestUtils.setField(schemaCacheService, "revalidateIntervalSeconds", 0L);
+
+        Assert.assertEquals(changedSchema, schemaCacheService.getSchemaJson("sbi", "0.9.5", FILE_NAME));
+    }
+
+    @Test
+    public void putSchemaTest() throws Exception {
+        mockObject(SCHEMA);
+        schemaCacheService.getSchemaJson("sbi", "0.9.5", FILE_NAME);
+        String changedSchema = "{\"type\":\"object\"}";
+        Mockito.when(objectStore.putObject(Mockito.any(), Mockito.eq(CONTAINER), Mockito.any(), Mockito.any(),
+                Mockito.eq(FILE_NAME), Mockito.any())).thenReturn(true);
+        Assert.assertTrue(schemaCacheService.putSchema("sbi", "0.9.5", FILE_NAME,
+                new ByteArrayInputStream(changedSchema.getBytes(StandardCharsets.UTF_8))));
+        Mockito.verify(objectStore).addObjectMetaData(Mockito.any(), Mockito.eq(CONTAINER), Mockito.any(),
+                Mockito.any(), Mockito.eq(FILE_NAME), Mockito.eq(SchemaCacheService.CONTENT_HASH),
+                Mockito.eq(HashUtil.toHex(HashUtil.generateHash(changedSchema.getBytes(StandardCharsets.UTF_8)))));
+
+        mockObject(changedSchema);
+        Assert.assertEquals(changedSchema, schemaCacheService.getSchemaJson("sbi", "0.9.5", FILE_NAME));
+        // only the testcase schema invalidates the testcase catalogs
+        Assert.assertNotNull(catalogs.get("SBI|0.9.5"));
+    }
+
+    @Test
+    public void putTestCaseSchemaTest() throws Exception {
+        Mockito.when(objectStore.putObject(Mockito.any(), Mockito.eq("schemas"), Mockito.any(), Mockito.any(),
+                Mockito.eq(AppConstants.TESTCASE_SCHEMA_JSON), Mockito.any())).thenReturn(true);
+        Assert.assertTrue(schemaCacheService.putSchema(null, null, AppConstants.TESTCASE_SCHEMA_JSON,
+                new ByteArrayInputStream(SCHEMA.getBytes(StandardCharsets.UTF_8))));
+        Assert.assertNull(catalogs.get("SBI|0.9.5"));
+    }
+
+    @Test
+    public void revalidateChangedTestCaseSchemaTest() throws Exception {
+        mockObject("schemas", AppConstants.TESTCASE_SCHEMA_JSON, SCHEMA);
+        schemaCacheService.getSchemaJson(null, null, AppConstants.TESTCASE_SCHEMA_JSON);
+        Assert.assertNotNull(catalogs.get("SBI|0.9.5"));
+        // changed through another replica
+        mockObject("schemas", AppConstants.TESTCASE_SCHEMA_JSON, "{\"type\":\"object\"}");
+        ReflectionTestUtils.setField(schemaCacheService, "revalidateIntervalSeconds", 0L);
+        schemaCacheService.getSchemaJson(null, null, AppConstants.TESTCASE_SCHEMA_JSON);
+        Assert.assertNull(catalogs.get("SBI|0.9.5"));
+    }
+
+    private void mockObject(String schema) {
+        mockObject(CONTAINER, FILE_NAME, schema);
+    }
+
+    private void mockObject(String container, String fileName, String schema) {
+        Mockito.when(objectStore.exists(Mockito.any(), Mockito.eq(container), Mockito.any(), Mockito.any(),
+                Mockito.eq(fileName))).thenReturn(true);
+        InputStream inputStream = new ByteArrayInputStream(schema.getBytes(StandardCharsets.UTF_8));
+        Mockito.when(objectStore.getObject(Mockito.any(), Mockito.eq(container), Mockito.any(), Mockito.any(),
+                Mockito.eq(fileName))).thenReturn(inputStream);
+    }
+}
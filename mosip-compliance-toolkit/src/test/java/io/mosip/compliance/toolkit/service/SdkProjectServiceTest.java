@@ -55,6 +55,9 @@ public class SdkProjectServiceTest {
     @Mock
     private SdkProjectRepository sdkProjectRepository;
 
+    @Mock
+    private ProjectSummaryCacheService projectSummaryCacheService;
+
     @Mock
     private ObjectStoreAdapter objectStore;
 
@@ -0,0 +1,50 @@
+package io.mosip.compliance.toolkit.service;
+
+import java.util.Optional;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.context.WebApplicationContext;
+
+import io.mosip.compliance.toolkit.entity.MasterTemplatesEntity;
+import io.mosip.compliance.toolkit.repository.MasterTemplatesRepository;
+
+@ContextConfiguration(classes = { TestContext.class, WebApplicationContext.class })
+@RunWith(SpringRunner.class)
+@WebMvcTest
+public class TemplateCacheServiceTest {
+
+    @InjectMocks
+    private TemplateCacheService templateCacheService;
+
+    @Mock
+    private MasterTemplatesRepository masterTemplatesRepository;
+
+    @Test
+    public void getTemplateTest() {
+        MasterTemplatesEntity entity = new MasterTemplatesEntity();
+        Mockito.when(masterTemplatesRepository.getTemplate("eng", "abc", "v1")).thenReturn(Optional.of(entity));
+        Assert.assertEquals(entity, templateCacheService.getTemplate("eng", "abc", "v1").get());
+    }
+
+    @Test
+    public void getLatestTemplateVersionTest() {
+        Mockito.when(masterTemplatesRepository.getLatestTemplateVersion("abc")).thenReturn("v2");
+        Assert.assertEquals("v2", templateCacheService.getLatestTemplateVersion("abc"));
+    }
+
+    @Test
+    public void saveTemplateTest() {
+        MasterTemplatesEntity entity = new MasterTemplatesEntity();
+        Mockito.when(masterTemplatesRepository.save(entity)).thenReturn(entity);
+        Assert.assertEquals(entity, templateCacheService.saveTemplate(entity));
+    }
+}
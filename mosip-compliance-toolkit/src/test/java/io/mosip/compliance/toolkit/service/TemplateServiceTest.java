@@ -3,7 +3,6 @@ package io.mosip.compliance.toolkit.service;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.mosip.compliance.toolkit.dto.MasterTemplatesDto;
 import io.mosip.compliance.toolkit.entity.MasterTemplatesEntity;
-import io.mosip.compliance.toolkit.repository.MasterTemplatesRepository;
 import io.mosip.compliance.toolkit.util.ObjectMapperConfig;
 import io.mosip.kernel.core.http.ResponseWrapper;
 import org.junit.Assert;
@@ -33,7 +32,7 @@ public class TemplateServiceTest {
     private TemplateService templateService;
 
     @Mock
-    private MasterTemplatesRepository masterTemplatesRepository;
+    private TemplateCacheService templateCacheService;
 
     @Mock
     ObjectMapper objectMapper;
@@ -49,7 +48,7 @@ public class TemplateServiceTest {
         MasterTemplatesEntity masterTemplatesEntity = new MasterTemplatesEntity();
         masterTemplatesEntity.setId("123");
         Optional<MasterTemplatesEntity> optionalEntity = Optional.of(masterTemplatesEntity);
-        when(masterTemplatesRepository.getTemplate(anyString(), anyString(), anyString())).thenReturn(optionalEntity);
+        when(templateCacheService.getTemplate(anyString(), anyString(), anyString())).thenReturn(optionalEntity);
         MasterTemplatesDto masterTemplatesDto = new MasterTemplatesDto();
         Mockito.when(objectMapperConfig.objectMapper()).thenReturn(objectMapper);
         Mockito.when(objectMapper.convertValue(eq(MasterTemplatesEntity.class), eq(MasterTemplatesDto.class))).thenReturn(masterTemplatesDto);
@@ -59,7 +58,7 @@ public class TemplateServiceTest {
 
     @Test
     public void getTemplateExceptionTest() {
-        when(masterTemplatesRepository.getTemplate(anyString(), anyString(), anyString())).thenReturn(Optional.empty());
+        when(templateCacheService.getTemplate(anyString(), anyString(), anyString())).thenReturn(Optional.empty());
         ResponseWrapper<MasterTemplatesDto> response = templateService.getTemplate("eng", "abc", "v1");
         Assert.assertNotNull(response);
     }
@@ -74,7 +73,7 @@ public class TemplateServiceTest {
     public void getTemplateExceptionTest1() {
         MasterTemplatesEntity masterTemplatesEntity = new MasterTemplatesEntity();
         Optional<MasterTemplatesEntity> optionalEntity = Optional.of(masterTemplatesEntity);
-        when(masterTemplatesRepository.getTemplate(anyString(), anyString(), anyString())).thenReturn(optionalEntity);
+        when(templateCacheService.getTemplate(anyString(), anyString(), anyString())).thenReturn(optionalEntity);
         ResponseWrapper<MasterTemplatesDto> response = templateService.getTemplate("eng", "abc", "v1");
         Assert.assertNotNull(response);
     }
@@ -84,28 +83,28 @@ public class TemplateServiceTest {
      */
     @Test
     public void getLatestTemplateVersionTest() {
-        when(masterTemplatesRepository.getLatestTemplateVersion(anyString())).thenReturn("v12");
+        when(templateCacheService.getLatestTemplateVersion(anyString())).thenReturn("v12");
         ResponseWrapper<String> response = templateService.getLatestTemplateVersion("abc");
         Assert.assertNotNull(response);
     }
 
     @Test
     public void getLatestTemplateVersionTestException() {
-        when(masterTemplatesRepository.getLatestTemplateVersion(anyString())).thenReturn("vsdfu");
+        when(templateCacheService.getLatestTemplateVersion(anyString())).thenReturn("vsdfu");
         ResponseWrapper<String> response = templateService.getLatestTemplateVersion("abc");
         Assert.assertNotNull(response);
     }
 
     @Test
     public void getLatestTemplateVersionTestException1() {
-        when(masterTemplatesRepository.getLatestTemplateVersion(anyString())).thenReturn(null);
+        when(templateCacheService.getLatestTemplateVersion(anyString())).thenReturn(null);
         ResponseWrapper<String> response = templateService.getLatestTemplateVersion("abc");
         Assert.assertNotNull(response);
     }
 
     @Test
     public void getLatestTemplateVersionTestException2() {
-        when(masterTemplatesRepository.getLatestTemplateVersion(anyString())).thenThrow(NullPointerException.class);
+        when(templateCacheService.getLatestTemplateVersion(anyString())).thenThrow(NullPointerException.class);
         ResponseWrapper<String> response = templateService.getLatestTemplateVersion("abc");
         Assert.assertNotNull(response);
     }
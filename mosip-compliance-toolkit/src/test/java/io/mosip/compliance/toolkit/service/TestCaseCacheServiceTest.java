@@ -4,10 +4,12 @@ import io.mosip.compliance.toolkit.constants.ProjectTypes;
 import io.mosip.compliance.toolkit.constants.SbiSpecVersions;
 import io.mosip.compliance.toolkit.entity.TestCaseEntity;
 import io.mosip.compliance.toolkit.repository.TestCasesRepository;
+import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestContext;
@@ -59,4 +61,10 @@ public class TestCaseCacheServiceTest {
         TestCaseEntity entity = new TestCaseEntity();
         testCaseCacheService.updateTestCase(entity);
     }
+
+    @Test
+    public void upsertTestCasesTest() {
+        Mockito.when(testCasesRepository.upsertTestCases("[]")).thenReturn(0);
+        Assert.assertEquals(0, testCaseCacheService.upsertTestCases("[]"));
+    }
 }
@@ -0,0 +1,114 @@
+package io.mosip.compliance.toolkit.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+
+import io.mosip.compliance.toolkit.constants.AppConstants;
+import io.mosip.compliance.toolkit.dto.testcases.TestCaseDto;
+import io.mosip.compliance.toolkit.entity.TestCaseEntity;
+import io.mosip.compliance.toolkit.exceptions.ToolkitException;
+
+@ContextConfiguration(classes = { TestContext.class, WebApplicationContext.class })
+@RunWith(SpringRunner.class)
+@WebMvcTest
+public class TestCaseCatalogServiceTest {
+
+    private static final String SCHEMA = "{\"type\":\"object\",\"required\":[\"testId\"]}";
+
+    @InjectMocks
+    private TestCaseCatalogService testCaseCatalogService;
+
+    @Mock
+    private TestCaseCacheService testCaseCacheService;
+
+    @Mock
+    private SchemaCacheService schemaCacheService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void getSbiCatalogTest() throws Exception {
+        Mockito.when(schemaCacheService.getSchema(null, null, AppConstants.TESTCASE_SCHEMA_JSON)).thenReturn(getSchema());
+        List<TestCaseEntity> entities = new ArrayList<>();
+        entities.add(getEntity("{\"testId\":\"SBI1000\",\"specVersion\":\"0.9.5\",\"otherAttributes\":{\"purpose\":[\"Registration\"],\"biometricTypes\":[\"Finger\",\"Iris\"],\"deviceSubTypes\":[\"Slap\"]}}"));
+        entities.add(getEntity("{\"testId\":\"SBI1001\",\"specVersion\":\"0.9.5\",\"inactiveForAndroid\":\"yes\",\"otherAttributes\":{\"purpose\":[\"Registration\"],\"biometricTypes\":[\"Finger\"],\"deviceSubTypes\":[\"Slap\"]}}"));
+        entities.add(getEntity("{\"testId\":\"SBI1002\",\"specVersion\":\"0.9.5\",\"inactive\":true,\"otherAttributes\":{\"purpose\":[\"Registration\"],\"biometricTypes\":[\"Finger\"],\"deviceSubTypes\":[\"Slap\"]}}"));
+        entities.add(getEntity("{\"specVersion\":\"0.9.5\",\"otherAttributes\":{\"purpose\":[\"Registration\"],\"biometricTypes\":[\"Finger\"],\"deviceSubTypes\":[\"Slap\"]}}"));
+        Mockito.when(testCaseCacheService.getSbiTestCases(AppConstants.SBI, "0.9.5")).thenReturn(entities);
+
+        TestCaseCatalogService.Catalog catalog = testCaseCatalogService.getCatalog(AppConstants.SBI, "0.9.5");
+        List<TestCaseDto> testCases = catalog.getSbiTestCases("Registration", "Finger", "Slap", "no");
+        Assert.assertEquals(2, testCases.size());
+        Assert.assertEquals("SBI1000", testCases.get(0).getTestId());
+        Assert.assertEquals("SBI1001", testCases.get(1).getTestId());
+        Assert.assertEquals(1, catalog.getSbiTestCases("Registration", "Finger", "Slap", "yes").size());
+        Assert.assertEquals(1, catalog.getSbiTestCases("Registration", "Iris", "Slap", "no").size());
+        Assert.assertTrue(catalog.getSbiTestCases("Auth", "Finger", "Slap", "no").isEmpty());
+    }
+
+    @Test
+    public void getSdkCatalogTest() throws Exception {
+        Mockito.when(schemaCacheService.getSchema(null, null, AppConstants.TESTCASE_SCHEMA_JSON)).thenReturn(getSchema());
+        List<TestCaseEntity> entities = new ArrayList<>();
+        entities.add(getEntity("{\"testId\":\"SDK2000\",\"specVersion\":\"0.9.0\",\"otherAttributes\":{\"sdkPurpose\":[\"Check Quality\",\"Matcher\"]}}"));
+        entities.add(getEntity("{\"testId\":\"SDK2001\",\"specVersion\":\"1.0.0\",\"otherAttributes\":{\"sdkPurpose\":[\"Check Quality\"]}}"));
+        Mockito.when(testCaseCacheService.getSdkTestCases(AppConstants.SDK, "0.9.0")).thenReturn(entities);
+
+        TestCaseCatalogService.Catalog catalog = testCaseCatalogService.getCatalog(AppConstants.SDK, "0.9.0");
+        Assert.assertEquals(1, catalog.getSdkTestCases("Check Quality").size());
+        Assert.assertEquals(1, catalog.getSdkTestCases("Matcher").size());
+    }
+
+    @Test
+    public void getCatalogVersionSchemaChangedTest() throws Exception {
+        Mockito.when(schemaCacheService.getSchema(null, null, AppConstants.TESTCASE_SCHEMA_JSON)).thenReturn(getSchema());
+        Mockito.when(schemaCacheService.getSchemaContentHash(null, null, AppConstants.TESTCASE_SCHEMA_JSON))
+                .thenReturn("hash1");
+        List<TestCaseEntity> entities = new ArrayList<>();
+        entities.add(getEntity("{\"testId\":\"ABIS3000\",\"specVersion\":\"0.9.0\"}"));
+        Mockito.when(testCaseCacheService.getAbisTestCases(AppConstants.ABIS, "0.9.0")).thenReturn(entities);
+        String version = testCaseCatalogService.getCatalog(AppConstants.ABIS, "0.9.0").getVersion();
+        Assert.assertEquals(version, testCaseCatalogService.getCatalog(AppConstants.ABIS, "0.9.0").getVersion());
+
+        Mockito.when(schemaCacheService.getSchemaContentHash(null, null, AppConstants.TESTCASE_SCHEMA_JSON))
+                .thenReturn("hash2");
+        Assert.assertNotEquals(version, testCaseCatalogService.getCatalog(AppConstants.ABIS, "0.9.0").getVersion());
+    }
+
+    @Test(expected = ToolkitException.class)
+    public void getCatalogSchemaNotAvailableTest() throws Exception {
+        List<TestCaseEntity> entities = new ArrayList<>();
+        entities.add(getEntity("{\"testId\":\"ABIS3000\",\"specVersion\":\"0.9.0\"}"));
+        Mockito.when(testCaseCacheService.getAbisTestCases(AppConstants.ABIS, "0.9.0")).thenReturn(entities);
+        testCaseCatalogService.getCatalog(AppConstants.ABIS, "0.9.0");
+    }
+
+    private JsonSchema getSchema() {
+        return JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V201909).getSchema(SCHEMA);
+    }
+
+    private TestCaseEntity getEntity(String testcaseJson) {
+        TestCaseEntity entity = new TestCaseEntity();
+        entity.setTestcaseJson(testcaseJson);
+        return entity;
+    }
+}
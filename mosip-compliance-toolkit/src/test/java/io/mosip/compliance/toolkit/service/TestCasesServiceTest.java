@@ -23,6 +23,7 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -66,6 +67,9 @@ public class TestCasesServiceTest {
 	@Mock
 	private TestCaseCacheService testCaseCacheService;
 
+	@Mock
+	private TestCaseCatalogService testCaseCatalogService;
+
 	@Mock
 	private TestCasesRepository testCasesRepository;
 
@@ -153,7 +157,12 @@ public class TestCasesServiceTest {
 		testCaseDto.setOtherAttributes(otherAttributes);
 		when(objectMapper.readValue(testCaseEntity.getTestcaseJson(), TestCaseDto.class))
 				.thenReturn(testCaseDto);
-		testCasesServiceSpy.getSbiTestCases(specVersion, purpose, deviceType, deviceSubType, "no");
+		TestCaseCatalogService.Catalog catalog = new TestCaseCatalogService.Catalog();
+		catalog.add(AppConstants.SBI, testCaseDto);
+		when(testCaseCatalogService.getCatalog(AppConstants.SBI, specVersion)).thenReturn(catalog);
+		ResponseWrapper<List<TestCaseDto>> response = testCasesServiceSpy.getSbiTestCases(specVersion, purpose,
+				deviceType, deviceSubType, "no");
+		Assert.assertEquals(1, response.getResponse().size());
 	}
 
 	/*
@@ -261,7 +270,11 @@ public class TestCasesServiceTest {
 		testCaseDto.setOtherAttributes(otherAttributes);
 		when(objectMapper.readValue(testCaseEntity.getTestcaseJson(), TestCaseDto.class))
 				.thenReturn(testCaseDto);
-		testCasesServiceSpy.getSdkTestCases(specVersion, sdkPurpose);
+		TestCaseCatalogService.Catalog catalog = new TestCaseCatalogService.Catalog();
+		catalog.add(AppConstants.SDK, testCaseDto);
+		when(testCaseCatalogService.getCatalog(AppConstants.SDK, specVersion)).thenReturn(catalog);
+		ResponseWrapper<List<TestCaseDto>> response = testCasesServiceSpy.getSdkTestCases(specVersion, sdkPurpose);
+		Assert.assertEquals(1, response.getResponse().size());
 	}
 
 	/*
@@ -320,7 +333,11 @@ public class TestCasesServiceTest {
 		testCaseDto.setOtherAttributes(otherAttributes);
 		when(objectMapper.readValue(testCaseEntity.getTestcaseJson(), TestCaseDto.class))
 				.thenReturn(testCaseDto);
-		testCasesServiceSpy.getAbisTestCases(specVersion);
+		TestCaseCatalogService.Catalog catalog = new TestCaseCatalogService.Catalog();
+		catalog.add(AppConstants.ABIS, testCaseDto);
+		when(testCaseCatalogService.getCatalog(AppConstants.ABIS, specVersion)).thenReturn(catalog);
+		ResponseWrapper<List<TestCaseDto>> response = testCasesServiceSpy.getAbisTestCases(specVersion);
+		Assert.assertEquals(1, response.getResponse().size());
 	}
 
 	/*
@@ -351,6 +368,20 @@ public class TestCasesServiceTest {
 		ReflectionTestUtils.invokeMethod(testCasesService,"isValidAbisTestCase",specVersion);
 	}
 
+	/*
+	 * This class tests the getTestCasesVersion method
+	 */
+	@Test
+	public void getTestCasesVersionTest() throws Exception {
+		String specVersion = AbisSpecVersions.SPEC_VER_0_9_0.getCode();
+		TestCaseCatalogService.Catalog catalog = Mockito.mock(TestCaseCatalogService.Catalog.class);
+		when(catalog.getVersion()).thenReturn("v1");
+		when(testCaseCatalogService.getCatalog(AppConstants.ABIS, specVersion)).thenReturn(catalog);
+		Assert.assertEquals("v1", testCasesService.getTestCasesVersion(AppConstants.ABIS, specVersion));
+		// invalid spec version has no version
+		Assert.assertNull(testCasesService.getTestCasesVersion(AppConstants.SBI, "0.0.0"));
+	}
+
 	/*
 	 *This class tests the validateJsonWithSchema method
 	 */
@@ -470,6 +501,68 @@ public class TestCasesServiceTest {
 		Assert.assertEquals(null, testCaseResponseDtoRW.getResponse().getTestCases().get(0));
 	}
 
+	/*
+	 * This class tests the importTestCases method
+	 */
+	@Test
+	public void importTestCasesTest() throws Exception {
+		ReflectionTestUtils.setField(testCasesService, "objectMapper", new ObjectMapper());
+		when(resourceCacheService.getSchema(null, null, AppConstants.TESTCASE_SCHEMA_JSON))
+				.thenReturn("{\"type\":\"object\"}");
+		List<TestCaseDto> values = new ArrayList<>();
+		values.add(getImportTestCase("SDK1000"));
+		TestCaseDto existingTestCaseDto = getImportTestCase("SDK1001");
+		existingTestCaseDto.setInactive(true);
+		values.add(existingTestCaseDto);
+		TestCaseEntity existingTestCase = new TestCaseEntity();
+		existingTestCase.setId("SDK1001");
+		existingTestCase.setTestcaseJson("{\"testId\":\"SDK1001\",\"testName\":\"old\",\"inactive\":false}");
+		when(testCasesRepository.findAllById(Mockito.anyIterable())).thenReturn(Arrays.asList(existingTestCase));
+		when(testCaseCacheService.upsertTestCases(Mockito.anyString())).thenReturn(2);
+
+		ResponseWrapper<TestCaseResponseDto> response = testCasesService.importTestCases(values);
+		Assert.assertNull(response.getErrors());
+		Assert.assertEquals(2, response.getResponse().getTestCases().size());
+		ArgumentCaptor<String> upsertCaptor = ArgumentCaptor.forClass(String.class);
+		Mockito.verify(testCaseCacheService).upsertTestCases(upsertCaptor.capture());
+		Mockito.verify(testCasesRepository, Mockito.never()).findById(Mockito.anyString());
+		List<Map<String, String>> upserted = new ObjectMapper().readValue(upsertCaptor.getValue(), List.class);
+		Assert.assertEquals("SDK1000", upserted.get(0).get("id"));
+		// existing test case keeps its json and only takes the inactive flag
+		Assert.assertTrue(upserted.get(1).get("testcase_json").contains("\"testName\":\"old\""));
+		Assert.assertTrue(upserted.get(1).get("testcase_json").contains("\"inactive\":true"));
+	}
+
+	/*
+	 * This class tests the importTestCases method when a test case is invalid
+	 */
+	@Test
+	public void importTestCasesInvalidTest() throws Exception {
+		ReflectionTestUtils.setField(testCasesService, "objectMapper", new ObjectMapper());
+		when(resourceCacheService.getSchema(null, null, AppConstants.TESTCASE_SCHEMA_JSON))
+				.thenReturn("{\"type\":\"object\"}");
+		List<TestCaseDto> values = new ArrayList<>();
+		values.add(getImportTestCase("SDK1000"));
+		values.add(getImportTestCase("SBI1000"));
+		ResponseWrapper<TestCaseResponseDto> response = testCasesService.importTestCases(values);
+		Assert.assertNotNull(response.getErrors());
+		Mockito.verify(testCaseCacheService, Mockito.never()).upsertTestCases(Mockito.anyString());
+	}
+
+	private TestCaseDto getImportTestCase(String testId) {
+		TestCaseDto testCaseDto = new TestCaseDto();
+		testCaseDto.setTestCaseType(AppConstants.SDK);
+		testCaseDto.setTestId(testId);
+		testCaseDto.setSpecVersion(SdkSpecVersions.SPEC_VER_0_9_0.getCode());
+		testCaseDto.setMethodName(Arrays.asList(MethodName.MATCH.getCode()));
+		testCaseDto.setRequestSchema(Arrays.asList("requestSchema"));
+		testCaseDto.setResponseSchema(Arrays.asList("responseSchema"));
+		List<List<TestCaseDto.ValidatorDef>> validatorDefs = new ArrayList<>();
+		validatorDefs.add(Arrays.asList(new TestCaseDto.ValidatorDef()));
+		testCaseDto.setValidatorDefs(validatorDefs);
+		return testCaseDto;
+	}
+
 	@Test
 	public void saveTestCasesTestException() throws Exception {
 		List<TestCaseDto> values = new ArrayList<>();
@@ -1,6 +1,7 @@
 package io.mosip.compliance.toolkit.service;
 
 import io.mosip.compliance.toolkit.repository.TestRunDetailsRepository;
+import io.mosip.compliance.toolkit.repository.TestRunReportModelRepository;
 import io.mosip.compliance.toolkit.repository.TestRunRepository;
 import io.mosip.kernel.core.authmanager.authadapter.model.AuthUserDetails;
 import io.mosip.kernel.core.authmanager.authadapter.model.MosipUserDto;
@@ -39,9 +40,15 @@ public class TestRunArchiveServiceTest {
     @Mock
     TestRunRepository testRunRepository;
 
+    @Mock
+    private ProjectSummaryCacheService projectSummaryCacheService;
+
     @Mock
     TestRunDetailsRepository testRunDetailsRepository;
 
+    @Mock
+    TestRunReportModelRepository testRunReportModelRepository;
+
     private MosipUserDto mosipUserDto;
 
     @Before
@@ -74,6 +81,7 @@ public class TestRunArchiveServiceTest {
     public void archiveTestRunTest() {
         String runid = "123";
         testRunArchiveService.archiveTestRun(runid);
+        Mockito.verify(testRunReportModelRepository).deleteById(runid, "123");
     }
 
     /*
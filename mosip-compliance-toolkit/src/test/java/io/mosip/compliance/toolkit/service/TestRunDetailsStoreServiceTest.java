@@ -0,0 +1,112 @@
+package io.mosip.compliance.toolkit.service;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.context.WebApplicationContext;
+
+import io.mosip.compliance.toolkit.constants.AppConstants;
+import io.mosip.compliance.toolkit.entity.TestRunDetailsEntity;
+import io.mosip.compliance.toolkit.repository.TestRunDetailsRepository;
+import io.mosip.compliance.toolkit.repository.TestRunRepository;
+
+@ContextConfiguration(classes = { TestContext.class, WebApplicationContext.class })
+@RunWith(SpringRunner.class)
+@WebMvcTest
+public class TestRunDetailsStoreServiceTest {
+
+	@InjectMocks
+	private TestRunDetailsStoreService testRunDetailsStoreService;
+
+	@Mock
+	private TestRunRepository testRunRepository;
+
+	@Mock
+	private TestRunDetailsRepository testRunDetailsRepository;
+
+	@Mock
+	private TestRunReportModelService testRunReportModelService;
+
+	@Mock
+	private TestRunPayloadService testRunPayloadService;
+
+	/*
+	 * This class tests that saveTestRunDetails updates the test run counters
+	 */
+	@Test
+	public void saveTestRunDetailsCountersTest() {
+		String id = "ABCKALKJA";
+		TestRunDetailsEntity entity = getTestRunDetailsEntity(id);
+		Mockito.when(testRunDetailsRepository.save(entity)).thenReturn(entity);
+
+		// first method of the testcase
+		Mockito.when(testRunDetailsRepository.getTestCaseDetailsCount(id, "123", "SBI1000")).thenReturn(0L);
+		Assert.assertEquals(entity, testRunDetailsStoreService.saveTestRunDetails(entity));
+		Mockito.verify(testRunRepository).lockTestRunById(id, "123");
+		Mockito.verify(testRunRepository).updateTestRunCounters(id, "123", 1L, 1L);
+
+		// same method saved again with the same result
+		Mockito.when(testRunDetailsRepository.getTestCaseDetailsCount(id, "123", "SBI1000")).thenReturn(1L);
+		Mockito.when(testRunDetailsRepository.getMethodPassCount(id, "123", "SBI1000", "method1")).thenReturn(1L);
+		testRunDetailsStoreService.saveTestRunDetails(entity);
+		Mockito.verify(testRunRepository).updateTestRunCounters(id, "123", 0L, 0L);
+	}
+
+	/*
+	 * This class tests that saveTestRunDetails adds the saved method to the report
+	 * model of the run
+	 */
+	@Test
+	public void saveTestRunDetailsReportModelTest() {
+		TestRunDetailsEntity entity = getTestRunDetailsEntity("ABCKALKJA");
+		testRunDetailsStoreService.saveTestRunDetails(entity);
+		Mockito.verify(testRunReportModelService).putMethod(entity);
+	}
+
+	/*
+	 * This class tests that saveTestRunDetails releases the payloads of the method
+	 * result it replaces
+	 */
+	@Test
+	public void saveTestRunDetailsReleasePayloadsTest() {
+		TestRunDetailsEntity entity = getTestRunDetailsEntity("ABCKALKJA");
+		Mockito.when(testRunDetailsRepository.getMethodRequest("ABCKALKJA", "123", "SBI1000", "method1"))
+				.thenReturn("{}");
+		Mockito.when(testRunDetailsRepository.getMethodResponse("ABCKALKJA", "123", "SBI1000", "method1"))
+				.thenReturn("@objectstore:sha256:abc");
+		testRunDetailsStoreService.saveTestRunDetails(entity);
+		Mockito.verify(testRunPayloadService).release(Arrays.asList("{}", "@objectstore:sha256:abc"));
+	}
+
+	/*
+	 * This class tests that a failure is not swallowed, so the transaction is
+	 * rolled back and the caller answers with an error
+	 */
+	@Test(expected = IllegalStateException.class)
+	public void saveTestRunDetailsExceptionTest() {
+		TestRunDetailsEntity entity = getTestRunDetailsEntity("ABCKALKJA");
+		Mockito.when(testRunRepository.lockTestRunById("ABCKALKJA", "123"))
+				.thenThrow(new IllegalStateException("lock timeout"));
+		testRunDetailsStoreService.saveTestRunDetails(entity);
+	}
+
+	private TestRunDetailsEntity getTestRunDetailsEntity(String id) {
+		TestRunDetailsEntity entity = new TestRunDetailsEntity();
+		entity.setRunId(id);
+		entity.setPartnerId("123");
+		entity.setTestcaseId("SBI1000");
+		entity.setMethodId("method1");
+		entity.setResultStatus(AppConstants.SUCCESS);
+		entity.setExecutionStatus(AppConstants.COMPLETE);
+		return entity;
+	}
+}
@@ -0,0 +1,194 @@
+package io.mosip.compliance.toolkit.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.WebApplicationContext;
+
+import io.mosip.commons.khazana.spi.ObjectStoreAdapter;
+import io.mosip.compliance.toolkit.entity.TestRunPayloadRefEntity;
+import io.mosip.compliance.toolkit.repository.TestRunPayloadRefRepository;
+
+@ContextConfiguration(classes = { TestContext.class, WebApplicationContext.class })
+@RunWith(SpringRunner.class)
+@WebMvcTest
+public class TestRunPayloadServiceTest {
+
+	@InjectMocks
+	private TestRunPayloadService testRunPayloadService;
+
+	@Mock
+	private ObjectStoreAdapter objectStore;
+
+	@Mock
+	private TestRunPayloadRefRepository testRunPayloadRefRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private static final String PAYLOAD = "{\"biometrics\":[{\"data\":\"abcdefghijklmnopqrstuvwxyz\"}]}";
+
+	private static final String HASH = "abcdef";
+
+	private static final String REFERENCE = "@objectstore:sha256:" + HASH;
+
+	@Before
+	public void before() {
+		ReflectionTestUtils.setField(testRunPayloadService, "objectStoreAccountName", "compliance-toolkit");
+		ReflectionTestUtils.setField(testRunPayloadService, "offloadEnabled", true);
+		ReflectionTestUtils.setField(testRunPayloadService, "offloadThresholdBytes", 16);
+	}
+
+	/*
+	 * This class tests the offload and resolve methods
+	 */
+	@Test
+	public void offloadAndResolveTest() throws Exception {
+		Mockito.when(objectStore.putObject(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(),
+				Mockito.any())).thenReturn(true);
+		String reference = testRunPayloadService.offload(PAYLOAD);
+		Assert.assertTrue(testRunPayloadService.isReference(reference));
+		Mockito.verify(testRunPayloadRefRepository).addReference(Mockito.eq(reference.substring(reference.lastIndexOf(':') + 1)),
+				Mockito.any());
+
+		ArgumentCaptor<InputStream> stored = ArgumentCaptor.forClass(InputStream.class);
+		Mockito.verify(objectStore).putObject(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(),
+				Mockito.any(), stored.capture());
+		byte[] bytes = stored.getValue().readAllBytes();
+		Mockito.when(objectStore.getObject(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+				.thenReturn(new ByteArrayInputStream(bytes));
+		Assert.assertEquals(PAYLOAD, testRunPayloadService.resolve(reference));
+	}
+
+	/*
+	 * This class tests that small payloads and disabled offload stay inline
+	 */
+	@Test
+	public void offloadInlineTest() throws Exception {
+		Assert.assertEquals("{}", testRunPayloadService.offload("{}"));
+		ReflectionTestUtils.setField(testRunPayloadService, "offloadEnabled", false);
+		Assert.assertEquals(PAYLOAD, testRunPayloadService.offload(PAYLOAD));
+		Assert.assertEquals(PAYLOAD, testRunPayloadService.resolve(PAYLOAD));
+		Mockito.verifyZeroInteractions(objectStore);
+	}
+
+	/*
+	 * This class tests that inline payloads starting like a reference are not
+	 * read as one
+	 */
+	@Test
+	public void offloadInlineTaggedTest() throws Exception {
+		ReflectionTestUtils.setField(testRunPayloadService, "offloadThresholdBytes", 1024);
+		String tagged = testRunPayloadService.offload(REFERENCE);
+		Assert.assertFalse(testRunPayloadService.isReference(tagged));
+		Assert.assertEquals(REFERENCE, testRunPayloadService.resolve(tagged));
+		String inline = "@inline:{}";
+		Assert.assertEquals(inline, testRunPayloadService.resolve(testRunPayloadService.offload(inline)));
+		ReflectionTestUtils.setField(testRunPayloadService, "offloadEnabled", false);
+		tagged = testRunPayloadService.offload(REFERENCE);
+		Assert.assertFalse(testRunPayloadService.isReference(tagged));
+		Assert.assertEquals(REFERENCE, testRunPayloadService.resolve(tagged));
+		Assert.assertNull(testRunPayloadService.offload(null));
+		Mockito.verifyZeroInteractions(objectStore);
+	}
+
+	/*
+	 * This class tests that the object is deleted with its last reference
+	 */
+	@Test
+	public void releaseTest() throws Exception {
+		TestRunPayloadRefEntity refEntity = new TestRunPayloadRefEntity();
+		refEntity.setHash(HASH);
+		refEntity.setRefCount(2);
+		Mockito.when(testRunPayloadRefRepository.lockByHash(HASH)).thenReturn(refEntity);
+		testRunPayloadService.release(Arrays.asList(REFERENCE, "{}", null));
+		Assert.assertEquals(1, refEntity.getRefCount());
+		Mockito.verify(testRunPayloadRefRepository).save(refEntity);
+		Mockito.verify(objectStore, Mockito.never()).deleteObject(Mockito.any(), Mockito.any(), Mockito.any(),
+				Mockito.any(), Mockito.any());
+
+		testRunPayloadService.release(Arrays.asList(REFERENCE));
+		Mockito.verify(testRunPayloadRefRepository).delete(refEntity);
+		Mockito.verify(objectStore).deleteObject("compliance-toolkit", "testrun-payloads/ab", null, null, HASH);
+	}
+
+	/*
+	 * This class tests that objects offloaded before references were counted are
+	 * kept
+	 */
+	@Test
+	public void releaseUncountedTest() throws Exception {
+		testRunPayloadService.release(Arrays.asList(REFERENCE));
+		Mockito.verify(testRunPayloadRefRepository).lockByHash(HASH);
+		Mockito.verifyZeroInteractions(objectStore);
+	}
+
+	/*
+	 * This class tests that references are released only once the transaction
+	 * replacing them has committed
+	 */
+	@Test
+	public void releaseAfterCommitTest() throws Exception {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			testRunPayloadService.release(Arrays.asList(REFERENCE));
+			Mockito.verify(testRunPayloadRefRepository, Mockito.never()).lockByHash(HASH);
+			for (TransactionSynchronization synchronization : TransactionSynchronizationManager
+					.getSynchronizations()) {
+				synchronization.afterCommit();
+			}
+			Mockito.verify(testRunPayloadRefRepository).lockByHash(HASH);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	/*
+	 * This class tests resolve with a stored object that does not match its hash
+	 */
+	@Test(expected = Exception.class)
+	public void resolveHashMismatchTest() throws Exception {
+		Mockito.when(objectStore.putObject(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(),
+				Mockito.any())).thenReturn(true);
+		String reference = testRunPayloadService.offload(PAYLOAD);
+		Mockito.when(objectStore.getObject(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+				.thenReturn(new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)));
+		testRunPayloadService.resolve(reference);
+	}
+
+	/*
+	 * This class tests that streaming a stored object that does not match its
+	 * hash fails once the stream is read to the end
+	 */
+	@Test(expected = IOException.class)
+	public void openHashMismatchTest() throws Exception {
+		Mockito.when(objectStore.putObject(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(),
+				Mockito.any())).thenReturn(true);
+		String reference = testRunPayloadService.offload(PAYLOAD);
+		Mockito.when(objectStore.getObject(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+				.thenReturn(new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)));
+		try (InputStream inputStream = testRunPayloadService.open(reference)) {
+			inputStream.transferTo(new ByteArrayOutputStream());
+		}
+	}
+}
@@ -0,0 +1,217 @@
+package io.mosip.compliance.toolkit.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.compliance.toolkit.constants.AppConstants;
+import io.mosip.compliance.toolkit.dto.collections.CollectionTestCasesResponseDto;
+import io.mosip.compliance.toolkit.dto.report.BiometricScores;
+import io.mosip.compliance.toolkit.dto.report.PartnerTable;
+import io.mosip.compliance.toolkit.dto.testcases.TestCaseDto;
+import io.mosip.compliance.toolkit.dto.testrun.TestRunDetailsDto;
+import io.mosip.compliance.toolkit.dto.testrun.TestRunReportModelDto;
+import io.mosip.compliance.toolkit.entity.TestRunDetailsEntity;
+import io.mosip.compliance.toolkit.entity.TestRunEntity;
+import io.mosip.compliance.toolkit.entity.TestRunReportModelEntity;
+import io.mosip.compliance.toolkit.repository.CollectionsRepository;
+import io.mosip.compliance.toolkit.repository.TestRunReportModelRepository;
+import io.mosip.compliance.toolkit.repository.TestRunRepository;
+import io.mosip.compliance.toolkit.util.ObjectMapperConfig;
+import io.mosip.compliance.toolkit.util.TestRunReportModelUtil;
+import io.mosip.kernel.core.http.ResponseWrapper;
+
+@ContextConfiguration(classes = { TestContext.class, WebApplicationContext.class })
+@RunWith(SpringRunner.class)
+@WebMvcTest
+public class TestRunReportModelServiceTest {
+
+	private static final String RUN_ID = "ABCKALKJA";
+
+	private static final String DEVICE_1 = "[\"make\",\"model\",\"1\",\"provider\",\"P1\"]";
+
+	private static final String DEVICE_2 = "[\"make\",\"model\",\"2\",\"provider\",\"P1\"]";
+
+	@InjectMocks
+	private TestRunReportModelService testRunReportModelService;
+
+	@Mock
+	private TestRunRepository testRunRepository;
+
+	@Mock
+	private TestRunReportModelRepository testRunReportModelRepository;
+
+	@Mock
+	private CollectionsService collectionsService;
+
+	@Mock
+	private CollectionsRepository collectionsRepository;
+
+	@Mock
+	private ObjectMapperConfig objectMapperConfig;
+
+	private TestRunReportModelEntity modelEntity;
+
+	@Before
+	public void before() {
+		Mockito.when(objectMapperConfig.objectMapper()).thenReturn(new ObjectMapper());
+		Mockito.when(testRunRepository.lockTestRunById(RUN_ID, "123")).thenReturn(new TestRunEntity());
+		modelEntity = new TestRunReportModelEntity();
+		modelEntity.setRunId(RUN_ID);
+		modelEntity.setPartnerId("123");
+		modelEntity.setReportModel(TestRunReportModelUtil.toBytes(new TestRunReportModelDto()));
+		Mockito.when(testRunReportModelRepository.getReportModel(RUN_ID, "123")).thenReturn(modelEntity);
+	}
+
+	/*
+	 * This class tests that a new run gets a report model with its header and the
+	 * testcases of its collection
+	 */
+	@Test
+	public void addReportModelTest() {
+		TestCaseDto testCaseDto = new TestCaseDto();
+		testCaseDto.setTestId("SBI1000");
+		testCaseDto.setTestName("Discover");
+		CollectionTestCasesResponseDto collectionTestCasesResponseDto = new CollectionTestCasesResponseDto();
+		collectionTestCasesResponseDto.setTestcases(Arrays.asList(testCaseDto));
+		ResponseWrapper<CollectionTestCasesResponseDto> responseWrapper = new ResponseWrapper<>();
+		responseWrapper.setResponse(collectionTestCasesResponseDto);
+		Mockito.when(collectionsService.getTestCasesForCollection("123", "collection1")).thenReturn(responseWrapper);
+		Mockito.when(collectionsRepository.getCollectionNameById("collection1", "123")).thenReturn("collection");
+
+		TestRunEntity testRunEntity = new TestRunEntity();
+		testRunEntity.setId(RUN_ID);
+		testRunEntity.setPartnerId("123");
+		testRunEntity.setCollectionId("collection1");
+		testRunEntity.setRunDtimes(LocalDateTime.of(2024, 1, 2, 3, 4, 5));
+		testRunEntity.setExecutionStatus(AppConstants.INCOMPLETE);
+		testRunReportModelService.addReportModel(testRunEntity);
+
+		ArgumentCaptor<TestRunReportModelEntity> savedEntity = ArgumentCaptor.forClass(TestRunReportModelEntity.class);
+		Mockito.verify(testRunReportModelRepository).save(savedEntity.capture());
+		Assert.assertEquals(RUN_ID, savedEntity.getValue().getRunId());
+		TestRunReportModelDto reportModel = TestRunReportModelUtil.fromBytes(savedEntity.getValue().getReportModel());
+		Assert.assertEquals("collection", reportModel.getCollectionName());
+		Assert.assertEquals(testRunEntity.getRunDtimes(), reportModel.getRunDtimes());
+		Assert.assertEquals(AppConstants.INCOMPLETE, reportModel.getExecutionStatus());
+		List<TestCaseDto> testcasesList = reportModel.toTestCaseList();
+		Assert.assertEquals(1, testcasesList.size());
+		Assert.assertEquals("Discover", testcasesList.get(0).getTestName());
+	}
+
+	/*
+	 * This class tests that saved methods replace their earlier result and that
+	 * the device of the run is validated as they are added
+	 */
+	@Test
+	public void putMethodTest() {
+		testRunReportModelService.putMethod(getTestRunDetailsEntity("SBI1000", "method1", AppConstants.FAILURE, DEVICE_1));
+		testRunReportModelService.putMethod(getTestRunDetailsEntity("SBI1000", "method2", AppConstants.SUCCESS, ""));
+		TestRunReportModelDto reportModel = getSavedReportModel();
+		Assert.assertEquals(Arrays.asList("make", "model", "1", "provider", "P1"), reportModel.getDevice());
+		Assert.assertEquals("", reportModel.getInvalidDeviceTestcaseId());
+
+		// the method executed again with another device
+		testRunReportModelService.putMethod(getTestRunDetailsEntity("SBI1001", "method1", AppConstants.SUCCESS, DEVICE_2));
+		testRunReportModelService.putMethod(getTestRunDetailsEntity("SBI1000", "method1", AppConstants.SUCCESS, DEVICE_1));
+		reportModel = getSavedReportModel();
+		List<TestRunDetailsDto> testRunDetailsList = reportModel.toTestRunDetailsList(RUN_ID);
+		Assert.assertEquals(3, testRunDetailsList.size());
+		Assert.assertEquals(AppConstants.SUCCESS, testRunDetailsList.get(0).getResultStatus());
+		Assert.assertEquals("SBI1001", reportModel.getInvalidDeviceTestcaseId());
+		Assert.assertEquals("1", reportModel.getDevice().get(2));
+		Mockito.verify(testRunRepository, Mockito.times(4)).lockTestRunById(RUN_ID, "123");
+		Mockito.verify(testRunReportModelRepository, Mockito.times(4)).save(modelEntity);
+	}
+
+	/*
+	 * This class tests that runs without a report model are not given one
+	 */
+	@Test
+	public void putMethodWithoutReportModelTest() {
+		Mockito.when(testRunReportModelRepository.getReportModel(RUN_ID, "123")).thenReturn(null);
+		testRunReportModelService.putMethod(getTestRunDetailsEntity("SBI1000", "method1", AppConstants.SUCCESS, ""));
+		Mockito.verify(testRunReportModelRepository, Mockito.never()).save(Mockito.any());
+		Assert.assertNull(testRunReportModelService.getReportModel("123", RUN_ID));
+	}
+
+	/*
+	 * This class tests that the update of a test run is applied to its report
+	 * model
+	 */
+	@Test
+	public void updateRunTest() {
+		LocalDateTime executionDtimes = LocalDateTime.of(2024, 1, 2, 3, 14, 5);
+		testRunReportModelService.updateRun("123", RUN_ID, executionDtimes, AppConstants.COMPLETE,
+				AppConstants.SUCCESS, "user");
+		TestRunReportModelDto reportModel = testRunReportModelService.getReportModel("123", RUN_ID);
+		Assert.assertEquals(executionDtimes, reportModel.getExecutionDtimes());
+		Assert.assertEquals(AppConstants.COMPLETE, reportModel.getExecutionStatus());
+		Assert.assertEquals(AppConstants.SUCCESS, reportModel.getRunStatus());
+		Assert.assertEquals("user", modelEntity.getUpdBy());
+	}
+
+	/*
+	 * This class tests that the partner details and the score tables read for a
+	 * draft report are kept, and that score tables read before scores were added
+	 * are not
+	 */
+	@Test
+	public void saveReportInputsTest() {
+		PartnerTable partnerTable = new PartnerTable();
+		partnerTable.setOrgName("org");
+		testRunReportModelService.savePartnerDetails("123", RUN_ID, partnerTable, "user");
+		List<BiometricScores> biometricScoresList = new ArrayList<>();
+		biometricScoresList.add(new BiometricScores());
+		testRunReportModelService.saveBiometricScores("123", RUN_ID, 0, "project",
+				AppConstants.BIOMETRIC_SCORES_FACE, biometricScoresList, "user");
+		TestRunReportModelDto reportModel = getSavedReportModel();
+		Assert.assertEquals("org", reportModel.getPartnerDetails().getOrgName());
+		Assert.assertTrue(reportModel.hasBiometricScores("project", AppConstants.BIOMETRIC_SCORES_FACE));
+		Assert.assertFalse(reportModel.hasBiometricScores("project", AppConstants.BIOMETRIC_SCORES_IRIS));
+
+		testRunReportModelService.biometricScoresAdded("123", RUN_ID, "user");
+		reportModel = getSavedReportModel();
+		Assert.assertFalse(reportModel.hasBiometricScores("project", AppConstants.BIOMETRIC_SCORES_FACE));
+		Assert.assertEquals(1, reportModel.getBiometricScoresRevision());
+
+		// read before the scores were added
+		testRunReportModelService.saveBiometricScores("123", RUN_ID, 0, "project",
+				AppConstants.BIOMETRIC_SCORES_FACE, biometricScoresList, "user");
+		Assert.assertFalse(getSavedReportModel().hasBiometricScores("project", AppConstants.BIOMETRIC_SCORES_FACE));
+	}
+
+	private TestRunReportModelDto getSavedReportModel() {
+		return TestRunReportModelUtil.fromBytes(modelEntity.getReportModel());
+	}
+
+	private TestRunDetailsEntity getTestRunDetailsEntity(String testcaseId, String methodId, String resultStatus,
+			String deviceFingerprint) {
+		TestRunDetailsEntity entity = new TestRunDetailsEntity();
+		entity.setRunId(RUN_ID);
+		entity.setPartnerId("123");
+		entity.setTestcaseId(testcaseId);
+		entity.setMethodId(methodId);
+		entity.setResultStatus(resultStatus);
+		entity.setExecutionStatus(AppConstants.COMPLETE);
+		entity.setDeviceFingerprint(deviceFingerprint);
+		return entity;
+	}
+}
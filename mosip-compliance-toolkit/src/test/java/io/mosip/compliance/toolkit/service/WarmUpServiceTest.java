@@ -0,0 +1,83 @@
+package io.mosip.compliance.toolkit.service;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.Spy;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestContext;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+
+import io.mosip.compliance.toolkit.constants.AppConstants;
+import io.mosip.compliance.toolkit.constants.SbiSpecVersions;
+import io.mosip.compliance.toolkit.dto.testcases.TestCaseDto;
+import java.util.Arrays;
+
+@ContextConfiguration(classes = { TestContext.class, WebApplicationContext.class })
+@RunWith(SpringRunner.class)
+@WebMvcTest
+public class WarmUpServiceTest {
+
+    @InjectMocks
+    private WarmUpService warmUpService;
+
+    @Mock
+    private TestCaseCatalogService testCaseCatalogService;
+
+    @Mock
+    private SchemaCacheService schemaCacheService;
+
+    @Mock
+    private TemplateCacheService templateCacheService;
+
+    @Mock
+    private TestCasesService testCasesService;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void warmUpTest() throws Exception {
+        String specVersion = SbiSpecVersions.SPEC_VER_0_9_5.getCode();
+        TestCaseDto testCaseDto = new TestCaseDto();
+        testCaseDto.setRequestSchema(Arrays.asList("DiscoverRequestSchema"));
+        testCaseDto.setResponseSchema(Arrays.asList("DiscoverResponseSchema"));
+        TestCaseCatalogService.Catalog catalog = new TestCaseCatalogService.Catalog();
+        catalog.add(AppConstants.ABIS, testCaseDto);
+        Mockito.when(testCaseCatalogService.getCatalog(Mockito.anyString(), Mockito.anyString()))
+                .thenReturn(new TestCaseCatalogService.Catalog());
+        Mockito.when(testCaseCatalogService.getCatalog(AppConstants.SBI, specVersion)).thenReturn(catalog);
+        Mockito.when(schemaCacheService.getSchema("sbi", specVersion, "DiscoverRequestSchema.json"))
+                .thenReturn(JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V201909)
+                        .getSchema("{\"type\":\"object\"}"));
+        // a failing step does not stop the warm up
+        Mockito.when(schemaCacheService.getSchema("sbi", specVersion, "DiscoverResponseSchema.json"))
+                .thenThrow(new RuntimeException("not available"));
+
+        ReflectionTestUtils.setField(warmUpService, "timeoutSeconds", 240L);
+        Assert.assertFalse(warmUpService.isCompleted());
+        warmUpService.warmUp();
+        Assert.assertTrue(warmUpService.isCompleted());
+        Mockito.verify(schemaCacheService).getSchema("sbi", specVersion, "DiscoverRequestSchema.json");
+        Mockito.verify(templateCacheService)
+                .getLatestTemplateVersion(AppConstants.TERMS_AND_CONDTIONS_TEMPLATE);
+    }
+
+    @Test
+    public void warmUpDisabledTest() {
+        ReflectionTestUtils.setField(warmUpService, "enabled", false);
+        warmUpService.onApplicationReady();
+        Assert.assertTrue(warmUpService.isCompleted());
+        Mockito.verifyZeroInteractions(testCaseCatalogService);
+    }
+}
@@ -0,0 +1,165 @@
+package io.mosip.compliance.toolkit.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockMultipartFile;
+
+import io.mosip.compliance.toolkit.constants.ToolkitErrorCodes;
+import io.mosip.compliance.toolkit.exceptions.ToolkitException;
+import io.mosip.kernel.core.virusscanner.exception.VirusScannerException;
+import io.mosip.kernel.core.virusscanner.spi.VirusScanner;
+
+public class CommonUtilTest {
+
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>());
+
+    @SuppressWarnings("unchecked")
+    private final VirusScanner<Boolean, InputStream> virusScan = Mockito.mock(VirusScanner.class);
+
+    @After
+    public void after() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void virusScanCleanTest() throws Exception {
+        Mockito.when(virusScan.scanDocument((byte[]) Mockito.any())).thenReturn(true);
+        try (SpooledUpload upload = getUpload()) {
+            VirusScanTask scan = CommonUtil.startVirusScan(upload, true, virusScan, executor);
+            CommonUtil.performFileValidation(upload, true);
+            CommonUtil.awaitVirusScan(scan, 10);
+        }
+        Mockito.verify(virusScan).scanDocument((byte[]) Mockito.any());
+    }
+
+    @Test
+    public void virusFoundTest() throws Exception {
+        Mockito.when(virusScan.scanDocument((byte[]) Mockito.any())).thenReturn(false);
+        try (SpooledUpload upload = getUpload()) {
+            VirusScanTask scan = CommonUtil.startVirusScan(upload, true, virusScan, executor);
+            CommonUtil.awaitVirusScan(scan, 10);
+            Assert.fail("infected upload is accepted");
+        } catch (ToolkitException ex) {
+            Assert.assertEquals(ToolkitErrorCodes.VIRUS_FOUND.getErrorCode(), ex.getErrorCode());
+        }
+    }
+
+    @Test(expected = VirusScannerException.class)
+    public void virusScanErrorTest() throws Exception {
+        Mockito.when(virusScan.scanDocument((byte[]) Mockito.any())).thenThrow(new RuntimeException("unavailable"));
+        try (SpooledUpload upload = getUpload()) {
+            CommonUtil.awaitVirusScan(CommonUtil.startVirusScan(upload, true, virusScan, executor), 10);
+        }
+    }
+
+    @Test
+    public void virusScanDisabledTest() throws Exception {
+        try (SpooledUpload upload = getUpload()) {
+            CommonUtil.awaitVirusScan(CommonUtil.startVirusScan(upload, false, virusScan, executor), 10);
+        }
+        Mockito.verifyZeroInteractions(virusScan);
+    }
+
+    @Test
+    public void virusScanRejectedTest() throws Exception {
+        Executor fullExecutor = task -> {
+            throw new RejectedExecutionException("queue is full");
+        };
+        try (SpooledUpload upload = getUpload()) {
+            CommonUtil.startVirusScan(upload, true, virusScan, fullExecutor);
+            Assert.fail("scan is accepted by a full executor");
+        } catch (ToolkitException ex) {
+            Assert.assertEquals(ToolkitErrorCodes.VIRUS_SCAN_BUSY.getErrorCode(), ex.getErrorCode());
+        }
+        Mockito.verifyZeroInteractions(virusScan);
+    }
+
+    @Test
+    public void virusScanTimeoutTest() throws Exception {
+        CountDownLatch scanStarted = new CountDownLatch(1);
+        CountDownLatch scanner = new CountDownLatch(1);
+        Mockito.when(virusScan.scanFile(Mockito.any(InputStream.class))).thenAnswer(invocation -> {
+            scanStarted.countDown();
+            // a scanner that does not react to the interrupt
+            awaitUninterruptibly(scanner);
+            return true;
+        });
+        SpooledUpload upload = getUpload(1);
+        VirusScanTask scan = CommonUtil.startVirusScan(upload, true, virusScan, executor);
+        Assert.assertTrue(scanStarted.await(10, TimeUnit.SECONDS));
+        try {
+            CommonUtil.awaitVirusScan(scan, 0);
+            Assert.fail("scan did not time out");
+        } catch (VirusScannerException ex) {
+            Assert.assertTrue(scan.isCancelled());
+        }
+        scan.close();
+        // the spooled file is kept while the scanner still reads it
+        upload.getInputStream().close();
+        scanner.countDown();
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        try {
+            upload.getInputStream();
+            Assert.fail("spooled file is not deleted");
+        } catch (IOException ex) {
+            // deleted once the scan has returned
+        }
+    }
+
+    @Test
+    public void virusScanQueuedCancelTest() throws Exception {
+        CountDownLatch scanner = new CountDownLatch(1);
+        Mockito.when(virusScan.scanDocument((byte[]) Mockito.any())).thenAnswer(invocation -> {
+            scanner.await();
+            return true;
+        });
+        try (SpooledUpload running = getUpload(); SpooledUpload queued = getUpload()) {
+            VirusScanTask runningScan = CommonUtil.startVirusScan(running, true, virusScan, executor);
+            VirusScanTask queuedScan = CommonUtil.startVirusScan(queued, true, virusScan, executor);
+            Assert.assertEquals(1, executor.getQueue().size());
+            queuedScan.close();
+            Assert.assertTrue(executor.getQueue().isEmpty());
+            scanner.countDown();
+            CommonUtil.awaitVirusScan(runningScan, 10);
+        }
+        Mockito.verify(virusScan, Mockito.times(1)).scanDocument((byte[]) Mockito.any());
+    }
+
+    private void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException ex) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private SpooledUpload getUpload() throws Exception {
+        return getUpload(1024);
+    }
+
+    private SpooledUpload getUpload(long threshold) throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "testFile.zip", "multipart/form-data",
+                new byte[] { 1, 2, 3 });
+        return SpooledUpload.of(file, threshold);
+    }
+}
@@ -0,0 +1,54 @@
+package io.mosip.compliance.toolkit.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class DeviceFingerprintUtilTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void captureFingerprintTest() {
+        String response = "{\"biometrics\":[" + getBiometric("1", "P1") + "," + getBiometric("1", "P2") + "]}";
+        String fingerprint = DeviceFingerprintUtil.getFingerprint(response, objectMapper);
+        Assert.assertEquals("[\"make\",\"model\",\"1\",\"provider\",\"P2\"]", fingerprint);
+        String[] device = DeviceFingerprintUtil.parseFingerprint(fingerprint, objectMapper);
+        Assert.assertEquals("1", device[2]);
+        Assert.assertEquals("P2", device[4]);
+    }
+
+    @Test
+    public void discoverFingerprintTest() {
+        String response = "[{\"digitalIdDecoded\":" + getDigitalId("1", "P1") + "}]";
+        Assert.assertEquals("[\"make\",\"model\",\"1\",\"provider\",\"P1\"]",
+                DeviceFingerprintUtil.getFingerprint(response, objectMapper));
+    }
+
+    @Test
+    public void inconsistentFingerprintTest() {
+        String response = "{\"biometrics\":[" + getBiometric("1", "P1") + "," + getBiometric("2", "P1") + "]}";
+        Assert.assertEquals(DeviceFingerprintUtil.INCONSISTENT_DEVICE,
+                DeviceFingerprintUtil.getFingerprint(response, objectMapper));
+        Assert.assertNull(DeviceFingerprintUtil.parseFingerprint(DeviceFingerprintUtil.INCONSISTENT_DEVICE, objectMapper));
+    }
+
+    @Test
+    public void noDeviceFingerprintTest() {
+        String encrypted = "{\"biometrics\":[{\"isEncrypted\":true,\"dataDecoded\":{\"digitalIdDecoded\":"
+                + getDigitalId("1", "P1") + "}}]}";
+        Assert.assertEquals(DeviceFingerprintUtil.NO_DEVICE, DeviceFingerprintUtil.getFingerprint(encrypted, objectMapper));
+        Assert.assertEquals(DeviceFingerprintUtil.NO_DEVICE, DeviceFingerprintUtil.getFingerprint("not json", objectMapper));
+        Assert.assertEquals(DeviceFingerprintUtil.NO_DEVICE, DeviceFingerprintUtil.getFingerprint(null, objectMapper));
+    }
+
+    private String getBiometric(String serialNo, String deviceProviderId) {
+        return "{\"dataDecoded\":{\"digitalIdDecoded\":" + getDigitalId(serialNo, deviceProviderId) + "}}";
+    }
+
+    private String getDigitalId(String serialNo, String deviceProviderId) {
+        return "{\"make\":\"make\",\"model\":\"model\",\"serialNo\":\"" + serialNo
+                + "\",\"deviceProvider\":\"provider\",\"deviceProviderId\":\"" + deviceProviderId + "\"}";
+    }
+}
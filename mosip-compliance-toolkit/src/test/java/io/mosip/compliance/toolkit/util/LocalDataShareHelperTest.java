@@ -0,0 +1,59 @@
+package io.mosip.compliance.toolkit.util;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.compliance.toolkit.dto.abis.DataShareResponseDto;
+
+public class LocalDataShareHelperTest {
+
+    private static final String CREATE_URL = "http://localhost/v1/datashare/create/policy1/subscriber1";
+
+    @Test
+    public void createAndCallDataShareTest() throws Exception {
+        LocalDataShareHelper helper = getLocalDataShareHelper(30, 2);
+        DataShareResponseDto response = helper.createDataShareUrl("cbeff".getBytes(StandardCharsets.UTF_8),
+                CREATE_URL);
+        DataShareResponseDto.DataShare dataShare = response.getDataShare();
+        Assert.assertTrue(dataShare.getUrl().startsWith(CREATE_URL + "/"));
+        Assert.assertEquals("policy1", dataShare.getPolicyId());
+        Assert.assertEquals("subscriber1", dataShare.getSubscriberId());
+        Assert.assertEquals("cbeff", helper.callDataShareUrl(dataShare.getUrl()));
+        Assert.assertEquals("cbeff", helper.callDataShareUrl(dataShare.getUrl() + "?token=1"));
+        // the allowed transactions are used up
+        Assert.assertTrue(helper.callDataShareUrl(dataShare.getUrl()).contains("DAT-SER-008"));
+    }
+
+    @Test
+    public void expiredDataShareTest() throws Exception {
+        LocalDataShareHelper helper = getLocalDataShareHelper(-1, 2);
+        DataShareResponseDto response = helper.createDataShareUrl("cbeff".getBytes(StandardCharsets.UTF_8),
+                CREATE_URL);
+        Assert.assertTrue(helper.callDataShareUrl(response.getDataShare().getUrl()).contains("DAT-SER-008"));
+    }
+
+    @Test
+    public void unknownDataShareTest() throws Exception {
+        LocalDataShareHelper helper = getLocalDataShareHelper(30, 2);
+        Assert.assertTrue(helper.callDataShareUrl(CREATE_URL + "/unknown").contains("DAT-SER-008"));
+        Assert.assertNull(helper.getDataShare(null));
+    }
+
+    @Test
+    public void revokeTokenTest() throws Exception {
+        LocalDataShareHelper helper = getLocalDataShareHelper(30, 2);
+        Assert.assertTrue(helper.revokeToken("token"));
+        Assert.assertTrue(helper.isTokenRevoked("token"));
+        Assert.assertFalse(helper.isTokenRevoked("other"));
+    }
+
+    private LocalDataShareHelper getLocalDataShareHelper(long validForInMinutes, long transactionsAllowed) {
+        LocalDataShareHelper helper = new LocalDataShareHelper();
+        ReflectionTestUtils.setField(helper, "validForInMinutes", validForInMinutes);
+        ReflectionTestUtils.setField(helper, "transactionsAllowed", transactionsAllowed);
+        return helper;
+    }
+}
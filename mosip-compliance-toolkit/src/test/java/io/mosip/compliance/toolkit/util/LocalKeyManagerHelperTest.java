@@ -0,0 +1,84 @@
+package io.mosip.compliance.toolkit.util;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.security.KeyStore;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.compliance.toolkit.validators.SBIValidator.DeviceTrustRequestDto;
+import io.mosip.compliance.toolkit.validators.SBIValidator.DeviceValidatorDto;
+
+public class LocalKeyManagerHelperTest {
+
+    private static final String TRUST_STORE_PASSWORD = "changeit";
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void trustedCertificateTest() throws Exception {
+        LocalKeyManagerHelper deviceHelper = getLocalKeyManagerHelper("");
+        String deviceCertificate = deviceHelper.getCertificate().getResponse().getCertificate();
+        LocalKeyManagerHelper helper = getLocalKeyManagerHelper(getTrustStorePath(deviceHelper));
+        Assert.assertTrue(isTrusted(helper, deviceCertificate));
+    }
+
+    @Test
+    public void untrustedCertificateTest() throws Exception {
+        LocalKeyManagerHelper deviceHelper = getLocalKeyManagerHelper("");
+        LocalKeyManagerHelper otherDeviceHelper = getLocalKeyManagerHelper("");
+        LocalKeyManagerHelper helper = getLocalKeyManagerHelper(getTrustStorePath(deviceHelper));
+        // same subject as the trusted certificate, signed by a different key
+        Assert.assertFalse(isTrusted(helper, otherDeviceHelper.getCertificate().getResponse().getCertificate()));
+    }
+
+    @Test
+    public void emptyTrustStoreTest() throws Exception {
+        LocalKeyManagerHelper helper = getLocalKeyManagerHelper("");
+        Assert.assertFalse(isTrusted(helper, helper.getCertificate().getResponse().getCertificate()));
+    }
+
+    @Test
+    public void invalidCertificateTest() throws Exception {
+        LocalKeyManagerHelper helper = getLocalKeyManagerHelper("");
+        Assert.assertFalse(isTrusted(helper, "not a certificate"));
+    }
+
+    private boolean isTrusted(LocalKeyManagerHelper helper, String certificateData) throws Exception {
+        DeviceTrustRequestDto trustRequest = new DeviceTrustRequestDto();
+        trustRequest.setCertificateData(certificateData);
+        DeviceValidatorDto deviceValidatorDto = new DeviceValidatorDto();
+        deviceValidatorDto.setRequest(trustRequest);
+        return Boolean.parseBoolean(helper.trustValidationResponse(deviceValidatorDto).getResponse().getStatus());
+    }
+
+    private String getTrustStorePath(LocalKeyManagerHelper trustedHelper) throws Exception {
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        trustStore.load(null, null);
+        trustStore.setCertificateEntry("trusted",
+                (java.security.cert.Certificate) ReflectionTestUtils.getField(trustedHelper, "certificate"));
+        File trustStoreFile = temporaryFolder.newFile();
+        try (OutputStream outputStream = new FileOutputStream(trustStoreFile)) {
+            trustStore.store(outputStream, TRUST_STORE_PASSWORD.toCharArray());
+        }
+        return trustStoreFile.getAbsolutePath();
+    }
+
+    private LocalKeyManagerHelper getLocalKeyManagerHelper(String trustStorePath) throws Exception {
+        LocalKeyManagerHelper helper = new LocalKeyManagerHelper();
+        ReflectionTestUtils.setField(helper, "rsaKeySize", 2048);
+        ReflectionTestUtils.setField(helper, "aesKeySize", 256);
+        ReflectionTestUtils.setField(helper, "keyStoreType", "PKCS12");
+        ReflectionTestUtils.setField(helper, "keyStorePath", "");
+        ReflectionTestUtils.setField(helper, "trustStorePath", trustStorePath);
+        ReflectionTestUtils.setField(helper, "trustStorePassword", TRUST_STORE_PASSWORD);
+        helper.init();
+        return helper;
+    }
+}
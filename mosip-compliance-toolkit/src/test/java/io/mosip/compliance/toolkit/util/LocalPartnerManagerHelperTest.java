@@ -0,0 +1,34 @@
+package io.mosip.compliance.toolkit.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.compliance.toolkit.dto.report.PartnerDetailsDto;
+
+public class LocalPartnerManagerHelperTest {
+
+    @Test
+    public void getPartnerDetailsTest() throws Exception {
+        PartnerDetailsDto partnerDetailsDto = getLocalPartnerManagerHelper("").getPartnerDetails("partner1");
+        Assert.assertEquals("partner1", partnerDetailsDto.getResponse().getPartnerID());
+        Assert.assertEquals("Active", partnerDetailsDto.getResponse().getStatus());
+        // the partner id is the organization name when none is configured
+        Assert.assertEquals("partner1", partnerDetailsDto.getResponse().getOrganizationName());
+        Assert.assertEquals("Device_Provider", partnerDetailsDto.getResponse().getPartnerType());
+        Assert.assertTrue(partnerDetailsDto.getErrors().isEmpty());
+    }
+
+    @Test
+    public void getPartnerDetailsWithOrgNameTest() throws Exception {
+        PartnerDetailsDto partnerDetailsDto = getLocalPartnerManagerHelper("Org1").getPartnerDetails("partner1");
+        Assert.assertEquals("Org1", partnerDetailsDto.getResponse().getOrganizationName());
+    }
+
+    private LocalPartnerManagerHelper getLocalPartnerManagerHelper(String orgName) {
+        LocalPartnerManagerHelper helper = new LocalPartnerManagerHelper();
+        ReflectionTestUtils.setField(helper, "orgName", orgName);
+        ReflectionTestUtils.setField(helper, "partnerType", "Device_Provider");
+        return helper;
+    }
+}
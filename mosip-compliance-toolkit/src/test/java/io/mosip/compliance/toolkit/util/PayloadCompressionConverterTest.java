@@ -0,0 +1,73 @@
+package io.mosip.compliance.toolkit.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.mosip.compliance.toolkit.exceptions.ToolkitException;
+
+public class PayloadCompressionConverterTest {
+
+    private final PayloadCompressionConverter converter = new PayloadCompressionConverter();
+
+    @Test
+    public void roundTripTest() {
+        String payload = getLargePayload();
+        byte[] stored = converter.convertToDatabaseColumn(payload);
+        Assert.assertEquals(0x00, stored[0]);
+        Assert.assertEquals(0x01, stored[1]);
+        Assert.assertTrue(stored.length < payload.getBytes(StandardCharsets.UTF_8).length);
+        Assert.assertEquals(payload, converter.convertToEntityAttribute(stored));
+    }
+
+    @Test
+    public void smallPayloadTest() {
+        String payload = "{\"status\":\"ok\"}";
+        byte[] stored = converter.convertToDatabaseColumn(payload);
+        Assert.assertArrayEquals(payload.getBytes(StandardCharsets.UTF_8), stored);
+        Assert.assertEquals(payload, converter.convertToEntityAttribute(stored));
+    }
+
+    @Test
+    public void nullPayloadTest() {
+        Assert.assertNull(converter.convertToDatabaseColumn(null));
+        Assert.assertNull(converter.convertToEntityAttribute(null));
+    }
+
+    @Test
+    public void legacyUncompressedRowTest() {
+        // rows written before compression hold the plain UTF-8 payload
+        String payload = getLargePayload() + " éè";
+        Assert.assertEquals(payload, converter.convertToEntityAttribute(payload.getBytes(StandardCharsets.UTF_8)));
+        Assert.assertEquals("", converter.convertToEntityAttribute(new byte[0]));
+    }
+
+    @Test(expected = ToolkitException.class)
+    public void unsupportedFormatTest() {
+        byte[] stored = converter.convertToDatabaseColumn(getLargePayload());
+        stored[1] = 0x02;
+        converter.convertToEntityAttribute(stored);
+    }
+
+    @Test(expected = ToolkitException.class)
+    public void corruptPayloadTest() {
+        converter.convertToEntityAttribute(new byte[] { 0x00, 0x01, 0x7f, 0x7f, 0x7f, 0x7f });
+    }
+
+    @Test(expected = ToolkitException.class)
+    public void truncatedPayloadTest() {
+        byte[] stored = converter.convertToDatabaseColumn(getLargePayload());
+        converter.convertToEntityAttribute(Arrays.copyOf(stored, stored.length / 2));
+    }
+
+    private String getLargePayload() {
+        StringBuilder builder = new StringBuilder("{\"biometrics\":[");
+        for (int i = 0; i < 50; i++) {
+            builder.append(i == 0 ? "" : ",").append("{\"specVersion\":\"0.9.5\",\"bioValue\":\"abcdefgh")
+                    .append(i).append("\"}");
+        }
+        return builder.append("]}").toString();
+    }
+}
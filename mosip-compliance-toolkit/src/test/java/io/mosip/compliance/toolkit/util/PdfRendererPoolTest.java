@@ -0,0 +1,153 @@
+package io.mosip.compliance.toolkit.util;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import io.mosip.compliance.toolkit.config.LoggerConfiguration;
+import io.mosip.kernel.core.logger.spi.Logger;
+
+public class PdfRendererPoolTest {
+
+    private static final int POOL_SIZE = 2;
+
+    /* 1x1 png, stands in for the logo embedded in testRunReport.vm */
+    private static final String LOGO = "data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNk+M9QDwADhgGAWjR9awAAAABJRU5ErkJggg==";
+
+    private PdfRendererPool pdfRendererPool;
+
+    private Logger log = LoggerConfiguration.logConfig(PdfRendererPoolTest.class);
+
+    @Before
+    public void before() {
+        pdfRendererPool = new PdfRendererPool();
+        ReflectionTestUtils.setField(pdfRendererPool, "poolSize", POOL_SIZE);
+        ReflectionTestUtils.setField(pdfRendererPool, "borrowTimeoutSeconds", 60L);
+        ReflectionTestUtils.setField(pdfRendererPool, "fontPaths", new String[0]);
+        pdfRendererPool.init();
+    }
+
+    @Test
+    public void renderTest() throws Exception {
+        byte[] first = pdfRendererPool.render(getReportHtml(5));
+        byte[] second = pdfRendererPool.render(getReportHtml(10));
+        Assert.assertEquals("%PDF", new String(first, 0, 4, StandardCharsets.US_ASCII));
+        Assert.assertEquals("%PDF", new String(second, 0, 4, StandardCharsets.US_ASCII));
+        AtomicInteger createdRenderers = (AtomicInteger) ReflectionTestUtils.getField(pdfRendererPool,
+                "createdRenderers");
+        Assert.assertEquals(1, createdRenderers.get());
+    }
+
+    @Test
+    public void renderInvalidHtmlTest() throws Exception {
+        try {
+            pdfRendererPool.render("<html><body>");
+            Assert.fail();
+        } catch (Exception ex) {
+            // the failed renderer is dropped
+        }
+        AtomicInteger createdRenderers = (AtomicInteger) ReflectionTestUtils.getField(pdfRendererPool,
+                "createdRenderers");
+        Assert.assertEquals(0, createdRenderers.get());
+        Assert.assertNotNull(pdfRendererPool.render(getReportHtml(1)));
+    }
+
+    /*
+     * A renderer dropped after a failed render frees its slot for a borrow that
+     * is already waiting
+     */
+    @Test
+    public void releaseFailedRendererWakesBorrowerTest() throws Exception {
+        ReflectionTestUtils.setField(pdfRendererPool, "poolSize", 1);
+        pdfRendererPool.init();
+        Object renderer = ReflectionTestUtils.invokeMethod(pdfRendererPool, "borrow");
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<byte[]> result = executor.submit(() -> pdfRendererPool.render(getReportHtml(1)));
+            Thread.sleep(200);
+            Assert.assertFalse(result.isDone());
+            ReflectionTestUtils.invokeMethod(pdfRendererPool, "release", renderer, false);
+            byte[] pdf = result.get(10, TimeUnit.SECONDS);
+            Assert.assertEquals("%PDF", new String(pdf, 0, 4, StandardCharsets.US_ASCII));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /*
+     * Renders per second and peak heap for reports of 50, 200 and 1000 testcases.
+     * Run with -Dreport.render.benchmark=true
+     */
+    @Test
+    public void renderBenchmark() throws Exception {
+        Assume.assumeTrue(Boolean.getBoolean("report.render.benchmark"));
+        int[] testcaseCounts = { 50, 200, 1000 };
+        for (int testcaseCount : testcaseCounts) {
+            String html = getReportHtml(testcaseCount);
+            pdfRendererPool.render(html);
+            int reports = Math.max(4, 2000 / testcaseCount);
+            resetPeakHeap();
+            ExecutorService executor = Executors.newFixedThreadPool(POOL_SIZE);
+            long start = System.nanoTime();
+            List<Future<byte[]>> results = new ArrayList<>();
+            for (int i = 0; i < reports; i++) {
+                results.add(executor.submit(() -> pdfRendererPool.render(html)));
+            }
+            for (Future<byte[]> result : results) {
+                Assert.assertTrue(result.get().length > 0);
+            }
+            long elapsedNanos = System.nanoTime() - start;
+            executor.shutdown();
+            log.info("sessionId", "idType", "id",
+                    String.format("testcases=%d reports=%d renders/sec=%.2f peakHeapMb=%d", testcaseCount, reports,
+                            reports / (elapsedNanos / 1_000_000_000d), getPeakHeap() / (1024 * 1024)));
+        }
+    }
+
+    private void resetPeakHeap() {
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private long getPeakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    private String getReportHtml(int testcaseCount) {
+        StringBuilder html = new StringBuilder();
+        html.append("<html><head><style>body { font-family: Arial, sans-serif; } ");
+        html.append("td { border: 1px solid #ccc; padding: 4px; }</style></head><body>");
+        html.append("<img height=\"50\" width=\"50\" src=\"").append(LOGO).append("\"/>");
+        html.append("<table>");
+        for (int i = 0; i < testcaseCount; i++) {
+            html.append("<tr><td>SBI").append(1000 + i).append("</td><td>Verify device discovery</td>");
+            html.append("<td>success</td><td>All validations passed</td></tr>");
+        }
+        html.append("</table></body></html>");
+        return html.toString();
+    }
+}
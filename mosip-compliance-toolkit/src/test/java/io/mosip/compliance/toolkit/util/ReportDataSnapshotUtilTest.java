@@ -0,0 +1,66 @@
+package io.mosip.compliance.toolkit.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.compliance.toolkit.dto.report.ReportDataDto;
+import io.mosip.compliance.toolkit.dto.report.TestRunTable;
+import io.mosip.compliance.toolkit.exceptions.ToolkitException;
+
+public class ReportDataSnapshotUtilTest {
+
+    @Test
+    public void snapshotRoundTripTest() {
+        ReportDataDto reportDataDto = getReportDataDto();
+        byte[] snapshot = ReportDataSnapshotUtil.toSnapshot(reportDataDto);
+        ReportDataDto result = ReportDataSnapshotUtil.fromSnapshot(snapshot);
+        Assert.assertEquals("SBI", result.getProjectType());
+        Assert.assertEquals(100, result.getTotalTestCasesCount());
+        Assert.assertEquals(100, result.getTestRunDetailsList().size());
+        Assert.assertEquals("SBI1099", result.getTestRunDetailsList().get(99).getTestCaseId());
+    }
+
+    @Test
+    public void snapshotSmallerThanLegacyJsonTest() throws Exception {
+        ReportDataDto reportDataDto = getReportDataDto();
+        String legacy = StringUtil.base64Encode(new ObjectMapperConfig().objectMapper().writeValueAsString(reportDataDto));
+        Assert.assertTrue(ReportDataSnapshotUtil.toSnapshot(reportDataDto).length < legacy.length());
+    }
+
+    @Test
+    public void legacyJsonTest() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapperConfig().objectMapper();
+        String legacy = StringUtil.base64Encode(objectMapper.writeValueAsString(getReportDataDto()));
+        ReportDataDto result = ReportDataSnapshotUtil.fromLegacyJson(legacy, objectMapper);
+        Assert.assertEquals(100, result.getTestRunDetailsList().size());
+    }
+
+    @Test(expected = ToolkitException.class)
+    public void unsupportedVersionTest() {
+        byte[] snapshot = ReportDataSnapshotUtil.toSnapshot(getReportDataDto());
+        snapshot[1] = 0x7f;
+        ReportDataSnapshotUtil.fromSnapshot(snapshot);
+    }
+
+    private ReportDataDto getReportDataDto() {
+        ReportDataDto reportDataDto = new ReportDataDto();
+        reportDataDto.setProjectType("SBI");
+        reportDataDto.setCollectionName("sbi collection");
+        reportDataDto.setTotalTestCasesCount(100);
+        List<TestRunTable> testRunDetailsList = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            TestRunTable testRunTable = new TestRunTable();
+            testRunTable.setTestCaseId("SBI" + (1000 + i));
+            testRunTable.setTestCaseName("Verify device discovery");
+            testRunTable.setResultStatus("success");
+            testRunDetailsList.add(testRunTable);
+        }
+        reportDataDto.setTestRunDetailsList(testRunDetailsList);
+        return reportDataDto;
+    }
+}
@@ -0,0 +1,53 @@
+package io.mosip.compliance.toolkit.util;
+
+import java.time.LocalDateTime;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.mosip.compliance.toolkit.dto.testrun.TestRunDetailsResponseDto;
+import io.mosip.compliance.toolkit.exceptions.ToolkitException;
+
+public class SmileSnapshotCodecTest {
+
+    private final SmileSnapshotCodec<TestRunDetailsResponseDto> codec = new SmileSnapshotCodec<>(
+            TestRunDetailsResponseDto.class, "test run details");
+
+    @Test
+    public void roundTripTest() {
+        TestRunDetailsResponseDto testRunDetailsResponseDto = new TestRunDetailsResponseDto();
+        testRunDetailsResponseDto.setRunId("run1");
+        testRunDetailsResponseDto.setCollectionId("collection1");
+        LocalDateTime runDtimes = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+        testRunDetailsResponseDto.setRunDtimes(runDtimes);
+        byte[] bytes = codec.encode(testRunDetailsResponseDto);
+        Assert.assertEquals(0x00, bytes[0]);
+        Assert.assertEquals(0x01, bytes[1]);
+        TestRunDetailsResponseDto result = codec.decode(bytes);
+        Assert.assertEquals("run1", result.getRunId());
+        Assert.assertEquals("collection1", result.getCollectionId());
+        Assert.assertEquals(runDtimes, result.getRunDtimes());
+    }
+
+    @Test
+    public void unsupportedVersionTest() {
+        byte[] bytes = codec.encode(new TestRunDetailsResponseDto());
+        bytes[1] = 0x7f;
+        try {
+            codec.decode(bytes);
+            Assert.fail();
+        } catch (ToolkitException ex) {
+            Assert.assertTrue(ex.getMessage().contains("Unsupported test run details version 127"));
+        }
+    }
+
+    @Test(expected = ToolkitException.class)
+    public void invalidMarkerTest() {
+        codec.decode(new byte[] { 0x01, 0x01 });
+    }
+
+    @Test(expected = ToolkitException.class)
+    public void invalidSmileTest() {
+        codec.decode(new byte[] { 0x00, 0x01, 0x7f });
+    }
+}
@@ -0,0 +1,68 @@
+package io.mosip.compliance.toolkit.util;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+public class SpooledUploadTest {
+
+    @Test
+    public void inMemoryTest() throws Exception {
+        byte[] content = "small upload".getBytes(StandardCharsets.UTF_8);
+        MockMultipartFile file = new MockMultipartFile("file", "small.zip", "multipart/form-data", content);
+        try (SpooledUpload upload = SpooledUpload.of(file, 1024)) {
+            Assert.assertTrue(upload.isInMemory());
+            Assert.assertEquals("small.zip", upload.getOriginalFilename());
+            Assert.assertEquals(content.length, upload.getSize());
+            Assert.assertArrayEquals(content, upload.getBytes());
+            Assert.assertEquals(CryptoUtil.getEncodedHash(content), upload.getEncodedHash());
+            Assert.assertArrayEquals(HashUtil.generateHash(content), upload.getHash());
+        }
+    }
+
+    @Test
+    public void spooledTest() throws Exception {
+        byte[] content = new byte[20000];
+        Arrays.fill(content, (byte) 7);
+        MockMultipartFile file = new MockMultipartFile("file", "large.zip", "multipart/form-data", content);
+        SpooledUpload upload = SpooledUpload.of(file, 1024);
+        Assert.assertFalse(upload.isInMemory());
+        Assert.assertEquals(content.length, upload.getSize());
+        Assert.assertEquals(CryptoUtil.getEncodedHash(content), upload.getEncodedHash());
+        // the content can be read more than once
+        for (int i = 0; i < 2; i++) {
+            try (InputStream inputStream = upload.getInputStream()) {
+                Assert.assertArrayEquals(content, inputStream.readAllBytes());
+            }
+        }
+        upload.close();
+        try {
+            upload.getInputStream();
+            Assert.fail("temp file is not deleted on close");
+        } catch (NoSuchFileException ex) {
+            // expected
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void spooledGetBytesTest() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "large.zip", "multipart/form-data", new byte[2048]);
+        try (SpooledUpload upload = SpooledUpload.of(file, 1024)) {
+            upload.getBytes();
+        }
+    }
+
+    @Test
+    public void emptyTest() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "empty.zip", "multipart/form-data", new byte[0]);
+        try (SpooledUpload upload = SpooledUpload.of(file, 1024)) {
+            Assert.assertTrue(upload.isEmpty());
+            Assert.assertTrue(upload.isInMemory());
+        }
+    }
+}
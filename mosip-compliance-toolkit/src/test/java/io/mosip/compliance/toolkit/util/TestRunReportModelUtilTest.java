@@ -0,0 +1,56 @@
+package io.mosip.compliance.toolkit.util;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.mosip.compliance.toolkit.constants.AppConstants;
+import io.mosip.compliance.toolkit.dto.testrun.TestRunDetailsDto;
+import io.mosip.compliance.toolkit.dto.testrun.TestRunReportModelDto;
+import io.mosip.compliance.toolkit.exceptions.ToolkitException;
+
+public class TestRunReportModelUtilTest {
+
+    @Test
+    public void reportModelRoundTripTest() {
+        TestRunReportModelDto reportModel = new TestRunReportModelDto();
+        reportModel.putMethod(getTestRunDetailsDto("SBI1001", "method1", AppConstants.SUCCESS));
+        reportModel.putMethod(getTestRunDetailsDto("SBI1000", "method1", AppConstants.SUCCESS));
+        reportModel.putMethod(getTestRunDetailsDto("SBI1000", "method2", AppConstants.FAILURE));
+        // a method saved again replaces its earlier result
+        reportModel.putMethod(getTestRunDetailsDto("SBI1001", "method1", AppConstants.FAILURE));
+
+        TestRunReportModelDto result = TestRunReportModelUtil
+                .fromBytes(TestRunReportModelUtil.toBytes(reportModel));
+        List<TestRunDetailsDto> testRunDetailsList = result.toTestRunDetailsList("run1");
+        Assert.assertEquals(3, testRunDetailsList.size());
+        Assert.assertEquals("SBI1000", testRunDetailsList.get(0).getTestcaseId());
+        Assert.assertEquals("method2", testRunDetailsList.get(1).getMethodId());
+        Assert.assertEquals(AppConstants.FAILURE, testRunDetailsList.get(2).getResultStatus());
+        Assert.assertEquals(AppConstants.MOSIP_DEFAULT, testRunDetailsList.get(2).getTestDataSource());
+        Assert.assertEquals("run1", testRunDetailsList.get(2).getRunId());
+    }
+
+    @Test(expected = ToolkitException.class)
+    public void unsupportedVersionTest() {
+        byte[] bytes = TestRunReportModelUtil.toBytes(new TestRunReportModelDto());
+        bytes[1] = 0x7f;
+        TestRunReportModelUtil.fromBytes(bytes);
+    }
+
+    @Test(expected = ToolkitException.class)
+    public void invalidReportModelTest() {
+        TestRunReportModelUtil.fromBytes(new byte[] { 0x01 });
+    }
+
+    private TestRunDetailsDto getTestRunDetailsDto(String testcaseId, String methodId, String resultStatus) {
+        TestRunDetailsDto testRunDetailsDto = new TestRunDetailsDto();
+        testRunDetailsDto.setTestcaseId(testcaseId);
+        testRunDetailsDto.setMethodId(methodId);
+        testRunDetailsDto.setResultStatus(resultStatus);
+        testRunDetailsDto.setExecutionStatus(AppConstants.COMPLETE);
+        testRunDetailsDto.setTestDataSource(AppConstants.MOSIP_DEFAULT);
+        return testRunDetailsDto;
+    }
+}
@@ -0,0 +1,119 @@
+package io.mosip.compliance.toolkit.validators;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.mosip.compliance.toolkit.dto.testcases.ValidationInputDto;
+import io.mosip.compliance.toolkit.dto.testcases.ValidationResultDto;
+import io.mosip.compliance.toolkit.util.ObjectMapperConfig;
+
+public class ValidationContextTest {
+
+    private ObjectMapper objectMapper;
+
+    private ValidationInputDto inputDto;
+
+    @Before
+    public void before() {
+        objectMapper = Mockito.spy(new ObjectMapper());
+        inputDto = new ValidationInputDto();
+        inputDto.setMethodRequest("{\"request\":1}");
+        inputDto.setMethodResponse("{\"biometrics\":[{\"data\":\"a\"},{\"data\":\"a\"}]}");
+        inputDto.setExtraInfoJson("{\"extraInfo\":1}");
+    }
+
+    @Test
+    public void lazyParsingTest() throws Exception {
+        inputDto.setExtraInfoJson("not json");
+        ValidationContext context = new ValidationContext(inputDto, objectMapper);
+        Mockito.verify(objectMapper, Mockito.never()).readTree(Mockito.anyString());
+
+        Assert.assertSame(context.getMethodRequest(), context.getMethodRequest());
+        Assert.assertEquals(1, context.getMethodRequest().get("request").asInt());
+        Mockito.verify(objectMapper, Mockito.times(1)).readTree(Mockito.anyString());
+
+        Assert.assertSame(context.getMethodResponse(), context.getMethodResponse());
+        Mockito.verify(objectMapper, Mockito.times(2)).readTree(Mockito.anyString());
+        Mockito.verify(objectMapper, Mockito.never()).readTree("not json");
+    }
+
+    @Test
+    public void extraInfoTest() throws Exception {
+        ValidationContext context = new ValidationContext(inputDto, objectMapper);
+        Assert.assertSame(context.getExtraInfo(), context.getExtraInfo());
+        Assert.assertEquals(1, context.getExtraInfo().get("extraInfo").asInt());
+        Mockito.verify(objectMapper, Mockito.times(1)).readTree(inputDto.getExtraInfoJson());
+    }
+
+    @Test
+    public void bioValueTest() throws Exception {
+        ValidationContext context = new ValidationContext(inputDto, objectMapper);
+        JsonNode biometrics = context.getMethodResponse().get("biometrics");
+        AtomicInteger extractions = new AtomicInteger();
+        Function<JsonNode, String> bioValueExtractor = biometricNode -> {
+            extractions.incrementAndGet();
+            return Base64.getUrlEncoder().encodeToString("bio".getBytes(StandardCharsets.UTF_8));
+        };
+
+        String bioValue = context.getBioValue(biometrics.get(0), bioValueExtractor);
+        Assert.assertSame(bioValue, context.getBioValue(biometrics.get(0), bioValueExtractor));
+        byte[] decodedBioValue = context.getDecodedBioValue(biometrics.get(0), bioValueExtractor);
+        Assert.assertEquals("bio", new String(decodedBioValue, StandardCharsets.UTF_8));
+        Assert.assertSame(decodedBioValue, context.getDecodedBioValue(biometrics.get(0), bioValueExtractor));
+        Assert.assertEquals(1, extractions.get());
+
+        // an equal biometric is a node of its own
+        context.getDecodedBioValue(biometrics.get(1), bioValueExtractor);
+        Assert.assertEquals(2, extractions.get());
+    }
+
+    @Test
+    public void jwsTest() throws Exception {
+        String jwtInfo = encode("{\"alg\":\"RS256\",\"x5c\":[\"cert\"]}") + "." + encode("{\"bioValue\":\"abc\"}")
+                + "." + encode("signature");
+        ValidationContext context = new ValidationContext(inputDto, objectMapper);
+
+        Assert.assertEquals("RS256", context.getJwsHeader(jwtInfo).get("alg").asText());
+        Assert.assertSame(context.getJwsHeader(jwtInfo), context.getJwsHeader(jwtInfo));
+        Assert.assertEquals("{\"bioValue\":\"abc\"}", context.getJwsPayload(jwtInfo));
+        Assert.assertSame(context.getJwsPayload(jwtInfo), context.getJwsPayload(jwtInfo));
+        Assert.assertEquals("abc", context.getJwsPayloadNode(jwtInfo).get("bioValue").asText());
+        Assert.assertSame(context.getJwsPayloadNode(jwtInfo), context.getJwsPayloadNode(jwtInfo));
+        Mockito.verify(objectMapper, Mockito.times(2)).readTree(Mockito.anyString());
+    }
+
+    @Test
+    public void getValidationContextTest() throws Exception {
+        ToolkitValidator validator = new ToolkitValidator() {
+            @Override
+            public ValidationResultDto validateResponse(ValidationInputDto responseDto) {
+                return null;
+            }
+        };
+        validator.objectMapperConfig = new ObjectMapperConfig();
+
+        // used outside of a validation call
+        ValidationContext context = validator.getValidationContext(inputDto);
+        Assert.assertNotNull(context);
+        Assert.assertNotSame(context, validator.getValidationContext(inputDto));
+        Assert.assertEquals(1, context.getMethodRequest().get("request").asInt());
+
+        ValidationContext sharedContext = new ValidationContext(inputDto, objectMapper);
+        validator.setValidationContext(sharedContext);
+        Assert.assertSame(sharedContext, validator.getValidationContext(inputDto));
+    }
+
+    private String encode(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}